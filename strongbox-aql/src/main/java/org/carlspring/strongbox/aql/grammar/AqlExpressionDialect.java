@@ -103,6 +103,10 @@ public class AqlExpressionDialect extends DefaultExpressionDialect
         {
             return ExpOperator.LE;
         }
+        else if (AqlMapping.ARCHIVE.equals(keyword))
+        {
+            return ExpOperator.IN;
+        }
         else if (value != null && value.contains("%"))
         {
             return ExpOperator.LIKE;
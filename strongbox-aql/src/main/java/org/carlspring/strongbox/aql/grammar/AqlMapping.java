@@ -10,7 +10,8 @@ public enum AqlMapping
     TAG("tagSet.name"),
     FROM("lastUpdated"),
     TO("lastUpdated"),
-    AGE("lastUpdated");
+    AGE("lastUpdated"),
+    ARCHIVE("uuid");
 
     private String property;
 
@@ -4,8 +4,12 @@ import java.util.Optional;
 
 import org.carlspring.strongbox.aql.grammar.AQLParser.QueryExpContext;
 import org.carlspring.strongbox.aql.grammar.AQLParser.TokenExpContext;
+import org.carlspring.strongbox.data.criteria.Expression;
+import org.carlspring.strongbox.data.criteria.Expression.ExpOperator;
 import org.carlspring.strongbox.data.criteria.Predicate;
 import org.carlspring.strongbox.data.criteria.Predicate.BooleanOperator;
+import org.carlspring.strongbox.data.criteria.Selector;
+import org.carlspring.strongbox.domain.ArtifactArchiveEntry;
 import org.carlspring.strongbox.domain.ArtifactEntryExpressionBuilder;
 
 /**
@@ -85,7 +89,32 @@ public class AqlQueryVisitor extends AQLBaseVisitor<Predicate>
         ArtifactEntryExpressionBuilder expressionBuilder = nestedVisitor.getExpressionBuilder();
         expressionBuilder.using(null);
 
-        return Predicate.of(expressionBuilder.build());
+        Expression expression = expressionBuilder.build();
+        if (ExpOperator.IN.equals(expression.getOperator()))
+        {
+            expression.setValue(selectArchives((String) expression.getValue()));
+        }
+
+        return Predicate.of(expression);
+    }
+
+    /**
+     * The `archive` keyword matches the artifacts, which archives contain the file with given path
+     * (`org/foo/Bar.class`) or the class with given name (`org.foo.Bar`).
+     * <p>
+     * The nested select is not paginated, so it selects all the matching archive entries before the outer query is
+     * applied. The exact value uses the `path` and `className` indexes, while the value with the wildcards (rendered as
+     * `LIKE`) scans all the archive entries of all the repositories.
+     */
+    private Selector<ArtifactArchiveEntry> selectArchives(String value)
+    {
+        ExpOperator operator = value.contains("%") ? ExpOperator.LIKE : ExpOperator.EQ;
+
+        Selector<ArtifactArchiveEntry> selector = new Selector<>(ArtifactArchiveEntry.class);
+        selector.select("artifactEntryUuid");
+        selector.where(Predicate.of(operator.of("path", value)).or(Predicate.of(operator.of("className", value))));
+
+        return selector;
     }
 
     private BooleanOperator extractBooleanOperator(QueryExpContext ctx)
@@ -12,4 +12,16 @@ public interface AqlSearchService
     public SearchResults search(Selector<ArtifactEntry> selector)
         throws IOException;
 
+    /**
+     * Searches the single page of the results, which continues the page of the given cursor.
+     *
+     * @param cursor   the {@link SearchResults#getNextCursor()} of the previous page, or <code>null</code> for the
+     *                 first page
+     * @param snippets whether the dependency snippets should be generated for the results
+     */
+    public SearchResults search(Selector<ArtifactEntry> selector,
+                                String cursor,
+                                boolean snippets)
+        throws IOException;
+
 }
@@ -2,15 +2,25 @@ package org.carlspring.strongbox.services.impl;
 
 import java.io.IOException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.inject.Inject;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import javax.transaction.Transactional;
 
+import org.carlspring.strongbox.configuration.ConfigurationManager;
 import org.carlspring.strongbox.data.criteria.DetachQueryTemplate;
+import org.carlspring.strongbox.data.criteria.Expression.ExpOperator;
 import org.carlspring.strongbox.data.criteria.OQueryTemplate;
+import org.carlspring.strongbox.data.criteria.Paginator;
+import org.carlspring.strongbox.data.criteria.Paginator.Order;
+import org.carlspring.strongbox.data.criteria.Predicate;
+import org.carlspring.strongbox.data.criteria.QueryParserException;
 import org.carlspring.strongbox.data.criteria.QueryTemplate;
 import org.carlspring.strongbox.data.criteria.Selector;
 import org.carlspring.strongbox.dependency.snippet.CodeSnippet;
@@ -19,20 +29,38 @@ import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.io.RootRepositoryPath;
 import org.carlspring.strongbox.services.AqlSearchService;
 import org.carlspring.strongbox.storage.repository.Repository;
 import org.carlspring.strongbox.storage.search.SearchResult;
 import org.carlspring.strongbox.storage.search.SearchResults;
 import org.springframework.stereotype.Component;
 
+import com.orientechnologies.orient.core.id.ORecordId;
+
+/**
+ * The results are searched page by page. The queries without explicit order are ordered by the record identifier and
+ * continue from the last record identifier of the previous page (`@rid > ?`), so every page takes the same time
+ * regardless of its position, while the ordered queries continue from the offset of the previous page. Either way the
+ * continuation is passed to the client as the opaque cursor.
+ */
 @Component
 @Transactional
 public class AqlSearchServiceImpl implements AqlSearchService
 {
 
+    private static final String CURSOR_RID = "r:";
+
+    private static final String CURSOR_SKIP = "s:";
+
+    private static final String RECORD_ID = "@rid";
+
     @PersistenceContext
     private EntityManager entityManager;
 
+    @Inject
+    private ConfigurationManager configurationManager;
+
     @Inject
     private RepositoryPathResolver repositoryPathResolver;
 
@@ -42,11 +70,36 @@ public class AqlSearchServiceImpl implements AqlSearchService
     public SearchResults search(Selector<ArtifactEntry> selector)
         throws IOException
     {
+        return search(selector, null, true);
+    }
+
+    public SearchResults search(Selector<ArtifactEntry> selector,
+                                String cursor,
+                                boolean snippets)
+        throws IOException
+    {
+        Paginator paginator = selector.getPaginator();
+        boolean ordered = paginator.getProperty() != null && !paginator.getProperty().trim().isEmpty();
+        if (!ordered)
+        {
+            // The next page continues from the last record identifier, so the records should be ordered by it.
+            paginator.setProperty(RECORD_ID);
+            paginator.setOrder(Order.ASC);
+        }
+        if (cursor != null)
+        {
+            continueFrom(selector, decodeCursor(cursor), ordered);
+        }
+
         SearchResults result = new SearchResults();
 
         QueryTemplate<List<ArtifactEntry>, ArtifactEntry> queryTemplate = new DetachQueryTemplate<>(
                 new OQueryTemplate<>(entityManager));
-        for (ArtifactEntry artifactEntry : queryTemplate.select(selector))
+        List<ArtifactEntry> artifactEntries = queryTemplate.select(selector);
+
+        // The repository root is shared by the results of the same repository.
+        Map<String, RootRepositoryPath> repositoryRoots = new HashMap<>();
+        for (ArtifactEntry artifactEntry : artifactEntries)
         {
             SearchResult r = new SearchResult();
             result.getResults().add(r);
@@ -55,21 +108,109 @@ public class AqlSearchServiceImpl implements AqlSearchService
             r.setRepositoryId(artifactEntry.getRepositoryId());
             r.setArtifactCoordinates(artifactEntry.getArtifactCoordinates());
 
-            RepositoryPath repositoryPath = repositoryPathResolver.resolve(artifactEntry.getStorageId(),
-                                                                           artifactEntry.getRepositoryId(),
-                                                                           artifactEntry.getArtifactPath());
+            RootRepositoryPath repositoryRoot = repositoryRoots.computeIfAbsent(
+                    artifactEntry.getStorageId() + ":" + artifactEntry.getRepositoryId(),
+                    k -> repositoryPathResolver.resolve(getRepository(artifactEntry)));
 
-            Repository repository = repositoryPath.getRepository();
+            // The path holds the entry, so it's not looked up again.
+            RepositoryPath repositoryPath = repositoryRoot.resolve(artifactEntry);
 
             URL artifactResource = RepositoryFiles.readResourceUrl(repositoryPath);
             r.setUrl(artifactResource.toString());
 
-            List<CodeSnippet> snippets = snippetGenerator.generateSnippets(repository.getLayout(),
-                                                                             artifactEntry.getArtifactCoordinates());
-            r.setSnippets(snippets);
+            if (!snippets)
+            {
+                continue;
+            }
+
+            Repository repository = repositoryPath.getRepository();
+            List<CodeSnippet> codeSnippets = snippetGenerator.generateSnippets(repository.getLayout(),
+                                                                                 artifactEntry.getArtifactCoordinates());
+            r.setSnippets(codeSnippets);
+        }
+
+        // The full page means that there could be more results.
+        if (!artifactEntries.isEmpty() && artifactEntries.size() >= paginator.getLimit())
+        {
+            ArtifactEntry last = artifactEntries.get(artifactEntries.size() - 1);
+            result.setNextCursor(encodeCursor(ordered ? CURSOR_SKIP + (paginator.getSkip() + artifactEntries.size())
+                                                      : CURSOR_RID + last.getObjectId()));
         }
 
         return result;
     }
 
+    private void continueFrom(Selector<ArtifactEntry> selector,
+                              String cursor,
+                              boolean ordered)
+    {
+        if (ordered && cursor.startsWith(CURSOR_SKIP))
+        {
+            try
+            {
+                selector.getPaginator().setSkip(Integer.valueOf(cursor.substring(CURSOR_SKIP.length())));
+
+                return;
+            }
+            catch (NumberFormatException e)
+            {
+                throw new QueryParserException("Invalid cursor.");
+            }
+        }
+        else if (!ordered && cursor.startsWith(CURSOR_RID))
+        {
+            ORecordId rid;
+            try
+            {
+                rid = new ORecordId(cursor.substring(CURSOR_RID.length()));
+            }
+            catch (IllegalArgumentException e)
+            {
+                throw new QueryParserException("Invalid cursor.");
+            }
+
+            // The cursor already points past the skipped records.
+            selector.getPaginator().setSkip(0);
+
+            Predicate cursorPredicate = Predicate.of(ExpOperator.GT.of(RECORD_ID, rid));
+            if (selector.getPredicate() == null)
+            {
+                selector.where(cursorPredicate);
+            }
+            else
+            {
+                selector.getPredicate().and(cursorPredicate);
+            }
+
+            return;
+        }
+
+        // The cursor of the other query.
+        throw new QueryParserException("Invalid cursor.");
+    }
+
+    private Repository getRepository(ArtifactEntry artifactEntry)
+    {
+        return configurationManager.getConfiguration()
+                                   .getStorage(artifactEntry.getStorageId())
+                                   .getRepository(artifactEntry.getRepositoryId());
+    }
+
+    private static String encodeCursor(String cursor)
+    {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor)
+    {
+        try
+        {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        }
+        catch (IllegalArgumentException e)
+        {
+            throw new QueryParserException("Invalid cursor.");
+        }
+    }
+
 }
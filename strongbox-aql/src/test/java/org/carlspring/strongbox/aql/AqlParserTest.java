@@ -197,6 +197,41 @@ public class AqlParserTest
                 );
     }
 
+    @Test
+    public void testArchiveContentsQuery()
+    {
+        String query = "repository:releases +archive:'org/carlspring/*.class'";
+
+        AqlQueryParser aqlParser = new AqlQueryParser(query);
+
+        logger.debug("Query [{}] parse tree:\n[{}]", query, aqlParser);
+
+        Selector<ArtifactEntry> selector = aqlParser.parseQuery();
+        Predicate predicate = selector.getPredicate();
+
+        assertThat(aqlParser.hasErrors()).isFalse();
+
+        OQueryTemplate<Object, ArtifactEntry> queryTemplate = new OQueryTemplate<>(null);
+
+        String sqlQuery = queryTemplate.calculateQueryString(selector);
+
+        logger.debug("Query [{}] parse result:\n[{}]", query, sqlQuery);
+
+        assertThat(sqlQuery).contains("uuid IN (SELECT artifactEntryUuid " +
+                                      "FROM ArtifactArchiveEntry " +
+                                      "WHERE path LIKE :uuid_");
+        // The nested query isn't paginated.
+        assertThat(sqlQuery).contains("_path_0 OR className LIKE :uuid_");
+        assertThat(sqlQuery).contains("_className_0)");
+
+        Map<String, Object> parameterMap = queryTemplate.exposeParameterMap(predicate);
+
+        logger.debug("Query [{}] parse parameters:\n[{}]", query, parameterMap);
+
+        assertThat(parameterMap).containsValues("releases", "org/carlspring/%");
+        assertThat(parameterMap.keySet().stream().filter(k -> k.startsWith("uuid_"))).hasSize(2);
+    }
+
     @Test
     public void testInvalidQuery()
     {
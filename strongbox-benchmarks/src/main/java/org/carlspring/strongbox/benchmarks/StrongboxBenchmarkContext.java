@@ -0,0 +1,158 @@
+package org.carlspring.strongbox.benchmarks;
+
+import org.carlspring.strongbox.config.BenchmarksConfig;
+import org.carlspring.strongbox.config.orientdb.OrientDbProfile;
+import org.carlspring.strongbox.configuration.ConfigurationManager;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.services.ArtifactManagementService;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the storage application context once per benchmark trial, against the in-memory OrientDB and a temporary
+ * Strongbox home and vault, so that the benchmarks neither depend on, nor pollute, the local environment.
+ * <p>
+ * The storages and repositories are defined in the <code>benchmarks/strongbox.yaml</code> resource.
+ */
+@State(Scope.Benchmark)
+public class StrongboxBenchmarkContext
+{
+
+    public static final String STORAGE_ID = "storage-benchmarks";
+
+    public static final String REPOSITORY_RELEASES = "releases";
+
+    public static final String REPOSITORY_THIRD_PARTY = "third-party";
+
+    public static final String REPOSITORY_GROUP = "group-releases";
+
+    private static final String POM_TEMPLATE = "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">" +
+                                               "<modelVersion>4.0.0</modelVersion>" +
+                                               "<groupId>%s</groupId>" +
+                                               "<artifactId>%s</artifactId>" +
+                                               "<version>%s</version>" +
+                                               "<packaging>jar</packaging>" +
+                                               "</project>";
+
+    private Path basedir;
+
+    private ConfigurableApplicationContext applicationContext;
+
+    @Setup(Level.Trial)
+    public void setUp()
+        throws IOException
+    {
+        basedir = Files.createTempDirectory("strongbox-benchmarks-");
+
+        Path configurationPath = basedir.resolve("strongbox").resolve("etc").resolve("conf");
+        Files.createDirectories(configurationPath);
+        copyResource("/benchmarks/strongbox.yaml", configurationPath.resolve("strongbox.yaml"));
+        copyResource("/etc/conf/strongbox-cron-tasks.yaml", configurationPath.resolve("strongbox-cron-tasks.yaml"));
+
+        // System properties take precedence over the `application.yaml` defaults.
+        System.setProperty("strongbox.basedir", basedir.toString());
+        System.setProperty(OrientDbProfile.PROPERTY_PROFILE, OrientDbProfile.PROFILE_MEMORY);
+
+        applicationContext = new SpringApplicationBuilder(BenchmarksConfig.class).web(WebApplicationType.NONE)
+                                                                                 .bannerMode(Banner.Mode.OFF)
+                                                                                 .logStartupInfo(false)
+                                                                                 .run();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+        throws IOException
+    {
+        try
+        {
+            if (applicationContext != null)
+            {
+                applicationContext.close();
+            }
+        }
+        finally
+        {
+            FileUtils.deleteDirectory(basedir.toFile());
+        }
+    }
+
+    public <T> T getBean(Class<T> type)
+    {
+        return applicationContext.getBean(type);
+    }
+
+    public Repository getRepository(String repositoryId)
+    {
+        return getBean(ConfigurationManager.class).getRepository(STORAGE_ID, repositoryId);
+    }
+
+    /**
+     * Stores the jar and pom artifacts of the given versions and returns the path of the artifact base directory
+     * (<code>groupId/artifactId</code>).
+     */
+    public RepositoryPath deploy(String repositoryId,
+                                 String groupId,
+                                 String artifactId,
+                                 String... versions)
+        throws IOException
+    {
+        Repository repository = getRepository(repositoryId);
+        RepositoryPathResolver repositoryPathResolver = getBean(RepositoryPathResolver.class);
+        ArtifactManagementService artifactManagementService = getBean(ArtifactManagementService.class);
+
+        String artifactBasePath = groupId.replace('.', '/') + "/" + artifactId;
+        for (String version : versions)
+        {
+            String artifactPath = String.format("%s/%s/%s-%s", artifactBasePath, version, artifactId, version);
+
+            byte[] pom = String.format(POM_TEMPLATE, groupId, artifactId, version).getBytes(StandardCharsets.UTF_8);
+            try (InputStream is = new ByteArrayInputStream(pom))
+            {
+                artifactManagementService.store(repositoryPathResolver.resolve(repository, artifactPath + ".pom"), is);
+            }
+
+            byte[] jar = artifactPath.getBytes(StandardCharsets.UTF_8);
+            try (InputStream is = new ByteArrayInputStream(jar))
+            {
+                artifactManagementService.store(repositoryPathResolver.resolve(repository, artifactPath + ".jar"), is);
+            }
+        }
+
+        return repositoryPathResolver.resolve(repository, artifactBasePath);
+    }
+
+    private static void copyResource(String name,
+                                     Path target)
+        throws IOException
+    {
+        try (InputStream is = StrongboxBenchmarkContext.class.getResourceAsStream(name))
+        {
+            if (is == null)
+            {
+                throw new IOException(String.format("Resource [%s] not found.", name));
+            }
+
+            Files.copy(is, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+}
@@ -0,0 +1,21 @@
+package org.carlspring.strongbox.config;
+
+import org.carlspring.strongbox.cron.config.CronTasksConfig;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+@Configuration
+@Import({ CommonConfig.class,
+          EventsConfig.class,
+          DataServiceConfig.class,
+          CronTasksConfig.class,
+          StorageCoreConfig.class,
+          StorageApiConfig.class,
+          Maven2LayoutProviderConfig.class,
+          ClientConfig.class
+})
+public class BenchmarksConfig
+{
+
+}
@@ -0,0 +1,86 @@
+package org.carlspring.strongbox.providers.io;
+
+import org.carlspring.strongbox.artifact.coordinates.ArtifactCoordinates;
+import org.carlspring.strongbox.benchmarks.StrongboxBenchmarkContext;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import static org.carlspring.strongbox.benchmarks.StrongboxBenchmarkContext.REPOSITORY_RELEASES;
+
+/**
+ * The attributes are read from the freshly resolved paths, the same way as the request handling does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RepositoryFilesBenchmark
+{
+
+    private static final String ARTIFACT_PATH = "org/carlspring/benchmarks/attributes/1.0/attributes-1.0.jar";
+
+    private static final String CHECKSUM_PATH = ARTIFACT_PATH + ".sha1";
+
+    private static final String METADATA_PATH = "org/carlspring/benchmarks/attributes/maven-metadata.xml";
+
+    private RepositoryPathResolver repositoryPathResolver;
+
+    private Repository repository;
+
+    @Setup(Level.Trial)
+    public void setUp(StrongboxBenchmarkContext context)
+        throws IOException
+    {
+        context.deploy(REPOSITORY_RELEASES, "org.carlspring.benchmarks", "attributes", "1.0");
+
+        repositoryPathResolver = context.getBean(RepositoryPathResolver.class);
+        repository = context.getRepository(REPOSITORY_RELEASES);
+    }
+
+    @Benchmark
+    public void fileTypeAttributes(Blackhole blackhole)
+        throws IOException
+    {
+        blackhole.consume(RepositoryFiles.isArtifact(repositoryPathResolver.resolve(repository, ARTIFACT_PATH)));
+        blackhole.consume(RepositoryFiles.isChecksum(repositoryPathResolver.resolve(repository, CHECKSUM_PATH)));
+        blackhole.consume(RepositoryFiles.isMetadata(repositoryPathResolver.resolve(repository, METADATA_PATH)));
+    }
+
+    @Benchmark
+    public boolean artifactExists()
+        throws IOException
+    {
+        return RepositoryFiles.artifactExists(repositoryPathResolver.resolve(repository, ARTIFACT_PATH));
+    }
+
+    @Benchmark
+    public ArtifactCoordinates readCoordinates()
+        throws IOException
+    {
+        return RepositoryFiles.readCoordinates(repositoryPathResolver.resolve(repository, ARTIFACT_PATH));
+    }
+
+    @Benchmark
+    public String relativizePath()
+        throws IOException
+    {
+        return RepositoryFiles.relativizePath(repositoryPathResolver.resolve(repository, ARTIFACT_PATH));
+    }
+
+}
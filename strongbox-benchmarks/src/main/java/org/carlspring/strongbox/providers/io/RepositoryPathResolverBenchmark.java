@@ -0,0 +1,77 @@
+package org.carlspring.strongbox.providers.io;
+
+import org.carlspring.strongbox.benchmarks.StrongboxBenchmarkContext;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import static org.carlspring.strongbox.benchmarks.StrongboxBenchmarkContext.REPOSITORY_RELEASES;
+import static org.carlspring.strongbox.benchmarks.StrongboxBenchmarkContext.STORAGE_ID;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RepositoryPathResolverBenchmark
+{
+
+    private static final String ARTIFACT_PATH = "org/carlspring/benchmarks/resolver/1.0/resolver-1.0.jar";
+
+    private static final String MISSING_ARTIFACT_PATH = "org/carlspring/benchmarks/resolver/0.1/resolver-0.1.jar";
+
+    private RepositoryPathResolver repositoryPathResolver;
+
+    private Repository repository;
+
+    @Setup(Level.Trial)
+    public void setUp(StrongboxBenchmarkContext context)
+        throws IOException
+    {
+        context.deploy(REPOSITORY_RELEASES, "org.carlspring.benchmarks", "resolver", "1.0");
+
+        repositoryPathResolver = context.getBean(RepositoryPathResolver.class);
+        repository = context.getRepository(REPOSITORY_RELEASES);
+    }
+
+    @Benchmark
+    public RepositoryPath resolve()
+    {
+        return repositoryPathResolver.resolve(repository, ARTIFACT_PATH);
+    }
+
+    @Benchmark
+    public RepositoryPath resolveByRepositoryId()
+    {
+        return repositoryPathResolver.resolve(STORAGE_ID, REPOSITORY_RELEASES, ARTIFACT_PATH);
+    }
+
+    @Benchmark
+    public ArtifactEntry resolveArtifactEntry()
+        throws IOException
+    {
+        return repositoryPathResolver.resolve(repository, ARTIFACT_PATH).getArtifactEntry();
+    }
+
+    @Benchmark
+    public ArtifactEntry resolveMissingArtifactEntry()
+        throws IOException
+    {
+        return repositoryPathResolver.resolve(repository, MISSING_ARTIFACT_PATH).getArtifactEntry();
+    }
+
+}
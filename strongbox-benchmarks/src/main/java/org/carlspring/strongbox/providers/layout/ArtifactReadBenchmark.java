@@ -0,0 +1,104 @@
+package org.carlspring.strongbox.providers.layout;
+
+import org.carlspring.strongbox.benchmarks.StrongboxBenchmarkContext;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.services.ArtifactManagementService;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import static org.carlspring.strongbox.benchmarks.StrongboxBenchmarkContext.REPOSITORY_RELEASES;
+
+/**
+ * The stored artifact reads, compared with the reads which calculate the artifact checksums, as all the reads did
+ * before the stored checksums were used instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ArtifactReadBenchmark
+{
+
+    private static final String ARTIFACT_PATH = "org/carlspring/benchmarks/read-digest/1.0/read-digest-1.0-%s.jar";
+
+    @Param({ "65536", "8388608" })
+    private int artifactSize;
+
+    private RepositoryPath artifactPath;
+
+    private LayoutFileSystemProvider provider;
+
+    private final byte[] buffer = new byte[8192];
+
+    @Setup(Level.Trial)
+    public void setUp(StrongboxBenchmarkContext context)
+        throws IOException
+    {
+        byte[] content = new byte[artifactSize];
+        new Random().nextBytes(content);
+
+        artifactPath = context.getBean(RepositoryPathResolver.class)
+                              .resolve(context.getRepository(REPOSITORY_RELEASES),
+                                       String.format(ARTIFACT_PATH, artifactSize));
+        try (InputStream is = new ByteArrayInputStream(content))
+        {
+            context.getBean(ArtifactManagementService.class).store(artifactPath, is);
+        }
+
+        provider = (LayoutFileSystemProvider) artifactPath.getFileSystem().provider();
+    }
+
+    @Benchmark
+    public long read()
+        throws IOException
+    {
+        try (InputStream is = Files.newInputStream(artifactPath))
+        {
+            return readFully(is);
+        }
+    }
+
+    @Benchmark
+    public long readWithDigests()
+        throws IOException
+    {
+        try (InputStream is = provider.newDigestInputStream(artifactPath))
+        {
+            return readFully(is);
+        }
+    }
+
+    private long readFully(InputStream is)
+        throws IOException
+    {
+        long result = 0;
+        int n;
+        while ((n = is.read(buffer)) != -1)
+        {
+            result += n;
+        }
+
+        return result;
+    }
+
+}
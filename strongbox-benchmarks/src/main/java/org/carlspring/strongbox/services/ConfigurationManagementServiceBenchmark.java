@@ -0,0 +1,101 @@
+package org.carlspring.strongbox.services;
+
+import org.carlspring.strongbox.benchmarks.StrongboxBenchmarkContext;
+import org.carlspring.strongbox.configuration.Configuration;
+import org.carlspring.strongbox.configuration.MutableConfiguration;
+import org.carlspring.strongbox.storage.StorageDto;
+import org.carlspring.strongbox.storage.repository.RepositoryDto;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The configuration access with many repositories, compared with the per-call deep copy of the configuration, which
+ * was used before the configuration snapshots were introduced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ConfigurationManagementServiceBenchmark
+{
+
+    private static final String STORAGE_ID = "storage-config-benchmarks";
+
+    @Param({ "10", "512" })
+    private int repositoryCount;
+
+    private ConfigurationManagementService configurationManagementService;
+
+    /**
+     * The configuration, which is copied the same way as before the configuration snapshots were introduced.
+     */
+    private MutableConfiguration configuration;
+
+    private final ReentrantReadWriteLock configurationLock = new ReentrantReadWriteLock();
+
+    @Setup(Level.Trial)
+    public void setUp(StrongboxBenchmarkContext context)
+        throws IOException
+    {
+        configurationManagementService = context.getBean(ConfigurationManagementService.class);
+
+        StorageDto storage = new StorageDto(STORAGE_ID);
+        for (int i = 0; i < repositoryCount; i++)
+        {
+            RepositoryDto repository = new RepositoryDto(String.format("releases-%s", i));
+            repository.setStorage(storage);
+            storage.addRepository(repository);
+        }
+
+        // The storage is dropped along with the temporary Strongbox home (see StrongboxBenchmarkContext).
+        configurationManagementService.saveStorage(storage);
+
+        configuration = configurationManagementService.getMutableConfigurationClone();
+    }
+
+    @Benchmark
+    public Configuration getConfiguration()
+    {
+        return configurationManagementService.getConfiguration();
+    }
+
+    /**
+     * The immutable copy of the configuration under the read lock, which
+     * {@link ConfigurationManagementService#getConfiguration()} did on every call before the configuration snapshots
+     * were introduced.
+     */
+    @Benchmark
+    public Configuration getConfigurationCopy()
+    {
+        final Lock readLock = configurationLock.readLock();
+        readLock.lock();
+
+        try
+        {
+            return new Configuration(configuration);
+        }
+        finally
+        {
+            readLock.unlock();
+        }
+    }
+
+}
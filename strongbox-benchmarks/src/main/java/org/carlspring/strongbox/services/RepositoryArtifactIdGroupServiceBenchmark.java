@@ -0,0 +1,81 @@
+package org.carlspring.strongbox.services;
+
+import org.carlspring.strongbox.benchmarks.StrongboxBenchmarkContext;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import static org.carlspring.strongbox.benchmarks.StrongboxBenchmarkContext.REPOSITORY_RELEASES;
+
+/**
+ * The artifact deploy into the artifact group with many versions, which should not depend on the number of versions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RepositoryArtifactIdGroupServiceBenchmark
+{
+
+    private static final String GROUP_ID = "org.carlspring.benchmarks";
+
+    @Param({ "100", "10000" })
+    private int versionCount;
+
+    private StrongboxBenchmarkContext context;
+
+    private String artifactId;
+
+    private int deployCount;
+
+    @Setup(Level.Trial)
+    public void setUp(StrongboxBenchmarkContext context)
+        throws Exception
+    {
+        this.context = context;
+
+        artifactId = "artifact-group-" + versionCount;
+        String[] versions = new String[versionCount];
+        for (int i = 0; i < versionCount; i++)
+        {
+            versions[i] = "1." + i;
+        }
+
+        context.deploy(REPOSITORY_RELEASES, GROUP_ID, artifactId, versions);
+    }
+
+    /**
+     * Each deployed version becomes the last version of the group.
+     */
+    @Benchmark
+    public RepositoryPath deployLastVersion()
+        throws Exception
+    {
+        return context.deploy(REPOSITORY_RELEASES, GROUP_ID, artifactId, "2." + deployCount++);
+    }
+
+    /**
+     * The deployed versions are older than the last version of the group.
+     */
+    @Benchmark
+    public RepositoryPath deployPreviousVersion()
+        throws Exception
+    {
+        return context.deploy(REPOSITORY_RELEASES, GROUP_ID, artifactId, "0." + deployCount++);
+    }
+
+}
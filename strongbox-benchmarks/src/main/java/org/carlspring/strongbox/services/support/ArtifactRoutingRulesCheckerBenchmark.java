@@ -0,0 +1,130 @@
+package org.carlspring.strongbox.services.support;
+
+import org.carlspring.strongbox.benchmarks.StrongboxBenchmarkContext;
+import org.carlspring.strongbox.configuration.MutableConfiguration;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.services.ConfigurationManagementService;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.routing.MutableRoutingRule;
+import org.carlspring.strongbox.storage.routing.MutableRoutingRuleRepository;
+import org.carlspring.strongbox.storage.routing.RoutingRuleTypeEnum;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import static org.carlspring.strongbox.benchmarks.StrongboxBenchmarkContext.REPOSITORY_GROUP;
+import static org.carlspring.strongbox.benchmarks.StrongboxBenchmarkContext.STORAGE_ID;
+import static org.carlspring.strongbox.benchmarks.StrongboxBenchmarkContext.REPOSITORY_THIRD_PARTY;
+
+/**
+ * Checks the group member paths against the routing rules of the <code>benchmarks/strongbox.yaml</code>, along with
+ * the given number of unrelated rules (of the other group repositories and of the other group members).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ArtifactRoutingRulesCheckerBenchmark
+{
+
+    @Param({ "0", "1000", "5000" })
+    private int unrelatedRuleCount;
+
+    private ArtifactRoutingRulesChecker artifactRoutingRulesChecker;
+
+    private Repository groupRepository;
+
+    private RepositoryPath deniedPath;
+
+    private RepositoryPath acceptedPath;
+
+    private RepositoryPath unmatchedPath;
+
+    @Setup(Level.Trial)
+    public void setUp(StrongboxBenchmarkContext context)
+        throws IOException
+    {
+        addUnrelatedRules(context.getBean(ConfigurationManagementService.class));
+
+        artifactRoutingRulesChecker = context.getBean(ArtifactRoutingRulesChecker.class);
+        groupRepository = context.getRepository(REPOSITORY_GROUP);
+
+        RepositoryPathResolver repositoryPathResolver = context.getBean(RepositoryPathResolver.class);
+        Repository repository = context.getRepository(REPOSITORY_THIRD_PARTY);
+
+        deniedPath = repositoryPathResolver.resolve(repository, "org/carlspring/commons/1.0/commons-1.0.jar");
+        acceptedPath = repositoryPathResolver.resolve(repository,
+                                                      "org/carlspring/strongbox/strongbox-commons/1.0/strongbox-commons-1.0.jar");
+        unmatchedPath = repositoryPathResolver.resolve(repository, "org/apache/commons/1.0/commons-1.0.jar");
+    }
+
+    private void addUnrelatedRules(ConfigurationManagementService configurationManagementService)
+        throws IOException
+    {
+        MutableConfiguration configuration = configurationManagementService.getMutableConfigurationClone();
+        List<MutableRoutingRule> rules = configuration.getRoutingRules().getRules();
+        for (int i = 0; i < unrelatedRuleCount; i++)
+        {
+            String pattern = String.format("org/carlspring/unrelated-%s/.*", i);
+
+            // Even rules belong to the other group repositories, odd rules to the other members of the group.
+            MutableRoutingRule rule = i % 2 == 0 ?
+                                      MutableRoutingRule.create(STORAGE_ID,
+                                                                "group-" + i,
+                                                                Collections.emptyList(),
+                                                                pattern,
+                                                                RoutingRuleTypeEnum.DENY) :
+                                      MutableRoutingRule.create(STORAGE_ID,
+                                                                REPOSITORY_GROUP,
+                                                                Collections.singletonList(
+                                                                        new MutableRoutingRuleRepository(STORAGE_ID,
+                                                                                                         "member-" + i)),
+                                                                pattern,
+                                                                RoutingRuleTypeEnum.DENY);
+            rule.setUuid(UUID.randomUUID());
+            rules.add(rule);
+        }
+
+        configurationManagementService.setConfiguration(configuration);
+    }
+
+    @Benchmark
+    public boolean isDeniedMatchingDenyRule()
+        throws IOException
+    {
+        return artifactRoutingRulesChecker.isDenied(groupRepository, deniedPath);
+    }
+
+    @Benchmark
+    public boolean isDeniedMatchingAcceptRule()
+        throws IOException
+    {
+        return artifactRoutingRulesChecker.isDenied(groupRepository, acceptedPath);
+    }
+
+    @Benchmark
+    public boolean isDeniedUnmatched()
+        throws IOException
+    {
+        return artifactRoutingRulesChecker.isDenied(groupRepository, unmatchedPath);
+    }
+
+}
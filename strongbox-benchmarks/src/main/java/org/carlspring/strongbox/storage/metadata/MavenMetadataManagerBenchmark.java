@@ -0,0 +1,118 @@
+package org.carlspring.strongbox.storage.metadata;
+
+import org.carlspring.strongbox.benchmarks.StrongboxBenchmarkContext;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.artifact.repository.metadata.Metadata;
+import org.apache.maven.artifact.repository.metadata.Versioning;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import static org.carlspring.strongbox.benchmarks.StrongboxBenchmarkContext.REPOSITORY_RELEASES;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MavenMetadataManagerBenchmark
+{
+
+    private static final String GROUP_ID = "org.carlspring.benchmarks";
+
+    @Param({ "10", "100", "2000" })
+    private int versionCount;
+
+    private MavenMetadataManager mavenMetadataManager;
+
+    private final VersionCollector versionCollector = new VersionCollector();
+
+    private ArtifactEntryVersionCollector artifactEntryVersionCollector;
+
+    private RepositoryPath artifactBasePath;
+
+    private RepositoryPath latestPomPath;
+
+    private Metadata mergeMetadata;
+
+    @Setup(Level.Trial)
+    public void setUp(StrongboxBenchmarkContext context)
+        throws Exception
+    {
+        String artifactId = "metadata-" + versionCount;
+        String[] versions = new String[versionCount];
+        for (int i = 0; i < versionCount; i++)
+        {
+            versions[i] = "1." + i;
+        }
+
+        artifactBasePath = context.deploy(REPOSITORY_RELEASES, GROUP_ID, artifactId, versions);
+
+        String latestVersion = versions[versionCount - 1];
+        latestPomPath = artifactBasePath.resolve(latestVersion).resolve(artifactId + "-" + latestVersion + ".pom");
+
+        mavenMetadataManager = context.getBean(MavenMetadataManager.class);
+        artifactEntryVersionCollector = context.getBean(ArtifactEntryVersionCollector.class);
+        mavenMetadataManager.generateMetadata(artifactBasePath, versionCollector.collectVersions(artifactBasePath));
+
+        Versioning versioning = new Versioning();
+        versioning.addVersion(versions[versionCount - 1]);
+
+        mergeMetadata = new Metadata();
+        mergeMetadata.setGroupId(GROUP_ID);
+        mergeMetadata.setArtifactId(artifactId);
+        mergeMetadata.setVersioning(versioning);
+    }
+
+    @Benchmark
+    public Metadata readMetadata()
+        throws Exception
+    {
+        return mavenMetadataManager.readMetadata(artifactBasePath);
+    }
+
+    @Benchmark
+    public void generateMetadata()
+        throws Exception
+    {
+        mavenMetadataManager.generateMetadata(artifactBasePath, versionCollector.collectVersions(artifactBasePath));
+    }
+
+    @Benchmark
+    public void generateMetadataFromArtifactEntries()
+        throws Exception
+    {
+        mavenMetadataManager.generateMetadata(artifactBasePath,
+                                              artifactEntryVersionCollector.collectVersions(artifactBasePath));
+    }
+
+    /**
+     * The metadata update on the artifact store, which should not depend on the number of versions.
+     */
+    @Benchmark
+    public boolean updateMetadata()
+        throws Exception
+    {
+        return mavenMetadataManager.updateMetadata(latestPomPath);
+    }
+
+    @Benchmark
+    public void mergeAndStore()
+        throws Exception
+    {
+        mavenMetadataManager.mergeAndStore(artifactBasePath, mergeMetadata);
+    }
+
+}
@@ -0,0 +1,249 @@
+package org.carlspring.strongbox.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Collects the pending changes in memory and periodically flushes them in batches, from a single background thread.
+ * <p>
+ * The changes with the same key are merged, so that several changes of the same target within the flush interval are
+ * flushed only once. If a batch fails, its changes are flushed one by one, and the failed changes are merged back
+ * into the pending changes (the changes recorded meanwhile are newer, so they take precedence) to be flushed again
+ * with the next flush, up to the given number of attempts.
+ *
+ * @param <T> the pending change
+ */
+public class CoalescingFlusher<T>
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(CoalescingFlusher.class);
+
+    private final Map<String, Pending<T>> pendingChanges = new ConcurrentHashMap<>();
+
+    private final String name;
+
+    private final Function<T, String> keyCalculator;
+
+    private final BinaryOperator<T> merger;
+
+    private final ThrowingConsumer<List<T>, Exception> batchFlusher;
+
+    private long flushInterval = 1000L;
+
+    private int batchSize = 1;
+
+    private int maxAttempts = 10;
+
+    private ScheduledExecutorService executor;
+
+    /**
+     * @param name          the name of the flushed changes, which is used for the thread name and the log messages
+     * @param keyCalculator calculates the key of the change, the changes with the same key are merged
+     * @param merger        merges the older change (the first argument) with the newer change (the second argument)
+     * @param batchFlusher  flushes the batch of the changes
+     */
+    public CoalescingFlusher(String name,
+                             Function<T, String> keyCalculator,
+                             BinaryOperator<T> merger,
+                             ThrowingConsumer<List<T>, Exception> batchFlusher)
+    {
+        this.name = name;
+        this.keyCalculator = keyCalculator;
+        this.merger = merger;
+        this.batchFlusher = batchFlusher;
+    }
+
+    /**
+     * Specifies how often (in milliseconds) the pending changes are flushed.
+     */
+    public CoalescingFlusher<T> withFlushInterval(long flushInterval)
+    {
+        this.flushInterval = flushInterval;
+
+        return this;
+    }
+
+    /**
+     * Maximum number of the changes to be flushed within one batch.
+     */
+    public CoalescingFlusher<T> withBatchSize(int batchSize)
+    {
+        this.batchSize = Math.max(batchSize, 1);
+
+        return this;
+    }
+
+    /**
+     * Maximum number of attempts to flush the change, before it's discarded.
+     */
+    public CoalescingFlusher<T> withMaxAttempts(int maxAttempts)
+    {
+        this.maxAttempts = Math.max(maxAttempts, 1);
+
+        return this;
+    }
+
+    public synchronized void start()
+    {
+        if (executor != null)
+        {
+            return;
+        }
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(name + "-");
+        threadFactory.setDaemon(true);
+
+        executor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        executor.scheduleWithFixedDelay(this::flushQuietly, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the background flushes and flushes the pending changes.
+     */
+    public void shutdown()
+    {
+        synchronized (this)
+        {
+            if (executor != null)
+            {
+                executor.shutdown();
+            }
+        }
+
+        flushQuietly();
+    }
+
+    public void record(T change)
+    {
+        // The `compute` is atomic against the `remove` within `flush`, so no changes get lost.
+        pendingChanges.compute(keyCalculator.apply(change),
+                               (k, v) -> v == null ? new Pending<>(change, 0) : v.merge(merger, change));
+    }
+
+    public int getPendingCount()
+    {
+        return pendingChanges.size();
+    }
+
+    /**
+     * Flushes all the pending changes.
+     */
+    public synchronized void flush()
+    {
+        List<Pending<T>> batch = new ArrayList<>(batchSize);
+        for (Iterator<String> i = pendingChanges.keySet().iterator(); i.hasNext(); )
+        {
+            Pending<T> pending = pendingChanges.remove(i.next());
+            if (pending == null)
+            {
+                continue;
+            }
+
+            batch.add(pending);
+            if (batch.size() >= batchSize)
+            {
+                flushBatch(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+
+        if (!batch.isEmpty())
+        {
+            flushBatch(batch);
+        }
+    }
+
+    private void flushQuietly()
+    {
+        try
+        {
+            flush();
+        }
+        catch (Exception e)
+        {
+            logger.error("Failed to flush [{}].", name, e);
+        }
+    }
+
+    private void flushBatch(List<Pending<T>> batch)
+    {
+        try
+        {
+            batchFlusher.accept(batch.stream().map(p -> p.change).collect(Collectors.toList()));
+
+            logger.debug("Flushed [{}] [{}].", batch.size(), name);
+        }
+        catch (Exception e)
+        {
+            if (batch.size() > 1)
+            {
+                logger.debug("Failed to flush [{}] [{}], flush them one by one.", batch.size(), name, e);
+
+                batch.forEach(p -> flushBatch(Collections.singletonList(p)));
+
+                return;
+            }
+
+            requeue(batch.get(0), e);
+        }
+    }
+
+    private void requeue(Pending<T> pending,
+                         Exception cause)
+    {
+        String key = keyCalculator.apply(pending.change);
+
+        int attempts = pending.failures + 1;
+        if (attempts >= maxAttempts)
+        {
+            logger.error("Failed to flush [{}] of [{}] after [{}] attempts, discard it.", name, key, attempts, cause);
+
+            return;
+        }
+
+        logger.warn("Failed to flush [{}] of [{}], attempt [{}] of [{}].", name, key, attempts, maxAttempts, cause);
+
+        Pending<T> failed = new Pending<>(pending.change, attempts);
+        pendingChanges.compute(key, (k, v) -> v == null ? failed : failed.merge(merger, v.change));
+    }
+
+    private static class Pending<T>
+    {
+
+        private final T change;
+
+        /**
+         * The number of the failed flushes of the change.
+         */
+        private final int failures;
+
+        private Pending(T change,
+                        int failures)
+        {
+            this.change = change;
+            this.failures = failures;
+        }
+
+        private Pending<T> merge(BinaryOperator<T> merger,
+                                 T newer)
+        {
+            return new Pending<>(merger.apply(change, newer), failures);
+        }
+
+    }
+
+}
@@ -0,0 +1,113 @@
+package org.carlspring.strongbox.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CoalescingFlusherTest
+{
+
+    private final List<List<String>> flushedBatches = new ArrayList<>();
+
+    /**
+     * The key of the changes which fail to be flushed.
+     */
+    private String failingKey;
+
+    @Test
+    public void testChangesWithSameKeyMerged()
+    {
+        CoalescingFlusher<String> flusher = createFlusher().withBatchSize(10);
+
+        flusher.record("a:1");
+        flusher.record("a:2");
+        flusher.record("b:1");
+
+        assertThat(flusher.getPendingCount()).isEqualTo(2);
+
+        flusher.flush();
+
+        assertThat(flushedBatches).hasSize(1);
+        assertThat(flushedBatches.get(0)).containsExactlyInAnyOrder("a:12", "b:1");
+        assertThat(flusher.getPendingCount()).isZero();
+    }
+
+    @Test
+    public void testFailedBatchFlushedOneByOne()
+    {
+        failingKey = "b";
+        CoalescingFlusher<String> flusher = createFlusher().withBatchSize(10);
+
+        flusher.record("a:1");
+        flusher.record("b:1");
+        flusher.record("c:1");
+
+        flusher.flush();
+
+        assertThat(flushedBatches).containsExactlyInAnyOrder(singleton("a:1"), singleton("c:1"));
+        assertThat(flusher.getPendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testFailedChangeRequeued()
+    {
+        failingKey = "a";
+        CoalescingFlusher<String> flusher = createFlusher();
+
+        flusher.record("a:1");
+        flusher.flush();
+
+        // The change recorded meanwhile is newer.
+        flusher.record("a:2");
+        assertThat(flusher.getPendingCount()).isEqualTo(1);
+
+        failingKey = null;
+        flusher.flush();
+
+        assertThat(flushedBatches).containsExactly(singleton("a:12"));
+    }
+
+    @Test
+    public void testFailedChangeDiscardedAfterMaxAttempts()
+    {
+        failingKey = "a";
+        CoalescingFlusher<String> flusher = createFlusher().withMaxAttempts(2);
+
+        flusher.record("a:1");
+
+        flusher.flush();
+        assertThat(flusher.getPendingCount()).isEqualTo(1);
+
+        flusher.flush();
+        assertThat(flusher.getPendingCount()).isZero();
+    }
+
+    /**
+     * The changes are `key:value` strings, the values of the same key are concatenated.
+     */
+    private CoalescingFlusher<String> createFlusher()
+    {
+        return new CoalescingFlusher<String>("test-changes",
+                                             c -> c.split(":")[0],
+                                             (older, newer) -> older + newer.split(":")[1],
+                                             batch -> {
+                                                 if (batch.stream().anyMatch(c -> c.startsWith(failingKey + ":")))
+                                                 {
+                                                     throw new IllegalStateException("Failed to flush.");
+                                                 }
+
+                                                 flushedBatches.add(batch);
+                                             });
+    }
+
+    private static List<String> singleton(String change)
+    {
+        List<String> result = new ArrayList<>();
+        result.add(change);
+
+        return result;
+    }
+
+}
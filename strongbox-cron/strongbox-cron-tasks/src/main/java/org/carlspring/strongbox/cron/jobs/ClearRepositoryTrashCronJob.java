@@ -5,7 +5,9 @@ import org.carlspring.strongbox.cron.jobs.fields.*;
 import org.carlspring.strongbox.services.RepositoryManagementService;
 
 import javax.inject.Inject;
+import java.util.Date;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import com.google.common.collect.ImmutableSet;
 
@@ -21,11 +23,19 @@ public class ClearRepositoryTrashCronJob
 
     private static final String PROPERTY_REPOSITORY_ID = "repositoryId";
 
+    private static final String PROPERTY_DELETED_BEFORE_DAYS = "deletedBeforeDays";
+
+    private static final String PROPERTY_MAX_SIZE_IN_BYTES = "maxSizeInBytes";
+
     private static final Set<CronJobField> FIELDS = ImmutableSet.of(
             new CronJobStorageIdAutocompleteField(new CronJobStringTypeField(
                     new CronJobOptionalField(new CronJobNamedField(PROPERTY_STORAGE_ID)))),
             new CronJobRepositoryIdAutocompleteField(new CronJobStringTypeField(
-                    new CronJobOptionalField(new CronJobNamedField(PROPERTY_REPOSITORY_ID)))));
+                    new CronJobOptionalField(new CronJobNamedField(PROPERTY_REPOSITORY_ID)))),
+            new CronJobIntegerTypeField(
+                    new CronJobOptionalField(new CronJobNamedField(PROPERTY_DELETED_BEFORE_DAYS))),
+            new CronJobIntegerTypeField(
+                    new CronJobOptionalField(new CronJobNamedField(PROPERTY_MAX_SIZE_IN_BYTES))));
 
     @Inject
     private RepositoryManagementService repositoryManagementService;
@@ -36,6 +46,44 @@ public class ClearRepositoryTrashCronJob
     {
         String storageId = config.getProperty(PROPERTY_STORAGE_ID);
         String repositoryId = config.getProperty(PROPERTY_REPOSITORY_ID);
+        String deletedBeforeDaysText = config.getProperty(PROPERTY_DELETED_BEFORE_DAYS);
+        String maxSizeInBytesText = config.getProperty(PROPERTY_MAX_SIZE_IN_BYTES);
+
+        if (deletedBeforeDaysText != null || maxSizeInBytesText != null)
+        {
+            Date deletedBefore = null;
+            Long maxSizeInBytes = null;
+            try
+            {
+                if (deletedBeforeDaysText != null)
+                {
+                    long deletedBeforeMillis = TimeUnit.DAYS.toMillis(Integer.parseInt(deletedBeforeDaysText));
+                    deletedBefore = new Date(System.currentTimeMillis() - deletedBeforeMillis);
+                }
+                if (maxSizeInBytesText != null)
+                {
+                    maxSizeInBytes = Long.valueOf(maxSizeInBytesText);
+                }
+            }
+            catch (NumberFormatException ex)
+            {
+                logger.error("Invalid value of '{}' or '{}' property. Cron job won't be fired.",
+                             PROPERTY_DELETED_BEFORE_DAYS, PROPERTY_MAX_SIZE_IN_BYTES, ex);
+                return;
+            }
+
+            // Only the expired part of the trash is purged, the catalogue doesn't require to walk the trash.
+            if (storageId == null && repositoryId == null)
+            {
+                repositoryManagementService.purgeTrash(deletedBefore, maxSizeInBytes);
+            }
+            else
+            {
+                repositoryManagementService.purgeTrash(storageId, repositoryId, deletedBefore, maxSizeInBytes);
+            }
+
+            return;
+        }
 
         if (storageId == null && repositoryId == null)
         {
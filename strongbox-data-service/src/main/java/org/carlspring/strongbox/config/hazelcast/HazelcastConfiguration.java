@@ -36,12 +36,20 @@ public class HazelcastConfiguration
     @Value("${cacheManagerConfiguration.caches.authentications.invalidateOnChange:true}")
     public boolean authenticationsCacheInvalidateOnChange;
 
+    /**
+     * The `OBJECT` format keeps the deserialized users within the near cache, so the state compiled on demand (like
+     * the path privileges of the user roles) is shared by the requests instead of being compiled per request.
+     */
+    @Value("${cacheManagerConfiguration.caches.authentications.inMemoryFormat:OBJECT}")
+    public InMemoryFormat authenticationsCacheInMemoryFormat;
+
     public MapConfig authenticationCacheConfig(String name)
     {
         return new MapConfig().setName(name).setNearCacheConfig(new NearCacheConfig().setCacheLocalEntries(authenticationsCacheCacheLocalEntries)
                                                                                      .setEvictionConfig(new EvictionConfig().setMaximumSizePolicy(authenticationsCacheEvictionConfigMaxSizePolicy)
                                                                                                                             .setSize(authenticationsCacheEvictionConfigSize))
                                                                                      .setInvalidateOnChange(authenticationsCacheInvalidateOnChange)
+                                                                                     .setInMemoryFormat(authenticationsCacheInMemoryFormat)
                                                                                      .setTimeToLiveSeconds(authenticationsCacheInvalidateInterval));
     }
 
@@ -63,6 +71,93 @@ public class HazelcastConfiguration
     @Value("${cacheManagerConfiguration.caches.tags.evictionPolicy:LFU}")
     public EvictionPolicy tagsEvictionPolicy;
 
+    @Value("${cacheManagerConfiguration.caches.cacheRegions.maxSizeLimit:100000}")
+    public int cacheRegionsMaxSizeLimit;
+
+    @Value("${cacheManagerConfiguration.caches.cacheRegions.maxSizePolicy:PER_NODE}")
+    public MaxSizeConfig.MaxSizePolicy cacheRegionsMaxSizePolicy;
+
+    @Value("${cacheManagerConfiguration.caches.cacheRegions.evictionPolicy:LRU}")
+    public EvictionPolicy cacheRegionsEvictionPolicy;
+
+    /**
+     * The region versions should outlive the entries of all the caches, which are tagged with them.
+     */
+    @Value("${cacheManagerConfiguration.caches.cacheRegions.timeToLiveSeconds:3600}")
+    public int cacheRegionsTimeToLiveSeconds;
+
+    @Value("${cacheManagerConfiguration.caches.artifactEntries.maxSizeLimit:10000}")
+    public int artifactEntriesMaxSizeLimit;
+
+    @Value("${cacheManagerConfiguration.caches.artifactEntries.maxSizePolicy:PER_NODE}")
+    public MaxSizeConfig.MaxSizePolicy artifactEntriesMaxSizePolicy;
+
+    @Value("${cacheManagerConfiguration.caches.artifactEntries.evictionPolicy:LRU}")
+    public EvictionPolicy artifactEntriesEvictionPolicy;
+
+    @Value("${cacheManagerConfiguration.caches.artifactEntries.timeToLiveSeconds:60}")
+    public int artifactEntriesTimeToLiveSeconds;
+
+    @Value("${cacheManagerConfiguration.caches.npmPackageFeeds.maxSizeLimit:10000}")
+    public int npmPackageFeedsMaxSizeLimit;
+
+    @Value("${cacheManagerConfiguration.caches.npmPackageFeeds.maxSizePolicy:PER_NODE}")
+    public MaxSizeConfig.MaxSizePolicy npmPackageFeedsMaxSizePolicy;
+
+    @Value("${cacheManagerConfiguration.caches.npmPackageFeeds.evictionPolicy:LRU}")
+    public EvictionPolicy npmPackageFeedsEvictionPolicy;
+
+    @Value("${cacheManagerConfiguration.caches.npmPackageFeeds.timeToLiveSeconds:60}")
+    public int npmPackageFeedsTimeToLiveSeconds;
+
+    @Value("${cacheManagerConfiguration.caches.nugetPackageFeedPages.maxSizeLimit:10000}")
+    public int nugetPackageFeedPagesMaxSizeLimit;
+
+    @Value("${cacheManagerConfiguration.caches.nugetPackageFeedPages.maxSizePolicy:PER_NODE}")
+    public MaxSizeConfig.MaxSizePolicy nugetPackageFeedPagesMaxSizePolicy;
+
+    @Value("${cacheManagerConfiguration.caches.nugetPackageFeedPages.evictionPolicy:LRU}")
+    public EvictionPolicy nugetPackageFeedPagesEvictionPolicy;
+
+    @Value("${cacheManagerConfiguration.caches.nugetPackageFeedPages.timeToLiveSeconds:60}")
+    public int nugetPackageFeedPagesTimeToLiveSeconds;
+
+    @Value("${cacheManagerConfiguration.caches.pypiSimpleIndexPages.maxSizeLimit:10000}")
+    public int pypiSimpleIndexPagesMaxSizeLimit;
+
+    @Value("${cacheManagerConfiguration.caches.pypiSimpleIndexPages.maxSizePolicy:PER_NODE}")
+    public MaxSizeConfig.MaxSizePolicy pypiSimpleIndexPagesMaxSizePolicy;
+
+    @Value("${cacheManagerConfiguration.caches.pypiSimpleIndexPages.evictionPolicy:LRU}")
+    public EvictionPolicy pypiSimpleIndexPagesEvictionPolicy;
+
+    @Value("${cacheManagerConfiguration.caches.pypiSimpleIndexPages.timeToLiveSeconds:60}")
+    public int pypiSimpleIndexPagesTimeToLiveSeconds;
+
+    @Value("${cacheManagerConfiguration.caches.groupRepositoryMissingPaths.maxSizeLimit:10000}")
+    public int groupRepositoryMissingPathsMaxSizeLimit;
+
+    @Value("${cacheManagerConfiguration.caches.groupRepositoryMissingPaths.maxSizePolicy:PER_NODE}")
+    public MaxSizeConfig.MaxSizePolicy groupRepositoryMissingPathsMaxSizePolicy;
+
+    @Value("${cacheManagerConfiguration.caches.groupRepositoryMissingPaths.evictionPolicy:LRU}")
+    public EvictionPolicy groupRepositoryMissingPathsEvictionPolicy;
+
+    @Value("${cacheManagerConfiguration.caches.groupRepositoryMissingPaths.timeToLiveSeconds:30}")
+    public int groupRepositoryMissingPathsTimeToLiveSeconds;
+
+    @Value("${cacheManagerConfiguration.caches.groupRepositorySearchTokens.maxSizeLimit:1000}")
+    public int groupRepositorySearchTokensMaxSizeLimit;
+
+    @Value("${cacheManagerConfiguration.caches.groupRepositorySearchTokens.maxSizePolicy:PER_NODE}")
+    public MaxSizeConfig.MaxSizePolicy groupRepositorySearchTokensMaxSizePolicy;
+
+    @Value("${cacheManagerConfiguration.caches.groupRepositorySearchTokens.evictionPolicy:LRU}")
+    public EvictionPolicy groupRepositorySearchTokensEvictionPolicy;
+
+    @Value("${cacheManagerConfiguration.caches.groupRepositorySearchTokens.timeToLiveSeconds:60}")
+    public int groupRepositorySearchTokensTimeToLiveSeconds;
+
     public static MapConfig newDefaultMapConfig(String name,
                                                 int maxSize,
                                                 MaxSizeConfig.MaxSizePolicy maxSizePolicy,
@@ -73,6 +168,15 @@ public class HazelcastConfiguration
                               .setEvictionPolicy(evictionPolicy);
     }
 
+    public static MapConfig newDefaultMapConfig(String name,
+                                                int maxSize,
+                                                MaxSizeConfig.MaxSizePolicy maxSizePolicy,
+                                                EvictionPolicy evictionPolicy,
+                                                int timeToLiveSeconds)
+    {
+        return newDefaultMapConfig(name, maxSize, maxSizePolicy, evictionPolicy).setTimeToLiveSeconds(timeToLiveSeconds);
+    }
+
     @Bean
     public HazelcastInstance hazelcastInstance(Config config)
     {
@@ -127,6 +231,41 @@ public class HazelcastConfiguration
                                                                             tagsMaxSizeLimit,
                                                                             tagsMaxSizePolicy,
                                                                             tagsEvictionPolicy))
+                                          .addMapConfig(newDefaultMapConfig(CacheName.Common.CACHE_REGIONS,
+                                                                            cacheRegionsMaxSizeLimit,
+                                                                            cacheRegionsMaxSizePolicy,
+                                                                            cacheRegionsEvictionPolicy,
+                                                                            cacheRegionsTimeToLiveSeconds))
+                                          .addMapConfig(newDefaultMapConfig(CacheName.Artifact.ARTIFACT_ENTRIES,
+                                                                            artifactEntriesMaxSizeLimit,
+                                                                            artifactEntriesMaxSizePolicy,
+                                                                            artifactEntriesEvictionPolicy,
+                                                                            artifactEntriesTimeToLiveSeconds))
+                                          .addMapConfig(newDefaultMapConfig(CacheName.Artifact.NPM_PACKAGE_FEEDS,
+                                                                            npmPackageFeedsMaxSizeLimit,
+                                                                            npmPackageFeedsMaxSizePolicy,
+                                                                            npmPackageFeedsEvictionPolicy,
+                                                                            npmPackageFeedsTimeToLiveSeconds))
+                                          .addMapConfig(newDefaultMapConfig(CacheName.Artifact.NUGET_PACKAGE_FEED_PAGES,
+                                                                            nugetPackageFeedPagesMaxSizeLimit,
+                                                                            nugetPackageFeedPagesMaxSizePolicy,
+                                                                            nugetPackageFeedPagesEvictionPolicy,
+                                                                            nugetPackageFeedPagesTimeToLiveSeconds))
+                                          .addMapConfig(newDefaultMapConfig(CacheName.Artifact.PYPI_SIMPLE_INDEX_PAGES,
+                                                                            pypiSimpleIndexPagesMaxSizeLimit,
+                                                                            pypiSimpleIndexPagesMaxSizePolicy,
+                                                                            pypiSimpleIndexPagesEvictionPolicy,
+                                                                            pypiSimpleIndexPagesTimeToLiveSeconds))
+                                          .addMapConfig(newDefaultMapConfig(CacheName.Repository.GROUP_REPOSITORY_MISSING_PATHS,
+                                                                            groupRepositoryMissingPathsMaxSizeLimit,
+                                                                            groupRepositoryMissingPathsMaxSizePolicy,
+                                                                            groupRepositoryMissingPathsEvictionPolicy,
+                                                                            groupRepositoryMissingPathsTimeToLiveSeconds))
+                                          .addMapConfig(newDefaultMapConfig(CacheName.Repository.GROUP_REPOSITORY_SEARCH_TOKENS,
+                                                                            groupRepositorySearchTokensMaxSizeLimit,
+                                                                            groupRepositorySearchTokensMaxSizePolicy,
+                                                                            groupRepositorySearchTokensEvictionPolicy,
+                                                                            groupRepositorySearchTokensTimeToLiveSeconds))
                                           .addMapConfig(authenticationCacheConfig(CacheName.User.AUTHENTICATIONS));
         config.setGroupConfig(new GroupConfig(groupConfigName, groupConfigPassword));
         config.getNetworkConfig().getJoin().getMulticastConfig().setEnabled(enableMulticastConfig);
@@ -5,6 +5,13 @@ package org.carlspring.strongbox.data;
  */
 public final class CacheName
 {
+    public static final class Common
+    {
+
+        public static final String CACHE_REGIONS = "cacheRegions";
+
+    }
+
     public static final class User
     {
         public static final String AUTHENTICATIONS = "authentications";
@@ -15,6 +22,14 @@ public final class CacheName
 
         public static final String TAGS = "tags";
 
+        public static final String ARTIFACT_ENTRIES = "artifactEntries";
+
+        public static final String NPM_PACKAGE_FEEDS = "npmPackageFeeds";
+
+        public static final String NUGET_PACKAGE_FEED_PAGES = "nugetPackageFeedPages";
+
+        public static final String PYPI_SIMPLE_INDEX_PAGES = "pypiSimpleIndexPages";
+
     }
 
     public static final class Repository
@@ -22,6 +37,10 @@ public final class CacheName
 
         public static final String REMOTE_REPOSITORY_ALIVENESS = "remoteRepositoryAliveness";
 
+        public static final String GROUP_REPOSITORY_MISSING_PATHS = "groupRepositoryMissingPaths";
+
+        public static final String GROUP_REPOSITORY_SEARCH_TOKENS = "groupRepositorySearchTokens";
+
     }
 
 
@@ -0,0 +1,242 @@
+package org.carlspring.strongbox.data.cache;
+
+import org.carlspring.strongbox.data.CacheName;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * The {@link CacheManager} managed cache, whose entries could be evicted by regions.
+ * <p>
+ * Every entry is tagged with the versions of its regions (for example the package, or the repository of the entry)
+ * taken before the entry has been loaded. The region eviction just replaces the region version (which is kept within
+ * the {@link CacheName.Common#CACHE_REGIONS} cache), so it doesn't depend on the number of the cached entries, and
+ * the entries of the previous versions are treated as missing until they are replaced or expired. This also stops
+ * the entries, which have been loaded concurrently with the eviction, from being served after the eviction, on any
+ * cluster node. The missing region version is never treated as a version itself, it's initialized with a new one,
+ * so the region versions dropped by the {@link CacheName.Common#CACHE_REGIONS} cache limits only cost the misses.
+ * <p>
+ * The size and time to live of the entries are configured by the cache itself (see {@code HazelcastConfiguration}).
+ * The values are stored by value, so every caller gets its own copy of the cached value.
+ */
+public class RegionCache<V extends Serializable>
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(RegionCache.class);
+
+    private static final String KEY_SEPARATOR = "/";
+
+    /**
+     * The region of all the entries, which is evicted by {@link #clear()}.
+     */
+    private static final String ALL_ENTRIES_REGION = "";
+
+    private final String name;
+
+    private final Cache cache;
+
+    private final Cache regions;
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public RegionCache(CacheManager cacheManager,
+                       String name)
+    {
+        this.name = name;
+        this.cache = Objects.requireNonNull(cacheManager.getCache(name),
+                                            String.format("[%s] cache configuration was not provided", name));
+        this.regions = Objects.requireNonNull(cacheManager.getCache(CacheName.Common.CACHE_REGIONS),
+                                              String.format("[%s] cache configuration was not provided",
+                                                            CacheName.Common.CACHE_REGIONS));
+    }
+
+    /**
+     * @param key     the key of the entry
+     * @param loader  loads the value, the <code>null</code> values are not cached
+     * @param regions the regions of the entry
+     */
+    @SuppressWarnings("unchecked")
+    public V get(String key,
+                 Supplier<V> loader,
+                 String... regions)
+    {
+        Object[] versions = getVersions(regions);
+
+        CachedValue cachedValue = cache.get(key, CachedValue.class);
+        if (cachedValue != null && Arrays.equals(cachedValue.getVersions(), versions))
+        {
+            hitCount.incrementAndGet();
+
+            return (V) cachedValue.getValue();
+        }
+
+        missCount.incrementAndGet();
+
+        V result = loader.get();
+        if (result != null)
+        {
+            // The entry is tagged with the versions taken before it has been loaded.
+            cache.put(key, new CachedValue(versions, result));
+        }
+
+        return result;
+    }
+
+    /**
+     * Evicts all the entries of the region.
+     */
+    public void evict(String region)
+    {
+        regions.put(calculateRegionKey(region), ThreadLocalRandom.current().nextLong());
+        evictionCount.incrementAndGet();
+
+        logger.debug("Evicted [{}] region [{}].", name, region);
+    }
+
+    /**
+     * Evicts all the entries of the regions right away, and once again after the surrounding transaction (if any) has
+     * completed, so that the entries loaded by the concurrent transactions before the changes were committed are not
+     * served.
+     */
+    public void evictNowAndAfterCompletion(String... regions)
+    {
+        for (String region : regions)
+        {
+            evict(region);
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive())
+        {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter()
+        {
+
+            @Override
+            public void afterCompletion(int status)
+            {
+                for (String region : regions)
+                {
+                    evict(region);
+                }
+            }
+
+        });
+    }
+
+    public void clear()
+    {
+        evict(ALL_ENTRIES_REGION);
+        cache.clear();
+    }
+
+    public long getHitCount()
+    {
+        return hitCount.get();
+    }
+
+    public long getMissCount()
+    {
+        return missCount.get();
+    }
+
+    public long getEvictionCount()
+    {
+        return evictionCount.get();
+    }
+
+    private Object[] getVersions(String... regions)
+    {
+        Object[] result = new Object[regions.length + 1];
+        result[0] = getVersion(ALL_ENTRIES_REGION);
+        for (int i = 0; i < regions.length; i++)
+        {
+            result[i + 1] = getVersion(regions[i]);
+        }
+
+        return result;
+    }
+
+    /**
+     * The region version is initialized explicitly once it's missing (the region was never evicted, or its version
+     * has been dropped by the size or time limits of the {@link CacheName.Common#CACHE_REGIONS} cache), so the
+     * entries tagged with the dropped version are treated as missing, rather than becoming valid again.
+     */
+    private Long getVersion(String region)
+    {
+        String regionKey = calculateRegionKey(region);
+
+        Long version = regions.get(regionKey, Long.class);
+        if (version != null)
+        {
+            return version;
+        }
+
+        Long newVersion = ThreadLocalRandom.current().nextLong();
+        ValueWrapper existingVersion = regions.putIfAbsent(regionKey, newVersion);
+
+        return existingVersion != null && existingVersion.get() != null ? (Long) existingVersion.get() : newVersion;
+    }
+
+    private String calculateRegionKey(String region)
+    {
+        return name + KEY_SEPARATOR + region;
+    }
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder sb = new StringBuilder("RegionCache{");
+        sb.append("name='").append(name).append('\'');
+        sb.append(", hitCount=").append(hitCount);
+        sb.append(", missCount=").append(missCount);
+        sb.append(", evictionCount=").append(evictionCount);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    private static class CachedValue
+            implements Serializable
+    {
+
+        private final Object[] versions;
+
+        private final Serializable value;
+
+        private CachedValue(Object[] versions,
+                            Serializable value)
+        {
+            this.versions = versions;
+            this.value = value;
+        }
+
+        public Object[] getVersions()
+        {
+            return versions;
+        }
+
+        public Serializable getValue()
+        {
+            return value;
+        }
+
+    }
+
+}
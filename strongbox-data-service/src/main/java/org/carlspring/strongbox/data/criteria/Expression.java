@@ -64,7 +64,13 @@ public class Expression
 
     public enum ExpOperator
     {
-        EQ, GE, LE, CONTAINS, LIKE, IS_NULL, IS_NOT_NULL;
+        EQ, GE, GT, LE, CONTAINS, LIKE, IS_NULL, IS_NOT_NULL,
+
+        /**
+         * The property value should be one of the values selected by the nested {@link Selector}, which is the
+         * expression value.
+         */
+        IN;
 
         public Expression of(String property,
                              Object value)
@@ -27,6 +27,11 @@ public class OQueryTemplate<R, T extends GenericEntity> implements QueryTemplate
 
     protected EntityManager entityManager;
 
+    /**
+     * Used to distinguish the parameters of the nested queries.
+     */
+    private String parameterPrefix = "";
+
     public OQueryTemplate()
     {
         super();
@@ -86,7 +91,12 @@ public class OQueryTemplate<R, T extends GenericEntity> implements QueryTemplate
     {
         HashMap<String, Object> result = new HashMap<>();
         Expression e = p.getExpression();
-        if (e != null && !ExpOperator.IS_NULL.equals(e.getOperator()) && !ExpOperator.IS_NOT_NULL.equals(e.getOperator()))
+        if (e != null && ExpOperator.IN.equals(e.getOperator()))
+        {
+            Selector<?> subquery = (Selector<?>) e.getValue();
+            result.putAll(subqueryTemplate(e.getProperty(), tokenCount).exposeParameterMap(subquery.getPredicate()));
+        }
+        else if (e != null && !ExpOperator.IS_NULL.equals(e.getOperator()) && !ExpOperator.IS_NOT_NULL.equals(e.getOperator()))
         {
             result.put(calculateParameterName(e.getProperty(), tokenCount), e.getValue());
         }
@@ -118,6 +128,10 @@ public class OQueryTemplate<R, T extends GenericEntity> implements QueryTemplate
         if (paginator != null && paginator.getProperty() != null && !paginator.getProperty().trim().isEmpty())
         {
             sb.append(String.format(" ORDER BY %s %s", paginator.getProperty(), paginator.getOrder()));
+            if (paginator.getSecondaryProperty() != null && !paginator.getSecondaryProperty().trim().isEmpty())
+            {
+                sb.append(String.format(", %s %s", paginator.getSecondaryProperty(), paginator.getOrder()));
+            }
         }
 
         if (paginator != null && paginator.getSkip() > 0)
@@ -137,6 +151,34 @@ public class OQueryTemplate<R, T extends GenericEntity> implements QueryTemplate
         return sb.toString();
     }
 
+    /**
+     * Nested queries are not paginated, so all the matching values are selected.
+     */
+    protected String calculateSubqueryString(Selector<?> selector)
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append("SELECT ").append(selector.getProjection());
+        sb.append(" FROM ").append(selector.getTargetClass().getSimpleName());
+
+        Predicate p = selector.getPredicate();
+        if (p != null && !p.isEmpty())
+        {
+            sb.append(" WHERE ");
+            sb.append(predicateToken(p, 0));
+        }
+
+        return sb.toString();
+    }
+
+    private OQueryTemplate<Object, GenericEntity> subqueryTemplate(String property,
+                                                                 int n)
+    {
+        OQueryTemplate<Object, GenericEntity> result = new OQueryTemplate<>(entityManager);
+        result.parameterPrefix = calculateParameterName(property, n) + "_";
+
+        return result;
+    }
+
     protected String predicateToken(Predicate p,
                                     int tokenCount)
     {
@@ -213,6 +255,10 @@ public class OQueryTemplate<R, T extends GenericEntity> implements QueryTemplate
         case IS_NOT_NULL:
             
             return "";
+        case IN:
+            Selector<?> subquery = (Selector<?>) e.getValue();
+
+            return String.format("(%s)", subqueryTemplate(e.getProperty(), n).calculateSubqueryString(subquery));
         default:
             break;
         }
@@ -229,7 +275,7 @@ public class OQueryTemplate<R, T extends GenericEntity> implements QueryTemplate
         }
         property = property.replace(".toLowerCase()", "");
         property = property.replace("@", "");
-        return String.format("%s_%s", property.substring(property.lastIndexOf(".") + 1), n);
+        return String.format("%s%s_%s", parameterPrefix, property.substring(property.lastIndexOf(".") + 1), n);
     }
 
     protected String expressionOperatorToken(Expression e)
@@ -242,6 +288,8 @@ public class OQueryTemplate<R, T extends GenericEntity> implements QueryTemplate
             return " <= ";
         case GE:
             return " >=";            
+        case GT:
+            return " > ";
         case LIKE:
             return " LIKE ";
         case CONTAINS:
@@ -250,6 +298,8 @@ public class OQueryTemplate<R, T extends GenericEntity> implements QueryTemplate
             return " IS NULL ";
         case IS_NOT_NULL:
             return " IS NOT NULL ";            
+        case IN:
+            return " IN ";
         }
         return null;
     }
@@ -9,6 +9,7 @@ public class Paginator
     private Integer limit;
 
     private String property;
+    private String secondaryProperty;
     private Order order = Order.ASC;
 
     public Integer getSkip()
@@ -41,6 +42,19 @@ public class Paginator
         this.property = orderBy;
     }
 
+    /**
+     * The property, which orders the results with the same {@link #getProperty()} value, in the same order.
+     */
+    public String getSecondaryProperty()
+    {
+        return secondaryProperty;
+    }
+
+    public void setSecondaryProperty(String secondaryProperty)
+    {
+        this.secondaryProperty = secondaryProperty;
+    }
+
     public Order getOrder()
     {
         return order;
@@ -0,0 +1,64 @@
+package org.carlspring.strongbox.data.schema;
+
+import org.carlspring.strongbox.data.domain.GenericEntity;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.orientechnologies.orient.core.metadata.schema.OClass.INDEX_TYPE;
+
+/**
+ * The index of the entity class, which is created at startup (see {@link EntityIndexInitializer}) unless it exists.
+ * <p>
+ * The indexed properties, which are not defined by the schema yet, are defined as <code>STRING</code> properties.
+ */
+public class EntityIndex
+{
+
+    private final Class<? extends GenericEntity> entityClass;
+
+    private final String name;
+
+    private final INDEX_TYPE type;
+
+    private final List<String> properties;
+
+    public EntityIndex(Class<? extends GenericEntity> entityClass,
+                       String name,
+                       INDEX_TYPE type,
+                       String... properties)
+    {
+        this.entityClass = entityClass;
+        this.name = name;
+        this.type = type;
+        this.properties = Collections.unmodifiableList(Arrays.asList(properties));
+    }
+
+    public Class<? extends GenericEntity> getEntityClass()
+    {
+        return entityClass;
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    public INDEX_TYPE getType()
+    {
+        return type;
+    }
+
+    public List<String> getProperties()
+    {
+        return properties;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("%s(%s)", name, String.join(", ", properties));
+    }
+
+}
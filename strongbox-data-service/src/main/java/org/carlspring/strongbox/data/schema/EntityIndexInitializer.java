@@ -0,0 +1,111 @@
+package org.carlspring.strongbox.data.schema;
+
+import javax.inject.Inject;
+import java.util.Collections;
+import java.util.List;
+
+import com.orientechnologies.orient.core.db.ODatabasePool;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.exception.OSchemaException;
+import com.orientechnologies.orient.core.index.OIndexException;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OSchema;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the {@link EntityIndex} indexes, which are declared as beans, once the database changelog has been applied
+ * and the entity classes have been registered.
+ * <p>
+ * The existing indexes are kept as they are, so the indexes could be moved into the changelog later on. The schema
+ * changes could be made by several cluster nodes at the same time, so the index created meanwhile by another node is
+ * not treated as a failure.
+ */
+@Component
+@DependsOn({ "liquibase",
+             "entityManagerFactory" })
+public class EntityIndexInitializer
+        implements InitializingBean
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(EntityIndexInitializer.class);
+
+    @Inject
+    private ODatabasePool databasePool;
+
+    @Autowired(required = false)
+    private List<EntityIndex> entityIndexes = Collections.emptyList();
+
+    @Override
+    public void afterPropertiesSet()
+    {
+        try (ODatabaseSession session = databasePool.acquire())
+        {
+            OSchema schema = session.getMetadata().getSchema();
+            entityIndexes.forEach(i -> createIndex(schema, i));
+        }
+    }
+
+    private void createIndex(OSchema schema,
+                             EntityIndex entityIndex)
+    {
+        try
+        {
+            OClass oClass = getOrCreateClass(schema, entityIndex.getEntityClass());
+            if (oClass.getClassIndex(entityIndex.getName()) != null)
+            {
+                return;
+            }
+
+            for (String property : entityIndex.getProperties())
+            {
+                if (!oClass.existsProperty(property))
+                {
+                    oClass.createProperty(property, OType.STRING);
+                }
+            }
+
+            oClass.createIndex(entityIndex.getName(), entityIndex.getType(),
+                               entityIndex.getProperties().toArray(new String[0]));
+
+            logger.info("Created index [{}] of [{}].", entityIndex, oClass.getName());
+        }
+        catch (OSchemaException | OIndexException e)
+        {
+            OClass oClass = schema.getClass(entityIndex.getEntityClass().getSimpleName());
+            if (oClass != null && oClass.getClassIndex(entityIndex.getName()) != null)
+            {
+                logger.debug("Index [{}] has been created concurrently.", entityIndex, e);
+
+                return;
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * The entity class is usually registered along with the entity manager factory, otherwise it's created with the
+     * same name and super class as the entity manager would do.
+     */
+    private OClass getOrCreateClass(OSchema schema,
+                                    Class<?> entityClass)
+    {
+        OClass oClass = schema.getClass(entityClass.getSimpleName());
+        if (oClass != null)
+        {
+            return oClass;
+        }
+
+        OClass superClass = schema.getClass(entityClass.getSuperclass().getSimpleName());
+
+        return superClass == null ? schema.createClass(entityClass.getSimpleName()) :
+               schema.createClass(entityClass.getSimpleName(), superClass);
+    }
+
+}
@@ -18,8 +18,10 @@ import org.carlspring.strongbox.authorization.domain.AuthorizationConfig;
 import org.carlspring.strongbox.authorization.dto.AuthorizationConfigDto;
 import org.carlspring.strongbox.authorization.dto.RoleDto;
 import org.carlspring.strongbox.authorization.service.AuthorizationConfigService;
+import org.carlspring.strongbox.data.CacheName;
 import org.carlspring.strongbox.users.domain.Privileges;
 import org.carlspring.strongbox.users.domain.SystemRole;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
 
@@ -45,6 +47,7 @@ public class AuthorizationConfigServiceImpl
     private AuthorizationConfigDto authorizationConfig;
 
     @Override
+    @CacheEvict(cacheNames = CacheName.User.AUTHENTICATIONS, allEntries = true)
     public void setAuthorizationConfig(final AuthorizationConfigDto newConfig) throws IOException
     {
         modifyInLock(config ->
@@ -87,6 +90,7 @@ public class AuthorizationConfigServiceImpl
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheName.User.AUTHENTICATIONS, allEntries = true)
     public void addRole(final RoleDto role) throws IOException
     {
         modifyInLock(config ->
@@ -96,6 +100,7 @@ public class AuthorizationConfigServiceImpl
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheName.User.AUTHENTICATIONS, allEntries = true)
     public boolean deleteRole(final String roleName) throws IOException
     {
         MutableBoolean result = new MutableBoolean();
@@ -112,6 +117,7 @@ public class AuthorizationConfigServiceImpl
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheName.User.AUTHENTICATIONS, allEntries = true)
     public void addPrivilegesToAnonymous(final List<Privileges> privilegeList) throws IOException
     {
         modifyInLock(config ->
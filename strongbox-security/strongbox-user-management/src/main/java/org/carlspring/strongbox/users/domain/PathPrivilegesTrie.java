@@ -0,0 +1,186 @@
+package org.carlspring.strongbox.users.domain;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.lang.StringUtils;
+import org.carlspring.strongbox.users.dto.PathPrivileges;
+import org.carlspring.strongbox.users.dto.RepositoryPrivileges;
+import org.carlspring.strongbox.users.dto.StoragePrivileges;
+
+/**
+ * Storage, repository and path privileges compiled into a prefix tree of the URL path segments
+ * (<code>/storages/{storageId}/{repositoryId}/{path}</code>), so that the privileges of the URL are resolved in one
+ * pass over the URL segments, regardless of the number of the privileges granted.
+ * <p>
+ * The repository privileges and the wildcard path privileges apply to the path itself along with all the nested
+ * paths, while the other path privileges apply to the exact path only.
+ * <p>
+ * The privileges are expected to be added before the trie is shared.
+ */
+public class PathPrivilegesTrie
+        implements Serializable
+{
+
+    private static final String STORAGES = "storages";
+
+    private static final String SEPARATOR = "/";
+
+    private final Node root = new Node();
+
+    public PathPrivilegesTrie addStoragePrivileges(Collection<? extends StoragePrivileges> storages)
+    {
+        for (StoragePrivileges storage : storages)
+        {
+            for (RepositoryPrivileges repository : storage.getRepositoryPrivileges())
+            {
+                Node repositoryNode = root.resolve(STORAGES)
+                                          .resolve(storage.getStorageId())
+                                          .resolve(repository.getRepositoryId());
+                repositoryNode.addPrivileges(repository.getRepositoryPrivileges(), true);
+
+                for (PathPrivileges pathPrivilege : repository.getPathPrivileges())
+                {
+                    Node pathNode = repositoryNode;
+                    for (String segment : split(pathPrivilege.getPath()))
+                    {
+                        pathNode = pathNode.resolve(segment);
+                    }
+
+                    pathNode.addPrivileges(pathPrivilege.getPrivileges(), pathPrivilege.isWildcard());
+                }
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Grants the privileges to all the URLs.
+     */
+    public PathPrivilegesTrie addGlobalPrivileges(Collection<Privileges> privileges)
+    {
+        root.addPrivileges(privileges, true);
+
+        return this;
+    }
+
+    public PathPrivilegesTrie addAll(PathPrivilegesTrie other)
+    {
+        root.merge(other.root);
+
+        return this;
+    }
+
+    public Set<Privileges> getPathAuthorities(String url)
+    {
+        Set<Privileges> result = EnumSet.noneOf(Privileges.class);
+
+        Node node = root;
+        node.collectNested(result);
+        for (String segment : split(url))
+        {
+            node = node.children.get(segment);
+            if (node == null)
+            {
+                return result;
+            }
+
+            node.collectNested(result);
+        }
+
+        node.collectExact(result);
+
+        return result;
+    }
+
+    private static String[] split(String path)
+    {
+        return StringUtils.split(StringUtils.defaultString(path), SEPARATOR);
+    }
+
+    private static class Node
+            implements Serializable
+    {
+
+        private final Map<String, Node> children = new HashMap<>();
+
+        /**
+         * The privileges of the path and all the nested paths.
+         */
+        private Set<Privileges> nestedPrivileges;
+
+        /**
+         * The privileges of the exact path.
+         */
+        private Set<Privileges> exactPrivileges;
+
+        private Node resolve(String segment)
+        {
+            return children.computeIfAbsent(segment, k -> new Node());
+        }
+
+        private void addPrivileges(Collection<Privileges> privileges,
+                                   boolean nested)
+        {
+            if (privileges == null || privileges.isEmpty())
+            {
+                return;
+            }
+
+            if (nested)
+            {
+                nestedPrivileges = add(nestedPrivileges, privileges);
+            }
+            else
+            {
+                exactPrivileges = add(exactPrivileges, privileges);
+            }
+        }
+
+        private void merge(Node other)
+        {
+            if (other.nestedPrivileges != null)
+            {
+                addPrivileges(other.nestedPrivileges, true);
+            }
+            if (other.exactPrivileges != null)
+            {
+                addPrivileges(other.exactPrivileges, false);
+            }
+
+            other.children.forEach((segment, child) -> resolve(segment).merge(child));
+        }
+
+        private void collectNested(Set<Privileges> result)
+        {
+            if (nestedPrivileges != null)
+            {
+                result.addAll(nestedPrivileges);
+            }
+        }
+
+        private void collectExact(Set<Privileges> result)
+        {
+            if (exactPrivileges != null)
+            {
+                result.addAll(exactPrivileges);
+            }
+        }
+
+        private static Set<Privileges> add(Set<Privileges> target,
+                                           Collection<Privileges> privileges)
+        {
+            Set<Privileges> result = target != null ? target : EnumSet.noneOf(Privileges.class);
+            result.addAll(privileges);
+
+            return result;
+        }
+
+    }
+
+}
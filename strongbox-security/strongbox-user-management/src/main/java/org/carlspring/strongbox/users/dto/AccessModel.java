@@ -3,6 +3,7 @@ package org.carlspring.strongbox.users.dto;
 import java.io.Serializable;
 import java.util.Set;
 
+import org.carlspring.strongbox.users.domain.PathPrivilegesTrie;
 import org.carlspring.strongbox.users.domain.Privileges;
 
 public interface AccessModel extends Serializable
@@ -11,4 +12,10 @@ public interface AccessModel extends Serializable
 
     Set<Privileges> getPathAuthorities(String path);
 
+    /**
+     * @return the storage, repository and path privileges compiled into the {@link PathPrivilegesTrie}, which is not
+     *         expected to be modified
+     */
+    PathPrivilegesTrie getPathPrivilegesTrie();
+
 }
@@ -5,7 +5,7 @@ import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.Set;
 
-import org.carlspring.strongbox.users.domain.AccessModelData;
+import org.carlspring.strongbox.users.domain.PathPrivilegesTrie;
 import org.carlspring.strongbox.users.domain.Privileges;
 
 /**
@@ -40,7 +40,13 @@ public class AccessModelDto
     @Override
     public Set<Privileges> getPathAuthorities(String url)
     {
-        return AccessModelData.getPathAuthorities(url, storageAuthorities);
+        return getPathPrivilegesTrie().getPathAuthorities(url);
+    }
+
+    @Override
+    public PathPrivilegesTrie getPathPrivilegesTrie()
+    {
+        return new PathPrivilegesTrie().addStoragePrivileges(storageAuthorities);
     }
     
 }
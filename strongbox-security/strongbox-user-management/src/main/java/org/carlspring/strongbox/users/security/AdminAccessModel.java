@@ -2,6 +2,7 @@ package org.carlspring.strongbox.users.security;
 
 import java.util.Set;
 
+import org.carlspring.strongbox.users.domain.PathPrivilegesTrie;
 import org.carlspring.strongbox.users.domain.Privileges;
 import org.carlspring.strongbox.users.dto.AccessModel;
 
@@ -11,6 +12,9 @@ import org.carlspring.strongbox.users.dto.AccessModel;
  */
 public class AdminAccessModel implements AccessModel
 {
+
+    private static final PathPrivilegesTrie PATH_PRIVILEGES_TRIE = new PathPrivilegesTrie().addGlobalPrivileges(
+            Privileges.all());
     
     public Set<Privileges> getApiAuthorities()
     {
@@ -23,4 +27,10 @@ public class AdminAccessModel implements AccessModel
         return Privileges.all();
     }
 
+    @Override
+    public PathPrivilegesTrie getPathPrivilegesTrie()
+    {
+        return PATH_PRIVILEGES_TRIE;
+    }
+
 }
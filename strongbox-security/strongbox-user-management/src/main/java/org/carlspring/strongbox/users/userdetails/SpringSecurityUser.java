@@ -7,6 +7,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.carlspring.strongbox.authorization.dto.Role;
+import org.carlspring.strongbox.users.domain.PathPrivilegesTrie;
 import org.carlspring.strongbox.users.domain.Privileges;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -30,6 +31,13 @@ public class SpringSecurityUser
     
     private String sourceId;
 
+    /**
+     * The path privileges of all the roles, merged on demand. The users are kept deserialized within the
+     * authentications near cache (see `HazelcastConfiguration`), so the merged privileges are shared by the requests of
+     * the user.
+     */
+    private transient volatile PathPrivilegesTrie pathPrivilegesTrie;
+
     @Override
     public String getUsername()
     {
@@ -89,6 +97,7 @@ public class SpringSecurityUser
     public void setRoles(Set<Role> roles)
     {
         this.roles = roles;
+        this.pathPrivilegesTrie = null;
     }
 
     @Override
@@ -99,11 +108,30 @@ public class SpringSecurityUser
 
     public Collection<Privileges> getStorageAuthorities(String path)
     {
-        return getRoles().stream()
-                         .flatMap(r -> r.getAccessModel()
-                                        .getPathAuthorities(path)
-                                        .stream())
-                         .collect(Collectors.toSet());
+        return getPathPrivilegesTrie().getPathAuthorities(path);
+    }
+
+    private PathPrivilegesTrie getPathPrivilegesTrie()
+    {
+        PathPrivilegesTrie result = pathPrivilegesTrie;
+        if (result != null)
+        {
+            return result;
+        }
+
+        if (roles.size() == 1)
+        {
+            // The privileges of the single role are compiled once along with the role and shared as is.
+            return pathPrivilegesTrie = roles.iterator().next().getAccessModel().getPathPrivilegesTrie();
+        }
+
+        result = new PathPrivilegesTrie();
+        for (Role role : getRoles())
+        {
+            result.addAll(role.getAccessModel().getPathPrivilegesTrie());
+        }
+
+        return pathPrivilegesTrie = result;
     }
 
     public String getUrl()
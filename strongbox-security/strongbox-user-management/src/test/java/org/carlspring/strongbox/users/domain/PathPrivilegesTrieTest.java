@@ -0,0 +1,93 @@
+package org.carlspring.strongbox.users.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.EnumSet;
+
+import org.carlspring.strongbox.users.dto.PathPrivilegesDto;
+import org.carlspring.strongbox.users.dto.RepositoryPrivilegesDto;
+import org.carlspring.strongbox.users.dto.StoragePrivilegesDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PathPrivilegesTrieTest
+{
+
+    private PathPrivilegesTrie pathPrivilegesTrie;
+
+    @BeforeEach
+    public void setUp()
+    {
+        RepositoryPrivilegesDto repository = new RepositoryPrivilegesDto("releases");
+        repository.getRepositoryPrivileges().add(Privileges.ARTIFACTS_VIEW);
+
+        PathPrivilegesDto wildcardPath = new PathPrivilegesDto("org/carlspring/");
+        wildcardPath.setWildcard(true);
+        wildcardPath.setPrivileges(EnumSet.of(Privileges.ARTIFACTS_RESOLVE));
+        repository.getPathPrivileges().add(wildcardPath);
+
+        PathPrivilegesDto exactPath = new PathPrivilegesDto("com/acme");
+        exactPath.setPrivileges(EnumSet.of(Privileges.ARTIFACTS_DEPLOY));
+        repository.getPathPrivileges().add(exactPath);
+
+        StoragePrivilegesDto storage = new StoragePrivilegesDto("storage0");
+        storage.getRepositoryPrivileges().add(repository);
+
+        pathPrivilegesTrie = new PathPrivilegesTrie().addStoragePrivileges(Collections.singleton(storage));
+    }
+
+    @Test
+    public void testRepositoryPrivilegesApplyToNestedPaths()
+    {
+        assertEquals(EnumSet.of(Privileges.ARTIFACTS_VIEW),
+                     pathPrivilegesTrie.getPathAuthorities("/storages/storage0/releases"));
+        assertEquals(EnumSet.of(Privileges.ARTIFACTS_VIEW),
+                     pathPrivilegesTrie.getPathAuthorities("/storages/storage0/releases/net/example/"));
+    }
+
+    @Test
+    public void testWildcardPathPrivilegesApplyToNestedPaths()
+    {
+        assertEquals(EnumSet.of(Privileges.ARTIFACTS_VIEW, Privileges.ARTIFACTS_RESOLVE),
+                     pathPrivilegesTrie.getPathAuthorities("/storages/storage0/releases/org/carlspring"));
+        assertEquals(EnumSet.of(Privileges.ARTIFACTS_VIEW, Privileges.ARTIFACTS_RESOLVE),
+                     pathPrivilegesTrie.getPathAuthorities(
+                             "/storages/storage0/releases/org/carlspring/strongbox/1.0/strongbox-1.0.jar"));
+    }
+
+    @Test
+    public void testPathPrivilegesApplyToExactPathOnly()
+    {
+        assertEquals(EnumSet.of(Privileges.ARTIFACTS_VIEW, Privileges.ARTIFACTS_DEPLOY),
+                     pathPrivilegesTrie.getPathAuthorities("/storages/storage0/releases/com/acme/"));
+        assertEquals(EnumSet.of(Privileges.ARTIFACTS_VIEW),
+                     pathPrivilegesTrie.getPathAuthorities("/storages/storage0/releases/com/acme/1.0"));
+    }
+
+    @Test
+    public void testPrivilegesMatchWholePathSegments()
+    {
+        assertTrue(pathPrivilegesTrie.getPathAuthorities("/storages/storage01/releases").isEmpty());
+        assertTrue(pathPrivilegesTrie.getPathAuthorities("/storages/storage0/releases-old").isEmpty());
+        assertTrue(pathPrivilegesTrie.getPathAuthorities("/storages/storage0").isEmpty());
+        assertEquals(EnumSet.of(Privileges.ARTIFACTS_VIEW),
+                     pathPrivilegesTrie.getPathAuthorities("/storages/storage0/releases/org/carlspringx"));
+    }
+
+    @Test
+    public void testMergedPrivileges()
+    {
+        PathPrivilegesTrie result = new PathPrivilegesTrie().addAll(pathPrivilegesTrie)
+                                                            .addGlobalPrivileges(EnumSet.of(Privileges.ARTIFACTS_COPY));
+
+        assertEquals(EnumSet.of(Privileges.ARTIFACTS_COPY),
+                     result.getPathAuthorities("/storages/storage1/snapshots"));
+        assertEquals(EnumSet.of(Privileges.ARTIFACTS_VIEW,
+                                Privileges.ARTIFACTS_DEPLOY,
+                                Privileges.ARTIFACTS_COPY),
+                     result.getPathAuthorities("/storages/storage0/releases/com/acme"));
+    }
+
+}
@@ -4,6 +4,7 @@ import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.event.AsyncEventListener;
 import org.carlspring.strongbox.event.artifact.ArtifactEvent;
 import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
+import org.carlspring.strongbox.providers.io.ArtifactEntryCache;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathLock;
@@ -34,6 +35,9 @@ public abstract class AsyncArtifactEntryHandler
     @Inject
     private RepositoryPathLock repositoryPathLock;
 
+    @Inject
+    private ArtifactEntryCache artifactEntryCache;
+
     @Inject
     private PlatformTransactionManager transactionManager;
 
@@ -128,6 +132,11 @@ public abstract class AsyncArtifactEntryHandler
             {
                 logger.debug("Retry event [{}] for path [{}]", this.getClass().getSimpleName(), repositoryPath);
                 propogateIfNeeded(i, repositoryPath, e);
+
+                // The cached record is outdated, so it should be fetched once again with next attempt.
+                artifactEntryCache.evict(repositoryPath.getRepository().getStorage().getId(),
+                                         repositoryPath.getRepository().getId(),
+                                         RepositoryFiles.relativizePath(repositoryPath));
             }
 
             synchronized (sync)
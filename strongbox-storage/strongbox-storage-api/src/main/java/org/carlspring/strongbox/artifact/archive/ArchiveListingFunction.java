@@ -3,7 +3,8 @@ package org.carlspring.strongbox.artifact.archive;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 
 import java.io.IOException;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.compress.archivers.ArchiveEntry;
@@ -16,17 +17,36 @@ import org.apache.commons.compress.archivers.ArchiveInputStream;
 public interface ArchiveListingFunction
 {
 
-    Set<String> listFilenames(RepositoryPath path)
+    /**
+     * @return the uncompressed sizes of the archive files by the file paths, the size is <code>null</code> if it's not
+     *         known
+     */
+    Map<String, Long> listEntries(RepositoryPath path)
             throws IOException;
 
-    default Set<String> getEntryNames(final ArchiveInputStream archiveInputStream)
+    default Set<String> listFilenames(RepositoryPath path)
             throws IOException
     {
-        final Set<String> result = new HashSet<>();
+        return listEntries(path).keySet();
+    }
+
+    /**
+     * The directory entries are skipped.
+     */
+    default Map<String, Long> getEntries(final ArchiveInputStream archiveInputStream)
+            throws IOException
+    {
+        final Map<String, Long> result = new LinkedHashMap<>();
         ArchiveEntry entry;
         while ((entry = archiveInputStream.getNextEntry()) != null)
         {
-            result.add(entry.getName());
+            if (entry.isDirectory())
+            {
+                continue;
+            }
+
+            final long size = entry.getSize();
+            result.put(entry.getName(), size == ArchiveEntry.SIZE_UNKNOWN ? null : size);
         }
         return result;
     }
@@ -7,7 +7,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Set;
+import java.util.Map;
 
 import org.apache.commons.compress.archivers.ArchiveInputStream;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
@@ -23,7 +23,7 @@ public enum Bzip2ArchiveListingFunction
     INSTANCE;
 
     @Override
-    public Set<String> listFilenames(final RepositoryPath path)
+    public Map<String, Long> listEntries(final RepositoryPath path)
             throws IOException
     {
         try (InputStream is = Files.newInputStream(path);
@@ -31,7 +31,7 @@ public enum Bzip2ArchiveListingFunction
              BZip2CompressorInputStream bzIs = new BZip2CompressorInputStream(bis);
              ArchiveInputStream tarIs = new TarArchiveInputStream(bzIs))
         {
-            return getEntryNames(tarIs);
+            return getEntries(tarIs);
         }
     }
 
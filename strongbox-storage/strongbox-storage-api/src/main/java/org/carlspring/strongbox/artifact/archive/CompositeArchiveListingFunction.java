@@ -3,7 +3,8 @@ package org.carlspring.strongbox.artifact.archive;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 
 import java.io.IOException;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -23,15 +24,15 @@ public class CompositeArchiveListingFunction
     }
 
     @Override
-    public Set<String> listFilenames(final RepositoryPath path)
+    public Map<String, Long> listEntries(final RepositoryPath path)
             throws IOException
     {
-        final Set<String> result = new HashSet<>();
+        final Map<String, Long> result = new LinkedHashMap<>();
         for (final ArchiveListingFunction leaf : leafs)
         {
             if (leaf.supports(path))
             {
-                result.addAll(leaf.listFilenames(path));
+                result.putAll(leaf.listEntries(path));
             }
         }
         return result;
@@ -7,7 +7,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Set;
+import java.util.Map;
 
 import org.apache.commons.compress.archivers.ArchiveInputStream;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
@@ -22,14 +22,14 @@ public enum TarArchiveListingFunction
     INSTANCE;
 
     @Override
-    public Set<String> listFilenames(final RepositoryPath path)
+    public Map<String, Long> listEntries(final RepositoryPath path)
             throws IOException
     {
         try (InputStream is = Files.newInputStream(path);
              BufferedInputStream bis = new BufferedInputStream(is);
              ArchiveInputStream ais = new TarArchiveInputStream(bis))
         {
-            return getEntryNames(ais);
+            return getEntries(ais);
         }
     }
 
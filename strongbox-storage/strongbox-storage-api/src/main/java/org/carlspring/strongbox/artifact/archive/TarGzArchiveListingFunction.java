@@ -7,7 +7,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Set;
+import java.util.Map;
 
 import org.apache.commons.compress.archivers.ArchiveInputStream;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
@@ -22,7 +22,7 @@ public enum TarGzArchiveListingFunction
     INSTANCE;
 
     @Override
-    public Set<String> listFilenames(final RepositoryPath path)
+    public Map<String, Long> listEntries(final RepositoryPath path)
             throws IOException
     {
         try (InputStream is = Files.newInputStream(path);
@@ -30,7 +30,7 @@ public enum TarGzArchiveListingFunction
              GzipCompressorInputStream gzi = new GzipCompressorInputStream(bis);
              ArchiveInputStream ais = new TarArchiveInputStream(gzi))
         {
-            return getEntryNames(ais);
+            return getEntries(ais);
         }
     }
 
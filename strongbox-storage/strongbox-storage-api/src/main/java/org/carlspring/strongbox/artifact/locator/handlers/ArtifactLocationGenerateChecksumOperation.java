@@ -3,6 +3,7 @@ package org.carlspring.strongbox.artifact.locator.handlers;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.layout.LayoutFileSystemProvider;
+import org.carlspring.strongbox.storage.checksum.ChecksumRegenerationProgress;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -26,9 +27,18 @@ public class ArtifactLocationGenerateChecksumOperation
 
     private boolean forceRegeneration = false;
 
+    private ChecksumRegenerationProgress progress;
+
     public void execute(RepositoryPath path)
             throws IOException
     {
+        // The directories visited before the interruption have already been processed.
+        String resumePath = progress != null ? progress.getResumePath() : null;
+        if (resumePath != null && path.compareTo(path.getRoot().resolve(resumePath)) <= 0)
+        {
+            return;
+        }
+
         try (Stream<Path> pathStream = Files.list(path))
         {
             boolean containsMetadata = pathStream.anyMatch(p -> {
@@ -84,7 +94,22 @@ public class ArtifactLocationGenerateChecksumOperation
         RepositoryPath basePath = parentPath;
         LayoutFileSystemProvider provider = (LayoutFileSystemProvider) basePath.getFileSystem()
                                                                                                    .provider();
-        provider.storeChecksum(basePath, forceRegeneration);
+        if (progress == null)
+        {
+            provider.storeChecksum(basePath, forceRegeneration);
+
+            return;
+        }
+
+        ChecksumRegenerationProgress.Directory directory = progress.start(basePath.relativize().toString());
+        try
+        {
+            provider.storeChecksum(basePath, forceRegeneration, directory);
+        }
+        finally
+        {
+            progress.finish(directory);
+        }
     }
 
     public boolean getForceRegeneration()
@@ -96,4 +121,14 @@ public class ArtifactLocationGenerateChecksumOperation
     {
         this.forceRegeneration = forceRegeneration;
     }
+
+    public ChecksumRegenerationProgress getProgress()
+    {
+        return progress;
+    }
+
+    public void setProgress(ChecksumRegenerationProgress progress)
+    {
+        this.progress = progress;
+    }
 }
@@ -1,13 +1,27 @@
 package org.carlspring.strongbox.config;
 
 import org.carlspring.strongbox.booters.StorageBooter;
+import org.carlspring.strongbox.data.schema.EntityIndex;
+import org.carlspring.strongbox.domain.ArtifactArchiveEntry;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.providers.io.ClusteredRepositoryLockSource;
+import org.carlspring.strongbox.providers.io.LocalRepositoryLockSource;
+import org.carlspring.strongbox.providers.io.RepositoryLockSource;
+import org.carlspring.strongbox.providers.repository.group.GroupRepositoryFetchExecutor;
 import org.carlspring.strongbox.storage.checksum.ChecksumCacheManager;
+import org.carlspring.strongbox.storage.checksum.ChecksumRegenerationExecutor;
 import org.carlspring.strongbox.storage.validation.ArtifactCoordinatesValidator;
 
 import javax.inject.Inject;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.orientechnologies.orient.core.metadata.schema.OClass.INDEX_TYPE;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
@@ -43,6 +57,98 @@ public class StorageApiConfig
         return checksumCacheManager;
     }
 
+    @Bean(destroyMethod = "shutdown")
+    GroupRepositoryFetchExecutor groupRepositoryFetchExecutor(@Value("${strongbox.groupRepositoryFetch.threads:16}") int threads,
+                                                              @Value("${strongbox.groupRepositoryFetch.parallelism:4}") int parallelism,
+                                                              @Value("${strongbox.groupRepositoryFetch.queueCapacity:256}") int queueCapacity)
+    {
+        return new GroupRepositoryFetchExecutor(threads, parallelism, queueCapacity);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    ChecksumRegenerationExecutor checksumRegenerationExecutor(@Value("${strongbox.checksumRegeneration.threads:4}") int threads,
+                                                              @Value("${strongbox.checksumRegeneration.checkpointInterval:10000}") long checkpointInterval,
+                                                              @Value("${strongbox.checksumRegeneration.completionTimeout:600000}") long completionTimeout)
+    {
+        return new ChecksumRegenerationExecutor(threads, checkpointInterval, completionTimeout);
+    }
+
+    @Bean
+    RepositoryLockSource repositoryLockSource(@Value("${strongbox.repositoryPathLock.mode:auto}") String mode,
+                                              @Value("${strongbox.repositoryPathLock.concurrencyLevel:16}") int concurrencyLevel,
+                                              ObjectProvider<HazelcastInstance> hazelcastInstance)
+    {
+        RepositoryLockSource.Mode lockMode = RepositoryLockSource.Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        if (lockMode == RepositoryLockSource.Mode.AUTO)
+        {
+            HazelcastInstance instance = hazelcastInstance.getIfAvailable();
+            lockMode = instance != null && isClustered(instance) ? RepositoryLockSource.Mode.CLUSTERED
+                                                                 : RepositoryLockSource.Mode.LOCAL;
+        }
+
+        switch (lockMode)
+        {
+            case CLUSTERED:
+                return new ClusteredRepositoryLockSource(hazelcastInstance.getObject());
+            case LOCAL:
+            default:
+                return new LocalRepositoryLockSource(concurrencyLevel);
+        }
+    }
+
+    /**
+     * The node is clustered if it has already joined other members, or if it's configured to discover them (so that
+     * the members could join later).
+     */
+    private static boolean isClustered(HazelcastInstance instance)
+    {
+        JoinConfig join = instance.getConfig().getNetworkConfig().getJoin();
+
+        return instance.getCluster().getMembers().size() > 1
+                || join.getMulticastConfig().isEnabled()
+                || join.getTcpIpConfig().isEnabled();
+    }
+
+    /**
+     * The artifacts of the group are looked up by the group name (see
+     * {@link org.carlspring.strongbox.services.RepositoryArtifactIdGroupService#findArtifactEntries}).
+     */
+    @Bean
+    EntityIndex artifactEntryArtifactIdGroupIndex()
+    {
+        return new EntityIndex(ArtifactEntry.class, "ArtifactEntry.artifactIdGroup", INDEX_TYPE.NOTUNIQUE,
+                               "storageId", "repositoryId", "artifactIdGroup");
+    }
+
+    /**
+     * The archive entries are replaced and deleted by the artifact entry.
+     */
+    @Bean
+    EntityIndex artifactArchiveEntryArtifactEntryUuidIndex()
+    {
+        return new EntityIndex(ArtifactArchiveEntry.class, "ArtifactArchiveEntry.artifactEntryUuid",
+                               INDEX_TYPE.NOTUNIQUE, "artifactEntryUuid");
+    }
+
+    /**
+     * The archive entries are searched by the path, or the path prefix.
+     */
+    @Bean
+    EntityIndex artifactArchiveEntryPathIndex()
+    {
+        return new EntityIndex(ArtifactArchiveEntry.class, "ArtifactArchiveEntry.path", INDEX_TYPE.NOTUNIQUE, "path");
+    }
+
+    /**
+     * The archive entries are searched by the class name, or the class name prefix.
+     */
+    @Bean
+    EntityIndex artifactArchiveEntryClassNameIndex()
+    {
+        return new EntityIndex(ArtifactArchiveEntry.class, "ArtifactArchiveEntry.className", INDEX_TYPE.NOTUNIQUE,
+                               "className");
+    }
+
     @Bean
     LinkedHashSet<ArtifactCoordinatesValidator> versionValidators()
     {
@@ -0,0 +1,160 @@
+package org.carlspring.strongbox.domain;
+
+import org.carlspring.strongbox.data.domain.GenericEntity;
+
+import javax.persistence.Entity;
+
+/**
+ * The single entry of the artifact archive (the file within the jar, zip, tar etc.).
+ * <p>
+ * The archive entries are stored apart from the {@link ArtifactEntry}, so they can be searched by path or class name
+ * and they are not loaded along with the artifact.
+ */
+@Entity
+public class ArtifactArchiveEntry
+        extends GenericEntity
+{
+
+    private static final String CLASS_FILE_EXTENSION = ".class";
+
+    /**
+     * The `uuid` of the {@link ArtifactEntry} of the archive.
+     */
+    private String artifactEntryUuid;
+
+    private String storageId;
+
+    private String repositoryId;
+
+    private String artifactPath;
+
+    /**
+     * The path of the entry within the archive.
+     */
+    private String path;
+
+    /**
+     * The fully qualified class name, if the entry is the class file.
+     */
+    private String className;
+
+    /**
+     * The uncompressed size of the entry, if it's known.
+     */
+    private Long sizeInBytes;
+
+    public ArtifactArchiveEntry()
+    {
+    }
+
+    public ArtifactArchiveEntry(ArtifactEntry artifactEntry,
+                                String path,
+                                Long sizeInBytes)
+    {
+        this.artifactEntryUuid = artifactEntry.getUuid();
+        this.storageId = artifactEntry.getStorageId();
+        this.repositoryId = artifactEntry.getRepositoryId();
+        this.artifactPath = artifactEntry.getArtifactPath();
+        this.path = path;
+        this.className = toClassName(path);
+        this.sizeInBytes = sizeInBytes;
+    }
+
+    public String getArtifactEntryUuid()
+    {
+        return artifactEntryUuid;
+    }
+
+    public void setArtifactEntryUuid(String artifactEntryUuid)
+    {
+        this.artifactEntryUuid = artifactEntryUuid;
+    }
+
+    public String getStorageId()
+    {
+        return storageId;
+    }
+
+    public void setStorageId(String storageId)
+    {
+        this.storageId = storageId;
+    }
+
+    public String getRepositoryId()
+    {
+        return repositoryId;
+    }
+
+    public void setRepositoryId(String repositoryId)
+    {
+        this.repositoryId = repositoryId;
+    }
+
+    public String getArtifactPath()
+    {
+        return artifactPath;
+    }
+
+    public void setArtifactPath(String artifactPath)
+    {
+        this.artifactPath = artifactPath;
+    }
+
+    public String getPath()
+    {
+        return path;
+    }
+
+    public void setPath(String path)
+    {
+        this.path = path;
+    }
+
+    public String getClassName()
+    {
+        return className;
+    }
+
+    public void setClassName(String className)
+    {
+        this.className = className;
+    }
+
+    public Long getSizeInBytes()
+    {
+        return sizeInBytes;
+    }
+
+    public void setSizeInBytes(Long sizeInBytes)
+    {
+        this.sizeInBytes = sizeInBytes;
+    }
+
+    /**
+     * @return the class name for the class file path (`org/foo/Bar.class` -> `org.foo.Bar`), or <code>null</code>
+     *         for the other files
+     */
+    public static String toClassName(String path)
+    {
+        if (path == null || !path.endsWith(CLASS_FILE_EXTENSION))
+        {
+            return null;
+        }
+
+        return path.substring(0, path.length() - CLASS_FILE_EXTENSION.length()).replace('/', '.');
+    }
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder sb = new StringBuilder("ArtifactArchiveEntry{");
+        sb.append("storageId='").append(storageId).append('\'');
+        sb.append(", repositoryId='").append(repositoryId).append('\'');
+        sb.append(", artifactPath='").append(artifactPath).append('\'');
+        sb.append(", path='").append(path).append('\'');
+        sb.append(", sizeInBytes=").append(sizeInBytes);
+        sb.append('}');
+        return sb.toString();
+    }
+
+}
@@ -6,7 +6,6 @@ import org.carlspring.strongbox.artifact.coordinates.ArtifactCoordinates;
 import org.carlspring.strongbox.data.domain.GenericEntity;
 
 import javax.persistence.CascadeType;
-import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.ManyToMany;
 import javax.persistence.ManyToOne;
@@ -30,6 +29,12 @@ public class ArtifactEntry
 
     private String repositoryId;
 
+    /**
+     * The name of the {@link RepositoryArtifactIdGroupEntry} of this artifact (within the same storage and
+     * repository).
+     */
+    private String artifactIdGroup;
+
     // if you have to rename this field please update ArtifactEntryServiceImpl.findByCoordinates() implementation
     @ManyToOne(cascade = { CascadeType.DETACH,
                            CascadeType.MERGE,
@@ -42,9 +47,6 @@ public class ArtifactEntry
 
     private Map<String, String> checksums;
 
-    @Embedded
-    private ArtifactArchiveListing artifactArchiveListing;
-
     private Long sizeInBytes;
 
     private Date lastUpdated;
@@ -79,6 +81,16 @@ public class ArtifactEntry
         this.repositoryId = repositoryId;
     }
 
+    public String getArtifactIdGroup()
+    {
+        return artifactIdGroup;
+    }
+
+    public void setArtifactIdGroup(String artifactIdGroup)
+    {
+        this.artifactIdGroup = artifactIdGroup;
+    }
+
     public ArtifactCoordinates getArtifactCoordinates()
     {
         return artifactCoordinates;
@@ -159,16 +171,6 @@ public class ArtifactEntry
         this.downloadCount = downloadCount;
     }
 
-    public ArtifactArchiveListing getArtifactArchiveListing()
-    {
-        return artifactArchiveListing;
-    }
-
-    public void setArtifactArchiveListing(final ArtifactArchiveListing artifactArchiveListing)
-    {
-        this.artifactArchiveListing = artifactArchiveListing;
-    }
-
     @Transient
     public String getArtifactPath()
     {
@@ -183,12 +185,12 @@ public class ArtifactEntry
         final StringBuilder sb = new StringBuilder("\nArtifactEntry{");
         sb.append("storageId='").append(storageId).append('\'');
         sb.append(", repositoryId='").append(repositoryId).append('\'');
+        sb.append(", artifactIdGroup='").append(artifactIdGroup).append('\'');
         sb.append(", artifactCoordinates=").append(artifactCoordinates).append('\n');
         sb.append(", tagSet=").append(tagSet);
         sb.append(", checksums=").append(checksums);
         sb.append(", objectId='").append(objectId).append('\'');
         sb.append(", uuid='").append(uuid).append('\'');
-        sb.append(", artifactArchiveListing=").append(artifactArchiveListing);
         sb.append(", entityVersion=").append(entityVersion);
         sb.append(", sizeInBytes=").append(sizeInBytes);
         sb.append(", lastUpdated=").append(lastUpdated);
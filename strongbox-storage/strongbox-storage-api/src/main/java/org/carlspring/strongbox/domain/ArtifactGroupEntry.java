@@ -2,6 +2,7 @@ package org.carlspring.strongbox.domain;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 import javax.annotation.Nonnull;
@@ -22,12 +23,28 @@ public class ArtifactGroupEntry extends GenericEntity implements ArtifactGroup
 {
 
     private String name;
+
+    /**
+     * The group members used to be linked here, which made the group record grow with every artifact version. The
+     * members are now linked with {@link ArtifactEntry#getArtifactIdGroup()}, and this set is only kept for the
+     * groups which have not been migrated yet.
+     */
+    @Deprecated
     @ManyToOne(cascade = { CascadeType.DETACH,
                            CascadeType.MERGE,
                            CascadeType.PERSIST,
                            CascadeType.REFRESH })
     private Set<ArtifactEntry> artifactEntries = new HashSet<>();
 
+    /**
+     * The artifacts of the last version of the group (the artifact itself, its pom, sources and so on).
+     */
+    @ManyToOne(cascade = { CascadeType.DETACH,
+                           CascadeType.MERGE,
+                           CascadeType.PERSIST,
+                           CascadeType.REFRESH })
+    private Set<ArtifactEntry> lastVersionEntries = new HashSet<>();
+
     public ArtifactGroupEntry()
     {
         super();
@@ -49,25 +66,20 @@ public class ArtifactGroupEntry extends GenericEntity implements ArtifactGroup
         this.name = name;
     }
 
+    /**
+     * @return the legacy group members, see {@link #artifactEntries}
+     */
+    @Deprecated
     @Nonnull
     public Set<ArtifactEntry> getArtifactEntries()
     {
         return artifactEntries != null ? artifactEntries : Collections.emptySet();
     }
 
-    public ArtifactEntry putArtifactEntry(ArtifactEntry artifactEntry)
+    @Nonnull
+    public Set<ArtifactEntry> getLastVersionEntries()
     {
-        if (!artifactEntries.contains(artifactEntry))
-        {
-            artifactEntries.add(artifactEntry);
-
-            return artifactEntry;
-        }
-
-        artifactEntries.remove(artifactEntry);
-        artifactEntries.add(artifactEntry);
-
-        return artifactEntry;
+        return lastVersionEntries = Optional.ofNullable(lastVersionEntries).orElse(new HashSet<>());
     }
 
 }
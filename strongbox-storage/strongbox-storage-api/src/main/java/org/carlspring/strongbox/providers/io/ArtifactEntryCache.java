@@ -0,0 +1,115 @@
+package org.carlspring.strongbox.providers.io;
+
+import org.carlspring.strongbox.data.CacheName;
+import org.carlspring.strongbox.data.cache.RegionCache;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+
+import javax.inject.Inject;
+import java.util.function.Supplier;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of the {@link ArtifactEntry} records, keyed by storage, repository and artifact path.
+ * <p>
+ * The records are kept within the {@link CacheName.Artifact#ARTIFACT_ENTRIES} cache, so they are shared by the
+ * cluster nodes, and every caller gets its own copy of the record, which it could change. The cached record should
+ * be explicitly evicted whenever the underlying record changes.
+ *
+ * @see RepositoryPathResolver
+ */
+@Component
+public class ArtifactEntryCache
+{
+
+    private static final String KEY_SEPARATOR = "/";
+
+    private final RegionCache<ArtifactEntry> cache;
+
+    @Inject
+    ArtifactEntryCache(CacheManager cacheManager)
+    {
+        cache = new RegionCache<>(cacheManager, CacheName.Artifact.ARTIFACT_ENTRIES);
+    }
+
+    public ArtifactEntry get(String storageId,
+                             String repositoryId,
+                             String path,
+                             Supplier<ArtifactEntry> loader)
+    {
+        String key = calculateKey(storageId, repositoryId, path);
+
+        return cache.get(key, loader, calculateRepositoryKey(storageId, repositoryId), key);
+    }
+
+    /**
+     * Evicts the entry for the given artifact path.
+     */
+    public void evict(String storageId,
+                      String repositoryId,
+                      String path)
+    {
+        cache.evict(calculateKey(storageId, repositoryId, path));
+    }
+
+    /**
+     * Evicts the entry for the given artifact path, both immediately and after the current transaction (if any) has
+     * completed (see {@link RegionCache#evictNowAndAfterCompletion(String...)}).
+     */
+    public void evictNowAndAfterCompletion(String storageId,
+                                           String repositoryId,
+                                           String path)
+    {
+        cache.evictNowAndAfterCompletion(calculateKey(storageId, repositoryId, path));
+    }
+
+    /**
+     * Evicts all the entries of the repository (for example, when the directory has been deleted or moved).
+     */
+    public void evict(String storageId,
+                      String repositoryId)
+    {
+        cache.evict(calculateRepositoryKey(storageId, repositoryId));
+    }
+
+    public void clear()
+    {
+        cache.clear();
+    }
+
+    public long getHitCount()
+    {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount()
+    {
+        return cache.getMissCount();
+    }
+
+    public long getEvictionCount()
+    {
+        return cache.getEvictionCount();
+    }
+
+    private static String calculateRepositoryKey(String storageId,
+                                                 String repositoryId)
+    {
+        return storageId + KEY_SEPARATOR + repositoryId;
+    }
+
+    private static String calculateKey(String storageId,
+                                       String repositoryId,
+                                       String path)
+    {
+        return calculateRepositoryKey(storageId, repositoryId) + KEY_SEPARATOR + (path == null ? "" : path);
+    }
+
+    @Override
+    public String toString()
+    {
+        return cache.toString();
+    }
+
+}
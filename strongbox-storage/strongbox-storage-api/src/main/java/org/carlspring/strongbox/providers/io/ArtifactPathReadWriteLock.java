@@ -0,0 +1,162 @@
+package org.carlspring.strongbox.providers.io;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+
+/**
+ * The artifact {@link ReadWriteLock}, which consists of the artifact path lock and the artifact group lock.
+ * <p>
+ * The readers take only the path read lock, so they don't contend with the reads and writes of the other artifacts
+ * from the same group. The writers take the group write lock first and then the path write lock, because the artifact
+ * write also updates the other artifacts from the group (see
+ * {@link org.carlspring.strongbox.services.RepositoryArtifactIdGroupService}).
+ */
+class ArtifactPathReadWriteLock implements ReadWriteLock
+{
+
+    private final Lock readLock;
+
+    private final Lock writeLock;
+
+    ArtifactPathReadWriteLock(ReadWriteLock groupLock,
+                              ReadWriteLock pathLock)
+    {
+        this.readLock = pathLock.readLock();
+        this.writeLock = new OrderedLock(groupLock.writeLock(), pathLock.writeLock());
+    }
+
+    @Override
+    public Lock readLock()
+    {
+        return readLock;
+    }
+
+    @Override
+    public Lock writeLock()
+    {
+        return writeLock;
+    }
+
+    /**
+     * Acquires the locks in order and releases them in reverse order.
+     */
+    private static class OrderedLock implements Lock
+    {
+
+        private final Lock first;
+
+        private final Lock second;
+
+        OrderedLock(Lock first,
+                    Lock second)
+        {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public void lock()
+        {
+            first.lock();
+            try
+            {
+                second.lock();
+            }
+            catch (RuntimeException | Error e)
+            {
+                first.unlock();
+                throw e;
+            }
+        }
+
+        @Override
+        public void lockInterruptibly()
+            throws InterruptedException
+        {
+            first.lockInterruptibly();
+            try
+            {
+                second.lockInterruptibly();
+            }
+            catch (InterruptedException | RuntimeException | Error e)
+            {
+                first.unlock();
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean tryLock()
+        {
+            if (!first.tryLock())
+            {
+                return false;
+            }
+
+            boolean locked = false;
+            try
+            {
+                locked = second.tryLock();
+            }
+            finally
+            {
+                if (!locked)
+                {
+                    first.unlock();
+                }
+            }
+
+            return locked;
+        }
+
+        @Override
+        public boolean tryLock(long time,
+                               TimeUnit unit)
+            throws InterruptedException
+        {
+            long deadline = System.nanoTime() + unit.toNanos(time);
+            if (!first.tryLock(time, unit))
+            {
+                return false;
+            }
+
+            boolean locked = false;
+            try
+            {
+                locked = second.tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            }
+            finally
+            {
+                if (!locked)
+                {
+                    first.unlock();
+                }
+            }
+
+            return locked;
+        }
+
+        @Override
+        public void unlock()
+        {
+            try
+            {
+                second.unlock();
+            }
+            finally
+            {
+                first.unlock();
+            }
+        }
+
+        @Override
+        public Condition newCondition()
+        {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+}
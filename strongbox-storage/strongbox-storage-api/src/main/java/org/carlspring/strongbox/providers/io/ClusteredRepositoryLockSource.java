@@ -0,0 +1,28 @@
+package org.carlspring.strongbox.providers.io;
+
+import java.util.concurrent.locks.ReadWriteLock;
+
+import com.hazelcast.core.HazelcastInstance;
+
+import ca.thoughtwire.lock.DistributedLockService;
+
+/**
+ * {@link RepositoryLockSource} with the Hazelcast distributed locks, which are shared by all the cluster nodes.
+ */
+public class ClusteredRepositoryLockSource implements RepositoryLockSource
+{
+
+    private final DistributedLockService lockService;
+
+    public ClusteredRepositoryLockSource(HazelcastInstance hazelcastInstance)
+    {
+        this.lockService = DistributedLockService.newHazelcastLockService(hazelcastInstance);
+    }
+
+    @Override
+    public ReadWriteLock getLock(String name)
+    {
+        return lockService.getReentrantReadWriteLock(name);
+    }
+
+}
@@ -0,0 +1,21 @@
+package org.carlspring.strongbox.providers.io;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+
+/**
+ * Sends the artifact content directly from the {@link FileChannel} of the stored file.
+ *
+ * @see RepositoryStreamSupport.RepositoryInputStream#transferContent(FileChannelTransfer)
+ */
+@FunctionalInterface
+public interface FileChannelTransfer
+{
+
+    /**
+     * @return the number of bytes transferred
+     */
+    long transfer(FileChannel channel)
+        throws IOException;
+
+}
@@ -0,0 +1,43 @@
+package org.carlspring.strongbox.providers.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.carlspring.strongbox.io.RepositoryStreamCallback;
+
+/**
+ * {@link RepositoryStreamSupport} for the artifacts which are still being written into the repository (for example
+ * fetched from remote), and can be read only from the source they are written from.
+ * <p>
+ * Such streams don't take the path lock (which is held by the writer until the artifact is stored), and don't check
+ * that the artifact exists.
+ */
+public class InFlightRepositoryStreamSupport extends RepositoryStreamSupport
+{
+
+    public InFlightRepositoryStreamSupport(RepositoryStreamCallback callback)
+    {
+        super(new ReentrantReadWriteLock(), callback);
+    }
+
+    @Override
+    protected boolean artifactExists(RepositoryPath path)
+    {
+        return true;
+    }
+
+    @Override
+    protected boolean isStored()
+    {
+        return false;
+    }
+
+    public RepositoryInputStream newInputStream(RepositoryPath path,
+                                                InputStream in)
+        throws IOException
+    {
+        return new RepositoryInputStream(path, in);
+    }
+
+}
@@ -0,0 +1,137 @@
+package org.carlspring.strongbox.providers.io;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.google.common.collect.MapMaker;
+
+/**
+ * {@link RepositoryLockSource} with the JVM local {@link ReentrantReadWriteLock}s, for the standalone instance.
+ * <p>
+ * There is exactly one lock per name (the locks are not striped), so that the unrelated paths never contend, and a
+ * thread which holds the read lock of one path can't deadlock on the write lock of another path. The unused locks are
+ * weakly referenced and get garbage collected.
+ */
+public class LocalRepositoryLockSource implements RepositoryLockSource
+{
+
+    private final ConcurrentMap<String, NamedReadWriteLock> locks;
+
+    public LocalRepositoryLockSource(int concurrencyLevel)
+    {
+        this.locks = new MapMaker().concurrencyLevel(concurrencyLevel).weakValues().makeMap();
+    }
+
+    @Override
+    public ReadWriteLock getLock(String name)
+    {
+        return locks.computeIfAbsent(name, NamedReadWriteLock::new);
+    }
+
+    int getSize()
+    {
+        return locks.size();
+    }
+
+    /**
+     * The {@link Lock}s returned by this class hold the strong reference to it, so the lock can't be garbage
+     * collected (and replaced with the new one) while it's held.
+     */
+    private static class NamedReadWriteLock implements ReadWriteLock
+    {
+
+        private final String name;
+
+        private final ReadWriteLock delegate = new ReentrantReadWriteLock();
+
+        private final Lock readLock = new StrongReferenceLock(delegate.readLock());
+
+        private final Lock writeLock = new StrongReferenceLock(delegate.writeLock());
+
+        NamedReadWriteLock(String name)
+        {
+            this.name = name;
+        }
+
+        @Override
+        public Lock readLock()
+        {
+            return readLock;
+        }
+
+        @Override
+        public Lock writeLock()
+        {
+            return writeLock;
+        }
+
+        @Override
+        public String toString()
+        {
+            return String.format("%s[%s]", name, delegate);
+        }
+
+        private class StrongReferenceLock implements Lock
+        {
+
+            private final Lock delegate;
+
+            StrongReferenceLock(Lock delegate)
+            {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void lock()
+            {
+                delegate.lock();
+            }
+
+            @Override
+            public void lockInterruptibly()
+                throws InterruptedException
+            {
+                delegate.lockInterruptibly();
+            }
+
+            @Override
+            public boolean tryLock()
+            {
+                return delegate.tryLock();
+            }
+
+            @Override
+            public boolean tryLock(long time,
+                                   TimeUnit unit)
+                throws InterruptedException
+            {
+                return delegate.tryLock(time, unit);
+            }
+
+            @Override
+            public void unlock()
+            {
+                delegate.unlock();
+            }
+
+            @Override
+            public Condition newCondition()
+            {
+                return delegate.newCondition();
+            }
+
+            @Override
+            public String toString()
+            {
+                return NamedReadWriteLock.this.toString();
+            }
+
+        }
+
+    }
+
+}
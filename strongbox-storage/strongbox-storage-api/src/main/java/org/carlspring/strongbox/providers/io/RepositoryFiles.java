@@ -8,6 +8,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URL;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.attribute.FileTime;
 import java.time.Instant;
 import java.util.Arrays;
@@ -146,6 +147,19 @@ public abstract class RepositoryFiles
         return TempRepositoryPath.of(p);
     }
     
+    /**
+     * Creates a new file for the transient data of the given path (for example, the remote artifact which is being
+     * downloaded) within the temporary directory of the repository, so it's never served as the repository content.
+     */
+    public static Path createTempFile(RepositoryPath p,
+                                      String suffix)
+        throws IOException
+    {
+        TempRepositoryPath temp = temporary(p);
+
+        return Files.createTempFile(temp.getParent().getTarget(), temp.getFileName().toString() + ".", suffix);
+    }
+
     public static RepositoryPath trash(RepositoryPath p)
         throws IOException
     {
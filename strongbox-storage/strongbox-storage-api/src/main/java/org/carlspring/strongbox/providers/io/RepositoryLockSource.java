@@ -0,0 +1,35 @@
+package org.carlspring.strongbox.providers.io;
+
+import java.util.concurrent.locks.ReadWriteLock;
+
+/**
+ * Provides the named {@link ReadWriteLock}s used by {@link RepositoryPathLock}. The locks with equal names must be
+ * mutually exclusive, and they must be reentrant.
+ *
+ * @see LocalRepositoryLockSource
+ * @see ClusteredRepositoryLockSource
+ */
+public interface RepositoryLockSource
+{
+
+    ReadWriteLock getLock(String name);
+
+    enum Mode
+    {
+        /**
+         * {@link #CLUSTERED} if the node could join the cluster (or has already joined it), {@link #LOCAL} otherwise.
+         */
+        AUTO,
+
+        /**
+         * JVM local locks, for the standalone instance.
+         */
+        LOCAL,
+
+        /**
+         * Distributed locks, shared by all the cluster nodes.
+         */
+        CLUSTERED;
+    }
+
+}
@@ -10,16 +10,19 @@ import javax.annotation.Nonnull;
 import javax.inject.Inject;
 
 import org.carlspring.strongbox.artifact.coordinates.ArtifactCoordinates;
+import org.carlspring.strongbox.storage.repository.Repository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
-import com.hazelcast.core.HazelcastInstance;
-
-import ca.thoughtwire.lock.DistributedLockService;
-
 /**
+ * Provides the {@link ReadWriteLock}s for the {@link RepositoryPath}s, the actual locks are provided by the configured
+ * {@link RepositoryLockSource}.
+ * <p>
+ * The artifact paths are locked with the {@link ArtifactPathReadWriteLock}, so the artifact reads are locked per path,
+ * while the artifact writes also lock the whole artifact group within the repository.
+ *
  * @author Przemyslaw Fusik
  */
 @Component
@@ -28,13 +31,8 @@ public class RepositoryPathLock
 
     private static final Logger logger = LoggerFactory.getLogger(RepositoryPathLock.class);
 
-    private DistributedLockService lockService;
-
     @Inject
-    public void setHazelcastInstance(HazelcastInstance hazelcastInstance)
-    {
-        lockService = DistributedLockService.newHazelcastLockService(hazelcastInstance);
-    }
+    private RepositoryLockSource lockSource;
 
     public ReadWriteLock lock(final @Nonnull RepositoryPath repositoryPath) throws IOException
     {
@@ -44,26 +42,53 @@ public class RepositoryPathLock
     public ReadWriteLock lock(final @Nonnull RepositoryPath repositoryPath,
                               String id) throws IOException
     {
-        URI lock = getLock(repositoryPath);
-        String lockName = Optional.ofNullable(id)
-                                  .map(p -> String.format("%s?%s", lock, p))
-                                  .orElseGet(() -> lock.toString());
-        logger.debug("Get lock for [{}]", lock);
-        
-        return lockService.getReentrantReadWriteLock(lockName);
-    }
+        URI pathLock = getPathLock(repositoryPath);
+        if (!RepositoryFiles.isArtifact(repositoryPath))
+        {
+            logger.debug("Get lock for [{}]", pathLock);
 
-    private URI getLock(final @Nonnull RepositoryPath repositoryPath) throws IOException
-    {
-        if (RepositoryFiles.isArtifact(repositoryPath))
+            return lockSource.getLock(getLockName(pathLock, id));
+        }
+
+        URI groupLock = getGroupLock(repositoryPath);
+        if (id != null)
         {
-            ArtifactCoordinates c = RepositoryFiles.readCoordinates(repositoryPath);
-            // We should lock all the RepositoryArtifactIdGroup because there can be
-            // `ArtifactEntryServiceImpl.updateLastVersionTag()` operations
-            // which affetcs on other artifacts from group.
-            return URI.create(URLEncoder.encode(c.getId(), "UTF-8"));
+            // The named locks are used to synchronize the artifact group operations.
+            logger.debug("Get lock for [{}]", groupLock);
+
+            return lockSource.getLock(getLockName(groupLock, id));
         }
 
+        logger.debug("Get lock for [{}] within [{}]", pathLock, groupLock);
+
+        return new ArtifactPathReadWriteLock(lockSource.getLock(groupLock.toString()),
+                                             lockSource.getLock(pathLock.toString()));
+    }
+
+    private String getLockName(URI lock,
+                               String id)
+    {
+        return Optional.ofNullable(id)
+                       .map(p -> String.format("%s?%s", lock, p))
+                       .orElseGet(() -> lock.toString());
+    }
+
+    private URI getGroupLock(final @Nonnull RepositoryPath repositoryPath) throws IOException
+    {
+        ArtifactCoordinates c = RepositoryFiles.readCoordinates(repositoryPath);
+        Repository repository = repositoryPath.getRepository();
+
+        // We should lock all the RepositoryArtifactIdGroup because there can be
+        // `ArtifactEntryServiceImpl.updateLastVersionTag()` operations
+        // which affetcs on other artifacts from group.
+        return URI.create(String.format("%s/%s/%s",
+                                        URLEncoder.encode(repository.getStorage().getId(), "UTF-8"),
+                                        URLEncoder.encode(repository.getId(), "UTF-8"),
+                                        URLEncoder.encode(c.getId(), "UTF-8")));
+    }
+
+    private URI getPathLock(final @Nonnull RepositoryPath repositoryPath)
+    {
         final URI lock = repositoryPath.toUri();
 
         Assert.isTrue(lock.isAbsolute(), String.format("Unable to lock relative path %s", lock));
@@ -29,6 +29,9 @@ public class RepositoryPathResolver
     @Inject
     protected RepositoryFileSystemRegistry fileSystemRegistry;
 
+    @Inject
+    protected ArtifactEntryCache artifactEntryCache;
+
     public RootRepositoryPath resolve(final Repository repository)
     {
         Objects.requireNonNull(repository, "Repository should be provided");
@@ -97,9 +100,12 @@ public class RepositoryPathResolver
                 return null;
             }
 
-            return artifactEntryService.findOneArtifact(getRepository().getStorage().getId(),
-                                                        getRepository().getId(),
-                                                        RepositoryFiles.relativizePath(this));
+            String storageId = getRepository().getStorage().getId();
+            String repositoryId = getRepository().getId();
+            String path = RepositoryFiles.relativizePath(this);
+
+            return artifactEntryCache.get(storageId, repositoryId, path,
+                                          () -> artifactEntryService.findOneArtifact(storageId, repositoryId, path));
             // TODO: we should check this restriction 
 //            if (Files.exists(this) && !Files.isDirectory(this) && RepositoryFiles.isArtifact(this) && result == null)
 //            {
@@ -3,7 +3,9 @@ package org.carlspring.strongbox.providers.io;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -56,6 +58,15 @@ public class RepositoryStreamSupport
         return ctx;
     }
 
+    /**
+     * @return <code>true</code> if the streams read the stored file, which can be transferred with
+     *         {@link RepositoryInputStream#transferContent(FileChannelTransfer)}.
+     */
+    protected boolean isStored()
+    {
+        return true;
+    }
+
     private void clearContext()
     {
         ctx = null;
@@ -104,6 +115,12 @@ public class RepositoryStreamSupport
         callback.commit((RepositoryStreamWriteContext) getContext());
     }
 
+    protected boolean artifactExists(RepositoryPath path)
+        throws IOException
+    {
+        return RepositoryFiles.artifactExists(path);
+    }
+
     public class RepositoryOutputStream extends ProxyOutputStream
     {
         protected RepositoryOutputStream(Path path,
@@ -185,6 +202,8 @@ public class RepositoryStreamSupport
             extends ProxyInputStream
     {
 
+        private long bytesTransferred;
+
         protected RepositoryInputStream(Path path,
                                         InputStream in) throws IOException
         {
@@ -200,7 +219,7 @@ public class RepositoryStreamSupport
                 open();
                 
                 //Check that artifact exists.
-                if (!RepositoryFiles.artifactExists((RepositoryPath) path)) 
+                if (!artifactExists((RepositoryPath) path))
                 {
                     logger.debug("The path [{}] does not exist!", path);
                     
@@ -221,12 +240,48 @@ public class RepositoryStreamSupport
         protected void beforeRead(int n)
             throws IOException
         {
-            if (((CountingInputStream) in).getByteCount() == 0)
+            if (((CountingInputStream) in).getByteCount() == 0 && bytesTransferred == 0)
             {
                 callback.onBeforeRead((RepositoryStreamReadContext) ctx);
             }
         }
 
+        /**
+         * Transfers the whole artifact content from the underlying file, instead of copying it through the stream
+         * decorators, so that it can be sent with zero-copy I/O. This stream still holds the read lock until it's
+         * closed, and the read callbacks are invoked the same way as for the regular reads.
+         *
+         * @return the number of bytes transferred
+         */
+        public long transferContent(FileChannelTransfer transfer)
+            throws IOException
+        {
+            if (!isStored())
+            {
+                throw new IllegalStateException(String.format("The content of [%s] is not stored yet.",
+                                                              getContext().getPath()));
+            }
+
+            beforeRead(1);
+
+            try (FileChannel channel = FileChannel.open(getContext().getPath(), StandardOpenOption.READ))
+            {
+                long n = transfer.transfer(channel);
+                bytesTransferred += n;
+
+                return n;
+            }
+        }
+
+        /**
+         * @return <code>true</code> if this stream reads the stored file, rather than the content which is still
+         *         being fetched (see {@link InFlightRepositoryStreamSupport}).
+         */
+        public boolean isStored()
+        {
+            return RepositoryStreamSupport.this.isStored();
+        }
+
         @Override
         public void close()
             throws IOException
@@ -234,7 +289,7 @@ public class RepositoryStreamSupport
             try
             {
                 super.close();
-                if (((CountingInputStream) in).getByteCount() > 0) 
+                if (((CountingInputStream) in).getByteCount() > 0 || bytesTransferred > 0) 
                 {
                     callback.onAfterRead((RepositoryStreamReadContext) ctx);
                 }
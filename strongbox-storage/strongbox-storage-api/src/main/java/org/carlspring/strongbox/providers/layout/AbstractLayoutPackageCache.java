@@ -0,0 +1,150 @@
+package org.carlspring.strongbox.providers.layout;
+
+import org.carlspring.strongbox.data.cache.RegionCache;
+import org.carlspring.strongbox.event.artifact.ArtifactEvent;
+import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Base class for the caches of the rendered package documents of the layout (for example, the package feeds or the
+ * index pages), which are kept within the {@link RegionCache}.
+ * <p>
+ * The package is evicted from all the repositories (so that the group repositories get updated as well) when a file
+ * of the package is stored, updated or deleted, within any repository of the layout. The implementations define the
+ * keys and the regions of the cached documents, along with the package of the changed path.
+ *
+ * @param <V> the cached document
+ */
+public abstract class AbstractLayoutPackageCache<V extends Serializable>
+{
+
+    protected static final String KEY_SEPARATOR = "/";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final String layout;
+
+    private final RegionCache<V> cache;
+
+    protected AbstractLayoutPackageCache(CacheManager cacheManager,
+                                         String cacheName,
+                                         String layout)
+    {
+        this.layout = layout;
+        this.cache = new RegionCache<>(cacheManager, cacheName);
+    }
+
+    /**
+     * @param key     the key of the document
+     * @param loader  renders the document
+     * @param regions the regions of the document
+     */
+    protected V get(String key,
+                    Supplier<V> loader,
+                    String... regions)
+    {
+        return cache.get(key, loader, regions);
+    }
+
+    /**
+     * Evicts the package from all the repositories (see
+     * {@link RegionCache#evictNowAndAfterCompletion(String...)}).
+     */
+    public void evict(String packageId)
+    {
+        cache.evictNowAndAfterCompletion(calculateEvictedRegions(packageId));
+
+        logger.debug("Evicted cached documents of [{}].", packageId);
+    }
+
+    public void clear()
+    {
+        cache.clear();
+    }
+
+    @EventListener
+    public void handle(final ArtifactEvent<RepositoryPath> event)
+    {
+        RepositoryPath repositoryPath = event.getPath();
+        if (!layout.equals(repositoryPath.getRepository().getLayout()))
+        {
+            return;
+        }
+
+        if (event.getType() != ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_STORED.getType() &&
+            event.getType() != ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_UPDATED.getType() &&
+            event.getType() != ArtifactEventTypeEnum.EVENT_ARTIFACT_PATH_DELETED.getType())
+        {
+            return;
+        }
+
+        String packageId;
+        try
+        {
+            packageId = calculatePackageId(RepositoryFiles.relativizePath(repositoryPath));
+        }
+        catch (IOException e)
+        {
+            logger.error("Failed to evict cached documents of [{}].", repositoryPath, e);
+            clear();
+
+            return;
+        }
+
+        if (packageId == null)
+        {
+            // The repository root (or the whole scope) has been deleted.
+            clear();
+
+            return;
+        }
+
+        evict(packageId);
+    }
+
+    public long getHitCount()
+    {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount()
+    {
+        return cache.getMissCount();
+    }
+
+    /**
+     * @param path the repository relative path of the changed file or directory
+     * @return the package of the path, or <code>null</code> if the path is not within a package
+     */
+    protected abstract String calculatePackageId(String path);
+
+    /**
+     * @return the regions to be evicted when the package changes
+     */
+    protected abstract String[] calculateEvictedRegions(String packageId);
+
+    /**
+     * @return the first segment of the path, or <code>null</code> for the repository root
+     */
+    protected static String calculateFirstSegment(String path)
+    {
+        String[] segments = path.split(KEY_SEPARATOR);
+        if (segments.length == 0 || segments[0].isEmpty())
+        {
+            return null;
+        }
+
+        return segments[0];
+    }
+
+}
@@ -208,21 +208,21 @@ public abstract class AbstractLayoutProvider<T extends ArtifactCoordinates>
     }
 
     @Override
-    public Set<String> listArchiveFilenames(final RepositoryPath repositoryPath)
+    public Map<String, Long> listArchiveEntries(final RepositoryPath repositoryPath)
     {
         if (ARCHIVE_LISTING_FUNCTION.supports(repositoryPath))
         {
             try
             {
-                return ARCHIVE_LISTING_FUNCTION.listFilenames(repositoryPath);
+                return ARCHIVE_LISTING_FUNCTION.listEntries(repositoryPath);
             }
             catch (IOException e)
             {
-                logger.warn("Unable to list filenames in archive path {} using {}",
+                logger.warn("Unable to list entries in archive path {} using {}",
                             repositoryPath, ARCHIVE_LISTING_FUNCTION, e);
             }
         }
-        return Collections.emptySet();
+        return Collections.emptyMap();
     }
 
     @Override
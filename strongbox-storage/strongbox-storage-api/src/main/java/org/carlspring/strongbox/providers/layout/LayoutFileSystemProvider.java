@@ -20,20 +20,30 @@ import org.carlspring.strongbox.services.ArtifactEntryService;
 import org.carlspring.strongbox.storage.ArtifactResolutionException;
 import org.carlspring.strongbox.storage.Storage;
 import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.trash.RepositoryTrashCatalogue;
+import org.carlspring.strongbox.storage.trash.RepositoryTrashCatalogueRegistry;
+import org.carlspring.strongbox.storage.trash.TrashEntry;
 
 import javax.inject.Inject;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.DirectoryNotEmptyException;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.spi.FileSystemProvider;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,6 +61,11 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
 
     private static final Logger logger = LoggerFactory.getLogger(LayoutFileSystemProvider.class);
 
+    /**
+     * The read buffer size of the checksum calculation, which is large enough to keep the disk reads sequential.
+     */
+    private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+
     @Inject
     private ArtifactEventListenerRegistry artifactEventListenerRegistry;
     
@@ -60,6 +75,9 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
     @Inject
     private ArtifactEntryService artifactEntryService;
 
+    @Inject
+    private RepositoryTrashCatalogueRegistry trashCatalogueRegistry;
+
 
     public LayoutFileSystemProvider(FileSystemProvider storageFileSystemProvider)
     {
@@ -68,11 +86,38 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
 
     protected abstract AbstractLayoutProvider getLayoutProvider();
     
+    /**
+     * Opens the artifact for reading. The checksums are already stored along with the artifact, so they are not
+     * calculated here, see {@link #newDigestInputStream(RepositoryPath)} for the explicit checksum calculation.
+     */
     @Override
     public LazyInputStream newInputStream(Path path,
                                           OpenOption... options)
             throws IOException
-    {        
+    {
+        return openInputStream((RepositoryPath) path, Collections.emptySet(), options);
+    }
+
+    /**
+     * Opens the artifact for reading, with the checksums calculated while the stream is being read.
+     *
+     * @see LayoutInputStream#getMessageDigestAsHexadecimalString(String)
+     */
+    public LazyInputStream newDigestInputStream(RepositoryPath path)
+            throws IOException
+    {
+        // Add digest algorithm only if it is not a Checksum (we don't need a Checksum of Checksum).
+        Set<String> digestAlgorithmSet = Boolean.TRUE.equals(RepositoryFiles.isChecksum(path)) ?
+                                         Collections.emptySet() :
+                                         path.getFileSystem().getDigestAlgorithmSet();
+
+        return openInputStream(path, digestAlgorithmSet);
+    }
+
+    private LazyInputStream openInputStream(RepositoryPath path,
+                                           Set<String> digestAlgorithmSet,
+                                           OpenOption... options)
+    {
         return new LazyInputStream(() -> {
             try
             {
@@ -92,7 +137,7 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
                 bris.setReloadableInputStreamHandler(new FSReloadableInputStreamHandler(path));
                 bris.setLength(Files.size(path));
 
-                return decorateStream((RepositoryPath) path, bris);
+                return decorateStream(path, bris, digestAlgorithmSet);
             }
             catch (NoSuchAlgorithmException e)
             {
@@ -102,16 +147,11 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
     }
 
     protected LayoutInputStream decorateStream(RepositoryPath path,
-                                               InputStream is)
+                                               InputStream is,
+                                               Set<String> digestAlgorithmSet)
             throws NoSuchAlgorithmException, IOException
     {
-        // Add digest algorithm only if it is not a Checksum (we don't need a Checksum of Checksum).
-        if (Boolean.TRUE.equals(RepositoryFiles.isChecksum(path)))
-        {
-            return new LayoutInputStream(is, Collections.emptySet());
-        }
-
-        return new LayoutInputStream(is, path.getFileSystem().getDigestAlgorithmSet());
+        return new LayoutInputStream(is, digestAlgorithmSet);
     }
 
     public RepositoryPath getChecksumPath(RepositoryPath path,
@@ -178,51 +218,73 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
                               boolean forceRegeneration)
             throws IOException
     {
-        Files.walk(basePath)
-             .filter(p -> !Files.isDirectory(p))
-             .filter(p -> {
-                 try
-                 {
-                     return !Boolean.TRUE.equals(RepositoryFiles.isChecksum((RepositoryPath) p));
-                 }
-                 catch (IOException e)
-                 {
-                     logger.error("Failed to read attributes for [{}]", p, e);
-                 }
-                 return false;
-             })
-             .forEach(p -> {
-                 try
-                 {
-                     writeChecksum((RepositoryPath) p, forceRegeneration);
-                 }
-                 catch (IOException e)
-                 {
-                     logger.error("Failed to write checksum for [{}]", p, e);
-                 }
-             });
+        storeChecksum(basePath, forceRegeneration, Runnable::run);
     }
 
-    
+    /**
+     * Stores the checksums of the files within the <code>basePath</code>, the checksums of each file are calculated
+     * by the <code>executor</code>.
+     */
+    public void storeChecksum(RepositoryPath basePath,
+                              boolean forceRegeneration,
+                              Executor executor)
+            throws IOException
+    {
+        try (Stream<Path> pathStream = Files.walk(basePath))
+        {
+            pathStream.filter(p -> !Files.isDirectory(p))
+                      .filter(p -> {
+                          try
+                          {
+                              return !Boolean.TRUE.equals(RepositoryFiles.isChecksum((RepositoryPath) p));
+                          }
+                          catch (IOException e)
+                          {
+                              logger.error("Failed to read attributes for [{}]", p, e);
+                          }
+                          return false;
+                      })
+                      .forEach(p -> executor.execute(() -> {
+                          try
+                          {
+                              writeChecksum((RepositoryPath) p, forceRegeneration);
+                          }
+                          catch (IOException e)
+                          {
+                              logger.error("Failed to write checksum for [{}]", p, e);
+                          }
+                      }));
+        }
+    }
+
+    /**
+     * Calculates and stores the checksums of the file. Unless <code>force</code> is set, the file is not read at all
+     * if all of its checksums are up to date.
+     */
     protected void writeChecksum(RepositoryPath path,
                                  boolean force)
             throws IOException
     {
-        try (InputStream is = newInputStream(path))
+        Set<String> digestAlgorithmSet = path.getFileSystem().getDigestAlgorithmSet();
+        if (!force && digestAlgorithmSet.stream().allMatch(p -> isChecksumUpToDate(path, getChecksumPath(path, p))))
+        {
+            return;
+        }
+
+        try (InputStream is = newDigestInputStream(path))
         {
-            byte[] buffer = new byte[1024];
-            while (is.read(buffer) > 0)
+            byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+            while (is.read(buffer) >= 0)
             {
                 //calculate checksum while reading the stream
             }
-            Set<String> digestAlgorithmSet = path.getFileSystem().getDigestAlgorithmSet();
             digestAlgorithmSet.stream()
                               .forEach(p ->
                                        {
                                            String checksum = StreamUtils.findSource(LayoutInputStream.class, is)
                                                                         .getMessageDigestAsHexadecimalString(p);
                                            RepositoryPath checksumPath = getChecksumPath(path, p);
-                                           if (Files.exists(checksumPath) && !force)
+                                           if (!force && isChecksumUpToDate(path, checksumPath))
                                            {
                                                return;
                                            }
@@ -239,6 +301,27 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
         }
     }
 
+    /**
+     * The checksum is considered up to date if it's not empty and it's not older than the file, the checksums which
+     * have been stored before the file was overwritten are recalculated.
+     */
+    private boolean isChecksumUpToDate(RepositoryPath path,
+                                       RepositoryPath checksumPath)
+    {
+        try
+        {
+            return Files.exists(checksumPath) &&
+                   Files.size(checksumPath) > 0 &&
+                   Files.getLastModifiedTime(checksumPath).compareTo(Files.getLastModifiedTime(path)) >= 0;
+        }
+        catch (IOException e)
+        {
+            logger.debug("Failed to read attributes for [{}]", checksumPath, e);
+
+            return false;
+        }
+    }
+
     @Override
     public void delete(Path path,
                        boolean force)
@@ -258,11 +341,26 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
         }
 
         boolean directory = Files.isDirectory(path);
+        boolean root = repositoryPath.getFileSystem().getRootDirectory().equals(path);
+
+        // The artifacts of the directory are looked up before they are gone, so that their deletes are dispatched.
+        List<RepositoryPath> artifactPaths = directory && !root ? findArtifactPaths(repositoryPath)
+                                                                : Collections.emptyList();
+
         super.delete(path, force);
         if (!directory)
         {
             artifactEventListenerRegistry.dispatchArtifactPathDeletedEvent(path);
         }
+        else if (root)
+        {
+            // The repository has been removed along with its trash.
+            trashCatalogueRegistry.evict(unwrap(repositoryPath.getFileSystem().getTrashPath()));
+        }
+        else
+        {
+            artifactPaths.forEach(artifactEventListenerRegistry::dispatchArtifactPathDeletedEvent);
+        }
 
         logger.debug("Deleted [{}]", path);
     }
@@ -271,20 +369,38 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
                                 boolean force)
             throws IOException
     {
-        if (!RepositoryFiles.isArtifact(repositoryPath))
+        if (RepositoryFiles.isArtifact(repositoryPath))
+        {
+            ArtifactEntry artifactEntry = Optional.ofNullable(repositoryPath.getArtifactEntry())
+                                                  .orElseGet(() -> fetchArtifactEntry(repositoryPath));
+            if (artifactEntry != null)
+            {
+                artifactEntryService.delete(artifactEntry);
+            }
+        }
+
+        Repository repository = repositoryPath.getRepository();
+        if (!repository.isTrashEnabled())
         {
             super.doDeletePath(repositoryPath, force);
             return;
         }
-        
-        ArtifactEntry artifactEntry = Optional.ofNullable(repositoryPath.getArtifactEntry())
-                                              .orElseGet(() -> fetchArtifactEntry(repositoryPath));
-        if (artifactEntry != null)
+
+        boolean inTrash = RepositoryFiles.isTrash(repositoryPath);
+        long size = inTrash ? 0 : Files.size(unwrap(repositoryPath));
+
+        super.doDeletePath(repositoryPath, force);
+
+        RepositoryTrashCatalogue trashCatalogue = getTrashCatalogue(repositoryPath);
+        String path = repositoryPath.relativize().toString();
+        if (inTrash)
         {
-            artifactEntryService.delete(artifactEntry);
+            trashCatalogue.remove(path);
+        }
+        else if (!force || !repository.allowsForceDeletion())
+        {
+            trashCatalogue.add(path, size, System.currentTimeMillis());
         }
-        
-        super.doDeletePath(repositoryPath, force);
     }
 
     private ArtifactEntry fetchArtifactEntry(RepositoryPath repositoryPath)
@@ -317,13 +433,31 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
 
         super.deleteTrash(path);
 
+        if (repository.isTrashEnabled())
+        {
+            RepositoryTrashCatalogue trashCatalogue = getTrashCatalogue(path);
+            String trashPath = path.relativize().toString();
+            if (trashPath.isEmpty())
+            {
+                trashCatalogue.clear();
+            }
+            else
+            {
+                trashCatalogue.remove(trashPath);
+            }
+        }
+
         repositoryEventListenerRegistry.dispatchEmptyTrashEvent(storage.getId(), repository.getId());
 
         logger.debug("Trash for {}:{} removed.", storage.getId(), repository.getId());
     }
 
-    
-    
+    /**
+     * Restores the trashed files of the path, and drops them from the {@link RepositoryTrashCatalogue}.
+     * <p>
+     * The trash directory of the path is walked rather than the catalogue looked up, so that the files, which are not
+     * catalogued (for example, the files trashed by another node), are restored as well.
+     */
     @Override
     public void undelete(RepositoryPath path)
             throws IOException
@@ -332,14 +466,145 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
         Storage storage = repository.getStorage();
 
         logger.debug("Attempting to restore: [{}]; ", path);
-        
-        super.undelete(path);
+
+        if (repository.isTrashEnabled())
+        {
+            RepositoryTrashCatalogue trashCatalogue = getTrashCatalogue(path);
+            Path trashDirectory = unwrap(path.getFileSystem().getTrashPath());
+            Path rootDirectory = unwrap(path.getFileSystem().getRootDirectory());
+            String trashPath = path.relativize().toString();
+
+            for (Path trashedFile : findTrashedFiles(trashDirectory, trashDirectory.resolve(trashPath)))
+            {
+                String trashedPath = trashDirectory.relativize(trashedFile).toString();
+
+                Path targetPath = rootDirectory.resolve(trashedPath);
+                Files.createDirectories(targetPath.getParent());
+                Files.move(trashedFile, targetPath, StandardCopyOption.REPLACE_EXISTING);
+
+                deleteEmptyDirectories(trashedFile.getParent(), trashDirectory);
+            }
+
+            // Along with the restored files, the catalogued files, which are gone from the trash meanwhile, are dropped.
+            if (trashPath.isEmpty())
+            {
+                trashCatalogue.clear();
+            }
+            else
+            {
+                trashCatalogue.remove(trashPath);
+            }
+        }
 
         repositoryEventListenerRegistry.dispatchUndeleteTrashEvent(storage.getId(), repository.getId());
 
         logger.debug("The trash for {}:{} has been undeleted.", storage.getId(), repository.getId());
     }
 
+    /**
+     * Removes the trashed files, which have been deleted before the given time, and then the oldest trashed files
+     * until the trash size is within the given limit.
+     *
+     * @param path          the repository root
+     * @param deletedBefore the deletion time limit, or a negative value to purge by size only
+     * @param maxSize       the trash size limit in bytes, or a negative value to purge by age only
+     * @return the number of the removed files
+     */
+    public int purgeTrash(RepositoryPath path,
+                          long deletedBefore,
+                          long maxSize)
+            throws IOException
+    {
+        Repository repository = path.getRepository();
+        if (!repository.isTrashEnabled())
+        {
+            return 0;
+        }
+
+        RepositoryTrashCatalogue trashCatalogue = getTrashCatalogue(path);
+        Path trashDirectory = unwrap(path.getFileSystem().getTrashPath());
+
+        List<TrashEntry> trashEntries = trashCatalogue.findExpired(deletedBefore, maxSize);
+        for (TrashEntry trashEntry : trashEntries)
+        {
+            Path trashPath = trashDirectory.resolve(trashEntry.getPath());
+            Files.deleteIfExists(trashPath);
+            deleteEmptyDirectories(trashPath.getParent(), trashDirectory);
+
+            trashCatalogue.remove(trashEntry.getPath());
+        }
+
+        logger.debug("Purged [{}] trashed files of {}:{}.", trashEntries.size(), repository.getStorage().getId(),
+                     repository.getId());
+
+        return trashEntries.size();
+    }
+
+    public RepositoryTrashCatalogue getTrashCatalogue(RepositoryPath path)
+            throws IOException
+    {
+        return trashCatalogueRegistry.getCatalogue(unwrap(path.getFileSystem().getTrashPath()));
+    }
+
+    /**
+     * @return the trashed files under the path, without the catalogue journal
+     */
+    private List<Path> findTrashedFiles(Path trashDirectory,
+                                        Path path)
+            throws IOException
+    {
+        if (!Files.exists(path))
+        {
+            return Collections.emptyList();
+        }
+
+        try (Stream<Path> stream = Files.walk(path))
+        {
+            return stream.filter(Files::isRegularFile)
+                         .filter(p -> !RepositoryTrashCatalogue.isJournal(trashDirectory, p))
+                         .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * @return the artifact files under the directory
+     */
+    private List<RepositoryPath> findArtifactPaths(RepositoryPath directory)
+            throws IOException
+    {
+        List<RepositoryPath> result = new ArrayList<>();
+        try (Stream<Path> stream = Files.walk(directory))
+        {
+            for (Path p : (Iterable<Path>) stream::iterator)
+            {
+                RepositoryPath repositoryPath = (RepositoryPath) p;
+                if (Files.isRegularFile(repositoryPath) && RepositoryFiles.isArtifact(repositoryPath))
+                {
+                    result.add(repositoryPath);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private void deleteEmptyDirectories(Path directory,
+                                        Path trashDirectory)
+            throws IOException
+    {
+        for (Path p = directory; p != null && p.startsWith(trashDirectory) && !p.equals(trashDirectory); p = p.getParent())
+        {
+            try
+            {
+                Files.deleteIfExists(p);
+            }
+            catch (DirectoryNotEmptyException e)
+            {
+                return;
+            }
+        }
+    }
+
     @Override
     protected Map<RepositoryFileAttributeType, Object> getRepositoryFileAttributes(RepositoryPath repositoryRelativePath,
                                                                                    RepositoryFileAttributeType... attributeTypes)
@@ -1,6 +1,7 @@
 package org.carlspring.strongbox.providers.layout;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.Nonnull;
@@ -17,8 +18,12 @@ public interface LayoutProvider<T extends ArtifactCoordinates>
 {
     RepositoryManagementStrategy getRepositoryManagementStrategy();
 
+    /**
+     * @return the uncompressed sizes of the archive files by the file paths, or the empty map if the path isn't the
+     *         supported archive
+     */
     @Nonnull
-    Set<String> listArchiveFilenames(RepositoryPath repositoryPath);
+    Map<String, Long> listArchiveEntries(RepositoryPath repositoryPath);
 
     Set<String> getDefaultArtifactCoordinateValidators();
 
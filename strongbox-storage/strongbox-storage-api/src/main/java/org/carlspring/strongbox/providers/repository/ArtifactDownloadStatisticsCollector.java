@@ -0,0 +1,189 @@
+package org.carlspring.strongbox.providers.repository;
+
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.services.ArtifactEntryService;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.util.CoalescingFlusher;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.util.Date;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Collects the artifact download statistics (download count and last usage date) in memory, and periodically flushes
+ * them into the {@link ArtifactEntry} records in batches, one transaction per batch.
+ * <p>
+ * This way the popular artifacts don't cause a database write (and write contention) per download. If the batch
+ * fails (for example because of a concurrent modification), its statistics are applied artifact by artifact, and the
+ * statistics which still fail are retried with the next flush.
+ *
+ * @see CoalescingFlusher
+ */
+@Component
+public class ArtifactDownloadStatisticsCollector
+        implements InitializingBean, DisposableBean
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(ArtifactDownloadStatisticsCollector.class);
+
+    private static final String KEY_SEPARATOR = "/";
+
+    @Inject
+    private ArtifactEntryService artifactEntryService;
+
+    @Inject
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Specifies how often (in milliseconds) the collected statistics are flushed.
+     */
+    @Value("${strongbox.downloadStatistics.flushInterval:1000}")
+    private long flushInterval;
+
+    /**
+     * Maximum number of {@link ArtifactEntry} records to be updated within one transaction.
+     */
+    @Value("${strongbox.downloadStatistics.batchSize:500}")
+    private int batchSize;
+
+    /**
+     * Maximum number of attempts to apply the statistics of the artifact.
+     */
+    @Value("${strongbox.downloadStatistics.maxAttempts:10}")
+    private int maxAttempts;
+
+    private CoalescingFlusher<PendingDownloads> flusher;
+
+    @Override
+    public void afterPropertiesSet()
+    {
+        flusher = new CoalescingFlusher<>("download-statistics",
+                                          PendingDownloads::calculateKey,
+                                          PendingDownloads::merge,
+                                          this::flushBatch);
+        flusher.withFlushInterval(flushInterval)
+               .withBatchSize(batchSize)
+               .withMaxAttempts(maxAttempts)
+               .start();
+    }
+
+    @Override
+    public void destroy()
+    {
+        flusher.shutdown();
+    }
+
+    public void recordDownload(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        Repository repository = repositoryPath.getRepository();
+        String storageId = repository.getStorage().getId();
+        String repositoryId = repository.getId();
+        String path = RepositoryFiles.relativizePath(repositoryPath);
+
+        flusher.record(new PendingDownloads(storageId, repositoryId, path, 1, new Date()));
+    }
+
+    public int getPendingCount()
+    {
+        return flusher.getPendingCount();
+    }
+
+    /**
+     * Flushes all the collected statistics.
+     */
+    public void flush()
+    {
+        flusher.flush();
+    }
+
+    private void flushBatch(List<PendingDownloads> batch)
+    {
+        new TransactionTemplate(transactionManager).execute(t -> {
+            batch.forEach(this::apply);
+
+            return null;
+        });
+    }
+
+    private void apply(PendingDownloads downloads)
+    {
+        ArtifactEntry artifactEntry = artifactEntryService.findOneArtifact(downloads.storageId,
+                                                                           downloads.repositoryId,
+                                                                           downloads.path);
+        if (artifactEntry == null)
+        {
+            logger.debug("No [{}] found for [{}], skip download statistics.",
+                         ArtifactEntry.class.getSimpleName(), downloads.calculateKey());
+
+            return;
+        }
+
+        artifactEntry.setDownloadCount(artifactEntry.getDownloadCount() + downloads.count);
+
+        Date lastUsed = artifactEntry.getLastUsed();
+        if (lastUsed == null || lastUsed.before(downloads.lastUsed))
+        {
+            artifactEntry.setLastUsed(downloads.lastUsed);
+        }
+
+        artifactEntryService.save(artifactEntry);
+    }
+
+    private static class PendingDownloads
+    {
+
+        private final String storageId;
+
+        private final String repositoryId;
+
+        private final String path;
+
+        private int count;
+
+        private Date lastUsed;
+
+        private PendingDownloads(String storageId,
+                                 String repositoryId,
+                                 String path,
+                                 int count,
+                                 Date lastUsed)
+        {
+            this.storageId = storageId;
+            this.repositoryId = repositoryId;
+            this.path = path;
+            this.count = count;
+            this.lastUsed = lastUsed;
+        }
+
+        private PendingDownloads merge(PendingDownloads other)
+        {
+            count += other.count;
+            if (lastUsed.before(other.lastUsed))
+            {
+                lastUsed = other.lastUsed;
+            }
+
+            return this;
+        }
+
+        private String calculateKey()
+        {
+            return storageId + KEY_SEPARATOR + repositoryId + KEY_SEPARATOR + path;
+        }
+
+    }
+
+}
@@ -4,24 +4,25 @@ package org.carlspring.strongbox.providers.repository;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Iterator;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 
-import org.carlspring.strongbox.artifact.coordinates.ArtifactCoordinates;
 import org.carlspring.strongbox.configuration.ConfigurationUtils;
+import org.carlspring.strongbox.data.CacheName;
 import org.carlspring.strongbox.data.criteria.OQueryTemplate;
+import org.carlspring.strongbox.data.criteria.Expression;
+import org.carlspring.strongbox.data.criteria.Expression.ExpOperator;
 import org.carlspring.strongbox.data.criteria.Paginator;
+import org.carlspring.strongbox.data.criteria.Paginator.Order;
 import org.carlspring.strongbox.data.criteria.Predicate;
 import org.carlspring.strongbox.data.criteria.QueryTemplate;
 import org.carlspring.strongbox.data.criteria.Selector;
@@ -31,15 +32,27 @@ import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
 import org.carlspring.strongbox.providers.repository.event.GroupRepositoryPathFetchEvent;
+import org.carlspring.strongbox.providers.repository.group.GroupRepositoryFetchExecutor;
+import org.carlspring.strongbox.providers.repository.group.GroupRepositoryNegativeCache;
+import org.carlspring.strongbox.providers.repository.group.GroupRepositorySearchMerger;
+import org.carlspring.strongbox.providers.repository.group.GroupRepositorySearchMerger.MemberLookup;
+import org.carlspring.strongbox.providers.repository.group.GroupRepositorySearchPage;
+import org.carlspring.strongbox.providers.repository.group.GroupRepositorySearchToken;
 import org.carlspring.strongbox.providers.repository.group.GroupRepositorySetCollector;
 import org.carlspring.strongbox.services.support.ArtifactRoutingRulesChecker;
 import org.carlspring.strongbox.storage.Storage;
 import org.carlspring.strongbox.storage.repository.Repository;
-import org.carlspring.strongbox.util.ThrowingFunction;
 
+import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * @author carlspring
@@ -53,18 +66,42 @@ public class GroupRepositoryProvider
 
     private static final String ALIAS = "group";
 
+    private static final String DEFAULT_SEARCH_PROPERTY = "artifactCoordinates.path";
+
+    /**
+     * The artifact coordinates are the same within all the members, unlike the other properties of the member record.
+     */
+    private static final String COORDINATES_PROPERTY_PREFIX = "artifactCoordinates.";
+
+    private static final String UUID_PROPERTY = "uuid";
+
     @Inject
     private ArtifactRoutingRulesChecker artifactRoutingRulesChecker;
 
     @Inject
     private HostedRepositoryProvider hostedRepositoryProvider;
 
+    @Inject
+    private ProxyRepositoryProvider proxyRepositoryProvider;
+
     @Inject
     private GroupRepositorySetCollector groupRepositorySetCollector;
 
+    @Inject
+    private GroupRepositoryFetchExecutor groupRepositoryFetchExecutor;
+
+    @Inject
+    private GroupRepositoryNegativeCache groupRepositoryNegativeCache;
+
     @PersistenceContext
     private EntityManager entityManager;
 
+    @Inject
+    private PlatformTransactionManager transactionManager;
+
+    @Inject
+    private CacheManager cacheManager;
+
     @Inject
     private RepositoryPathResolver repositoryPathResolver;
 
@@ -98,10 +135,45 @@ public class GroupRepositoryProvider
 
     protected RepositoryPath resolvePathTraversal(RepositoryPath repositoryPath)
             throws IOException
+    {
+        // The members are probed concurrently without fetching the path, and then the path is fetched from the first
+        // member in the declared order which has it. If the member fails to fetch the path after all (for example,
+        // the remote repository has gone down meanwhile), the following members are tried.
+        List<RepositoryPath> subRepositoryPaths = resolveGroupMemberPaths(repositoryPath);
+        while (!subRepositoryPaths.isEmpty())
+        {
+            RepositoryPath subRepositoryPath = probeFirst(subRepositoryPaths);
+            if (subRepositoryPath == null)
+            {
+                return null;
+            }
+
+            RepositoryPath result = resolvePathFromGroupMemberOrTraverse(subRepositoryPath);
+            if (result != null)
+            {
+                logger.debug("Located artifact: [{}]", result);
+
+                return result;
+            }
+
+            subRepositoryPaths = subRepositoryPaths.subList(subRepositoryPaths.indexOf(subRepositoryPath) + 1,
+                                                            subRepositoryPaths.size());
+        }
+
+        return null;
+    }
+
+    /**
+     * @return the paths of the group members, which should be asked for the path, in the declared order
+     */
+    private List<RepositoryPath> resolveGroupMemberPaths(RepositoryPath repositoryPath)
+            throws IOException
     {
         Repository groupRepository = repositoryPath.getRepository();
         Storage storage = groupRepository.getStorage();
 
+        List<RepositoryPath> subRepositoryPaths = new ArrayList<>();
+
         // Iterate over the `repositories` collection.
         for (String storageAndRepositoryId : groupRepository.getGroupRepositories())
         {
@@ -116,18 +188,32 @@ public class GroupRepositoryProvider
                 continue;
             }
 
-            subRepositoryPath = resolvePathFromGroupMemberOrTraverse(subRepositoryPath);
-            if (subRepositoryPath == null)
+            if (!isGroupRepository(subRepository) &&
+                groupRepositoryNegativeCache.isMissing(sId, rId, RepositoryFiles.relativizePath(subRepositoryPath)))
             {
+                logger.debug("- Path [{}] has recently been missing in [{}], skipping...", subRepositoryPath,
+                             subRepository.getStorageIdAndRepositoryId());
+
                 continue;
             }
 
-            logger.debug("Located artifact: [{}]", subRepositoryPath);
-
-            return subRepositoryPath;
+            subRepositoryPaths.add(subRepositoryPath);
         }
 
-        return null;
+        return subRepositoryPaths;
+    }
+
+    /**
+     * @return the first member path in the declared order, which the member has
+     */
+    private RepositoryPath probeFirst(List<RepositoryPath> subRepositoryPaths)
+            throws IOException
+    {
+        // The members which are groups are probed by the calling thread, while their own members are probed
+        // concurrently.
+        return groupRepositoryFetchExecutor.resolveFirst(subRepositoryPaths,
+                                                         this::probeGroupMember,
+                                                         p -> isGroupRepository(p.getRepository()));
     }
 
     private boolean isRepositoryResolvable(Repository groupRepository,
@@ -166,11 +252,69 @@ public class GroupRepositoryProvider
         return null;
     }
 
+    /**
+     * Checks whether the member has the path without side effects: the path is neither fetched from the remote
+     * repository nor stored, so the members can be probed concurrently.
+     *
+     * @return the member path, or <code>null</code> if the member doesn't have it
+     */
+    private RepositoryPath probeGroupMember(RepositoryPath repositoryPath)
+            throws IOException
+    {
+        Repository repository = repositoryPath.getRepository();
+        if (isGroupRepository(repository))
+        {
+            return probeFirst(resolveGroupMemberPaths(repositoryPath)) != null ? repositoryPath : null;
+        }
+
+        try
+        {
+            // The path is recorded as missing only if the member doesn't have it.
+            Boolean exists = groupRepositoryNegativeCache.resolve(repository.getStorage().getId(),
+                                                                  repository.getId(),
+                                                                  RepositoryFiles.relativizePath(repositoryPath),
+                                                                  () -> probePath(repositoryPath) ? Boolean.TRUE
+                                                                                                  : null);
+
+            return exists != null ? repositoryPath : null;
+        }
+        catch (UncheckedIOException e)
+        {
+            logger.error("Failed to probe path [{}]", repositoryPath, e.getCause());
+
+            return null;
+        }
+    }
+
+    private boolean probePath(RepositoryPath repositoryPath)
+    {
+        Repository repository = repositoryPath.getRepository();
+
+        // The probe has its own path, so that the artifact entry it loads is not handed over to the calling thread.
+        RepositoryPath probePath = repositoryPathResolver.resolve(repository, repositoryPath);
+
+        // The members could be probed by the thread pool, out of the transaction of the calling thread.
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        return transactionTemplate.execute(t -> {
+            try
+            {
+                return repository.isProxyRepository() ? proxyRepositoryProvider.probePath(probePath)
+                                                      : hostedRepositoryProvider.fetchPath(probePath) != null;
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
     protected RepositoryPath resolvePathFromGroupMemberOrTraverse(RepositoryPath repositoryPath)
             throws IOException
     {
         Repository repository = repositoryPath.getRepository();
-        if (getAlias().equals(repository.getType()))
+        if (isGroupRepository(repository))
         {
             return resolvePathTraversal(repositoryPath);
         }
@@ -178,15 +322,33 @@ public class GroupRepositoryProvider
         RepositoryProvider provider = repositoryProviderRegistry.getProvider(repository.getType());
         try
         {
-            return (RepositoryPath) provider.fetchPath(repositoryPath);
+            // The path is recorded as missing only if it has not been fetched.
+            return groupRepositoryNegativeCache.resolve(repository.getStorage().getId(),
+                                                        repository.getId(),
+                                                        RepositoryFiles.relativizePath(repositoryPath),
+                                                        () -> {
+                                                            try
+                                                            {
+                                                                return (RepositoryPath) provider.fetchPath(repositoryPath);
+                                                            }
+                                                            catch (IOException e)
+                                                            {
+                                                                throw new UncheckedIOException(e);
+                                                            }
+                                                        });
         }
-        catch (IOException e)
+        catch (UncheckedIOException e)
         {
             logger.error("Failed to resolve path [{}]", repositoryPath);
             return null;
         }
     }
 
+    private boolean isGroupRepository(Repository repository)
+    {
+        return getAlias().equals(repository.getType());
+    }
+
     @Override
     protected OutputStream getOutputStreamInternal(RepositoryPath repositoryPath)
     {
@@ -203,86 +365,215 @@ public class GroupRepositoryProvider
                              Predicate predicate,
                              Paginator paginator)
     {
-        logger.debug("Search in [{}]:[{}] ...", storageId, repositoryId);
+        int skip = paginator.getSkip();
+        int limit = paginator.getLimit();
+
+        // The token of the previous page allows to continue the search instead of skipping all the previous pages.
+        // The tokens expire shortly (see `CacheName.Repository.GROUP_REPOSITORY_SEARCH_TOKENS`), so that the members
+        // changed meanwhile are searched from the start again.
+        Cache searchTokens = cacheManager.getCache(CacheName.Repository.GROUP_REPOSITORY_SEARCH_TOKENS);
+        String searchKey = calculateSearchKey(storageId, repositoryId, predicate, paginator);
+        GroupRepositorySearchToken token = searchTokens.get(searchKey + skip, GroupRepositorySearchToken.class);
+
+        GroupRepositorySearchPage<Path> page = token == null ?
+                                               search(storageId, repositoryId, predicate, paginator, null, skip) :
+                                               search(storageId, repositoryId, predicate, paginator, token, 0);
+
+        if (page.getNextToken() != null)
+        {
+            searchTokens.put(searchKey + (skip + limit), page.getNextToken());
+        }
 
-        Map<ArtifactCoordinates, Path> resultMap = new LinkedHashMap<>();
+        return page.getResults();
+    }
+
+    /**
+     * Keyset paginated group search: the members are queried for the results starting right after the previous page,
+     * so the cost of the page doesn't depend on the number of the previous pages.
+     *
+     * @param token the token of the page (see {@link GroupRepositorySearchPage#getNextToken()}), or <code>null</code>
+     *              for the first page
+     */
+    public GroupRepositorySearchPage<Path> search(String storageId,
+                                                  String repositoryId,
+                                                  Predicate predicate,
+                                                  Paginator paginator,
+                                                  GroupRepositorySearchToken token)
+    {
+        return search(storageId, repositoryId, predicate, paginator, token, paginator.getSkip());
+    }
+
+    private GroupRepositorySearchPage<Path> search(String storageId,
+                                                   String repositoryId,
+                                                   Predicate predicate,
+                                                   Paginator paginator,
+                                                   GroupRepositorySearchToken token,
+                                                   int skip)
+    {
+        logger.debug("Search in [{}]:[{}] ...", storageId, repositoryId);
 
         Storage storage = getConfiguration().getStorage(storageId);
         Repository groupRepository = storage.getRepository(repositoryId);
-        Set<Repository> groupRepositorySet = groupRepositorySetCollector.collect(groupRepository);
 
-        if (groupRepositorySet.isEmpty())
+        Map<String, Repository> members = new LinkedHashMap<>();
+        groupRepositorySetCollector.collect(groupRepository, true)
+                                   .forEach(r -> members.put(r.getStorageIdAndRepositoryId(), r));
+
+        // The unique artifact path is used to sort the results, unless the other property is specified.
+        String property = StringUtils.isBlank(paginator.getProperty()) ? DEFAULT_SEARCH_PROPERTY :
+                          paginator.getProperty().trim();
+        Order order = paginator.getOrder();
+
+        // The record properties (like `downloadCount`) differ within the members, so the same artifact of the
+        // preceding member could be anywhere within the results, rather than next to it.
+        MemberLookup<Path> memberLookup = property.startsWith(COORDINATES_PROPERTY_PREFIX) ? null :
+                                          (member, p) -> containsArtifact(members.get(member), p);
+
+        GroupRepositorySearchMerger<Path> merger = new GroupRepositorySearchMerger<>(
+                new ArrayList<>(members.keySet()),
+                (member, fromValue, fromUuid, memberLimit) -> searchMember(members.get(member), predicate, property,
+                                                                           order, fromValue, fromUuid, memberLimit),
+                p -> readSortValue(p, property),
+                p -> readArtifactEntry(p).getUuid(),
+                p -> readArtifactEntry(p).getArtifactPath(),
+                memberLookup,
+                order);
+
+        return merger.fetch(token, skip, paginator.getLimit());
+    }
+
+    private List<Path> searchMember(Repository member,
+                                    Predicate predicate,
+                                    String property,
+                                    Order order,
+                                    Object fromValue,
+                                    String fromUuid,
+                                    int limit)
+    {
+        Predicate memberPredicate = Predicate.empty();
+        if (!predicate.isEmpty())
+        {
+            memberPredicate.and(predicate);
+        }
+        if (fromUuid != null)
         {
-            return new LinkedList<>();
+            memberPredicate.and(createKeysetPredicate(property, order, fromValue, fromUuid));
         }
 
-        int skip = paginator.getSkip();
-        int limit = paginator.getLimit();
+        // The `uuid` orders the artifacts with the same sort value, so the next batch continues right after the last
+        // consumed artifact.
+        Paginator memberPaginator = new Paginator();
+        memberPaginator.setProperty(property);
+        memberPaginator.setSecondaryProperty(UUID_PROPERTY);
+        memberPaginator.setOrder(order);
+        memberPaginator.setLimit(limit);
+
+        RepositoryProvider repositoryProvider = repositoryProviderRegistry.getProvider(member.getType());
+
+        return repositoryProvider.search(member.getStorage().getId(), member.getId(), memberPredicate,
+                                         memberPaginator);
+    }
 
-        int groupSize = groupRepositorySet.size();
-        int groupSkip = (skip / (limit * groupSize)) * limit;
-        int groupLimit = limit;
+    /**
+     * Selects the artifacts, which are ordered after the artifact with the given sort value and <code>uuid</code>. The
+     * <code>null</code> sort values are ordered first in the ascending order, and last in the descending order.
+     */
+    private Predicate createKeysetPredicate(String property,
+                                            Order order,
+                                            Object fromValue,
+                                            String fromUuid)
+    {
+        boolean descending = Order.DESC.equals(order);
 
-        skip = skip - groupSkip;
+        // The artifacts with the same sort value, which have been consumed already.
+        Expression sameValue = fromValue == null ? ExpOperator.IS_NULL.of(property) :
+                               ExpOperator.EQ.of(property, fromValue);
+        Expression consumedUuid = (descending ? ExpOperator.GE : ExpOperator.LE).of(UUID_PROPERTY, fromUuid);
+        Predicate consumed = Predicate.of(sameValue).and(Predicate.of(consumedUuid)).nested().negated();
 
-        outer:
-        do
+        Predicate result = Predicate.empty();
+        if (fromValue == null && descending)
+        {
+            result.and(Predicate.of(ExpOperator.IS_NULL.of(property)));
+        }
+        else if (fromValue != null && descending)
         {
-            Paginator paginatorLocal = new Paginator();
-            paginatorLocal.setLimit(groupLimit);
-            paginatorLocal.setSkip(groupSkip);
-            paginatorLocal.setProperty(paginator.getProperty());
-            paginatorLocal.setOrder(paginator.getOrder());
+            result.and(Predicate.of(ExpOperator.GT.of(property, fromValue)).negated());
+        }
+        else if (fromValue != null)
+        {
+            result.and(Predicate.of(ExpOperator.GE.of(property, fromValue)));
+        }
+        result.and(consumed);
+
+        return result.nested();
+    }
 
-            groupLimit = 0;
+    private boolean containsArtifact(Repository member,
+                                     Path path)
+    {
+        return artifactEntryService.artifactExists(member.getStorage().getId(), member.getId(),
+                                                   readArtifactEntry(path).getArtifactPath());
+    }
 
-            for (Iterator<Repository> i = groupRepositorySet.iterator(); i.hasNext(); )
+    /**
+     * Reads the property (like <code>artifactCoordinates.coordinates.version</code>) of the {@link ArtifactEntry}.
+     */
+    private Object readSortValue(Path path,
+                                 String property)
+    {
+        Object value = readArtifactEntry(path);
+        for (String segment : property.split("\\."))
+        {
+            if (value == null)
             {
-                Repository r = i.next();
-                RepositoryProvider repositoryProvider = repositoryProviderRegistry.getProvider(r.getType());
-
-                List<Path> repositoryResult = repositoryProvider.search(r.getStorage().getId(), r.getId(), predicate,
-                                                                        paginatorLocal);
-                if (repositoryResult.isEmpty())
-                {
-                    i.remove();
-                    continue;
-                }
-
-                // count coordinates intersection
-                groupLimit += repositoryResult.stream()
-                                              .map(ThrowingFunction.unchecked((Path p) -> resultMap.put(getArtifactCoordinates(p), p)))
-                                              .filter(p -> p != null)
-                                              .collect(Collectors.toList())
-                                              .size();
-
-                //Break search iterations if we have reached enough list size.
-                if (resultMap.size() >= limit + skip)
-                {
-                    break outer;
-                }
+                return null;
             }
-            groupSkip += limit;
 
-            // Will iterate until there is no more coordinates intersection and
-            // there is more search results within group repositories
+            if (value instanceof Map)
+            {
+                value = ((Map<?, ?>) value).get(segment);
+                continue;
+            }
+
+            BeanWrapper beanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(value);
+            if (!beanWrapper.isReadableProperty(segment))
+            {
+                return null;
+            }
+
+            value = beanWrapper.getPropertyValue(segment);
         }
-        while (groupLimit > 0 && !groupRepositorySet.isEmpty());
 
-        LinkedList<Path> resultList = new LinkedList<>();
-        if (skip >= resultMap.size())
+        return value;
+    }
+
+    private ArtifactEntry readArtifactEntry(Path path)
+    {
+        try
         {
-            return resultList;
+            return ((RepositoryPath) path).getArtifactEntry();
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
         }
-        resultList.addAll(resultMap.values());
-
-        int toIndex = resultList.size() - skip > limit ? limit + skip : resultList.size();
-        return resultList.subList(skip, toIndex);
     }
 
-    private ArtifactCoordinates getArtifactCoordinates(Path p) throws IOException
+    private String calculateSearchKey(String storageId,
+                                      String repositoryId,
+                                      Predicate predicate,
+                                      Paginator paginator)
     {
-        return RepositoryFiles.readCoordinates((RepositoryPath) p);
+        Selector<ArtifactEntry> selector = new Selector<>(ArtifactEntry.class);
+        selector.where(predicate);
+
+        OQueryTemplate<List<ArtifactEntry>, ArtifactEntry> queryTemplate = new OQueryTemplate<>();
+
+        return String.format("%s:%s:%s:%s:%s:%s:", storageId, repositoryId,
+                             queryTemplate.calculateQueryString(selector),
+                             queryTemplate.exposeParameterMap(predicate),
+                             paginator.getProperty(), paginator.getOrder());
     }
 
     @Override
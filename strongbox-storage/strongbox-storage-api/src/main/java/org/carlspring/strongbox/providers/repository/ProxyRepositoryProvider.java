@@ -5,13 +5,20 @@ import org.carlspring.strongbox.data.criteria.Paginator;
 import org.carlspring.strongbox.data.criteria.Predicate;
 import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.domain.RemoteArtifactEntry;
+import org.carlspring.strongbox.io.LazyInputStream;
+import org.carlspring.strongbox.io.RepositoryStreamReadContext;
+import org.carlspring.strongbox.io.StreamUtils;
 import org.carlspring.strongbox.providers.io.AbstractRepositoryProvider;
+import org.carlspring.strongbox.providers.io.InFlightRepositoryStreamSupport;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathLock;
+import org.carlspring.strongbox.providers.io.RepositoryStreamSupport.RepositoryInputStream;
 import org.carlspring.strongbox.providers.repository.event.ProxyRepositoryPathExpiredEvent;
 import org.carlspring.strongbox.providers.repository.event.RemoteRepositorySearchEvent;
 import org.carlspring.strongbox.providers.repository.proxied.ProxyRepositoryArtifactResolver;
+import org.carlspring.strongbox.providers.repository.proxied.RemoteArtifactDownload;
+import org.carlspring.strongbox.providers.repository.proxied.RemoteArtifactDownload.SpoolInputStream;
 
 import javax.inject.Inject;
 import java.io.IOException;
@@ -20,6 +27,7 @@ import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 
@@ -55,6 +63,25 @@ public class ProxyRepositoryProvider
         return ALIAS;
     }
 
+    @Override
+    public RepositoryInputStream getInputStream(Path path)
+        throws IOException
+    {
+        Optional<RemoteArtifactDownload> download = Optional.ofNullable(path)
+                                                            .map(RepositoryPath.class::cast)
+                                                            .flatMap(proxyRepositoryArtifactResolver::getInFlightDownload);
+        InputStream is = download.isPresent() ? download.get().newInputStream() : null;
+        if (is == null)
+        {
+            return super.getInputStream(path);
+        }
+
+        logger.debug("Serving [{}] while it's being fetched from remote.", path);
+
+        return new InFlightRepositoryStreamSupport(this).newInputStream((RepositoryPath) path,
+                                                                        new LazyInputStream(() -> is));
+    }
+
     @Override
     protected InputStream getInputStreamInternal(RepositoryPath path)
         throws IOException
@@ -62,6 +89,52 @@ public class ProxyRepositoryProvider
         return hostedRepositoryProvider.getInputStreamInternal(path);
     }
 
+    @Override
+    public void onBeforeRead(RepositoryStreamReadContext ctx)
+        throws IOException
+    {
+        if (isInFlight(ctx))
+        {
+            // The artifact is not stored yet, the `downloading` event is dispatched once it has been read.
+            return;
+        }
+
+        super.onBeforeRead(ctx);
+    }
+
+    @Override
+    public void onAfterRead(RepositoryStreamReadContext ctx)
+    {
+        SpoolInputStream spool = StreamUtils.findSource(SpoolInputStream.class, ctx.getStream());
+        if (spool != null)
+        {
+            if (!spool.isFullyRead())
+            {
+                return;
+            }
+
+            RepositoryPath repositoryPath = (RepositoryPath) ctx.getPath();
+            try
+            {
+                if (RepositoryFiles.isArtifact(repositoryPath))
+                {
+                    artifactEventListenerRegistry.dispatchArtifactDownloadingEvent(repositoryPath);
+                }
+            }
+            catch (IOException e)
+            {
+                logger.error("Failed to dispatch downloading event for [{}].", repositoryPath, e);
+            }
+        }
+
+        super.onAfterRead(ctx);
+    }
+
+    private boolean isInFlight(RepositoryStreamReadContext ctx)
+    {
+        return StreamUtils.findSource(SpoolInputStream.class, ctx.getStream()) != null;
+    }
+
     @Override
     protected RepositoryPath fetchPath(RepositoryPath repositoryPath)
         throws IOException
@@ -70,7 +143,8 @@ public class ProxyRepositoryProvider
 
         if (targetPath == null)
         {
-            targetPath = resolvePathExclusive(repositoryPath);
+            Optional<RemoteArtifactDownload> download = proxyRepositoryArtifactResolver.getInFlightDownload(repositoryPath);
+            targetPath = download.isPresent() ? download.get().await() : resolvePathExclusive(repositoryPath);
         }
         else if (RepositoryFiles.hasExpired(targetPath))
         {
@@ -80,6 +154,64 @@ public class ProxyRepositoryProvider
         return targetPath;
     }
 
+    /**
+     * Same as {@link #fetchPath(RepositoryPath)}, but doesn't wait for the remote artifact to be completely
+     * fetched: the path is returned as soon as the remote repository has responded, and the artifact content is
+     * streamed by {@link #getInputStream(Path)} while it's being stored.
+     */
+    public RepositoryPath fetchStreamingPath(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        RepositoryPath targetPath = hostedRepositoryProvider.fetchPath(repositoryPath);
+        if (targetPath != null)
+        {
+            if (RepositoryFiles.hasExpired(targetPath))
+            {
+                eventPublisher.publishEvent(new ProxyRepositoryPathExpiredEvent(targetPath));
+            }
+
+            return targetPath;
+        }
+
+        Optional<RemoteArtifactDownload> download = proxyRepositoryArtifactResolver.getInFlightDownload(repositoryPath);
+        if (download.isPresent())
+        {
+            download.get().awaitResponse();
+
+            return repositoryPath;
+        }
+
+        ReadWriteLock lockSource = repositoryPathLock.lock(repositoryPath, "pre-remote-fetch");
+        Lock lock = lockSource.writeLock();
+        lock.lock();
+
+        try
+        {
+            targetPath = hostedRepositoryProvider.fetchPath(repositoryPath);
+            if (targetPath != null)
+            {
+                return targetPath;
+            }
+
+            return proxyRepositoryArtifactResolver.streamRemoteResource(repositoryPath) != null ? repositoryPath : null;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks whether the path is either cached locally or available from the remote repository, without fetching it,
+     * so that the path is neither stored nor the events dispatched.
+     */
+    public boolean probePath(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        return hostedRepositoryProvider.fetchPath(repositoryPath) != null ||
+               proxyRepositoryArtifactResolver.remoteResourceExists(repositoryPath);
+    }
+
     private RepositoryPath resolvePathExclusive(RepositoryPath repositoryPath)
             throws IOException
     {
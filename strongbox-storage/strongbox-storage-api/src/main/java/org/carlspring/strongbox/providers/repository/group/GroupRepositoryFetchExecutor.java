@@ -0,0 +1,175 @@
+package org.carlspring.strongbox.providers.repository.group;
+
+import org.carlspring.strongbox.util.ThrowingFunction;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Probes the group repository members concurrently, while keeping the declared order precedence of the members: the
+ * result of a member is only used once all the preceding members have been probed and have not resolved the path.
+ * <p>
+ * At most {@link #getParallelism()} members of the same group are probed at the same time, starting from the first
+ * not yet resolved member, so a hit on one of the first members doesn't trigger fetching the path from all the others.
+ * <p>
+ * The inline members are only probed by the calling thread, once all the preceding members have not resolved the
+ * path. This is meant for the members which are groups themselves (their own members are probed concurrently, so the
+ * probes never wait for each other within the shared thread pool), and for the members whose probe has side effects,
+ * like fetching the path from the remote repository.
+ * <p>
+ * The queue of the thread pool is bounded: when it's full, the probe is run by the calling thread as well.
+ */
+public class GroupRepositoryFetchExecutor
+{
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Maximum number of the members of a group to be probed at the same time.
+     */
+    private final int parallelism;
+
+    public GroupRepositoryFetchExecutor(int threads,
+                                        int parallelism,
+                                        int queueCapacity)
+    {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("group-repository-fetch-");
+        threadFactory.setDaemon(true);
+
+        this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                                               new LinkedBlockingQueue<>(queueCapacity), threadFactory,
+                                               new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * @param members the group members in the declared order
+     * @param probe   resolves the member, returns <code>null</code> if the member doesn't have the path
+     * @param inline  tells which members should only be probed by the calling thread, once all the preceding members
+     *                have not resolved the path
+     * @return the result of the first member in the declared order, which has resolved the path
+     */
+    public <T, R> R resolveFirst(List<T> members,
+                                 ThrowingFunction<T, R, IOException> probe,
+                                 Predicate<T> inline)
+            throws IOException
+    {
+        if (parallelism == 1 || members.size() == 1)
+        {
+            for (T member : members)
+            {
+                R result = probe.apply(member);
+                if (result != null)
+                {
+                    return result;
+                }
+            }
+
+            return null;
+        }
+
+        List<Future<R>> probes = new ArrayList<>(members.size());
+        try
+        {
+            for (int i = 0; i < members.size(); i++)
+            {
+                for (int j = probes.size(); j < Math.min(members.size(), i + parallelism); j++)
+                {
+                    T member = members.get(j);
+                    FutureTask<R> task = new FutureTask<>(() -> probe.apply(member));
+                    if (!inline.test(member))
+                    {
+                        submit(task);
+                    }
+
+                    probes.add(task);
+                }
+
+                R result = await((FutureTask<R>) probes.get(i));
+                if (result != null)
+                {
+                    return result;
+                }
+            }
+
+            return null;
+        }
+        finally
+        {
+            // The probes which have not been started yet are not needed any more.
+            probes.forEach(p -> p.cancel(false));
+        }
+    }
+
+    private void submit(FutureTask<?> task)
+    {
+        try
+        {
+            executor.execute(task);
+        }
+        catch (RejectedExecutionException e)
+        {
+            // The task will be run by the calling thread, once it's awaited.
+        }
+    }
+
+    private <R> R await(FutureTask<R> task)
+            throws IOException
+    {
+        // Does nothing if the task has already been started by the thread pool.
+        task.run();
+
+        try
+        {
+            return task.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new InterruptedIOException(e.getMessage());
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException)
+            {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+
+            throw new IOException(cause);
+        }
+    }
+
+    public int getParallelism()
+    {
+        return parallelism;
+    }
+
+    public void shutdown()
+    {
+        executor.shutdownNow();
+    }
+
+}
@@ -0,0 +1,150 @@
+package org.carlspring.strongbox.providers.repository.group;
+
+import org.carlspring.strongbox.data.CacheName;
+import org.carlspring.strongbox.data.cache.RegionCache;
+
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of the paths which the group repository members have recently failed to resolve, keyed by the member
+ * storage, repository and path.
+ * <p>
+ * This stops the group repositories from asking all the members (and their remotes) for the same missing path over
+ * and over again. The entries are kept within the {@link CacheName.Repository#GROUP_REPOSITORY_MISSING_PATHS} cache,
+ * so they are shared by the cluster nodes and expire after the time to live of the cache. They should be explicitly
+ * evicted as soon as the path (or a path under it) is stored into the member repository.
+ * <p>
+ * Every entry belongs to the regions of its parent directories, so the eviction of a directory evicts all the entries
+ * located under it, while the parent directories of the evicted path are evicted one by one.
+ *
+ * @see GroupRepositoryNegativeCacheEventListener
+ */
+@Component
+public class GroupRepositoryNegativeCache
+{
+
+    private static final String KEY_SEPARATOR = "/";
+
+    /**
+     * Prefix of the region of the single entry, as opposed to the region of the directory.
+     */
+    private static final String ENTRY_REGION_PREFIX = "=";
+
+    private final RegionCache<Boolean> cache;
+
+    @Inject
+    GroupRepositoryNegativeCache(CacheManager cacheManager)
+    {
+        cache = new RegionCache<>(cacheManager, CacheName.Repository.GROUP_REPOSITORY_MISSING_PATHS);
+    }
+
+    public boolean isMissing(String storageId,
+                             String repositoryId,
+                             String path)
+    {
+        return Boolean.TRUE.equals(cache.get(calculateKey(storageId, repositoryId, path),
+                                             () -> null,
+                                             calculateRegions(storageId, repositoryId, path)));
+    }
+
+    /**
+     * Resolves the path, unless it has recently been missing, and records the path as missing if the resolver returns
+     * <code>null</code>. The path stored concurrently with the resolution is not recorded as missing.
+     *
+     * @return the resolved path, or <code>null</code> if the path is missing
+     */
+    public <T> T resolve(String storageId,
+                         String repositoryId,
+                         String path,
+                         Supplier<T> resolver)
+    {
+        AtomicReference<T> result = new AtomicReference<>();
+        cache.get(calculateKey(storageId, repositoryId, path),
+                  () -> {
+                      result.set(resolver.get());
+
+                      return result.get() == null ? Boolean.TRUE : null;
+                  },
+                  calculateRegions(storageId, repositoryId, path));
+
+        return result.get();
+    }
+
+    /**
+     * Evicts the entry for the given path, its parent directories, as well as all the entries located under it (if the
+     * path is a directory).
+     */
+    public void evict(String storageId,
+                      String repositoryId,
+                      String path)
+    {
+        List<String> directories = calculateDirectories(storageId, repositoryId, path);
+
+        cache.evict(directories.get(directories.size() - 1));
+        for (String directory : directories.subList(0, directories.size() - 1))
+        {
+            cache.evict(ENTRY_REGION_PREFIX + directory);
+        }
+    }
+
+    public void clear()
+    {
+        cache.clear();
+    }
+
+    public long getHitCount()
+    {
+        return cache.getHitCount();
+    }
+
+    private static String[] calculateRegions(String storageId,
+                                             String repositoryId,
+                                             String path)
+    {
+        List<String> regions = calculateDirectories(storageId, repositoryId, path);
+        regions.add(ENTRY_REGION_PREFIX + regions.get(regions.size() - 1));
+
+        return regions.toArray(new String[regions.size()]);
+    }
+
+    /**
+     * Returns the keys of the repository root, the parent directories and the path itself, in that order.
+     */
+    private static List<String> calculateDirectories(String storageId,
+                                                     String repositoryId,
+                                                     String path)
+    {
+        List<String> result = new ArrayList<>();
+
+        StringBuilder directory = new StringBuilder(storageId).append(KEY_SEPARATOR)
+                                                              .append(repositoryId)
+                                                              .append(KEY_SEPARATOR);
+        result.add(directory.toString());
+        for (String segment : (path == null ? "" : path).split(KEY_SEPARATOR))
+        {
+            if (segment.isEmpty())
+            {
+                continue;
+            }
+
+            result.add(directory.append(segment).append(KEY_SEPARATOR).toString());
+        }
+
+        return result;
+    }
+
+    private static String calculateKey(String storageId,
+                                       String repositoryId,
+                                       String path)
+    {
+        return storageId + KEY_SEPARATOR + repositoryId + KEY_SEPARATOR + (path == null ? "" : path);
+    }
+
+}
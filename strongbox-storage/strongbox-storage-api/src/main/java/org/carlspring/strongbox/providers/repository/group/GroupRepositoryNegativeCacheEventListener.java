@@ -0,0 +1,78 @@
+package org.carlspring.strongbox.providers.repository.group;
+
+import org.carlspring.strongbox.event.artifact.ArtifactEvent;
+import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts the {@link GroupRepositoryNegativeCache} entries of the paths which have been stored into the repositories.
+ */
+@Component
+public class GroupRepositoryNegativeCacheEventListener
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupRepositoryNegativeCacheEventListener.class);
+
+    private static final Set<Integer> EVICTION_EVENT_TYPES = Arrays.asList(ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_STORED,
+                                                                           ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_UPDATED,
+                                                                           ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_FETCHED_FROM_REMOTE,
+                                                                           ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_COPIED,
+                                                                           ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_MOVED,
+                                                                           ArtifactEventTypeEnum.EVENT_ARTIFACT_METADATA_STORED)
+                                                                   .stream()
+                                                                   .map(ArtifactEventTypeEnum::getType)
+                                                                   .collect(Collectors.toSet());
+
+    @Inject
+    private GroupRepositoryNegativeCache groupRepositoryNegativeCache;
+
+    @EventListener
+    public void handle(ArtifactEvent<Path> event)
+    {
+        if (!EVICTION_EVENT_TYPES.contains(event.getType()))
+        {
+            return;
+        }
+
+        evict(event.getPath());
+        evict(event.getTargetPath());
+    }
+
+    private void evict(Path path)
+    {
+        if (!(path instanceof RepositoryPath))
+        {
+            return;
+        }
+
+        RepositoryPath repositoryPath = (RepositoryPath) path;
+        Repository repository = repositoryPath.getRepository();
+        try
+        {
+            groupRepositoryNegativeCache.evict(repository.getStorage().getId(),
+                                               repository.getId(),
+                                               RepositoryFiles.relativizePath(repositoryPath));
+        }
+        catch (IOException e)
+        {
+            logger.warn("Failed to evict the missing path [{}], clearing the whole cache.", path, e);
+
+            groupRepositoryNegativeCache.clear();
+        }
+    }
+
+}
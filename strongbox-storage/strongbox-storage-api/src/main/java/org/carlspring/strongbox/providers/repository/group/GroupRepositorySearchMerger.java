@@ -0,0 +1,290 @@
+package org.carlspring.strongbox.providers.repository.group;
+
+import org.carlspring.strongbox.data.criteria.Paginator;
+import org.carlspring.strongbox.data.criteria.Paginator.Order;
+import org.carlspring.strongbox.providers.repository.group.GroupRepositorySearchToken.MemberPosition;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Streaming k-way merge of the group member search results.
+ * <p>
+ * Each member is queried for the results sorted by the same value, and then by the record identifier, which is unique
+ * within the member, in batches starting right after the last result consumed from the member (keyset pagination), and
+ * the member results are merged by the sort value. The results with
+ * the same sort value are ordered by the declared order of the members, and the results with the same identity (the
+ * same artifact available within several members) are only returned once, from the first member. If the sort value
+ * differs within the members (for example, the download count), the {@link MemberLookup} tells whether the result is
+ * available within the preceding member, which returns it instead.
+ * <p>
+ * The page is returned along with the {@link GroupRepositorySearchToken} of the next page, so the cost of a page
+ * doesn't depend on the number of the previous pages.
+ */
+public class GroupRepositorySearchMerger<T>
+{
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static final Comparator<Object> VALUE_COMPARATOR = (v1, v2) -> {
+        if (v1 instanceof Comparable && v1.getClass().isInstance(v2))
+        {
+            return ((Comparable) v1).compareTo(v2);
+        }
+
+        return v1.toString().compareTo(v2.toString());
+    };
+
+    private final List<String> members;
+
+    private final MemberQuery<T> memberQuery;
+
+    private final Function<T, Object> sortValue;
+
+    private final Function<T, String> recordId;
+
+    private final Function<T, String> identity;
+
+    private final MemberLookup<T> memberLookup;
+
+    private final Comparator<Object> valueComparator;
+
+    /**
+     * @param members     the group members in the declared order
+     * @param memberQuery queries the member results
+     * @param sortValue   the value the member results are sorted by
+     * @param recordId    the identifier of the result, unique within the member
+     * @param identity    the identity of the result, the same across the members
+     * @param order       the sort order
+     */
+    public GroupRepositorySearchMerger(List<String> members,
+                                       MemberQuery<T> memberQuery,
+                                       Function<T, Object> sortValue,
+                                       Function<T, String> recordId,
+                                       Function<T, String> identity,
+                                       Order order)
+    {
+        this(members, memberQuery, sortValue, recordId, identity, null, order);
+    }
+
+    /**
+     * @param members      the group members in the declared order
+     * @param memberQuery  queries the member results
+     * @param sortValue    the value the member results are sorted by
+     * @param recordId     the identifier of the result, unique within the member
+     * @param identity     the identity of the result, the same across the members
+     * @param memberLookup looks up the result within the member, or <code>null</code> if the results with the same
+     *                     identity have the same sort value
+     * @param order        the sort order
+     */
+    public GroupRepositorySearchMerger(List<String> members,
+                                       MemberQuery<T> memberQuery,
+                                       Function<T, Object> sortValue,
+                                       Function<T, String> recordId,
+                                       Function<T, String> identity,
+                                       MemberLookup<T> memberLookup,
+                                       Order order)
+    {
+        this.members = members;
+        this.memberQuery = memberQuery;
+        this.sortValue = sortValue;
+        this.recordId = recordId;
+        this.identity = identity;
+        this.memberLookup = memberLookup;
+        this.valueComparator = Order.DESC.equals(order) ? Comparator.nullsLast(VALUE_COMPARATOR.reversed()) :
+                               Comparator.nullsFirst(VALUE_COMPARATOR);
+    }
+
+    /**
+     * @param token the token of the page, or <code>null</code> for the first page
+     * @param skip  the number of the results to skip, starting from the token
+     * @param limit the page size
+     */
+    public GroupRepositorySearchPage<T> fetch(GroupRepositorySearchToken token,
+                                              int skip,
+                                              int limit)
+    {
+        int batchSize = Math.max(1, Math.min(Paginator.MAX_LIMIT, skip + limit));
+
+        List<MemberCursor> cursors = new ArrayList<>(members.size());
+        PriorityQueue<MemberCursor> queue = new PriorityQueue<>(Math.max(1, members.size()),
+                                                                Comparator.comparing((MemberCursor c) -> c.peekValue,
+                                                                                     valueComparator)
+                                                                          .thenComparingInt(c -> c.index));
+        for (int i = 0; i < members.size(); i++)
+        {
+            String member = members.get(i);
+            MemberCursor cursor = new MemberCursor(i, member,
+                                                   token == null ? MemberPosition.START : token.getPosition(member),
+                                                   batchSize);
+            cursors.add(cursor);
+
+            if (cursor.peek() != null)
+            {
+                queue.add(cursor);
+            }
+        }
+
+        Object lastValue = token == null ? null : token.getLastValue();
+        Set<String> lastValueIdentities = token == null ? new HashSet<>() :
+                                          new HashSet<>(token.getLastValueIdentities());
+
+        List<T> results = new ArrayList<>(limit);
+        while (results.size() < limit && !queue.isEmpty())
+        {
+            MemberCursor cursor = queue.poll();
+            T result = cursor.poll();
+            if (cursor.peek() != null)
+            {
+                queue.add(cursor);
+            }
+
+            Object value = sortValue.apply(result);
+            if (lastValueIdentities.isEmpty() || valueComparator.compare(value, lastValue) != 0)
+            {
+                lastValue = value;
+                lastValueIdentities.clear();
+            }
+
+            // The same artifact from the next member.
+            if (!lastValueIdentities.add(identity.apply(result)) || isAvailableWithinPrecedingMember(cursor, result))
+            {
+                continue;
+            }
+
+            if (skip > 0)
+            {
+                skip--;
+                continue;
+            }
+
+            results.add(result);
+        }
+
+        if (queue.isEmpty())
+        {
+            return new GroupRepositorySearchPage<>(results, null);
+        }
+
+        Map<String, MemberPosition> positions = new HashMap<>();
+        cursors.forEach(c -> positions.put(c.member, c.getPosition()));
+
+        return new GroupRepositorySearchPage<>(results,
+                                               new GroupRepositorySearchToken(positions, lastValue,
+                                                                              lastValueIdentities));
+    }
+
+    private boolean isAvailableWithinPrecedingMember(MemberCursor cursor,
+                                                     T result)
+    {
+        return memberLookup != null && members.subList(0, cursor.index)
+                                              .stream()
+                                              .anyMatch(member -> memberLookup.contains(member, result));
+    }
+
+    private class MemberCursor
+    {
+
+        private final int index;
+
+        private final String member;
+
+        private final int batchSize;
+
+        private final Deque<T> buffer = new ArrayDeque<>();
+
+        private Object lastValue;
+
+        private String lastRecordId;
+
+        private boolean exhausted;
+
+        private Object peekValue;
+
+        private MemberCursor(int index,
+                             String member,
+                             MemberPosition position,
+                             int batchSize)
+        {
+            this.index = index;
+            this.member = member;
+            this.batchSize = batchSize;
+            this.lastValue = position.lastValue;
+            this.lastRecordId = position.lastRecordId;
+            this.exhausted = position.exhausted;
+        }
+
+        private T peek()
+        {
+            if (buffer.isEmpty() && !exhausted)
+            {
+                List<T> batch = memberQuery.fetch(member, lastValue, lastRecordId, batchSize);
+                buffer.addAll(batch);
+                exhausted = batch.size() < batchSize;
+            }
+
+            T result = buffer.peek();
+            peekValue = result == null ? null : sortValue.apply(result);
+
+            return result;
+        }
+
+        private T poll()
+        {
+            T result = buffer.poll();
+
+            lastValue = sortValue.apply(result);
+            lastRecordId = recordId.apply(result);
+
+            return result;
+        }
+
+        private MemberPosition getPosition()
+        {
+            // The buffered results have not been returned, so they will be queried once again.
+            return new MemberPosition(lastValue, lastRecordId, exhausted && buffer.isEmpty());
+        }
+
+    }
+
+    @FunctionalInterface
+    public interface MemberQuery<T>
+    {
+
+        /**
+         * @param member       the group member
+         * @param fromValue    the sort value of the last consumed result
+         * @param fromRecordId the record identifier of the last consumed result, or <code>null</code> to start from
+         *                     the beginning
+         * @param limit        the maximum number of the results
+         * @return the member results after the last consumed result, sorted by the sort value and then by the record
+         *         identifier
+         */
+        List<T> fetch(String member,
+                      Object fromValue,
+                      String fromRecordId,
+                      int limit);
+
+    }
+
+    @FunctionalInterface
+    public interface MemberLookup<T>
+    {
+
+        /**
+         * @return <code>true</code> if the result (of the other member) is available within the given member.
+         */
+        boolean contains(String member,
+                         T result);
+
+    }
+
+}
@@ -0,0 +1,32 @@
+package org.carlspring.strongbox.providers.repository.group;
+
+import java.util.List;
+
+public class GroupRepositorySearchPage<T>
+{
+
+    private final List<T> results;
+
+    private final GroupRepositorySearchToken nextToken;
+
+    public GroupRepositorySearchPage(List<T> results,
+                                     GroupRepositorySearchToken nextToken)
+    {
+        this.results = results;
+        this.nextToken = nextToken;
+    }
+
+    public List<T> getResults()
+    {
+        return results;
+    }
+
+    /**
+     * @return the token of the next page, or <code>null</code> if there are no more results
+     */
+    public GroupRepositorySearchToken getNextToken()
+    {
+        return nextToken;
+    }
+
+}
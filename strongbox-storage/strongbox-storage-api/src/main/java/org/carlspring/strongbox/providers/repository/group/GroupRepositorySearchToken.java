@@ -0,0 +1,87 @@
+package org.carlspring.strongbox.providers.repository.group;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keyset continuation token of the group repository search: the position of each group member (the sort value and the
+ * record identifier of the last returned member result), so that the next page is queried from the members starting
+ * right after the previous page, instead of skipping all the previous pages.
+ * <p>
+ * The identities of the results returned with the last sort value are kept as well, so that the results which are
+ * available within several members are not returned on the next page once again.
+ * <p>
+ * The token is {@link Serializable}, so that it could be kept within the cluster wide cache.
+ *
+ *
+ * @see GroupRepositorySearchMerger
+ */
+public class GroupRepositorySearchToken
+        implements Serializable
+{
+
+    private final Map<String, MemberPosition> positions;
+
+    private final Object lastValue;
+
+    private final Set<String> lastValueIdentities;
+
+    GroupRepositorySearchToken(Map<String, MemberPosition> positions,
+                               Object lastValue,
+                               Set<String> lastValueIdentities)
+    {
+        this.positions = Collections.unmodifiableMap(new HashMap<>(positions));
+        this.lastValue = lastValue;
+        this.lastValueIdentities = Collections.unmodifiableSet(new HashSet<>(lastValueIdentities));
+    }
+
+    MemberPosition getPosition(String member)
+    {
+        return positions.getOrDefault(member, MemberPosition.START);
+    }
+
+    Object getLastValue()
+    {
+        return lastValue;
+    }
+
+    Set<String> getLastValueIdentities()
+    {
+        return lastValueIdentities;
+    }
+
+    static class MemberPosition
+            implements Serializable
+    {
+
+        static final MemberPosition START = new MemberPosition(null, null, false);
+
+        /**
+         * The sort value of the last returned member result.
+         */
+        final Object lastValue;
+
+        /**
+         * The record identifier of the last returned member result, which orders the member results with the same
+         * {@link #lastValue}, or <code>null</code> if no member result has been returned yet.
+         */
+        final String lastRecordId;
+
+        final boolean exhausted;
+
+        MemberPosition(Object lastValue,
+                       String lastRecordId,
+                       boolean exhausted)
+        {
+            this.lastValue = lastValue;
+            this.lastRecordId = lastRecordId;
+            this.exhausted = exhausted;
+        }
+
+    }
+
+}
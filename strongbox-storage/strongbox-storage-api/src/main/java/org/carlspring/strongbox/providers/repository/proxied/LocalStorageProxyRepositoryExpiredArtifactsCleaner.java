@@ -1,7 +1,6 @@
 package org.carlspring.strongbox.providers.repository.proxied;
 
 import org.carlspring.strongbox.configuration.ConfigurationManager;
-import org.carlspring.strongbox.data.service.support.search.PagingCriteria;
 import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
@@ -15,17 +14,25 @@ import org.carlspring.strongbox.storage.repository.remote.heartbeat.RemoteReposi
 
 import javax.inject.Inject;
 import java.io.IOException;
-import java.util.Iterator;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
-import org.apache.commons.collections4.CollectionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import static org.carlspring.strongbox.services.support.ArtifactEntrySearchCriteria.Builder.anArtifactEntrySearchCriteria;
 
 /**
+ * Removes the expired artifacts from the local storage of the proxy repositories.
+ * <p>
+ * The expired {@link ArtifactEntry} records are streamed in keyset paged batches, and each batch is removed within its
+ * own transaction, so the cleanup runs in constant memory regardless of the proxy cache size.
+ *
  * @author Przemyslaw Fusik
  */
 @Component
@@ -49,9 +56,17 @@ public class LocalStorageProxyRepositoryExpiredArtifactsCleaner
     @Inject
     private ArtifactManagementService artifactManagementService;
 
-    @Transactional(rollbackFor = Exception.class)
-    public void cleanup(final Integer lastAccessedTimeInDays,
-                        final Long minSizeInBytes)
+    @Inject
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Maximum number of {@link ArtifactEntry} records to be removed within one transaction.
+     */
+    @Value("${strongbox.proxyRepositoryCleanup.batchSize:100}")
+    private int batchSize;
+
+    public CleanupStatistics cleanup(final Integer lastAccessedTimeInDays,
+                                     final Long minSizeInBytes)
             throws IOException
     {
         final ArtifactEntrySearchCriteria searchCriteria = anArtifactEntrySearchCriteria()
@@ -59,64 +74,136 @@ public class LocalStorageProxyRepositoryExpiredArtifactsCleaner
                                                                    .withMinSizeInBytes(minSizeInBytes)
                                                                    .build();
 
-        final List<ArtifactEntry> artifactEntries = artifactEntryService.findMatching(searchCriteria,
-                                                                                      PagingCriteria.ALL);
-        filterAccessibleProxiedArtifacts(artifactEntries);
+        final CleanupStatistics statistics = new CleanupStatistics();
+        final Map<String, Boolean> cleanableRepositories = new HashMap<>();
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
 
-        if (CollectionUtils.isEmpty(artifactEntries))
+        String uuidAfter = null;
+        try
+        {
+            do
+            {
+                final String batchUuidAfter = uuidAfter;
+                uuidAfter = transactionTemplate.execute(t -> cleanupBatch(searchCriteria, batchUuidAfter,
+                                                                          cleanableRepositories, statistics));
+            }
+            while (uuidAfter != null);
+        }
+        catch (UncheckedIOException e)
         {
-            return;
+            throw e.getCause();
+        }
+        finally
+        {
+            logger.info("Removed [{}] expired artifacts ([{}] bytes) from the proxy repositories.",
+                        statistics.getDeletedCount(), statistics.getDeletedBytes());
         }
 
-        logger.debug("Cleaning artifacts {}", artifactEntries);
-        deleteFromStorage(artifactEntries);
+        return statistics;
     }
 
-    private void filterAccessibleProxiedArtifacts(final List<ArtifactEntry> artifactEntries)
+    /**
+     * @return the `uuid` of the last examined record, or <code>null</code> if there are no more records
+     */
+    private String cleanupBatch(final ArtifactEntrySearchCriteria searchCriteria,
+                                final String uuidAfter,
+                                final Map<String, Boolean> cleanableRepositories,
+                                final CleanupStatistics statistics)
     {
-        if (CollectionUtils.isEmpty(artifactEntries))
+        final List<ArtifactEntry> artifactEntries = artifactEntryService.findMatching(searchCriteria, uuidAfter,
+                                                                                      batchSize);
+        if (artifactEntries.isEmpty())
         {
-            return;
+            return null;
         }
-        for (final Iterator<ArtifactEntry> it = artifactEntries.iterator(); it.hasNext(); )
+
+        String lastUuid = null;
+        for (final ArtifactEntry artifactEntry : artifactEntries)
         {
-            final ArtifactEntry artifactEntry = it.next();
+            lastUuid = artifactEntry.getUuid();
+
             final Storage storage = configurationManager.getConfiguration().getStorage(artifactEntry.getStorageId());
             final Repository repository = storage.getRepository(artifactEntry.getRepositoryId());
-            if (!repository.isProxyRepository())
+            final String repositoryKey = storage.getId() + ":" + repository.getId();
+            if (!cleanableRepositories.computeIfAbsent(repositoryKey, k -> isCleanable(repository)))
             {
-                it.remove();
                 continue;
             }
-            final RemoteRepository remoteRepository = repository.getRemoteRepository();
-            if (remoteRepository == null)
+
+            logger.debug("Cleaning artifact {}", artifactEntry);
+
+            final Long sizeInBytes = artifactEntry.getSizeInBytes();
+            try
             {
-                logger.warn("Repository {} is not associated with remote repository", repository.getId());
-                it.remove();
-                continue;
+                deleteFromStorage(repository, artifactEntry);
             }
-            if (!remoteRepositoryAlivenessCacheManager.isAlive(remoteRepository))
+            catch (IOException e)
             {
-                logger.warn("Remote repository {} is down. Artifacts won't be cleaned up.", remoteRepository.getUrl());
-                it.remove();
-                continue;
+                throw new UncheckedIOException(e);
             }
+
+            statistics.deletedCount++;
+            statistics.deletedBytes += sizeInBytes != null ? sizeInBytes : 0;
+        }
+
+        return artifactEntries.size() < batchSize ? null : lastUuid;
+    }
+
+    /**
+     * The artifacts are removed only from the proxy repositories, which remote repositories are alive, so they could
+     * be downloaded again.
+     */
+    private boolean isCleanable(final Repository repository)
+    {
+        if (!repository.isProxyRepository())
+        {
+            return false;
+        }
+        final RemoteRepository remoteRepository = repository.getRemoteRepository();
+        if (remoteRepository == null)
+        {
+            logger.warn("Repository {} is not associated with remote repository", repository.getId());
+            return false;
+        }
+        if (!remoteRepositoryAlivenessCacheManager.isAlive(remoteRepository))
+        {
+            logger.warn("Remote repository {} is down. Artifacts won't be cleaned up.", remoteRepository.getUrl());
+            return false;
         }
 
+        return true;
     }
 
-    private void deleteFromStorage(final List<ArtifactEntry> artifactEntries)
+    private void deleteFromStorage(final Repository repository,
+                                   final ArtifactEntry artifactEntry)
             throws IOException
     {
-        for (final ArtifactEntry artifactEntry : artifactEntries)
+        // The path holds the entry, so it's not looked up again to be removed along with the artifact.
+        RepositoryPath repositoryPath = repositoryPathResolver.resolve(repository).resolve(artifactEntry);
+
+        artifactManagementService.delete(repositoryPath, true);
+    }
+
+    /**
+     * The counters of the single cleanup run.
+     */
+    public static class CleanupStatistics
+    {
+
+        private long deletedCount;
+
+        private long deletedBytes;
+
+        public long getDeletedCount()
         {
-            final Storage storage = configurationManager.getConfiguration().getStorage(artifactEntry.getStorageId());
-            final Repository repository = storage.getRepository(artifactEntry.getRepositoryId());
-            
-            RepositoryPath repositoryPath = repositoryPathResolver.resolve(repository).resolve(artifactEntry);
+            return deletedCount;
+        }
 
-            artifactManagementService.delete(repositoryPath, true);
+        public long getDeletedBytes()
+        {
+            return deletedBytes;
         }
+
     }
 
 }
@@ -3,10 +3,21 @@ package org.carlspring.strongbox.providers.repository.proxied;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
 import java.nio.file.Files;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 
 import org.carlspring.strongbox.client.RestArtifactResolver;
@@ -20,6 +31,8 @@ import org.carlspring.strongbox.storage.repository.remote.RemoteRepository;
 import org.carlspring.strongbox.storage.repository.remote.heartbeat.RemoteRepositoryAlivenessService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
 /**
@@ -45,6 +58,45 @@ public class ProxyRepositoryArtifactResolver
     @Inject
     private ArtifactManagementService artifactManagementService;
 
+    /**
+     * Downloads which are currently in progress on this node, so that concurrent requests for the same path are
+     * attached to the existing download instead of fetching the same remote resource again.
+     */
+    private final Map<URI, RemoteArtifactDownload> inFlightDownloads = new ConcurrentHashMap<>();
+
+    /**
+     * Maximum number of the remote resources which are fetched in background at the same time.
+     */
+    @Value("${strongbox.remoteFetch.threads:16}")
+    private int threads;
+
+    /**
+     * Maximum number of the background fetches waiting for a free thread, the fetches beyond it are done by the
+     * requesting thread itself.
+     */
+    @Value("${strongbox.remoteFetch.queueCapacity:256}")
+    private int queueCapacity;
+
+    /**
+     * How long (in milliseconds) the clients reading the in-flight download wait for the new bytes.
+     */
+    @Value("${strongbox.remoteFetch.readTimeout:60000}")
+    private long readTimeout;
+
+    private ThreadPoolExecutor downloadExecutor;
+
+    @PostConstruct
+    public void init()
+    {
+        downloadExecutor = new ThreadPoolExecutor(threads,
+                                                  threads,
+                                                  60L,
+                                                  TimeUnit.SECONDS,
+                                                  new ArrayBlockingQueue<>(queueCapacity),
+                                                  createThreadFactory());
+        downloadExecutor.allowCoreThreadTimeOut(true);
+    }
+
     /**
      * This method has been developed to force fetch resource from remote.
      *
@@ -54,6 +106,71 @@ public class ProxyRepositoryArtifactResolver
      */
     public RepositoryPath fetchRemoteResource(RepositoryPath repositoryPath)
         throws IOException
+    {
+        RemoteArtifactDownload download = startDownload(repositoryPath, false);
+        if (download == null)
+        {
+            return null;
+        }
+
+        return download.await();
+    }
+
+    /**
+     * Starts fetching the resource from remote in background (or attaches to the download which is already in
+     * progress), and returns as soon as the remote repository has responded. The artifact content can be read with
+     * {@link RemoteArtifactDownload#newInputStream()} while it's being stored.
+     */
+    public RemoteArtifactDownload streamRemoteResource(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        RemoteArtifactDownload download = startDownload(repositoryPath, true);
+        if (download == null)
+        {
+            return null;
+        }
+
+        download.awaitResponse();
+
+        return download;
+    }
+
+    /**
+     * Checks whether the remote repository has the resource, without fetching it (see
+     * {@link RemoteArtifactStreamFetcher#exists(RepositoryPath)}).
+     *
+     * @return <code>false</code> if the remote repository is down or doesn't have the resource
+     */
+    public boolean remoteResourceExists(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        if (getInFlightDownload(repositoryPath).isPresent())
+        {
+            return true;
+        }
+
+        Repository repository = repositoryPath.getFileSystem().getRepository();
+        final RemoteRepository remoteRepository = repository.getRemoteRepository();
+        if (!remoteRepositoryAlivenessCacheManager.isAlive(remoteRepository))
+        {
+            logger.debug("Remote repository '{}' is down.", remoteRepository.getUrl());
+
+            return false;
+        }
+
+        RestArtifactResolver client = restArtifactResolverFactory.newInstance(remoteRepository);
+
+        return new RemoteArtifactStreamFetcher(client).exists(repositoryPath);
+    }
+
+    public Optional<RemoteArtifactDownload> getInFlightDownload(RepositoryPath repositoryPath)
+    {
+        return Optional.ofNullable(inFlightDownloads.get(repositoryPath.toUri()));
+    }
+
+    private RemoteArtifactDownload startDownload(RepositoryPath repositoryPath,
+                                                 boolean async)
+        throws IOException
     {
         Repository repository = repositoryPath.getFileSystem().getRepository();
         final RemoteRepository remoteRepository = repository.getRemoteRepository();
@@ -64,7 +181,47 @@ public class ProxyRepositoryArtifactResolver
             return null;
         }
 
+        // The download is created only if there is no in-flight download of the same path.
+        AtomicReference<RemoteArtifactDownload> started = new AtomicReference<>();
+        RemoteArtifactDownload download = inFlightDownloads.computeIfAbsent(repositoryPath.toUri(), k -> {
+            RemoteArtifactDownload newDownload = new RemoteArtifactDownload(repositoryPath, readTimeout);
+            started.set(newDownload);
+
+            return newDownload;
+        });
+        if (started.get() == null)
+        {
+            logger.debug("Attached to in-flight download of [{}].", repositoryPath);
+
+            return download;
+        }
+
         RestArtifactResolver client = restArtifactResolverFactory.newInstance(remoteRepository);
+        if (!async)
+        {
+            download(download, client);
+
+            return download;
+        }
+
+        try
+        {
+            downloadExecutor.execute(() -> download(download, client));
+        }
+        catch (RejectedExecutionException e)
+        {
+            logger.debug("Too many downloads in progress, fetch [{}] within the requesting thread.", repositoryPath);
+
+            download(download, client);
+        }
+
+        return download;
+    }
+
+    private void download(RemoteArtifactDownload download,
+                          RestArtifactResolver client)
+    {
+        RepositoryPath repositoryPath = download.getRepositoryPath();
 
         ReadWriteLock lockSource = repositoryPathLock.lock(repositoryPath, "remote-fetch");
         Lock lock = lockSource.writeLock();
@@ -72,24 +229,34 @@ public class ProxyRepositoryArtifactResolver
 
         try (InputStream is = new BufferedInputStream(new ProxyRepositoryInputStream(client, repositoryPath)))
         {
-            return doFetch(repositoryPath, is);
+            download.complete(doFetch(repositoryPath, is, download));
+        }
+        catch (Throwable e)
+        {
+            logger.debug("Failed to fetch [{}] from remote.", repositoryPath, e);
+
+            download.fail(e);
         }
         finally
         {
             lock.unlock();
+            inFlightDownloads.remove(repositoryPath.toUri(), download);
         }
     }
 
     private RepositoryPath doFetch(RepositoryPath repositoryPath,
-                                   InputStream is)
+                                   InputStream is,
+                                   RemoteArtifactDownload download)
         throws IOException
     {
         //We need this to force initialize lazy connection to remote repository.
         int available = is.available();
         logger.debug("Got [{}] available bytes for [{}].", available, repositoryPath);
         
+        InputStream tee = download.tee(is);
+        download.onResponse();
         
-        RepositoryPath result = onSuccessfulProxyRepositoryResponse(is, repositoryPath);
+        RepositoryPath result = onSuccessfulProxyRepositoryResponse(tee, repositoryPath);
         
         RepositoryFileAttributes artifactFileAttributes = Files.readAttributes(repositoryPath,
                                                                                RepositoryFileAttributes.class);
@@ -115,4 +282,18 @@ public class ProxyRepositoryArtifactResolver
         return repositoryPath;
     }
 
+    @PreDestroy
+    public void shutdown()
+    {
+        downloadExecutor.shutdownNow();
+    }
+
+    private static CustomizableThreadFactory createThreadFactory()
+    {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("remote-fetch-");
+        threadFactory.setDaemon(true);
+
+        return threadFactory;
+    }
+
 }
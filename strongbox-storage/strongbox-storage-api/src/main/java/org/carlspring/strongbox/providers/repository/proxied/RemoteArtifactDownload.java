@@ -0,0 +1,396 @@
+package org.carlspring.strongbox.providers.repository.proxied;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.SocketTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.commons.io.input.TeeInputStream;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Represents the remote artifact which is being fetched by the {@link ProxyRepositoryArtifactResolver}.
+ * <p>
+ * The fetched bytes are written into the repository and, at the same time, into a spool file within the temporary
+ * directory of the repository, so that the clients which have requested the same path can read the artifact content
+ * while it's still being downloaded, instead of waiting for the whole download to complete. The spool file is created
+ * only once the remote repository has responded, and it's deleted as soon as the download has completed and all its
+ * readers have been closed.
+ */
+public class RemoteArtifactDownload
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(RemoteArtifactDownload.class);
+
+    private final RepositoryPath repositoryPath;
+
+    /**
+     * How long (in milliseconds) the reader waits for the new bytes, before it gives up.
+     */
+    private final long readTimeout;
+
+    private Path spoolPath;
+
+    private OutputStream spoolOutputStream;
+
+    private long bytesWritten;
+
+    private boolean responded;
+
+    private boolean completed;
+
+    private boolean released;
+
+    private int readers;
+
+    private Throwable failure;
+
+    private RepositoryPath result;
+
+    public RemoteArtifactDownload(RepositoryPath repositoryPath,
+                                  long readTimeout)
+    {
+        this.repositoryPath = repositoryPath;
+        this.readTimeout = readTimeout;
+    }
+
+    public RepositoryPath getRepositoryPath()
+    {
+        return repositoryPath;
+    }
+
+    /**
+     * Wraps the remote {@link InputStream}, so that all the bytes read from it are also written into the spool.
+     */
+    synchronized InputStream tee(InputStream is)
+        throws IOException
+    {
+        spoolPath = RepositoryFiles.createTempFile(repositoryPath, ".spool");
+        spoolOutputStream = new SpoolOutputStream(Files.newOutputStream(spoolPath));
+
+        return new TeeInputStream(is, spoolOutputStream);
+    }
+
+    synchronized void onResponse()
+    {
+        responded = true;
+        notifyAll();
+    }
+
+    synchronized void complete(RepositoryPath result)
+    {
+        this.result = result;
+        this.completed = true;
+
+        closeSpool();
+    }
+
+    synchronized void fail(Throwable failure)
+    {
+        this.failure = failure;
+        this.completed = true;
+
+        closeSpool();
+    }
+
+    private void closeSpool()
+    {
+        try
+        {
+            if (spoolOutputStream != null)
+            {
+                spoolOutputStream.close();
+            }
+        }
+        catch (IOException e)
+        {
+            logger.warn("Failed to close spool for [{}].", repositoryPath, e);
+        }
+
+        notifyAll();
+        releaseIfUnused();
+    }
+
+    private synchronized void onWrite(int n)
+    {
+        bytesWritten += n;
+        notifyAll();
+    }
+
+    public synchronized boolean isCompleted()
+    {
+        return completed;
+    }
+
+    /**
+     * Waits until the remote repository has responded, so that the download has actually started.
+     *
+     * @throws IOException if the remote artifact can't be fetched (for example it doesn't exist).
+     */
+    public synchronized void awaitResponse()
+        throws IOException
+    {
+        while (!responded && !completed)
+        {
+            doWait(0);
+        }
+
+        if (failure != null)
+        {
+            throw propagate(failure);
+        }
+    }
+
+    /**
+     * Waits until the download has completed.
+     *
+     * @return the stored {@link RepositoryPath}
+     * @throws IOException if the download has failed.
+     */
+    public synchronized RepositoryPath await()
+        throws IOException
+    {
+        while (!completed)
+        {
+            doWait(0);
+        }
+
+        if (failure != null)
+        {
+            throw propagate(failure);
+        }
+
+        return result;
+    }
+
+    /**
+     * Opens the {@link InputStream} to read the artifact content while it's being downloaded.
+     *
+     * @return the spool {@link InputStream}, or <code>null</code> if the download has already completed and the
+     *         stored artifact should be read instead.
+     */
+    public synchronized InputStream newInputStream()
+        throws IOException
+    {
+        if (released || spoolPath == null)
+        {
+            return null;
+        }
+
+        InputStream result = new SpoolInputStream(Files.newInputStream(spoolPath));
+        readers++;
+
+        return result;
+    }
+
+    private synchronized void onReaderClosed()
+    {
+        readers--;
+        releaseIfUnused();
+    }
+
+    private void releaseIfUnused()
+    {
+        if (!completed || readers > 0 || released)
+        {
+            return;
+        }
+
+        released = true;
+        if (spoolPath == null)
+        {
+            return;
+        }
+
+        try
+        {
+            Files.deleteIfExists(spoolPath);
+        }
+        catch (IOException e)
+        {
+            logger.warn("Failed to delete spool [{}] for [{}].", spoolPath, repositoryPath, e);
+        }
+    }
+
+    private void doWait(long timeout)
+        throws InterruptedIOException
+    {
+        try
+        {
+            wait(timeout);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new InterruptedIOException(String.format("Interrupted while waiting for [%s].", repositoryPath));
+        }
+    }
+
+    private static IOException propagate(Throwable failure)
+    {
+        if (failure instanceof IOException)
+        {
+            return (IOException) failure;
+        }
+        if (failure instanceof RuntimeException)
+        {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error)
+        {
+            throw (Error) failure;
+        }
+
+        return new IOException(failure);
+    }
+
+    private class SpoolOutputStream extends FilterOutputStream
+    {
+
+        public SpoolOutputStream(OutputStream out)
+        {
+            super(out);
+        }
+
+        @Override
+        public void write(int b)
+            throws IOException
+        {
+            out.write(b);
+            onWrite(1);
+        }
+
+        @Override
+        public void write(byte[] b,
+                          int off,
+                          int len)
+            throws IOException
+        {
+            out.write(b, off, len);
+            onWrite(len);
+        }
+
+    }
+
+    /**
+     * Tails the spool file, waiting for new bytes until the download has completed. If no new bytes have been written
+     * within the read timeout, the read fails with the {@link SocketTimeoutException}, so that the stalled download
+     * doesn't hold the reader forever.
+     */
+    public class SpoolInputStream extends InputStream
+    {
+
+        private final InputStream in;
+
+        private long position;
+
+        private boolean closed;
+
+        public SpoolInputStream(InputStream in)
+        {
+            this.in = in;
+        }
+
+        @Override
+        public int read()
+            throws IOException
+        {
+            byte[] b = new byte[1];
+            int n = read(b, 0, 1);
+
+            return n == -1 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b,
+                        int off,
+                        int len)
+            throws IOException
+        {
+            if (len == 0)
+            {
+                return 0;
+            }
+
+            while (true)
+            {
+                synchronized (RemoteArtifactDownload.this)
+                {
+                    long deadline = System.currentTimeMillis() + readTimeout;
+                    while (position >= bytesWritten && !completed)
+                    {
+                        long remaining = deadline - System.currentTimeMillis();
+                        if (readTimeout > 0 && remaining <= 0)
+                        {
+                            throw new SocketTimeoutException(
+                                    String.format("No bytes of [%s] have been fetched within [%s] ms.",
+                                                  repositoryPath, readTimeout));
+                        }
+
+                        doWait(readTimeout > 0 ? remaining : 0);
+                    }
+
+                    if (failure != null)
+                    {
+                        throw new IOException(String.format("Failed to fetch [%s] from remote.", repositoryPath),
+                                              failure);
+                    }
+
+                    if (position >= bytesWritten)
+                    {
+                        return -1;
+                    }
+                }
+
+                int n = in.read(b, off, len);
+                if (n > 0)
+                {
+                    position += n;
+
+                    return n;
+                }
+            }
+        }
+
+        /**
+         * @return <code>true</code> if the whole artifact has been read.
+         */
+        public boolean isFullyRead()
+        {
+            synchronized (RemoteArtifactDownload.this)
+            {
+                return completed && failure == null && position >= bytesWritten;
+            }
+        }
+
+        @Override
+        public void close()
+            throws IOException
+        {
+            if (closed)
+            {
+                return;
+            }
+            closed = true;
+
+            try
+            {
+                in.close();
+            }
+            finally
+            {
+                onReaderClosed();
+            }
+        }
+
+    }
+
+}
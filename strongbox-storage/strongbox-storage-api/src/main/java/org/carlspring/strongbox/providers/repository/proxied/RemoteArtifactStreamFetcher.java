@@ -50,6 +50,23 @@ public class RemoteArtifactStreamFetcher
 
     }
 
+    /**
+     * Checks the resource with the HEAD request, so that nothing is downloaded.
+     *
+     * @return <code>false</code> only if the remote repository doesn't have the resource, any other response (for
+     *         example, from the remote repositories which don't support the HEAD requests) is left to the GET request
+     *         to decide
+     */
+    public boolean exists(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        URI resource = getRestClientResourcePath(repositoryPath);
+        try (final CloseableRestResponse closeableRestResponse = client.head(resource.toString()))
+        {
+            return closeableRestResponse.getResponse().getStatus() != 404;
+        }
+    }
+
     private URI getRestClientResourcePath(final RepositoryPath artifactPath)
         throws IOException
     {
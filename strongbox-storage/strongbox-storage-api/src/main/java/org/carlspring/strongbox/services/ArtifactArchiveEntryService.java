@@ -0,0 +1,55 @@
+package org.carlspring.strongbox.services;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.carlspring.strongbox.data.service.CrudService;
+import org.carlspring.strongbox.domain.ArtifactArchiveEntry;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+
+/**
+ * CRUD service for managing {@link ArtifactArchiveEntry} entities.
+ */
+public interface ArtifactArchiveEntryService
+        extends CrudService<ArtifactArchiveEntry, String>
+{
+
+    /**
+     * Replaces the archive entries of the artifact.
+     *
+     * @param artifactEntry the saved artifact entry
+     * @param entries       the sizes of the archive entries by the entry paths, the size could be <code>null</code>
+     *                      if it's not known
+     */
+    void saveArchiveEntries(ArtifactEntry artifactEntry,
+                            Map<String, Long> entries);
+
+    List<ArtifactArchiveEntry> findArchiveEntries(ArtifactEntry artifactEntry);
+
+    /**
+     * @return the paths of the archive entries, without loading the entries themselves
+     */
+    Set<String> findArchivePaths(ArtifactEntry artifactEntry);
+
+    /**
+     * Finds the archive entries by the entry path (`org/foo/Bar.class`) or class name (`org.foo.Bar`).
+     * <p>
+     * The exact query and the query with the single trailing wildcard (`org/foo/*`) use the `path` and `className`
+     * indexes, while any other wildcard (for example, `*Bar.class`) scans all the archive entries on every page.
+     *
+     * @param storageId    the storage to search in, or <code>null</code> for all storages
+     * @param repositoryId the repository to search in, or <code>null</code> for all repositories
+     * @param query        the path or the class name, the `*` wildcard could be used
+     * @param limit        the maximum number of the results, which is limited by
+     *                     {@link org.carlspring.strongbox.data.criteria.Paginator#MAX_LIMIT}
+     */
+    List<ArtifactArchiveEntry> search(String storageId,
+                                      String repositoryId,
+                                      String query,
+                                      int skip,
+                                      int limit);
+
+    int deleteArchiveEntries(ArtifactEntry artifactEntry);
+
+}
@@ -56,6 +56,17 @@ public interface ArtifactEntryService
     List<ArtifactEntry> findMatching(ArtifactEntrySearchCriteria searchCriteria,
                                      PagingCriteria pagingCriteria);
 
+    /**
+     * Keyset paged variant of {@link #findMatching(ArtifactEntrySearchCriteria, PagingCriteria)}: the entries are
+     * ordered by `uuid` and the page starts right after the given `uuid`, so the page is found by the index and
+     * the entries removed from the previous pages don't shift it.
+     *
+     * @param uuidAfter the `uuid` of the last entry of the previous page, or <code>null</code> for the first page
+     */
+    List<ArtifactEntry> findMatching(ArtifactEntrySearchCriteria searchCriteria,
+                                     String uuidAfter,
+                                     int limit);
+
     Long countCoordinates(Collection<Pair<String, String>> storageRepositoryPairList,
                           Map<String, String> coordinates,
                           boolean strict);
@@ -64,6 +75,17 @@ public interface ArtifactEntryService
                         Map<String, String> coordinates,
                         boolean strict);
 
+    /**
+     * Returns the distinct values of the given coordinate of the artifacts, which match the given coordinates, so that
+     * the values are collected by the database instead of loading all the matching artifacts.
+     *
+     * @param coordinate the name of the coordinate (for example `distribution`)
+     */
+    List<String> findCoordinateValues(Collection<Pair<String, String>> storageRepositoryPairList,
+                                      String coordinate,
+                                      Map<String, String> coordinates,
+                                      boolean strict);
+
     Long countArtifacts(String storageId,
                         String repositoryId,
                         Map<String, String> coordinates,
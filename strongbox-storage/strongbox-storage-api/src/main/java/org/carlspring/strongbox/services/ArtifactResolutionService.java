@@ -24,4 +24,17 @@ public interface ArtifactResolutionService
                                String repositoryId,
                                String path) 
             throws IOException;
+
+    /**
+     * Resolves the path to be downloaded by the client.
+     * <p>
+     * Unlike {@link #resolvePath(String, String, String)}, it doesn't wait for the proxied artifacts to be completely
+     * fetched from the remote repository: the path is returned as soon as the remote repository has responded, and
+     * {@link #getInputStream(RepositoryPath)} streams the artifact content while it's being stored.
+     */
+    RepositoryPath resolveDownloadPath(String storageId,
+                                       String repositoryId,
+                                       String path)
+            throws IOException;
+
 }
@@ -1,6 +1,7 @@
 package org.carlspring.strongbox.services;
 
 import org.carlspring.strongbox.data.service.support.search.PagingCriteria;
+import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.domain.RepositoryArtifactIdGroupEntry;
 
 import java.util.List;
@@ -23,6 +24,12 @@ public interface RepositoryArtifactIdGroupService
                                                    String repositoryId,
                                                    String artifactId);
 
+    /**
+     * @return all the artifacts of the group, which are looked up by {@link ArtifactEntry#getArtifactIdGroup()}
+     *         through the <code>ArtifactEntry.artifactIdGroup</code> index
+     */
+    List<ArtifactEntry> findArtifactEntries(RepositoryArtifactIdGroupEntry artifactGroup);
+
     RepositoryArtifactIdGroupEntry findOne(String storageId,
                                            String repositoryId,
                                            String artifactId);
@@ -4,8 +4,12 @@ import org.carlspring.strongbox.providers.ProviderImplementationException;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.repository.RepositoryManagementStrategyException;
 import org.carlspring.strongbox.storage.Storage;
+import org.carlspring.strongbox.storage.trash.TrashEntry;
+import org.carlspring.strongbox.storage.trash.TrashStatistics;
 
 import java.io.IOException;
+import java.util.Date;
+import java.util.List;
 
 /**
  * @author mtodorov
@@ -27,6 +31,36 @@ public interface RepositoryManagementService
     void deleteTrash()
             throws IOException;
 
+    /**
+     * Purges the trashed files of the repository, which have been deleted before the given time, and then the oldest
+     * trashed files until the trash size is within the given limit.
+     *
+     * @param deletedBefore the deletion time limit, or <code>null</code> to purge by size only
+     * @param maxSize       the trash size limit in bytes, or <code>null</code> to purge by age only
+     * @return the number of the purged files
+     */
+    int purgeTrash(String storageId,
+                   String repositoryId,
+                   Date deletedBefore,
+                   Long maxSize)
+            throws IOException;
+
+    void purgeTrash(Date deletedBefore,
+                    Long maxSize)
+            throws IOException;
+
+    TrashStatistics getTrashStatistics(String storageId,
+                                       String repositoryId)
+            throws IOException;
+
+    /**
+     * @param path the path relative to the repository root, or the empty path for the whole trash
+     */
+    List<TrashEntry> findTrash(String storageId,
+                               String repositoryId,
+                               String path)
+            throws IOException;
+
     void undelete(RepositoryPath repositoryPath)
             throws IOException;
 
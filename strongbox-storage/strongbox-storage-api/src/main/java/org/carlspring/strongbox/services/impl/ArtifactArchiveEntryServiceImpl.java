@@ -0,0 +1,177 @@
+package org.carlspring.strongbox.services.impl;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.carlspring.strongbox.data.criteria.Paginator;
+import org.carlspring.strongbox.data.service.CommonCrudService;
+import org.carlspring.strongbox.data.service.support.search.PagingCriteria;
+import org.carlspring.strongbox.domain.ArtifactArchiveEntry;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.services.ArtifactArchiveEntryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OCommandSQL;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+
+/**
+ * DAO implementation for {@link ArtifactArchiveEntry} entities.
+ */
+@Service
+@Transactional
+public class ArtifactArchiveEntryServiceImpl
+        extends CommonCrudService<ArtifactArchiveEntry>
+        implements ArtifactArchiveEntryService
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(ArtifactArchiveEntryService.class);
+
+    @Override
+    public void saveArchiveEntries(ArtifactEntry artifactEntry,
+                                   Map<String, Long> entries)
+    {
+        deleteArchiveEntries(artifactEntry);
+
+        for (Map.Entry<String, Long> entry : entries.entrySet())
+        {
+            save(new ArtifactArchiveEntry(artifactEntry, entry.getKey(), entry.getValue()));
+        }
+    }
+
+    @Override
+    public List<ArtifactArchiveEntry> findArchiveEntries(ArtifactEntry artifactEntry)
+    {
+        String sQuery = String.format("SELECT FROM %s WHERE artifactEntryUuid = :artifactEntryUuid ORDER BY path",
+                                      getEntityClass().getSimpleName());
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("artifactEntryUuid", artifactEntry.getUuid());
+
+        OSQLSynchQuery<ArtifactArchiveEntry> oQuery = new OSQLSynchQuery<>(sQuery);
+        List<ArtifactArchiveEntry> resultList = getDelegate().command(oQuery).execute(params);
+
+        return resultList.stream().map(this::detach).collect(Collectors.toList());
+    }
+
+    @Override
+    public Set<String> findArchivePaths(ArtifactEntry artifactEntry)
+    {
+        String sQuery = String.format("SELECT path FROM %s WHERE artifactEntryUuid = :artifactEntryUuid ORDER BY path",
+                                      getEntityClass().getSimpleName());
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("artifactEntryUuid", artifactEntry.getUuid());
+
+        OSQLSynchQuery<ODocument> oQuery = new OSQLSynchQuery<>(sQuery);
+        List<ODocument> resultList = getDelegate().command(oQuery).execute(params);
+
+        Set<String> result = new LinkedHashSet<>();
+        resultList.forEach(d -> result.add(d.field("path")));
+
+        return result;
+    }
+
+    @Override
+    public List<ArtifactArchiveEntry> search(String storageId,
+                                             String repositoryId,
+                                             String query,
+                                             int skip,
+                                             int limit)
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append("SELECT FROM ").append(getEntityClass().getSimpleName());
+
+        Map<String, Object> params = new HashMap<>();
+
+        String value = query.replace('*', '%');
+        String prefix = calculatePrefix(value);
+        if (prefix != null)
+        {
+            // The prefix is matched with the range, which (unlike `LIKE`) is served by the indexes.
+            sb.append(" WHERE ((path >= :from AND path < :to) OR (className >= :from AND className < :to))");
+            params.put("from", prefix);
+            params.put("to", prefix + Character.MAX_VALUE);
+        }
+        else
+        {
+            String operator = value.contains("%") ? "LIKE" : "=";
+            sb.append(String.format(" WHERE (path %1$s :query OR className %1$s :query)", operator));
+            params.put("query", value);
+        }
+
+        if (storageId != null)
+        {
+            sb.append(" AND storageId = :storageId");
+            params.put("storageId", storageId);
+        }
+        if (repositoryId != null)
+        {
+            sb.append(" AND repositoryId = :repositoryId");
+            params.put("repositoryId", repositoryId);
+        }
+
+        // The page is never unbounded.
+        int pageLimit = limit <= 0 || limit > Paginator.MAX_LIMIT ? Paginator.MAX_LIMIT : limit;
+        appendPagingCriteria(sb, new PagingCriteria(Math.max(skip, 0), pageLimit));
+
+        logger.debug("Executing SQL query> {}", sb);
+
+        OSQLSynchQuery<ArtifactArchiveEntry> oQuery = new OSQLSynchQuery<>(sb.toString());
+        List<ArtifactArchiveEntry> resultList = getDelegate().command(oQuery).execute(params);
+
+        return resultList.stream().map(this::detach).collect(Collectors.toList());
+    }
+
+    /**
+     * @return the prefix of the `prefix%` value, or <code>null</code> if the value is not the non empty prefix
+     */
+    private static String calculatePrefix(String value)
+    {
+        int wildcard = value.indexOf('%');
+        if (wildcard <= 0 || wildcard != value.length() - 1)
+        {
+            return null;
+        }
+
+        return value.substring(0, wildcard);
+    }
+
+    @Override
+    public int deleteArchiveEntries(ArtifactEntry artifactEntry)
+    {
+        if (artifactEntry.getUuid() == null)
+        {
+            return 0;
+        }
+
+        String sQuery = String.format("DELETE FROM %s WHERE artifactEntryUuid = :artifactEntryUuid",
+                                      getEntityClass().getSimpleName());
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("artifactEntryUuid", artifactEntry.getUuid());
+
+        return getDelegate().command(new OCommandSQL(sQuery)).execute(params);
+    }
+
+    @Override
+    public void deleteAll()
+    {
+        getDelegate().command(new OCommandSQL(String.format("DELETE FROM %s", getEntityClass().getSimpleName())))
+                     .execute();
+    }
+
+    @Override
+    public Class<ArtifactArchiveEntry> getEntityClass()
+    {
+        return ArtifactArchiveEntry.class;
+    }
+
+}
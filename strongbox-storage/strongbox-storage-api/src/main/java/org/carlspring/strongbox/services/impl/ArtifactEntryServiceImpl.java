@@ -5,9 +5,12 @@ import org.carlspring.strongbox.artifact.coordinates.ArtifactCoordinates;
 import org.carlspring.strongbox.data.service.support.search.PagingCriteria;
 import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.domain.ArtifactTagEntry;
+import org.carlspring.strongbox.providers.io.ArtifactEntryCache;
+import org.carlspring.strongbox.services.ArtifactArchiveEntryService;
 import org.carlspring.strongbox.services.ArtifactEntryService;
 import org.carlspring.strongbox.services.support.ArtifactEntrySearchCriteria;
 
+import javax.inject.Inject;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.stream.Collectors;
@@ -35,6 +38,12 @@ class ArtifactEntryServiceImpl extends AbstractArtifactEntryService
 
     private static final Logger logger = LoggerFactory.getLogger(ArtifactEntryService.class);
 
+    @Inject
+    private ArtifactEntryCache artifactEntryCache;
+
+    @Inject
+    private ArtifactArchiveEntryService artifactArchiveEntryService;
+
     private boolean artifactEntryIsSavedForTheFirstTime(ArtifactEntry artifactEntry)
     {
         return artifactEntry.getUuid() == null;
@@ -48,10 +57,29 @@ class ArtifactEntryServiceImpl extends AbstractArtifactEntryService
         {
             entity.setCreated(new Date());
         }
+        else
+        {
+            evictFromCache(entity);
+        }
 
         return super.cascadeEntitySave(entity);
     }
 
+    /**
+     * Evicts the cached {@link ArtifactEntry} record, so that the record, which was read by concurrent transactions,
+     * will not stay in cache.
+     */
+    private void evictFromCache(ArtifactEntry entity)
+    {
+        if (entity.getArtifactCoordinates() == null)
+        {
+            return;
+        }
+
+        artifactEntryCache.evictNowAndAfterCompletion(entity.getStorageId(), entity.getRepositoryId(),
+                                                      entity.getArtifactPath());
+    }
+
     @Override
     public List<ArtifactEntry> findArtifactList(String storageId,
                                                 String repositoryId,
@@ -111,35 +139,48 @@ class ArtifactEntryServiceImpl extends AbstractArtifactEntryService
     {
         StringBuilder sb = new StringBuilder();
         sb.append("SELECT FROM ").append(getEntityClass().getSimpleName());
-        Map<String, Object> parameterMap = Collections.emptyMap();
+        Map<String, Object> parameterMap = new HashMap<>();
 
-
-        if (!searchCriteria.isEmpty())
+        String criteriaQueryClasuse = buildCriteriaQueryClause(searchCriteria, parameterMap);
+        if (!criteriaQueryClasuse.isEmpty())
         {
-            StringBuilder criteriaQueryClasuse = new StringBuilder();
-            sb.append(" WHERE ");
-            parameterMap = new HashMap<>();
+            sb.append(" WHERE ").append(criteriaQueryClasuse);
+        }
 
-            if (searchCriteria.getMinSizeInBytes() != null && searchCriteria.getMinSizeInBytes() > 0)
-            {
-                criteriaQueryClasuse.append(" sizeInBytes >= :minSizeInBytes ");
-                parameterMap.put("minSizeInBytes", searchCriteria.getMinSizeInBytes());
-            }
-            if (searchCriteria.getLastAccessedTimeInDays() != null && searchCriteria.getLastAccessedTimeInDays() > 0)
+        appendPagingCriteria(sb, pagingCriteria);
+
+        logger.debug("Executing SQL query> {}", sb);
+
+        OSQLSynchQuery<ArtifactEntry> oQuery = new OSQLSynchQuery<>(sb.toString());
+
+        return getDelegate().command(oQuery).execute(parameterMap);
+    }
+
+    @Override
+    public List<ArtifactEntry> findMatching(ArtifactEntrySearchCriteria searchCriteria,
+                                            String uuidAfter,
+                                            int limit)
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append("SELECT FROM ").append(getEntityClass().getSimpleName());
+        Map<String, Object> parameterMap = new HashMap<>();
+
+        StringBuilder criteriaQueryClasuse = new StringBuilder(buildCriteriaQueryClause(searchCriteria, parameterMap));
+        if (uuidAfter != null)
+        {
+            if (criteriaQueryClasuse.length() > 0)
             {
-                if (criteriaQueryClasuse.length() > 0)
-                {
-                    criteriaQueryClasuse.append(" AND ");
-                }
-                Date lastUsed = DateUtils.addDays(new Date(), -searchCriteria.getLastAccessedTimeInDays());
-                criteriaQueryClasuse.append(" lastUsed < :lastUsed ");
-                parameterMap.put("lastUsed", lastUsed);
+                criteriaQueryClasuse.append(" AND ");
             }
-
-            sb.append(criteriaQueryClasuse);
+            criteriaQueryClasuse.append(" uuid > :uuidAfter ");
+            parameterMap.put("uuidAfter", uuidAfter);
+        }
+        if (criteriaQueryClasuse.length() > 0)
+        {
+            sb.append(" WHERE ").append(criteriaQueryClasuse);
         }
 
-        appendPagingCriteria(sb, pagingCriteria);
+        appendPagingCriteria(sb, new PagingCriteria(0, limit));
 
         logger.debug("Executing SQL query> {}", sb);
 
@@ -148,6 +189,34 @@ class ArtifactEntryServiceImpl extends AbstractArtifactEntryService
         return getDelegate().command(oQuery).execute(parameterMap);
     }
 
+    private String buildCriteriaQueryClause(ArtifactEntrySearchCriteria searchCriteria,
+                                            Map<String, Object> parameterMap)
+    {
+        StringBuilder criteriaQueryClasuse = new StringBuilder();
+        if (searchCriteria.isEmpty())
+        {
+            return criteriaQueryClasuse.toString();
+        }
+
+        if (searchCriteria.getMinSizeInBytes() != null && searchCriteria.getMinSizeInBytes() > 0)
+        {
+            criteriaQueryClasuse.append(" sizeInBytes >= :minSizeInBytes ");
+            parameterMap.put("minSizeInBytes", searchCriteria.getMinSizeInBytes());
+        }
+        if (searchCriteria.getLastAccessedTimeInDays() != null && searchCriteria.getLastAccessedTimeInDays() > 0)
+        {
+            if (criteriaQueryClasuse.length() > 0)
+            {
+                criteriaQueryClasuse.append(" AND ");
+            }
+            Date lastUsed = DateUtils.addDays(new Date(), -searchCriteria.getLastAccessedTimeInDays());
+            criteriaQueryClasuse.append(" lastUsed < :lastUsed ");
+            parameterMap.put("lastUsed", lastUsed);
+        }
+
+        return criteriaQueryClasuse.toString();
+    }
+
     @Override
     public List<ArtifactEntry> findArtifactList(String storageId,
                                                 String repositoryId,
@@ -192,6 +261,42 @@ class ArtifactEntryServiceImpl extends AbstractArtifactEntryService
         return (Long) result.iterator().next().field("count");
     }
 
+    @Override
+    public List<String> findCoordinateValues(Collection<Pair<String, String>> storageRepositoryPairList,
+                                             String coordinate,
+                                             Map<String, String> coordinates,
+                                             boolean strict)
+    {
+        coordinates = prepareParameterMap(coordinates, strict);
+        String sQuery = buildCoordinatesQuery(storageRepositoryPairList, coordinates.keySet(), Collections.emptySet(), 0, 0, null, strict);
+        sQuery = sQuery.replace("*", String.format("distinct(artifactCoordinates.coordinates.%s) AS value", coordinate));
+        OSQLSynchQuery<ODocument> oQuery = new OSQLSynchQuery<>(sQuery);
+
+        Map<String, Object> parameterMap = new HashMap<>(coordinates);
+
+        Pair<String, String>[] p = storageRepositoryPairList.toArray(new Pair[storageRepositoryPairList.size()]);
+        IntStream.range(0, storageRepositoryPairList.size()).forEach(idx -> {
+            String storageId = p[idx].getValue0();
+            String repositoryId = p[idx].getValue1();
+
+            if (storageId != null && !storageId.trim().isEmpty())
+            {
+                parameterMap.put(String.format("storageId%s", idx), p[idx].getValue0());
+            }
+            if (repositoryId != null && !repositoryId.trim().isEmpty())
+            {
+                parameterMap.put(String.format("repositoryId%s", idx), p[idx].getValue1());
+            }
+        });
+
+        List<ODocument> result = getDelegate().command(oQuery).execute(parameterMap);
+
+        return result.stream()
+                     .map(d -> d.<String>field("value"))
+                     .filter(Objects::nonNull)
+                     .collect(Collectors.toList());
+    }
+
     @Override
     public Long countArtifacts(Collection<Pair<String, String>> storageRepositoryPairList,
                                Map<String, String> coordinates,
@@ -375,19 +480,41 @@ class ArtifactEntryServiceImpl extends AbstractArtifactEntryService
     @Override
     public void delete(String id)
     {
+        findOne(id).ifPresent(this::beforeDelete);
+
         super.delete(id);
     }
 
     @Override
     public void delete(ArtifactEntry entity)
     {
+        beforeDelete(entity);
+
         super.delete(entity);
     }
 
+    @Override
+    public int delete(List<ArtifactEntry> entityList)
+    {
+        Optional.ofNullable(entityList).ifPresent(l -> l.forEach(this::beforeDelete));
+
+        return super.delete(entityList);
+    }
+
     @Override
     public void deleteAll()
     {
         super.deleteAll();
+
+        artifactArchiveEntryService.deleteAll();
+        artifactEntryCache.clear();
+    }
+
+    private void beforeDelete(ArtifactEntry entity)
+    {
+        evictFromCache(entity);
+
+        artifactArchiveEntryService.deleteArchiveEntries(entity);
     }
 
     private ORID findArtifactEntryId(String storageId,
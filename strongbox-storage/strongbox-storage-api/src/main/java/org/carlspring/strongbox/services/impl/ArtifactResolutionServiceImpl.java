@@ -11,6 +11,7 @@ import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
 import org.carlspring.strongbox.providers.io.RepositoryStreamSupport.RepositoryInputStream;
 import org.carlspring.strongbox.providers.io.RepositoryStreamSupport.RepositoryOutputStream;
+import org.carlspring.strongbox.providers.repository.ProxyRepositoryProvider;
 import org.carlspring.strongbox.providers.repository.RepositoryProvider;
 import org.carlspring.strongbox.providers.repository.RepositoryProviderRegistry;
 import org.carlspring.strongbox.services.ArtifactResolutionService;
@@ -95,5 +96,31 @@ public class ArtifactResolutionServiceImpl
             return null;
         }
     }
+
+    @Override
+    public RepositoryPath resolveDownloadPath(String storageId,
+                                              String repositoryId,
+                                              String artifactPath)
+           throws IOException
+    {
+        RepositoryPath repositoryPath = repositoryPathResolver.resolve(storageId, repositoryId, artifactPath);
+
+        Repository repository = repositoryPath.getRepository();
+        RepositoryProvider repositoryProvider = repositoryProviderRegistry.getProvider(repository.getType());
+
+        try
+        {
+            if (repositoryProvider instanceof ProxyRepositoryProvider)
+            {
+                return ((ProxyRepositoryProvider) repositoryProvider).fetchStreamingPath(repositoryPath);
+            }
+
+            return (RepositoryPath) repositoryProvider.fetchPath(repositoryPath);
+        }
+        catch (ArtifactNotFoundException e)
+        {
+            return null;
+        }
+    }
     
 }
@@ -2,6 +2,7 @@ package org.carlspring.strongbox.services.impl;
 
 import org.carlspring.strongbox.artifact.locator.ArtifactDirectoryLocator;
 import org.carlspring.strongbox.artifact.locator.handlers.ArtifactLocationGenerateChecksumOperation;
+import org.carlspring.strongbox.booters.PropertiesBooter;
 import org.carlspring.strongbox.configuration.ConfigurationManager;
 import org.carlspring.strongbox.configuration.Configuration;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
@@ -10,10 +11,14 @@ import org.carlspring.strongbox.providers.layout.LayoutProvider;
 import org.carlspring.strongbox.providers.layout.LayoutProviderRegistry;
 import org.carlspring.strongbox.services.ChecksumService;
 import org.carlspring.strongbox.storage.Storage;
+import org.carlspring.strongbox.storage.checksum.ChecksumRegenerationExecutor;
+import org.carlspring.strongbox.storage.checksum.ChecksumRegenerationProgress;
 import org.carlspring.strongbox.storage.repository.Repository;
 
 import javax.inject.Inject;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Optional;
 
 import org.slf4j.Logger;
@@ -29,6 +34,8 @@ public class ChecksumServiceImpl
 {
     private final Logger logger = LoggerFactory.getLogger(ChecksumServiceImpl.class);
 
+    private static final String CHECKPOINT_DIRECTORY = "checksum-regeneration";
+
     @Inject
     private ConfigurationManager configurationManager;
     
@@ -38,6 +45,12 @@ public class ChecksumServiceImpl
     @Inject
     private RepositoryPathResolver repositoryPathResolver;
 
+    @Inject
+    private ChecksumRegenerationExecutor checksumRegenerationExecutor;
+
+    @Inject
+    private PropertiesBooter propertiesBooter;
+
     @Override
     public void regenerateChecksum(String storageId,
                                    String repositoryId,
@@ -61,13 +74,44 @@ public class ChecksumServiceImpl
                                                     .map(p -> repositoryPathResolver.resolve(repository, basePath))
                                                     .orElseGet(() -> repositoryPathResolver.resolve(repository));
         
+        // Resumes the interrupted regeneration, if any.
+        Path checkpointPath = getCheckpointPath(storageId, repositoryId);
+        ChecksumRegenerationProgress progress = new ChecksumRegenerationProgress(checkpointPath,
+                                                                                 basePath,
+                                                                                 forceRegeneration,
+                                                                                 checksumRegenerationExecutor,
+                                                                                 checksumRegenerationExecutor.getCheckpointInterval());
+
         ArtifactLocationGenerateChecksumOperation operation = new ArtifactLocationGenerateChecksumOperation();
         operation.setBasePath(repositoryBasePath);
         operation.setForceRegeneration(forceRegeneration);
+        operation.setProgress(progress);
 
         ArtifactDirectoryLocator locator = new ArtifactDirectoryLocator();
         locator.setOperation(operation);
-        locator.locateArtifactDirectories();
+        try
+        {
+            locator.locateArtifactDirectories();
+        }
+        catch (IOException | RuntimeException e)
+        {
+            progress.checkpoint();
+
+            throw e;
+        }
+
+        // Waits for the checksums which are still being calculated.
+        progress.complete(checksumRegenerationExecutor.getCompletionTimeout());
+    }
+
+    /**
+     * The checkpoint of the interrupted checksum regeneration, see {@link ChecksumRegenerationProgress}.
+     */
+    private Path getCheckpointPath(String storageId,
+                                   String repositoryId)
+    {
+        return Paths.get(propertiesBooter.getVaultDirectory(), CHECKPOINT_DIRECTORY, storageId,
+                         repositoryId + ".properties");
     }
 
     public Configuration getConfiguration()
@@ -19,8 +19,8 @@ import javax.inject.Inject;
 import java.io.IOException;
 import java.lang.reflect.UndeclaredThrowableException;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
 
@@ -41,7 +41,9 @@ public class ConfigurationManagementServiceImpl
         implements ConfigurationManagementService
 {
 
-    private final ReadWriteLock configurationLock = new ReentrantReadWriteLock();
+    private final ReentrantReadWriteLock configurationLock = new ReentrantReadWriteLock();
+
+    private final AtomicLong configurationVersion = new AtomicLong();
 
     @Inject
     private ConfigurationFileManager configurationFileManager;
@@ -67,6 +69,12 @@ public class ConfigurationManagementServiceImpl
      */
     private MutableConfiguration configuration;
 
+    /**
+     * Immutable snapshot of the {@link #configuration}, which is published once per {@link #modifyInLock(Consumer)}
+     * and shared between all the {@link #getConfiguration()} callers.
+     */
+    private volatile Configuration configurationSnapshot;
+
     @PostConstruct
     public void init()
     {
@@ -109,17 +117,19 @@ public class ConfigurationManagementServiceImpl
     @Override
     public Configuration getConfiguration()
     {
-        final Lock readLock = configurationLock.readLock();
-        readLock.lock();
-
-        try
+        if (configurationLock.isWriteLockedByCurrentThread())
         {
+            // Modification in progress, so the snapshot can be outdated.
             return new Configuration(configuration);
         }
-        finally
-        {
-            readLock.unlock();
-        }
+
+        return configurationSnapshot;
+    }
+
+    @Override
+    public long getConfigurationVersion()
+    {
+        return configurationVersion.get();
     }
 
     @Override
@@ -614,8 +624,20 @@ public class ConfigurationManagementServiceImpl
         }
         finally
         {
+            // Nested modifications are published with the outermost one.
+            if (configurationLock.getWriteHoldCount() == 1)
+            {
+                publishConfigurationSnapshot();
+            }
+
             writeLock.unlock();
         }
     }
 
+    private void publishConfigurationSnapshot()
+    {
+        configurationSnapshot = new Configuration(configuration);
+        configurationVersion.incrementAndGet();
+    }
+
 }
@@ -10,10 +10,12 @@ import org.carlspring.strongbox.services.ArtifactTagService;
 import org.carlspring.strongbox.services.RepositoryArtifactIdGroupService;
 
 import javax.inject.Inject;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import com.orientechnologies.common.concur.ONeedRetryException;
 import com.orientechnologies.orient.core.record.impl.ODocument;
@@ -40,6 +42,13 @@ public class RepositoryArtifactIdGroupServiceImpl
     @Inject
     private ArtifactTagService artifactTagService;
 
+    /**
+     * Adds the artifact to the group, and updates the {@link ArtifactTagEntry#LAST_VERSION} tags.
+     * <p>
+     * Only the artifact itself and the artifacts of the current last version are updated, and the group record is
+     * only updated when its last version artifacts change, so that the deploy doesn't depend on the number of the
+     * artifact versions.
+     */
     @Override
     public void addArtifactToGroup(RepositoryArtifactIdGroupEntry artifactGroup,
                                    ArtifactEntry artifactEntry)
@@ -49,54 +58,127 @@ public class RepositoryArtifactIdGroupServiceImpl
 
         ArtifactTag lastVersionTag = artifactTagService.findOneOrCreate(ArtifactTagEntry.LAST_VERSION);
 
-        artifactEntry.getTagSet().add(lastVersionTag);
-        artifactGroup.putArtifactEntry(artifactEntry);
-
-        artifactGroup.getArtifactEntries()
-                     .stream()
-                     .filter(e -> e.getTagSet().contains(lastVersionTag))
-                     .sorted((e1,
-                              e2) -> e1.getArtifactCoordinates().compareTo(e2.getArtifactCoordinates()))
-                     .forEach(e -> checkAndUpdateLastVersionTagIfNeeded(e, artifactEntry, lastVersionTag));
+        boolean artifactGroupChanged = migrateArtifactEntries(artifactGroup, lastVersionTag);
 
+        artifactEntry.setArtifactIdGroup(artifactGroup.getName());
 
-        save(artifactGroup);
-    }
-
-    private <S extends ArtifactEntry> Optional<S> checkAndUpdateLastVersionTagIfNeeded(S lastVersionEntry,
-                                                                                       S entity,
-                                                                                       ArtifactTag lastVersionTag)
-    {
-        Optional<S> result = Optional.empty();
-        ArtifactCoordinates coordinates = entity.getArtifactCoordinates();
+        // The artifact can be stored again, so it should not be compared with itself.
+        String artifactPath = artifactEntry.getArtifactPath();
+        Set<ArtifactEntry> lastVersionEntries = artifactGroup.getLastVersionEntries();
+        artifactGroupChanged |= lastVersionEntries.removeIf(e -> e == null || artifactPath.equals(e.getArtifactPath()));
 
-        int artifactCoordinatesComparison = entity.getArtifactCoordinates()
-                                                  .compareTo(lastVersionEntry.getArtifactCoordinates());
+        ArtifactEntry lastVersionEntry = lastVersionEntries.stream().findFirst().orElse(null);
+        int artifactCoordinatesComparison = lastVersionEntry == null ? 1
+                : coordinates.compareTo(lastVersionEntry.getArtifactCoordinates());
         if (artifactCoordinatesComparison == 0)
         {
             logger.debug("Set [{}] last version to [{}]",
-                         entity.getArtifactPath(),
+                         artifactPath,
                          coordinates.getVersion());
-            entity.getTagSet().add(lastVersionTag);
+            artifactEntry.getTagSet().add(lastVersionTag);
+            lastVersionEntries.add(saveArtifactEntry(artifactEntry));
+            artifactGroupChanged = true;
         }
         else if (artifactCoordinatesComparison > 0)
         {
             logger.debug("Update [{}] last version from [{}] to [{}]",
-                         entity.getArtifactPath(),
-                         lastVersionEntry.getArtifactCoordinates().getVersion(),
+                         artifactPath,
+                         Optional.ofNullable(lastVersionEntry)
+                                 .map(e -> e.getArtifactCoordinates().getVersion())
+                                 .orElse(null),
                          coordinates.getVersion());
-            entity.getTagSet().add(lastVersionTag);
+            for (ArtifactEntry e : lastVersionEntries)
+            {
+                e.getTagSet().remove(lastVersionTag);
+                saveArtifactEntry(e);
+            }
+            lastVersionEntries.clear();
 
-            lastVersionEntry.getTagSet().remove(lastVersionTag);
-            result = Optional.of(lastVersionEntry);
+            artifactEntry.getTagSet().add(lastVersionTag);
+            lastVersionEntries.add(saveArtifactEntry(artifactEntry));
+            artifactGroupChanged = true;
         }
         else
         {
             logger.debug("Keep [{}] last version [{}]",
-                         entity.getArtifactPath(),
+                         artifactPath,
                          lastVersionEntry.getArtifactCoordinates().getVersion());
-            entity.getTagSet().remove(lastVersionTag);
+            artifactEntry.getTagSet().remove(lastVersionTag);
+            saveArtifactEntry(artifactEntry);
+        }
+
+        if (artifactGroupChanged)
+        {
+            save(artifactGroup);
         }
+    }
+
+    /**
+     * The groups used to link all of their artifacts, so such a group is migrated to the
+     * {@link ArtifactEntry#getArtifactIdGroup()} references once, on the first artifact added.
+     *
+     * @return <code>true</code> if the group has been migrated
+     */
+    private boolean migrateArtifactEntries(RepositoryArtifactIdGroupEntry artifactGroup,
+                                           ArtifactTag lastVersionTag)
+    {
+        Set<ArtifactEntry> artifactEntries = artifactGroup.getArtifactEntries();
+        if (artifactEntries.isEmpty())
+        {
+            return false;
+        }
+
+        logger.info("Migrating [{}] artifacts of the group [{}].", artifactEntries.size(), artifactGroup.getName());
+
+        Set<ArtifactEntry> lastVersionEntries = artifactGroup.getLastVersionEntries();
+        for (ArtifactEntry e : artifactEntries)
+        {
+            if (e == null)
+            {
+                continue;
+            }
+
+            e.setArtifactIdGroup(artifactGroup.getName());
+            ArtifactEntry artifactEntry = saveArtifactEntry(e);
+            if (artifactEntry.getTagSet().contains(lastVersionTag))
+            {
+                lastVersionEntries.add(artifactEntry);
+            }
+        }
+        artifactEntries.clear();
+
+        return true;
+    }
+
+    private ArtifactEntry saveArtifactEntry(ArtifactEntry artifactEntry)
+    {
+        // The entity service is resolved by the entity class, as there are different kinds of artifacts.
+        return (ArtifactEntry) tryToCascadeEntitySave(artifactEntry);
+    }
+
+    @Override
+    public List<ArtifactEntry> findArtifactEntries(RepositoryArtifactIdGroupEntry artifactGroup)
+    {
+        Map<String, String> params = new HashMap<>();
+        params.put("storageId", artifactGroup.getStorageId());
+        params.put("repositoryId", artifactGroup.getRepositoryId());
+        params.put("artifactIdGroup", artifactGroup.getName());
+
+        String sQuery = String.format("SELECT * FROM %s WHERE storageId = :storageId AND repositoryId = :repositoryId " +
+                                      "AND artifactIdGroup = :artifactIdGroup",
+                                      ArtifactEntry.class.getSimpleName());
+
+        logger.debug("Executing SQL query> {}", sQuery);
+
+        OSQLSynchQuery<ArtifactEntry> oQuery = new OSQLSynchQuery<>(sQuery);
+
+        List<ArtifactEntry> result = new ArrayList<>(getDelegate().command(oQuery).execute(params));
+
+        // The artifacts of the group, which has not been migrated yet.
+        artifactGroup.getArtifactEntries()
+                     .stream()
+                     .filter(e -> e != null && e.getArtifactIdGroup() == null)
+                     .forEach(result::add);
 
         return result;
     }
@@ -2,6 +2,9 @@ package org.carlspring.strongbox.services.impl;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
 import java.util.Map;
 
 import javax.inject.Inject;
@@ -18,6 +21,7 @@ import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
 import org.carlspring.strongbox.providers.io.RootRepositoryPath;
+import org.carlspring.strongbox.providers.layout.LayoutFileSystemProvider;
 import org.carlspring.strongbox.providers.layout.LayoutProvider;
 import org.carlspring.strongbox.providers.layout.LayoutProviderRegistry;
 import org.carlspring.strongbox.repository.RepositoryManagementStrategyException;
@@ -26,6 +30,9 @@ import org.carlspring.strongbox.services.RepositoryManagementService;
 import org.carlspring.strongbox.storage.ArtifactStorageException;
 import org.carlspring.strongbox.storage.Storage;
 import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.trash.RepositoryTrashCatalogue;
+import org.carlspring.strongbox.storage.trash.TrashEntry;
+import org.carlspring.strongbox.storage.trash.TrashStatistics;
 import org.carlspring.strongbox.storage.validation.resource.ArtifactOperationsValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -152,7 +159,11 @@ public class RepositoryManagementServiceImpl
                 final Map<String, ? extends Repository> repositories = storage.getRepositories();
                 for (Repository repository : repositories.values())
                 {
-                    if (repository.allowsDeletion())
+                    if (repository.isTrashEnabled() && getTrashCatalogue(repository).getStatistics().getCount() == 0)
+                    {
+                        logger.debug("The trash of repository {} is empty.", repository.getId());
+                    }
+                    else if (repository.allowsDeletion())
                     {
                         logger.debug("Emptying trash for repository {}...", repository.getId());
 
@@ -176,6 +187,103 @@ public class RepositoryManagementServiceImpl
         }
     }
 
+    @Override
+    public int purgeTrash(String storageId,
+                          String repositoryId,
+                          Date deletedBefore,
+                          Long maxSize)
+            throws IOException
+    {
+        artifactOperationsValidator.checkStorageExists(storageId);
+        artifactOperationsValidator.checkRepositoryExists(storageId, repositoryId);
+
+        try
+        {
+            final Storage storage = getStorage(storageId);
+            final Repository repository = storage.getRepository(repositoryId);
+
+            artifactOperationsValidator.checkAllowsDeletion(repository);
+
+            RootRepositoryPath repositoryPath = repositoryPathResolver.resolve(repository);
+            LayoutFileSystemProvider provider = (LayoutFileSystemProvider) repositoryPath.getFileSystem().provider();
+
+            int count = provider.purgeTrash(repositoryPath,
+                                            deletedBefore != null ? deletedBefore.getTime() : -1,
+                                            maxSize != null ? maxSize : -1);
+
+            logger.debug("Purged [{}] trashed files of {}:{}.", count, storageId, repositoryId);
+
+            return count;
+        }
+        catch (IOException e)
+        {
+            throw new ArtifactStorageException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void purgeTrash(Date deletedBefore,
+                           Long maxSize)
+            throws IOException
+    {
+        for (Storage storage : getConfiguration().getStorages().values())
+        {
+            for (Repository repository : storage.getRepositories().values())
+            {
+                if (repository.isTrashEnabled() && repository.allowsDeletion())
+                {
+                    purgeTrash(storage.getId(), repository.getId(), deletedBefore, maxSize);
+                }
+            }
+        }
+    }
+
+    @Override
+    public TrashStatistics getTrashStatistics(String storageId,
+                                              String repositoryId)
+            throws IOException
+    {
+        artifactOperationsValidator.checkStorageExists(storageId);
+        artifactOperationsValidator.checkRepositoryExists(storageId, repositoryId);
+
+        Repository repository = getStorage(storageId).getRepository(repositoryId);
+        if (!repository.isTrashEnabled())
+        {
+            return new TrashStatistics(0, 0, null);
+        }
+
+        return getTrashCatalogue(repository).getStatistics();
+    }
+
+    @Override
+    public List<TrashEntry> findTrash(String storageId,
+                                      String repositoryId,
+                                      String path)
+            throws IOException
+    {
+        artifactOperationsValidator.checkStorageExists(storageId);
+        artifactOperationsValidator.checkRepositoryExists(storageId, repositoryId);
+
+        Repository repository = getStorage(storageId).getRepository(repositoryId);
+        if (!repository.isTrashEnabled())
+        {
+            return Collections.emptyList();
+        }
+
+        return getTrashCatalogue(repository).find(repositoryPathResolver.resolve(repository, path)
+                                                                        .relativize()
+                                                                        .toString());
+    }
+
+    private RepositoryTrashCatalogue getTrashCatalogue(Repository repository)
+            throws IOException
+    {
+        RootRepositoryPath repositoryPath = repositoryPathResolver.resolve(repository);
+        LayoutFileSystemProvider provider = (LayoutFileSystemProvider) repositoryPath.getFileSystem().provider();
+
+        return provider.getTrashCatalogue(repositoryPath);
+    }
+
     @Override
     public void undelete(RepositoryPath repositoryPath)
             throws IOException
@@ -0,0 +1,111 @@
+package org.carlspring.strongbox.services.support;
+
+import org.carlspring.strongbox.event.artifact.ArtifactEvent;
+import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
+import org.carlspring.strongbox.providers.io.ArtifactEntryCache;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the {@link ArtifactEntryCache} in sync with the artifact store, update and delete operations.
+ * <p>
+ * The cached record is evicted as soon as the event is dispatched, and once again after the surrounding transaction
+ * (if any) has been committed. The copy, move and delete operations could be applied to the whole directory, so all
+ * the records of the affected repositories are evicted for them.
+ */
+@Component
+public class ArtifactEntryCacheEventListener
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(ArtifactEntryCacheEventListener.class);
+
+    private static final Set<Integer> EVICTION_EVENT_TYPES = Arrays.asList(ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_STORED,
+                                                                           ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_UPDATED,
+                                                                           ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_UPLOADING,
+                                                                           ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_FETCHED_FROM_REMOTE)
+                                                                   .stream()
+                                                                   .map(ArtifactEventTypeEnum::getType)
+                                                                   .collect(Collectors.toSet());
+
+    private static final Set<Integer> REPOSITORY_EVICTION_EVENT_TYPES = Arrays.asList(ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_COPIED,
+                                                                                      ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_MOVED,
+                                                                                      ArtifactEventTypeEnum.EVENT_ARTIFACT_PATH_DELETED)
+                                                                              .stream()
+                                                                              .map(ArtifactEventTypeEnum::getType)
+                                                                              .collect(Collectors.toSet());
+
+    @Inject
+    private ArtifactEntryCache artifactEntryCache;
+
+    @EventListener
+    public void handle(ArtifactEvent<Path> event)
+    {
+        evict(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleAfterCommit(ArtifactEvent<Path> event)
+    {
+        evict(event);
+    }
+
+    private void evict(ArtifactEvent<Path> event)
+    {
+        if (EVICTION_EVENT_TYPES.contains(event.getType()))
+        {
+            evict(event.getPath(), false);
+        }
+        else if (REPOSITORY_EVICTION_EVENT_TYPES.contains(event.getType()))
+        {
+            evict(event.getPath(), true);
+            evict(event.getTargetPath(), true);
+        }
+    }
+
+    private void evict(Path path,
+                       boolean wholeRepository)
+    {
+        if (!(path instanceof RepositoryPath))
+        {
+            return;
+        }
+
+        RepositoryPath repositoryPath = (RepositoryPath) path;
+        Repository repository = repositoryPath.getRepository();
+        if (wholeRepository)
+        {
+            artifactEntryCache.evict(repository.getStorage().getId(), repository.getId());
+
+            return;
+        }
+
+        try
+        {
+            artifactEntryCache.evict(repository.getStorage().getId(),
+                                     repository.getId(),
+                                     RepositoryFiles.relativizePath(repositoryPath));
+        }
+        catch (IOException e)
+        {
+            logger.warn("Failed to evict cached artifact entry for [{}], clearing the whole cache.", path, e);
+
+            artifactEntryCache.clear();
+        }
+    }
+
+}
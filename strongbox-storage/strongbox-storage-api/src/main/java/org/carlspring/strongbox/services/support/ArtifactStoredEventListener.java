@@ -1,23 +1,25 @@
 package org.carlspring.strongbox.services.support;
 
 import org.carlspring.strongbox.artifact.AsyncArtifactEntryHandler;
-import org.carlspring.strongbox.domain.ArtifactArchiveListing;
 import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.layout.LayoutProvider;
 import org.carlspring.strongbox.providers.layout.LayoutProviderRegistry;
+import org.carlspring.strongbox.services.ArtifactArchiveEntryService;
 import org.carlspring.strongbox.storage.repository.Repository;
 
 import javax.inject.Inject;
 import java.io.IOException;
-import java.util.Set;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 /**
+ * Stores the entries of the artifact archive, so they can be searched apart from the {@link ArtifactEntry}.
+ *
  * @author Przemyslaw Fusik
  */
 @Component
@@ -30,6 +32,9 @@ public class ArtifactStoredEventListener
     @Inject
     private LayoutProviderRegistry layoutProviderRegistry;
 
+    @Inject
+    private ArtifactArchiveEntryService artifactArchiveEntryService;
+
     public ArtifactStoredEventListener()
     {
         super(ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_STORED);
@@ -52,21 +57,12 @@ public class ArtifactStoredEventListener
 
         final Repository repository = repositoryPath.getRepository();
         final LayoutProvider layoutProvider = layoutProviderRegistry.getProvider(repository.getLayout());
-        final Set<String> archiveFilenames = layoutProvider.listArchiveFilenames(repositoryPath);
-        if (archiveFilenames.isEmpty())
-        {
-            return null;
-        }
+        final Map<String, Long> archiveEntries = layoutProvider.listArchiveEntries(repositoryPath);
 
-        ArtifactArchiveListing artifactArchiveListing = artifactEntry.getArtifactArchiveListing();
-        if (artifactArchiveListing == null)
-        {
-            artifactArchiveListing = new ArtifactArchiveListing();
-            artifactEntry.setArtifactArchiveListing(artifactArchiveListing);
-        }
-        artifactArchiveListing.setFilenames(archiveFilenames);
+        // The entries of the previously stored archive are replaced, even if the new one is empty.
+        artifactArchiveEntryService.saveArchiveEntries(artifactEntry, archiveEntries);
 
-        return artifactEntry;
+        return null;
     }
 
 }
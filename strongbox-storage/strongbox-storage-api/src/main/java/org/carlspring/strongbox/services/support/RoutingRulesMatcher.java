@@ -0,0 +1,197 @@
+package org.carlspring.strongbox.services.support;
+
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.routing.RoutingRule;
+import org.carlspring.strongbox.storage.routing.RoutingRuleRepository;
+import org.carlspring.strongbox.storage.routing.RoutingRules;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * The {@link RoutingRules} compiled into an index by the group repository and the group member repository, so that
+ * only the rules which apply to the particular group member are evaluated.
+ * <p>
+ * The repositories are matched case insensitive, where an empty storage or repository id stands for the wildcard
+ * (<code>*:*</code>, <code>storageId:*</code> and <code>*:repositoryId</code>), and a rule without repositories
+ * applies to all the group members.
+ */
+public class RoutingRulesMatcher
+{
+
+    private static final String WILDCARD = StringUtils.EMPTY;
+
+    private static final String KEY_SEPARATOR = ":";
+
+    private static final String ALL_REPOSITORIES = calculateKey(WILDCARD, WILDCARD);
+
+    /**
+     * Group repository key -> group member repository key -> applicable rules.
+     */
+    private final Map<String, Map<String, MatchingRules>> index = new HashMap<>();
+
+    /**
+     * The merged rules of the group members which have been checked so far.
+     */
+    private final Map<String, MatchingRules> resolvedRules = new ConcurrentHashMap<>();
+
+    public RoutingRulesMatcher(RoutingRules routingRules)
+    {
+        for (RoutingRule rule : routingRules.getRules())
+        {
+            Map<String, MatchingRules> memberIndex = index.computeIfAbsent(calculateKey(rule.getStorageId(),
+                                                                                        rule.getGroupRepositoryId()),
+                                                                           k -> new HashMap<>());
+
+            if (rule.getRepositories().isEmpty())
+            {
+                memberIndex.computeIfAbsent(ALL_REPOSITORIES, k -> new MatchingRules()).add(rule);
+
+                continue;
+            }
+
+            for (RoutingRuleRepository repository : rule.getRepositories())
+            {
+                memberIndex.computeIfAbsent(calculateKey(repository.getStorageId(), repository.getRepositoryId()),
+                                            k -> new MatchingRules())
+                           .add(rule);
+            }
+        }
+    }
+
+    public boolean isDenied(Repository groupRepository,
+                            Repository subRepository,
+                            String artifactPath)
+    {
+        String key = groupRepository.getStorageIdAndRepositoryId() + "/" + subRepository.getStorageIdAndRepositoryId();
+
+        return resolvedRules.computeIfAbsent(key, k -> resolve(groupRepository, subRepository))
+                            .isDenied(artifactPath);
+    }
+
+    private MatchingRules resolve(Repository groupRepository,
+                                  Repository subRepository)
+    {
+        MatchingRules result = new MatchingRules();
+        for (String groupKey : calculateCandidateKeys(groupRepository))
+        {
+            Map<String, MatchingRules> memberIndex = index.get(groupKey);
+            if (memberIndex == null)
+            {
+                continue;
+            }
+
+            for (String memberKey : calculateCandidateKeys(subRepository))
+            {
+                MatchingRules rules = memberIndex.get(memberKey);
+                if (rules != null)
+                {
+                    result.addAll(rules);
+                }
+            }
+        }
+
+        return result.compact();
+    }
+
+    /**
+     * The exact <code>storageId:repositoryId</code> key, along with the wildcard keys, which match the repository.
+     */
+    private static Collection<String> calculateCandidateKeys(Repository repository)
+    {
+        String storageId = repository.getStorage().getId();
+        String repositoryId = repository.getId();
+
+        return Arrays.asList(calculateKey(storageId, repositoryId),
+                             calculateKey(storageId, WILDCARD),
+                             calculateKey(WILDCARD, repositoryId),
+                             ALL_REPOSITORIES);
+    }
+
+    private static String calculateKey(String storageId,
+                                       String repositoryId)
+    {
+        return normalize(storageId) + KEY_SEPARATOR + normalize(repositoryId);
+    }
+
+    private static String normalize(String id)
+    {
+        return StringUtils.trimToEmpty(id).toLowerCase(Locale.ENGLISH);
+    }
+
+    private static class MatchingRules
+    {
+
+        /**
+         * The patterns are deduplicated, because the same rule can list several matching repositories.
+         */
+        private final Map<String, Pattern> denied = new LinkedHashMap<>();
+
+        private final Map<String, Pattern> accepted = new LinkedHashMap<>();
+
+        private List<Pattern> deniedPatterns = Collections.emptyList();
+
+        private List<Pattern> acceptedPatterns = Collections.emptyList();
+
+        private void add(RoutingRule rule)
+        {
+            if (rule.isDeny())
+            {
+                denied.putIfAbsent(rule.getPattern(), rule.getRegex());
+            }
+            else if (rule.isAccept())
+            {
+                accepted.putIfAbsent(rule.getPattern(), rule.getRegex());
+            }
+        }
+
+        private void addAll(MatchingRules other)
+        {
+            other.denied.forEach(denied::putIfAbsent);
+            other.accepted.forEach(accepted::putIfAbsent);
+        }
+
+        /**
+         * Should be called once all the rules have been added, before the rules are checked.
+         */
+        private MatchingRules compact()
+        {
+            deniedPatterns = new ArrayList<>(denied.values());
+            acceptedPatterns = new ArrayList<>(accepted.values());
+
+            return this;
+        }
+
+        private boolean isDenied(String artifactPath)
+        {
+            return matches(deniedPatterns, artifactPath) && !matches(acceptedPatterns, artifactPath);
+        }
+
+        private static boolean matches(List<Pattern> patterns,
+                                       String artifactPath)
+        {
+            for (Pattern pattern : patterns)
+            {
+                if (pattern.matcher(artifactPath).matches())
+                {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+    }
+
+}
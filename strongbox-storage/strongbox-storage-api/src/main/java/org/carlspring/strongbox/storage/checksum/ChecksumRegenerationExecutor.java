@@ -0,0 +1,100 @@
+package org.carlspring.strongbox.storage.checksum;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * The bounded thread pool, which calculates the artifact checksums during the checksum regeneration.
+ * <p>
+ * The queue of the pool is bounded as well: once it's full, the submitting thread (the one which walks the
+ * repository) calculates the checksum by itself, so that walking a large repository doesn't enqueue all of its files.
+ * Once the pool is shut down, the submitted checksums are rejected with the {@link RejectedExecutionException}
+ * instead, so that the regeneration fails rather than waits for the checksums which are never calculated.
+ */
+public class ChecksumRegenerationExecutor
+        implements Executor
+{
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * The checkpoint of the regeneration is stored at most once within this interval (in milliseconds).
+     */
+    private final long checkpointInterval;
+
+    /**
+     * The regeneration fails, if no checksum has been calculated within this timeout (in milliseconds).
+     */
+    private final long completionTimeout;
+
+    public ChecksumRegenerationExecutor(int threads,
+                                        long checkpointInterval,
+                                        long completionTimeout)
+    {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("checksum-regeneration-");
+        threadFactory.setDaemon(true);
+
+        int poolSize = Math.max(1, threads);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                                               new ArrayBlockingQueue<>(poolSize * 4), threadFactory,
+                                               new CallerRunsUnlessShutdownPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.checkpointInterval = checkpointInterval;
+        this.completionTimeout = completionTimeout;
+    }
+
+    @Override
+    public void execute(Runnable command)
+    {
+        executor.execute(command);
+    }
+
+    public int getThreads()
+    {
+        return executor.getMaximumPoolSize();
+    }
+
+    public long getCheckpointInterval()
+    {
+        return checkpointInterval;
+    }
+
+    public long getCompletionTimeout()
+    {
+        return completionTimeout;
+    }
+
+    public void shutdown()
+    {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Unlike the {@link ThreadPoolExecutor.CallerRunsPolicy}, which silently discards the task once the pool is shut
+     * down, the task is rejected, so the submitting thread knows that it will never be run.
+     */
+    private static class CallerRunsUnlessShutdownPolicy
+            implements RejectedExecutionHandler
+    {
+
+        @Override
+        public void rejectedExecution(Runnable r,
+                                      ThreadPoolExecutor executor)
+        {
+            if (executor.isShutdown())
+            {
+                throw new RejectedExecutionException("The checksum regeneration pool has been shut down.");
+            }
+
+            r.run();
+        }
+
+    }
+
+}
@@ -0,0 +1,333 @@
+package org.carlspring.strongbox.storage.checksum;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tracks the progress of the checksum regeneration of a repository, so that the interrupted regeneration can be
+ * resumed.
+ * <p>
+ * The artifact directories are visited in the sorted order, while their files are processed concurrently, so the
+ * checkpoint is the last directory which has been completed along with all the directories visited before it. The
+ * checkpoint is stored into the properties file, along with the regeneration parameters: it's only used to resume the
+ * regeneration with the same parameters, and it's removed once the regeneration is completed.
+ */
+public class ChecksumRegenerationProgress
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(ChecksumRegenerationProgress.class);
+
+    private static final String PROPERTY_BASE_PATH = "basePath";
+
+    private static final String PROPERTY_FORCE_REGENERATION = "forceRegeneration";
+
+    private static final String PROPERTY_COMPLETED_PATH = "completedPath";
+
+    private final Path checkpointPath;
+
+    private final String basePath;
+
+    private final boolean forceRegeneration;
+
+    private final Executor executor;
+
+    private final long checkpointInterval;
+
+    /**
+     * The visited directories, which have not been completed yet, in the visit order.
+     */
+    private final Deque<Directory> directories = new ArrayDeque<>();
+
+    private final String resumePath;
+
+    private String completedPath;
+
+    /**
+     * The number of the processed files, which tells whether the regeneration still makes progress.
+     */
+    private long processedCount;
+
+    private long lastCheckpoint = System.currentTimeMillis();
+
+    /**
+     * @param checkpointPath     the checkpoint properties file
+     * @param basePath           the regeneration base path (<code>null</code> for the whole repository)
+     * @param forceRegeneration  the regeneration mode
+     * @param executor           calculates the checksums
+     * @param checkpointInterval the checkpoint is stored at most once within this interval (in milliseconds)
+     */
+    public ChecksumRegenerationProgress(Path checkpointPath,
+                                        String basePath,
+                                        boolean forceRegeneration,
+                                        Executor executor,
+                                        long checkpointInterval)
+        throws IOException
+    {
+        this.checkpointPath = checkpointPath;
+        this.basePath = basePath;
+        this.forceRegeneration = forceRegeneration;
+        this.executor = executor;
+        this.checkpointInterval = checkpointInterval;
+        this.resumePath = readCheckpoint();
+        this.completedPath = resumePath;
+    }
+
+    private String readCheckpoint()
+        throws IOException
+    {
+        if (!Files.exists(checkpointPath))
+        {
+            return null;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream is = Files.newInputStream(checkpointPath))
+        {
+            properties.load(is);
+        }
+
+        if (!Objects.equals(basePath, properties.getProperty(PROPERTY_BASE_PATH)) ||
+            forceRegeneration != Boolean.parseBoolean(properties.getProperty(PROPERTY_FORCE_REGENERATION)))
+        {
+            logger.info("Ignoring the checksum regeneration checkpoint [{}] with the different parameters.",
+                        checkpointPath);
+
+            return null;
+        }
+
+        String result = properties.getProperty(PROPERTY_COMPLETED_PATH);
+        logger.info("Resuming the checksum regeneration after [{}].", result);
+
+        return result;
+    }
+
+    /**
+     * @return the last completed directory of the interrupted regeneration (relative to the repository root), or
+     *         <code>null</code> if the regeneration should start from the beginning
+     */
+    public String getResumePath()
+    {
+        return resumePath;
+    }
+
+    public synchronized String getCompletedPath()
+    {
+        return completedPath;
+    }
+
+    /**
+     * Starts the directory processing: the files of the directory should be submitted to the returned
+     * {@link Directory}, followed by the {@link #finish(Directory)} call.
+     *
+     * @param path the directory path relative to the repository root
+     */
+    public synchronized Directory start(String path)
+    {
+        Directory directory = new Directory(path);
+        directories.addLast(directory);
+
+        return directory;
+    }
+
+    /**
+     * Tells that all the files of the directory have been submitted.
+     */
+    public void finish(Directory directory)
+    {
+        synchronized (this)
+        {
+            directory.submitted = true;
+        }
+
+        advance();
+    }
+
+    /**
+     * Waits until all the submitted files have been processed, and removes the checkpoint.
+     *
+     * @param timeout the regeneration fails, if no file has been processed within this timeout (in milliseconds), for
+     *                example because the executor has been shut down and won't process the submitted files anymore
+     */
+    public synchronized void complete(long timeout)
+        throws IOException
+    {
+        long lastProcessedCount = processedCount;
+        long deadline = System.currentTimeMillis() + timeout;
+        while (!directories.isEmpty())
+        {
+            if (processedCount != lastProcessedCount)
+            {
+                lastProcessedCount = processedCount;
+                deadline = System.currentTimeMillis() + timeout;
+            }
+
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0)
+            {
+                checkpoint();
+
+                throw new IOException(String.format("No checksum has been calculated within [%s] ms, [%s] directories " +
+                                                    "are not completed.", timeout, directories.size()));
+            }
+
+            try
+            {
+                wait(remaining);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                checkpoint();
+
+                throw new InterruptedIOException(e.getMessage());
+            }
+        }
+
+        Files.deleteIfExists(checkpointPath);
+    }
+
+    private void advance()
+    {
+        synchronized (this)
+        {
+            Directory head = directories.peekFirst();
+            if (head == null || !head.submitted || head.pending > 0)
+            {
+                return;
+            }
+
+            while (head != null && head.submitted && head.pending == 0)
+            {
+                completedPath = head.path;
+                directories.removeFirst();
+                head = directories.peekFirst();
+            }
+            notifyAll();
+
+            if (System.currentTimeMillis() - lastCheckpoint < checkpointInterval)
+            {
+                return;
+            }
+            lastCheckpoint = System.currentTimeMillis();
+
+            try
+            {
+                checkpoint();
+            }
+            catch (IOException e)
+            {
+                logger.error("Failed to store the checksum regeneration checkpoint [{}].", checkpointPath, e);
+            }
+        }
+    }
+
+    /**
+     * Stores the checkpoint right away, for example when the regeneration is being interrupted.
+     */
+    public synchronized void checkpoint()
+        throws IOException
+    {
+        if (completedPath == null)
+        {
+            return;
+        }
+
+        Properties properties = new Properties();
+        if (basePath != null)
+        {
+            properties.setProperty(PROPERTY_BASE_PATH, basePath);
+        }
+        properties.setProperty(PROPERTY_FORCE_REGENERATION, String.valueOf(forceRegeneration));
+        properties.setProperty(PROPERTY_COMPLETED_PATH, completedPath);
+
+        Files.createDirectories(checkpointPath.getParent());
+
+        // The checkpoint is replaced atomically, so it's never left half written.
+        Path tempPath = checkpointPath.resolveSibling(checkpointPath.getFileName() + ".tmp");
+        try (OutputStream os = Files.newOutputStream(tempPath))
+        {
+            properties.store(os, "Checksum regeneration checkpoint");
+        }
+        Files.move(tempPath, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Submits the files of the directory to the {@link ChecksumRegenerationProgress} executor, and keeps track of
+     * them.
+     */
+    public class Directory
+            implements Executor
+    {
+
+        private final String path;
+
+        private int pending;
+
+        private boolean submitted;
+
+        private Directory(String path)
+        {
+            this.path = path;
+        }
+
+        @Override
+        public void execute(Runnable command)
+        {
+            synchronized (ChecksumRegenerationProgress.this)
+            {
+                pending++;
+            }
+
+            try
+            {
+                executor.execute(() -> {
+                    try
+                    {
+                        command.run();
+                    }
+                    finally
+                    {
+                        processed();
+                    }
+                });
+            }
+            catch (RejectedExecutionException e)
+            {
+                // The file won't be processed, so the directory isn't waiting for it.
+                synchronized (ChecksumRegenerationProgress.this)
+                {
+                    pending--;
+                }
+
+                throw e;
+            }
+        }
+
+        private void processed()
+        {
+            synchronized (ChecksumRegenerationProgress.this)
+            {
+                pending--;
+                processedCount++;
+                ChecksumRegenerationProgress.this.notifyAll();
+            }
+            advance();
+        }
+
+    }
+
+}
@@ -0,0 +1,342 @@
+package org.carlspring.strongbox.storage.trash;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The catalogue of the repository trash: the path, the size and the deletion time of each trashed file. It provides
+ * the trash statistics and the purge by age or size without walking the trash directory.
+ * <p>
+ * The catalogue is kept in memory and journaled into the {@link #JOURNAL} file of the trash directory, so the journal
+ * is removed along with the trash. Once the journal grows several times larger than the catalogue, it's compacted into
+ * the snapshot of the current entries. If there is no journal yet (for example, for the trash of the previous versions),
+ * the catalogue is rebuilt from the trash directory once.
+ */
+public class RepositoryTrashCatalogue
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(RepositoryTrashCatalogue.class);
+
+    public static final String JOURNAL = ".catalogue";
+
+    /**
+     * The journal isn't compacted until it has this many records.
+     */
+    private static final int COMPACTION_THRESHOLD = 1000;
+
+    private static final String RECORD_ADD = "A";
+
+    private static final String RECORD_REMOVE = "R";
+
+    private static final String FIELD_SEPARATOR = "\t";
+
+    private final Path trashDirectory;
+
+    private final Path journalPath;
+
+    private final String separator;
+
+    private final NavigableMap<String, TrashEntry> entries = new TreeMap<>();
+
+    private long size;
+
+    private int journalRecords;
+
+    public RepositoryTrashCatalogue(Path trashDirectory)
+        throws IOException
+    {
+        this.trashDirectory = trashDirectory;
+        this.journalPath = trashDirectory.resolve(JOURNAL);
+        this.separator = trashDirectory.getFileSystem().getSeparator();
+
+        if (Files.exists(journalPath))
+        {
+            readJournal();
+        }
+        else if (Files.isDirectory(trashDirectory))
+        {
+            rebuild();
+        }
+    }
+
+    private void readJournal()
+        throws IOException
+    {
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8))
+        {
+            String line;
+            while ((line = reader.readLine()) != null)
+            {
+                journalRecords++;
+
+                String[] fields = line.split(FIELD_SEPARATOR, 4);
+                if (RECORD_ADD.equals(fields[0]) && fields.length == 4)
+                {
+                    doAdd(new TrashEntry(fields[3], Long.parseLong(fields[2]), Long.parseLong(fields[1])));
+                }
+                else if (RECORD_REMOVE.equals(fields[0]) && fields.length == 2)
+                {
+                    doRemove(fields[1]);
+                }
+                else
+                {
+                    // The last record could be written partially, if the process was stopped.
+                    logger.warn("Skipping the malformed trash catalogue record [{}] of [{}].", line, journalPath);
+                }
+            }
+        }
+        catch (NumberFormatException e)
+        {
+            throw new IOException(String.format("Failed to read the trash catalogue [%s].", journalPath), e);
+        }
+    }
+
+    private void rebuild()
+        throws IOException
+    {
+        logger.info("Rebuilding the trash catalogue of [{}].", trashDirectory);
+
+        Files.walkFileTree(trashDirectory, new SimpleFileVisitor<Path>()
+        {
+
+            @Override
+            public FileVisitResult visitFile(Path file,
+                                             BasicFileAttributes attrs)
+            {
+                if (!isJournal(trashDirectory, file))
+                {
+                    // The deletion time isn't known, but the file keeps its modification time in the trash.
+                    doAdd(new TrashEntry(trashDirectory.relativize(file).toString(),
+                                         attrs.size(),
+                                         attrs.lastModifiedTime().toMillis()));
+                }
+
+                return FileVisitResult.CONTINUE;
+            }
+
+        });
+
+        compact();
+    }
+
+    /**
+     * Adds the trashed file, or replaces the file with the same path.
+     */
+    public synchronized void add(String path,
+                                 long size,
+                                 long deleted)
+        throws IOException
+    {
+        TrashEntry entry = new TrashEntry(path, size, deleted);
+        doAdd(entry);
+
+        append(String.join(FIELD_SEPARATOR, RECORD_ADD, String.valueOf(deleted), String.valueOf(size), path));
+    }
+
+    /**
+     * Removes the path, and all the paths under it if it's a directory.
+     */
+    public synchronized void remove(String path)
+        throws IOException
+    {
+        if (!doRemove(path))
+        {
+            return;
+        }
+
+        append(String.join(FIELD_SEPARATOR, RECORD_REMOVE, path));
+    }
+
+    /**
+     * Removes all the entries, when the trash directory is removed.
+     */
+    public synchronized void clear()
+        throws IOException
+    {
+        entries.clear();
+        size = 0;
+
+        compact();
+    }
+
+    /**
+     * @param path the path relative to the repository root, or the empty path for the whole trash
+     * @return the path, and all the paths under it if it's a directory, ordered by path
+     */
+    public synchronized List<TrashEntry> find(String path)
+    {
+        List<TrashEntry> result = new ArrayList<>();
+        if (entries.containsKey(path))
+        {
+            result.add(entries.get(path));
+        }
+        result.addAll(children(path).values());
+
+        return result;
+    }
+
+    /**
+     * Finds the entries, which should be purged: the entries deleted before the given time, and then the oldest
+     * entries until the trash size is within the given limit.
+     *
+     * @param deletedBefore the deletion time limit, or a negative value to purge by size only
+     * @param maxSize       the trash size limit in bytes, or a negative value to purge by age only
+     * @return the entries ordered by the deletion time
+     */
+    public synchronized List<TrashEntry> findExpired(long deletedBefore,
+                                                     long maxSize)
+    {
+        List<TrashEntry> candidates = new ArrayList<>(entries.values());
+        candidates.sort(Comparator.comparingLong(TrashEntry::getDeletedTime));
+
+        List<TrashEntry> result = new ArrayList<>();
+        long remainingSize = size;
+        for (TrashEntry entry : candidates)
+        {
+            if (entry.getDeletedTime() >= deletedBefore && (maxSize < 0 || remainingSize <= maxSize))
+            {
+                break;
+            }
+
+            result.add(entry);
+            remainingSize -= entry.getSize();
+        }
+
+        return result;
+    }
+
+    public synchronized TrashStatistics getStatistics()
+    {
+        Date oldestDeleted = entries.values()
+                                    .stream()
+                                    .min(Comparator.comparingLong(TrashEntry::getDeletedTime))
+                                    .map(TrashEntry::getDeleted)
+                                    .orElse(null);
+
+        return new TrashStatistics(entries.size(), size, oldestDeleted);
+    }
+
+    /**
+     * @return <code>true</code> if the journal has been removed along with the trash directory bypassing the
+     *         catalogue, so the catalogue should be loaded again
+     */
+    synchronized boolean isDetached()
+    {
+        return journalRecords > 0 && !Files.exists(journalPath);
+    }
+
+    /**
+     * @return <code>true</code> if the file is the journal (or its temporary snapshot) of the trash directory
+     */
+    public static boolean isJournal(Path trashDirectory,
+                                    Path file)
+    {
+        return file.getParent().equals(trashDirectory) && file.getFileName().toString().startsWith(JOURNAL);
+    }
+
+    public Path getTrashDirectory()
+    {
+        return trashDirectory;
+    }
+
+    private void doAdd(TrashEntry entry)
+    {
+        TrashEntry previous = entries.put(entry.getPath(), entry);
+        size += entry.getSize() - (previous != null ? previous.getSize() : 0);
+    }
+
+    private boolean doRemove(String path)
+    {
+        TrashEntry entry = entries.remove(path);
+        if (entry != null)
+        {
+            size -= entry.getSize();
+        }
+
+        NavigableMap<String, TrashEntry> children = children(path);
+        if (children.isEmpty())
+        {
+            return entry != null;
+        }
+
+        size -= children.values().stream().mapToLong(TrashEntry::getSize).sum();
+        children.clear();
+
+        return true;
+    }
+
+    /**
+     * @return the view of the paths under the directory, which are ordered next to each other as `path/...`
+     */
+    private NavigableMap<String, TrashEntry> children(String path)
+    {
+        if (path.isEmpty())
+        {
+            return entries;
+        }
+
+        String prefix = path + separator;
+
+        return entries.subMap(prefix, true, prefix + Character.MAX_VALUE, true);
+    }
+
+    private void append(String record)
+        throws IOException
+    {
+        Files.createDirectories(trashDirectory);
+        try (BufferedWriter writer = Files.newBufferedWriter(journalPath, StandardCharsets.UTF_8,
+                                                             StandardOpenOption.CREATE, StandardOpenOption.APPEND))
+        {
+            writer.write(record);
+            writer.newLine();
+        }
+
+        if (++journalRecords > COMPACTION_THRESHOLD && journalRecords > entries.size() * 2)
+        {
+            compact();
+        }
+    }
+
+    /**
+     * Replaces the journal with the snapshot of the current entries.
+     */
+    private void compact()
+        throws IOException
+    {
+        Files.createDirectories(trashDirectory);
+
+        // The journal is replaced atomically, so it's never left half written.
+        Path tempPath = journalPath.resolveSibling(JOURNAL + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8))
+        {
+            for (TrashEntry entry : entries.values())
+            {
+                writer.write(String.join(FIELD_SEPARATOR, RECORD_ADD, String.valueOf(entry.getDeletedTime()),
+                                         String.valueOf(entry.getSize()), entry.getPath()));
+                writer.newLine();
+            }
+        }
+        Files.move(tempPath, journalPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        journalRecords = entries.size();
+    }
+
+}
@@ -0,0 +1,54 @@
+package org.carlspring.strongbox.storage.trash;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the {@link RepositoryTrashCatalogue}s of the repositories, which are loaded on the first access.
+ */
+@Component
+public class RepositoryTrashCatalogueRegistry
+{
+
+    private final Map<Path, RepositoryTrashCatalogue> catalogues = new ConcurrentHashMap<>();
+
+    /**
+     * @param trashDirectory the trash directory of the repository
+     */
+    public RepositoryTrashCatalogue getCatalogue(Path trashDirectory)
+        throws IOException
+    {
+        Path key = trashDirectory.toAbsolutePath().normalize();
+
+        RepositoryTrashCatalogue catalogue = catalogues.get(key);
+        if (catalogue != null && !catalogue.isDetached())
+        {
+            return catalogue;
+        }
+
+        synchronized (catalogues)
+        {
+            catalogue = catalogues.get(key);
+            if (catalogue == null || catalogue.isDetached())
+            {
+                catalogue = new RepositoryTrashCatalogue(key);
+                catalogues.put(key, catalogue);
+            }
+
+            return catalogue;
+        }
+    }
+
+    /**
+     * Forgets the catalogue, when the repository (along with its trash) is removed.
+     */
+    public void evict(Path trashDirectory)
+    {
+        catalogues.remove(trashDirectory.toAbsolutePath().normalize());
+    }
+
+}
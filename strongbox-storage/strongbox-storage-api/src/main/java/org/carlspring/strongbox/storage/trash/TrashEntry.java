@@ -0,0 +1,60 @@
+package org.carlspring.strongbox.storage.trash;
+
+import java.util.Date;
+
+/**
+ * The trashed file of the repository.
+ */
+public class TrashEntry
+{
+
+    private final String path;
+
+    private final long size;
+
+    private final long deleted;
+
+    public TrashEntry(String path,
+                      long size,
+                      long deleted)
+    {
+        this.path = path;
+        this.size = size;
+        this.deleted = deleted;
+    }
+
+    /**
+     * @return the path relative to the repository root (and to the trash directory)
+     */
+    public String getPath()
+    {
+        return path;
+    }
+
+    public long getSize()
+    {
+        return size;
+    }
+
+    public Date getDeleted()
+    {
+        return new Date(deleted);
+    }
+
+    long getDeletedTime()
+    {
+        return deleted;
+    }
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder sb = new StringBuilder("TrashEntry{");
+        sb.append("path='").append(path).append('\'');
+        sb.append(", size=").append(size);
+        sb.append(", deleted=").append(getDeleted());
+        sb.append('}');
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,47 @@
+package org.carlspring.strongbox.storage.trash;
+
+import java.util.Date;
+
+public class TrashStatistics
+{
+
+    private final int count;
+
+    private final long size;
+
+    private final Date oldestDeleted;
+
+    public TrashStatistics(int count,
+                           long size,
+                           Date oldestDeleted)
+    {
+        this.count = count;
+        this.size = size;
+        this.oldestDeleted = oldestDeleted;
+    }
+
+    /**
+     * @return the number of the trashed files
+     */
+    public int getCount()
+    {
+        return count;
+    }
+
+    /**
+     * @return the total size of the trashed files, in bytes
+     */
+    public long getSize()
+    {
+        return size;
+    }
+
+    /**
+     * @return the deletion time of the oldest trashed file, or <code>null</code> if the trash is empty
+     */
+    public Date getOldestDeleted()
+    {
+        return oldestDeleted != null ? new Date(oldestDeleted.getTime()) : null;
+    }
+
+}
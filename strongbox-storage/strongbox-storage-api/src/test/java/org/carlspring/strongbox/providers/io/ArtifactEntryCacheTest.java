@@ -0,0 +1,165 @@
+package org.carlspring.strongbox.providers.io;
+
+import org.carlspring.strongbox.data.CacheName;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ArtifactEntryCacheTest
+{
+
+    private static final String STORAGE_ID = "storage0";
+
+    private static final String REPOSITORY_ID = "releases";
+
+    private ConcurrentMapCacheManager cacheManager;
+
+    private ArtifactEntryCache cache;
+
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    public void setUp()
+    {
+        cacheManager = new ConcurrentMapCacheManager(CacheName.Common.CACHE_REGIONS,
+                                                     CacheName.Artifact.ARTIFACT_ENTRIES);
+        cacheManager.setStoreByValue(true);
+
+        cache = new ArtifactEntryCache(cacheManager);
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    public void testHitAndMiss()
+    {
+        String path = "org/carlspring/test/1.0/test-1.0.jar";
+
+        ArtifactEntry first = cache.get(STORAGE_ID, REPOSITORY_ID, path, this::load);
+        ArtifactEntry second = cache.get(STORAGE_ID, REPOSITORY_ID, path, this::load);
+
+        assertThat(second.getUuid()).isEqualTo(first.getUuid());
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testCallersGetTheirOwnCopies()
+    {
+        String path = "org/carlspring/test/1.0/test-1.0.jar";
+
+        ArtifactEntry first = cache.get(STORAGE_ID, REPOSITORY_ID, path, this::load);
+        first.setDownloadCount(10);
+
+        ArtifactEntry second = cache.get(STORAGE_ID, REPOSITORY_ID, path, this::load);
+        ArtifactEntry third = cache.get(STORAGE_ID, REPOSITORY_ID, path, this::load);
+
+        assertThat(second).isNotSameAs(first).isNotSameAs(third);
+        assertThat(second.getDownloadCount()).isEqualTo(0);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testNullNotCached()
+    {
+        String path = "org/carlspring/test/1.0/test-1.0.jar";
+
+        assertThat(cache.get(STORAGE_ID, REPOSITORY_ID, path, () -> null)).isNull();
+        assertThat(cache.get(STORAGE_ID, REPOSITORY_ID, path, this::load)).isNotNull();
+        assertThat(cache.get(STORAGE_ID, REPOSITORY_ID, path, this::load)).isNotNull();
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testEvictPath()
+    {
+        String path = "org/carlspring/test/1.0/test-1.0.jar";
+        String otherPath = "org/carlspring/test/1.0/test-1.0.pom";
+
+        cache.get(STORAGE_ID, REPOSITORY_ID, path, this::load);
+        cache.get(STORAGE_ID, REPOSITORY_ID, otherPath, this::load);
+
+        cache.evict(STORAGE_ID, REPOSITORY_ID, path);
+
+        cache.get(STORAGE_ID, REPOSITORY_ID, path, this::load);
+        cache.get(STORAGE_ID, REPOSITORY_ID, otherPath, this::load);
+        assertThat(loadCount.get()).isEqualTo(3);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testEvictRepository()
+    {
+        cache.get(STORAGE_ID, REPOSITORY_ID, "org/carlspring/test/1.0/test-1.0.jar", this::load);
+        cache.get(STORAGE_ID, REPOSITORY_ID, "org/carlspring/test/1.1/test-1.1.jar", this::load);
+        cache.get(STORAGE_ID, "snapshots", "org/carlspring/test/1.0/test-1.0.jar", this::load);
+
+        cache.evict(STORAGE_ID, REPOSITORY_ID);
+
+        cache.get(STORAGE_ID, REPOSITORY_ID, "org/carlspring/test/1.0/test-1.0.jar", this::load);
+        cache.get(STORAGE_ID, REPOSITORY_ID, "org/carlspring/test/1.1/test-1.1.jar", this::load);
+        cache.get(STORAGE_ID, "snapshots", "org/carlspring/test/1.0/test-1.0.jar", this::load);
+        assertThat(loadCount.get()).isEqualTo(5);
+    }
+
+    @Test
+    public void testEntryLoadedConcurrentlyWithEvictionNotServed()
+    {
+        String path = "org/carlspring/test/1.0/test-1.0.jar";
+
+        // The record changes (and the path gets evicted) while the stale record is being loaded.
+        cache.get(STORAGE_ID, REPOSITORY_ID, path, () -> {
+            ArtifactEntry result = load();
+            cache.evict(STORAGE_ID, REPOSITORY_ID, path);
+
+            return result;
+        });
+
+        cache.get(STORAGE_ID, REPOSITORY_ID, path, this::load);
+        cache.get(STORAGE_ID, REPOSITORY_ID, path, this::load);
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testEvictedEntryNotServedOnceRegionVersionDropped()
+    {
+        String path = "org/carlspring/test/1.0/test-1.0.jar";
+
+        cache.get(STORAGE_ID, REPOSITORY_ID, path, this::load);
+        cache.evict(STORAGE_ID, REPOSITORY_ID, path);
+
+        // The region versions are dropped by the size or time limits of the regions cache.
+        cacheManager.getCache(CacheName.Common.CACHE_REGIONS).clear();
+
+        cache.get(STORAGE_ID, REPOSITORY_ID, path, this::load);
+        cache.get(STORAGE_ID, REPOSITORY_ID, path, this::load);
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testClear()
+    {
+        cache.get(STORAGE_ID, REPOSITORY_ID, "a.jar", this::load);
+        cache.get(STORAGE_ID, "snapshots", "a.jar", this::load);
+
+        cache.clear();
+
+        cache.get(STORAGE_ID, REPOSITORY_ID, "a.jar", this::load);
+        cache.get(STORAGE_ID, "snapshots", "a.jar", this::load);
+        assertThat(loadCount.get()).isEqualTo(4);
+    }
+
+    private ArtifactEntry load()
+    {
+        ArtifactEntry result = new ArtifactEntry();
+        result.setUuid(String.valueOf(loadCount.incrementAndGet()));
+
+        return result;
+    }
+
+}
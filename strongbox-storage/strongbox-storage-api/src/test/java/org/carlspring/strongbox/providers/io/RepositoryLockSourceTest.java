@@ -0,0 +1,294 @@
+package org.carlspring.strongbox.providers.io;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.stream.Stream;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrency tests for the {@link RepositoryLockSource} implementations and the {@link ArtifactPathReadWriteLock}.
+ */
+public class RepositoryLockSourceTest
+{
+
+    private static final int THREAD_COUNT = 8;
+
+    private static final int ITERATIONS = 200;
+
+    private static HazelcastInstance hazelcastInstance;
+
+    private ExecutorService executor;
+
+    @BeforeAll
+    public static void startHazelcast()
+    {
+        Config config = new Config().setInstanceName("repository-lock-source-test");
+        config.getNetworkConfig().getJoin().getMulticastConfig().setEnabled(false);
+
+        hazelcastInstance = Hazelcast.newHazelcastInstance(config);
+    }
+
+    @AfterAll
+    public static void stopHazelcast()
+    {
+        hazelcastInstance.shutdown();
+    }
+
+    private static Stream<RepositoryLockSource> lockSources()
+    {
+        return Stream.of(new LocalRepositoryLockSource(THREAD_COUNT),
+                         new ClusteredRepositoryLockSource(hazelcastInstance));
+    }
+
+    @BeforeEach
+    public void setUp()
+    {
+        executor = Executors.newFixedThreadPool(THREAD_COUNT);
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        executor.shutdownNow();
+    }
+
+    @ParameterizedTest
+    @MethodSource("lockSources")
+    public void writersShouldBeExclusive(RepositoryLockSource lockSource)
+        throws Exception
+    {
+        AtomicInteger concurrentWriters = new AtomicInteger();
+        AtomicInteger maxConcurrentWriters = new AtomicInteger();
+        int[] counter = new int[1];
+
+        runConcurrently(() -> {
+            for (int i = 0; i < ITERATIONS; i++)
+            {
+                Lock lock = lockSource.getLock("strongbox:/storage0/releases/a.jar").writeLock();
+                lock.lock();
+                try
+                {
+                    maxConcurrentWriters.accumulateAndGet(concurrentWriters.incrementAndGet(), Math::max);
+                    counter[0]++;
+                    concurrentWriters.decrementAndGet();
+                }
+                finally
+                {
+                    lock.unlock();
+                }
+            }
+
+            return null;
+        });
+
+        assertThat(maxConcurrentWriters.get()).isEqualTo(1);
+        assertThat(counter[0]).isEqualTo(THREAD_COUNT * ITERATIONS);
+    }
+
+    @ParameterizedTest
+    @MethodSource("lockSources")
+    public void readersShouldNotBlockEachOther(RepositoryLockSource lockSource)
+        throws Exception
+    {
+        CountDownLatch allReadersLocked = new CountDownLatch(THREAD_COUNT);
+
+        List<Boolean> results = runConcurrently(() -> {
+            Lock lock = lockSource.getLock("strongbox:/storage0/releases/b.jar").readLock();
+            lock.lock();
+            try
+            {
+                allReadersLocked.countDown();
+
+                // All the readers should hold the lock at the same time.
+                return allReadersLocked.await(10, TimeUnit.SECONDS);
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        });
+
+        assertThat(results).containsOnly(true);
+    }
+
+    @ParameterizedTest
+    @MethodSource("lockSources")
+    public void writerShouldBlockReaders(RepositoryLockSource lockSource)
+        throws Exception
+    {
+        String name = "strongbox:/storage0/releases/c.jar";
+        Lock writeLock = lockSource.getLock(name).writeLock();
+        writeLock.lock();
+        try
+        {
+            assertThat(executor.submit(() -> tryLockAndUnlock(lockSource.getLock(name).readLock())).get()).isFalse();
+            assertThat(executor.submit(() -> tryLockAndUnlock(lockSource.getLock(name + "?other").writeLock()))
+                               .get()).isTrue();
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+
+        assertThat(executor.submit(() -> tryLockAndUnlock(lockSource.getLock(name).readLock())).get()).isTrue();
+    }
+
+    @ParameterizedTest
+    @MethodSource("lockSources")
+    public void locksShouldBeReentrant(RepositoryLockSource lockSource)
+    {
+        ReadWriteLock lock = lockSource.getLock("strongbox:/storage0/releases/d.jar");
+
+        lock.writeLock().lock();
+        try
+        {
+            assertThat(lock.writeLock().tryLock()).isTrue();
+            lock.writeLock().unlock();
+
+            assertThat(lock.readLock().tryLock()).isTrue();
+            lock.readLock().unlock();
+        }
+        finally
+        {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("lockSources")
+    public void artifactReadersShouldNotContendWithinGroup(RepositoryLockSource lockSource)
+        throws Exception
+    {
+        String group = "storage0/releases/org.carlspring%3Aartifact";
+        ReadWriteLock v1 = new ArtifactPathReadWriteLock(lockSource.getLock(group),
+                                                         lockSource.getLock("strongbox:/storage0/releases/v1.jar"));
+        ReadWriteLock v2 = new ArtifactPathReadWriteLock(lockSource.getLock(group),
+                                                         lockSource.getLock("strongbox:/storage0/releases/v2.jar"));
+
+        v1.readLock().lock();
+        try
+        {
+            // The other artifact from the group can be written, while the same artifact can't.
+            assertThat(executor.submit(() -> tryLockAndUnlock(v2.writeLock())).get()).isTrue();
+            assertThat(executor.submit(() -> tryLockAndUnlock(v1.writeLock())).get()).isFalse();
+
+            // The group lock must not be left held after the failed attempt.
+            assertThat(executor.submit(() -> tryLockAndUnlock(lockSource.getLock(group).writeLock()))
+                               .get()).isTrue();
+        }
+        finally
+        {
+            v1.readLock().unlock();
+        }
+
+        v1.writeLock().lock();
+        try
+        {
+            // The writes are exclusive within the whole group.
+            assertThat(executor.submit(() -> tryLockAndUnlock(v2.writeLock())).get()).isFalse();
+            assertThat(executor.submit(() -> tryLockAndUnlock(v2.readLock())).get()).isTrue();
+        }
+        finally
+        {
+            v1.writeLock().unlock();
+        }
+    }
+
+    @Test
+    public void localLockShouldNotBeCollectedWhileHeld()
+        throws Exception
+    {
+        LocalRepositoryLockSource lockSource = new LocalRepositoryLockSource(THREAD_COUNT);
+        String name = "strongbox:/storage0/releases/e.jar";
+
+        // Only the `Lock` is referenced, as it is by the lock holders.
+        Lock writeLock = lockSource.getLock(name).writeLock();
+        writeLock.lock();
+        try
+        {
+            for (int i = 0; i < 5; i++)
+            {
+                System.gc();
+            }
+
+            assertThat(executor.submit(() -> tryLockAndUnlock(lockSource.getLock(name).writeLock())).get()).isFalse();
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+    }
+
+    @Test
+    public void unusedLocalLocksShouldBeCollected()
+        throws Exception
+    {
+        LocalRepositoryLockSource lockSource = new LocalRepositoryLockSource(THREAD_COUNT);
+        for (int i = 0; i < 1000; i++)
+        {
+            Lock lock = lockSource.getLock(String.format("strongbox:/storage0/releases/%s.jar", i)).readLock();
+            lock.lock();
+            lock.unlock();
+        }
+
+        for (int i = 0; i < 10 && lockSource.getSize() > 0; i++)
+        {
+            System.gc();
+            Thread.sleep(100);
+            // The weak map entries are cleaned up on access.
+            lockSource.getLock("strongbox:/storage0/releases/cleanup.jar");
+        }
+
+        assertThat(lockSource.getSize()).isLessThan(1000);
+    }
+
+    private <T> List<T> runConcurrently(Callable<T> task)
+        throws Exception
+    {
+        List<Callable<T>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++)
+        {
+            tasks.add(task);
+        }
+
+        List<T> result = new ArrayList<>();
+        for (Future<T> future : executor.invokeAll(tasks))
+        {
+            result.add(future.get());
+        }
+
+        return result;
+    }
+
+    private static boolean tryLockAndUnlock(Lock lock)
+    {
+        if (!lock.tryLock())
+        {
+            return false;
+        }
+        lock.unlock();
+
+        return true;
+    }
+
+}
@@ -0,0 +1,238 @@
+package org.carlspring.strongbox.providers.repository.group;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GroupRepositoryFetchExecutorTest
+{
+
+    private GroupRepositoryFetchExecutor executor;
+
+    @AfterEach
+    public void tearDown()
+    {
+        if (executor != null)
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testDeclaredOrderWins()
+            throws IOException
+    {
+        executor = new GroupRepositoryFetchExecutor(4, 4, 16);
+
+        // The second member responds faster, but the first one takes precedence.
+        List<StubRemote> members = Arrays.asList(new StubRemote("slow", 300, true),
+                                                 new StubRemote("fast", 10, true),
+                                                 new StubRemote("missing", 10, false));
+
+        String result = executor.resolveFirst(members, StubRemote::fetch, m -> false);
+
+        assertThat(result).isEqualTo("slow");
+    }
+
+    @Test
+    public void testMembersProbedConcurrently()
+            throws IOException
+    {
+        executor = new GroupRepositoryFetchExecutor(4, 4, 16);
+
+        List<StubRemote> members = Arrays.asList(new StubRemote("first", 200, false),
+                                                 new StubRemote("second", 200, false),
+                                                 new StubRemote("third", 200, false),
+                                                 new StubRemote("fourth", 200, true));
+
+        long start = System.nanoTime();
+        String result = executor.resolveFirst(members, StubRemote::fetch, m -> false);
+
+        assertThat(result).isEqualTo("fourth");
+
+        // Sequential probing would take at least 800ms.
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(700);
+    }
+
+    @Test
+    public void testParallelismIsBounded()
+            throws IOException
+    {
+        executor = new GroupRepositoryFetchExecutor(8, 2, 16);
+
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+
+        List<StubRemote> members = Arrays.asList(new StubRemote("1", 50, false),
+                                                 new StubRemote("2", 50, false),
+                                                 new StubRemote("3", 50, false),
+                                                 new StubRemote("4", 50, false),
+                                                 new StubRemote("5", 50, false));
+
+        String result = executor.resolveFirst(members, m -> {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try
+            {
+                return m.fetch();
+            }
+            finally
+            {
+                concurrent.decrementAndGet();
+            }
+        }, m -> false);
+
+        assertThat(result).isNull();
+        assertThat(maxConcurrent.get()).isLessThanOrEqualTo(2);
+        assertThat(members).allMatch(m -> m.getFetchCount() == 1);
+    }
+
+    @Test
+    public void testRemainingMembersNotProbedAfterHit()
+            throws IOException
+    {
+        executor = new GroupRepositoryFetchExecutor(4, 2, 16);
+
+        List<StubRemote> members = Arrays.asList(new StubRemote("1", 10, true),
+                                                 new StubRemote("2", 10, true),
+                                                 new StubRemote("3", 10, true),
+                                                 new StubRemote("4", 10, true));
+
+        String result = executor.resolveFirst(members, StubRemote::fetch, m -> false);
+
+        assertThat(result).isEqualTo("1");
+        assertThat(members.get(2).getFetchCount()).isEqualTo(0);
+        assertThat(members.get(3).getFetchCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void testInlineMembersProbedByCallingThread()
+            throws IOException
+    {
+        executor = new GroupRepositoryFetchExecutor(4, 4, 16);
+
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        List<StubRemote> members = Arrays.asList(new StubRemote("remote", 10, false),
+                                                 new StubRemote("group", 10, true));
+
+        String result = executor.resolveFirst(members, m -> {
+            if (m.getName().equals("group"))
+            {
+                threads.add(Thread.currentThread().getName());
+            }
+            return m.fetch();
+        }, m -> m.getName().equals("group"));
+
+        assertThat(result).isEqualTo("group");
+        assertThat(threads).containsExactly(Thread.currentThread().getName());
+    }
+
+    @Test
+    public void testInlineMembersNotProbedAfterPrecedingHit()
+            throws IOException
+    {
+        executor = new GroupRepositoryFetchExecutor(4, 4, 16);
+
+        List<StubRemote> members = Arrays.asList(new StubRemote("hosted", 100, true),
+                                                 new StubRemote("proxy", 10, true),
+                                                 new StubRemote("other-proxy", 10, true));
+
+        String result = executor.resolveFirst(members, StubRemote::fetch, m -> m.getName().endsWith("proxy"));
+
+        assertThat(result).isEqualTo("hosted");
+        assertThat(members.get(1).getFetchCount()).isEqualTo(0);
+        assertThat(members.get(2).getFetchCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void testProbedByCallingThreadWhenQueueIsFull()
+            throws IOException
+    {
+        executor = new GroupRepositoryFetchExecutor(1, 4, 1);
+
+        List<StubRemote> members = Arrays.asList(new StubRemote("1", 50, false),
+                                                 new StubRemote("2", 50, false),
+                                                 new StubRemote("3", 50, false),
+                                                 new StubRemote("4", 50, true));
+
+        String result = executor.resolveFirst(members, StubRemote::fetch, m -> false);
+
+        assertThat(result).isEqualTo("4");
+        assertThat(members).allMatch(m -> m.getFetchCount() == 1);
+    }
+
+    @Test
+    public void testProbeFailurePropagated()
+    {
+        executor = new GroupRepositoryFetchExecutor(4, 4, 16);
+
+        List<StubRemote> members = Arrays.asList(new StubRemote("1", 10, false),
+                                                 new StubRemote("2", 10, false));
+
+        assertThrows(IOException.class, () -> executor.resolveFirst(members, m -> {
+            throw new IOException(m.getName());
+        }, m -> false));
+    }
+
+    /**
+     * Stands for a remote repository, which responds after the given latency.
+     */
+    private static class StubRemote
+    {
+
+        private final String name;
+
+        private final long latency;
+
+        private final boolean found;
+
+        private final AtomicInteger fetchCount = new AtomicInteger();
+
+        private StubRemote(String name,
+                           long latency,
+                           boolean found)
+        {
+            this.name = name;
+            this.latency = latency;
+            this.found = found;
+        }
+
+        private String fetch()
+                throws IOException
+        {
+            fetchCount.incrementAndGet();
+            try
+            {
+                Thread.sleep(latency);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+
+                throw new IOException(e);
+            }
+
+            return found ? name : null;
+        }
+
+        private String getName()
+        {
+            return name;
+        }
+
+        private int getFetchCount()
+        {
+            return fetchCount.get();
+        }
+
+    }
+
+}
@@ -0,0 +1,104 @@
+package org.carlspring.strongbox.providers.repository.group;
+
+import org.carlspring.strongbox.data.CacheName;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GroupRepositoryNegativeCacheTest
+{
+
+    private static final String STORAGE_ID = "storage0";
+
+    private static final String REPOSITORY_ID = "central";
+
+    private static final String PATH = "org/carlspring/test/1.0/test-1.0.jar";
+
+    private GroupRepositoryNegativeCache cache;
+
+    @BeforeEach
+    public void setUp()
+    {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheName.Common.CACHE_REGIONS,
+                                                                               CacheName.Repository.GROUP_REPOSITORY_MISSING_PATHS);
+        cacheManager.setStoreByValue(true);
+
+        cache = new GroupRepositoryNegativeCache(cacheManager);
+    }
+
+    @Test
+    public void testRecordMissing()
+    {
+        assertThat(cache.isMissing(STORAGE_ID, REPOSITORY_ID, PATH)).isFalse();
+
+        recordMissing(PATH);
+
+        assertThat(cache.isMissing(STORAGE_ID, REPOSITORY_ID, PATH)).isTrue();
+        assertThat(cache.isMissing(STORAGE_ID, "releases", PATH)).isFalse();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testResolvedPathNotRecorded()
+    {
+        assertThat(cache.resolve(STORAGE_ID, REPOSITORY_ID, PATH, () -> PATH)).isEqualTo(PATH);
+
+        assertThat(cache.isMissing(STORAGE_ID, REPOSITORY_ID, PATH)).isFalse();
+    }
+
+    @Test
+    public void testMissingPathNotResolvedAgain()
+    {
+        recordMissing(PATH);
+
+        assertThat(cache.resolve(STORAGE_ID, REPOSITORY_ID, PATH, () -> PATH)).isNull();
+    }
+
+    @Test
+    public void testPathStoredConcurrentlyNotRecorded()
+    {
+        cache.resolve(STORAGE_ID, REPOSITORY_ID, PATH, () -> {
+            cache.evict(STORAGE_ID, REPOSITORY_ID, PATH);
+
+            return null;
+        });
+
+        assertThat(cache.isMissing(STORAGE_ID, REPOSITORY_ID, PATH)).isFalse();
+    }
+
+    @Test
+    public void testEvictParentsAndChildren()
+    {
+        recordMissing("org/carlspring/test");
+        recordMissing("org/carlspring/test/1.0");
+        recordMissing(PATH);
+        recordMissing("org/carlspring/test-other");
+        recordMissing("org/carlspring/test/1.1");
+
+        cache.evict(STORAGE_ID, REPOSITORY_ID, "org/carlspring/test/1.0");
+
+        assertThat(cache.isMissing(STORAGE_ID, REPOSITORY_ID, "org/carlspring/test")).isFalse();
+        assertThat(cache.isMissing(STORAGE_ID, REPOSITORY_ID, "org/carlspring/test/1.0")).isFalse();
+        assertThat(cache.isMissing(STORAGE_ID, REPOSITORY_ID, PATH)).isFalse();
+        assertThat(cache.isMissing(STORAGE_ID, REPOSITORY_ID, "org/carlspring/test-other")).isTrue();
+        assertThat(cache.isMissing(STORAGE_ID, REPOSITORY_ID, "org/carlspring/test/1.1")).isTrue();
+    }
+
+    @Test
+    public void testClear()
+    {
+        recordMissing(PATH);
+
+        cache.clear();
+
+        assertThat(cache.isMissing(STORAGE_ID, REPOSITORY_ID, PATH)).isFalse();
+    }
+
+    private void recordMissing(String path)
+    {
+        cache.resolve(STORAGE_ID, REPOSITORY_ID, path, () -> null);
+    }
+
+}
@@ -0,0 +1,213 @@
+package org.carlspring.strongbox.providers.repository.group;
+
+import org.carlspring.strongbox.data.criteria.Paginator.Order;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GroupRepositorySearchMergerTest
+{
+
+    private final Map<String, List<String>> members = new LinkedHashMap<>();
+
+    private final List<String> requestedRecordIds = new ArrayList<>();
+
+    @Test
+    public void testMergeOrderAndDuplicates()
+    {
+        members.put("releases", Arrays.asList("a", "c", "e"));
+        members.put("snapshots", Arrays.asList("b", "c", "d"));
+
+        GroupRepositorySearchPage<String> page = createMerger(Order.ASC).fetch(null, 0, 10);
+
+        assertThat(page.getResults()).containsExactly("a", "b", "c", "d", "e");
+        assertThat(page.getNextToken()).isNull();
+    }
+
+    @Test
+    public void testDescendingOrder()
+    {
+        members.put("releases", Arrays.asList("e", "c", "a"));
+        members.put("snapshots", Arrays.asList("d", "c", "b"));
+
+        GroupRepositorySearchPage<String> page = createMerger(Order.DESC).fetch(null, 0, 10);
+
+        assertThat(page.getResults()).containsExactly("e", "d", "c", "b", "a");
+    }
+
+    @Test
+    public void testSkip()
+    {
+        members.put("releases", Arrays.asList("a", "c", "e"));
+        members.put("snapshots", Arrays.asList("b", "c", "d"));
+
+        GroupRepositorySearchPage<String> page = createMerger(Order.ASC).fetch(null, 2, 2);
+
+        assertThat(page.getResults()).containsExactly("c", "d");
+        assertThat(page.getNextToken()).isNotNull();
+    }
+
+    @Test
+    public void testPagesWithTokens()
+    {
+        for (int i = 0; i < 5; i++)
+        {
+            List<String> values = new ArrayList<>();
+            for (int j = 0; j < 200; j++)
+            {
+                // Every third value is available within several members.
+                values.add(String.format("%05d", j % 3 == 0 ? j * 10 : j * 10 + i + 1));
+            }
+            values.sort(Comparator.naturalOrder());
+            members.put("repository" + i, values);
+        }
+
+        GroupRepositorySearchMerger<String> merger = createMerger(Order.ASC);
+        List<String> expected = members.values()
+                                       .stream()
+                                       .flatMap(List::stream)
+                                       .distinct()
+                                       .sorted()
+                                       .collect(Collectors.toList());
+
+        List<String> results = new ArrayList<>();
+        GroupRepositorySearchToken token = null;
+        do
+        {
+            boolean firstPage = token == null;
+            requestedRecordIds.clear();
+
+            GroupRepositorySearchPage<String> page = merger.fetch(token, 0, 7);
+            results.addAll(page.getResults());
+            token = page.getNextToken();
+
+            // Keyset pagination: the members are queried right after the last consumed result, rather than from the
+            // start.
+            assertThat(requestedRecordIds).allMatch(id -> firstPage || id != null);
+        }
+        while (token != null);
+
+        assertThat(results).isEqualTo(expected);
+    }
+
+    @Test
+    public void testDuplicatesWithDifferentSortValues()
+    {
+        // The `artifact:downloadCount` results sorted by the download count, which differs within the members.
+        members.put("releases", Arrays.asList("b:1", "a:5"));
+        members.put("snapshots", Arrays.asList("a:2", "c:3"));
+
+        GroupRepositorySearchMerger<String> merger = new GroupRepositorySearchMerger<>(
+                new ArrayList<>(members.keySet()),
+                (member, fromValue, fromRecordId, limit) -> query(member, v -> downloadCount(v), Order.ASC, fromValue,
+                                                                  fromRecordId, limit),
+                v -> downloadCount(v),
+                v -> v,
+                v -> v.split(":")[0],
+                (member, v) -> members.get(member).stream().anyMatch(m -> m.startsWith(v.split(":")[0] + ":")),
+                Order.ASC);
+
+        GroupRepositorySearchPage<String> page = merger.fetch(null, 0, 10);
+
+        assertThat(page.getResults()).containsExactly("b:1", "c:3", "a:5");
+    }
+
+    @Test
+    public void testPagesWithSameSortValue()
+    {
+        // The `artifact:group` results sorted by the group, which is the same for all the results.
+        members.put("releases", new ArrayList<>(Arrays.asList("g:a2", "g:a4", "g:a6", "g:a8")));
+        members.put("snapshots", new ArrayList<>(Arrays.asList("g:a3", "g:a5", "g:a7")));
+
+        GroupRepositorySearchMerger<String> merger = new GroupRepositorySearchMerger<>(
+                new ArrayList<>(members.keySet()),
+                (member, fromValue, fromRecordId, limit) -> query(member, v -> group(v), Order.ASC, fromValue,
+                                                                  fromRecordId, limit),
+                v -> group(v),
+                v -> v,
+                v -> v,
+                Order.ASC);
+
+        GroupRepositorySearchPage<String> firstPage = merger.fetch(null, 0, 3);
+        assertThat(firstPage.getResults()).containsExactly("g:a2", "g:a4", "g:a6");
+
+        // The result added meanwhile before the last consumed one doesn't shift the next page.
+        members.get("releases").add(0, "g:a1");
+
+        GroupRepositorySearchPage<String> secondPage = merger.fetch(firstPage.getNextToken(), 0, 10);
+        assertThat(secondPage.getResults()).containsExactly("g:a8", "g:a3", "g:a5", "g:a7");
+        assertThat(secondPage.getNextToken()).isNull();
+    }
+
+    private static String group(String value)
+    {
+        return value.split(":")[0];
+    }
+
+    private static Integer downloadCount(String value)
+    {
+        return Integer.valueOf(value.split(":")[1]);
+    }
+
+    private GroupRepositorySearchMerger<String> createMerger(Order order)
+    {
+        return new GroupRepositorySearchMerger<>(new ArrayList<>(members.keySet()),
+                                                 (member, fromValue, fromRecordId, limit) -> {
+                                                     requestedRecordIds.add(fromRecordId);
+
+                                                     return query(member, v -> v, order, fromValue, fromRecordId,
+                                                                  limit);
+                                                 },
+                                                 v -> v,
+                                                 v -> v,
+                                                 v -> v,
+                                                 order);
+    }
+
+    /**
+     * Queries the member results (the record identifier is the result itself) sorted by the sort value and then by
+     * the record identifier, starting right after the last consumed result.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private List<String> query(String member,
+                               Function<String, Comparable> sortValue,
+                               Order order,
+                               Object fromValue,
+                               String fromRecordId,
+                               int limit)
+    {
+        Comparator<String> comparator = Comparator.comparing(sortValue).thenComparing(Comparator.naturalOrder());
+        if (Order.DESC.equals(order))
+        {
+            comparator = comparator.reversed();
+        }
+
+        int direction = Order.DESC.equals(order) ? -1 : 1;
+
+        return members.get(member)
+                      .stream()
+                      .sorted(comparator)
+                      .filter(v -> {
+                          if (fromRecordId == null)
+                          {
+                              return true;
+                          }
+
+                          int result = sortValue.apply(v).compareTo(fromValue);
+
+                          return (result != 0 ? result : v.compareTo(fromRecordId)) * direction > 0;
+                      })
+                      .limit(limit)
+                      .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,270 @@
+package org.carlspring.strongbox.services.impl;
+
+import org.carlspring.strongbox.StorageApiTestConfig;
+import org.carlspring.strongbox.artifact.coordinates.RawArtifactCoordinates;
+import org.carlspring.strongbox.data.CacheManagerTestExecutionListener;
+import org.carlspring.strongbox.data.criteria.Expression.ExpOperator;
+import org.carlspring.strongbox.data.criteria.OQueryTemplate;
+import org.carlspring.strongbox.data.criteria.Paginator;
+import org.carlspring.strongbox.data.criteria.Predicate;
+import org.carlspring.strongbox.data.criteria.QueryTemplate;
+import org.carlspring.strongbox.data.criteria.Selector;
+import org.carlspring.strongbox.domain.ArtifactArchiveEntry;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.services.ArtifactArchiveEntryService;
+import org.carlspring.strongbox.services.ArtifactEntryService;
+
+import javax.inject.Inject;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.orientechnologies.orient.core.db.ODatabasePool;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Functional test for {@link ArtifactArchiveEntryService}, along with the `uuid IN (SELECT ...)` nested query, which
+ * is used by the `archive` AQL keyword.
+ */
+@SpringBootTest
+@ActiveProfiles(profiles = "test")
+@ContextConfiguration(classes = StorageApiTestConfig.class)
+@TestExecutionListeners(listeners = { CacheManagerTestExecutionListener.class },
+                        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
+public class ArtifactArchiveEntryServiceTest
+{
+
+    private static final String STORAGE_ID = "storage0";
+
+    private static final String REPOSITORY_ID = "aaest";
+
+    private static final String OTHER_REPOSITORY_ID = "aaest-other";
+
+    @Inject
+    private ArtifactArchiveEntryService artifactArchiveEntryService;
+
+    @Inject
+    private ArtifactEntryService artifactEntryService;
+
+    @Inject
+    private PlatformTransactionManager transactionManager;
+
+    @Inject
+    private ODatabasePool databasePool;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final List<ArtifactEntry> artifactEntries = new ArrayList<>();
+
+    private String packageName;
+
+    @BeforeEach
+    public void setup(TestInfo testInfo)
+    {
+        Assumptions.assumeTrue(testInfo.getTestMethod().isPresent());
+        packageName = "org/carlspring/strongbox/aaest/" + testInfo.getTestMethod().get().getName().toLowerCase();
+    }
+
+    @AfterEach
+    public void cleanup()
+    {
+        artifactEntryService.delete(artifactEntries);
+    }
+
+    @Test
+    public void saveArchiveEntriesShouldReplaceTheEntries()
+    {
+        ArtifactEntry artifactEntry = createArtifactEntry(REPOSITORY_ID, "foo.jar");
+
+        artifactArchiveEntryService.saveArchiveEntries(artifactEntry, entries(packageName + "/Foo.class",
+                                                                              packageName + "/Bar.class"));
+        artifactArchiveEntryService.saveArchiveEntries(artifactEntry, entries(packageName + "/Foo.class",
+                                                                              "META-INF/MANIFEST.MF"));
+
+        assertThat(artifactArchiveEntryService.findArchivePaths(artifactEntry))
+                .containsExactly("META-INF/MANIFEST.MF", packageName + "/Foo.class");
+
+        List<ArtifactArchiveEntry> archiveEntries = artifactArchiveEntryService.findArchiveEntries(artifactEntry);
+        assertThat(archiveEntries).hasSize(2);
+        assertThat(archiveEntries).allMatch(e -> artifactEntry.getUuid().equals(e.getArtifactEntryUuid()));
+        assertThat(archiveEntries.get(0).getClassName()).isNull();
+        assertThat(archiveEntries.get(1).getClassName()).isEqualTo(packageName.replace('/', '.') + ".Foo");
+    }
+
+    @Test
+    public void deleteArchiveEntriesShouldWork()
+    {
+        ArtifactEntry artifactEntry = createArtifactEntry(REPOSITORY_ID, "foo.jar");
+        ArtifactEntry otherArtifactEntry = createArtifactEntry(REPOSITORY_ID, "bar.jar");
+
+        artifactArchiveEntryService.saveArchiveEntries(artifactEntry, entries(packageName + "/Foo.class"));
+        artifactArchiveEntryService.saveArchiveEntries(otherArtifactEntry, entries(packageName + "/Bar.class"));
+
+        assertThat(artifactArchiveEntryService.deleteArchiveEntries(artifactEntry)).isEqualTo(1);
+
+        assertThat(artifactArchiveEntryService.findArchivePaths(artifactEntry)).isEmpty();
+        assertThat(artifactArchiveEntryService.findArchivePaths(otherArtifactEntry)).hasSize(1);
+    }
+
+    @Test
+    public void deleteArtifactEntryShouldDeleteArchiveEntries()
+    {
+        ArtifactEntry artifactEntry = createArtifactEntry(REPOSITORY_ID, "foo.jar");
+        artifactArchiveEntryService.saveArchiveEntries(artifactEntry, entries(packageName + "/Foo.class"));
+
+        artifactEntryService.delete(artifactEntry);
+        artifactEntries.remove(artifactEntry);
+
+        assertThat(artifactArchiveEntryService.findArchivePaths(artifactEntry)).isEmpty();
+    }
+
+    @Test
+    public void searchShouldMatchPathOrClassName()
+    {
+        ArtifactEntry artifactEntry = createArtifactEntry(REPOSITORY_ID, "foo.jar");
+        ArtifactEntry otherArtifactEntry = createArtifactEntry(OTHER_REPOSITORY_ID, "foo.jar");
+
+        artifactArchiveEntryService.saveArchiveEntries(artifactEntry, entries(packageName + "/Foo.class",
+                                                                              packageName + "/Bar.class"));
+        artifactArchiveEntryService.saveArchiveEntries(otherArtifactEntry, entries(packageName + "/Foo.class"));
+
+        String className = packageName.replace('/', '.') + ".Foo";
+
+        assertThat(search(null, packageName + "/Foo.class", 100)).hasSize(2);
+        assertThat(search(null, className, 100)).hasSize(2);
+        assertThat(search(REPOSITORY_ID, className, 100)).extracting(ArtifactArchiveEntry::getRepositoryId)
+                                                         .containsExactly(REPOSITORY_ID);
+        assertThat(search(REPOSITORY_ID, packageName + "/*", 100)).hasSize(2);
+        assertThat(search(null, packageName + "/*", 1)).hasSize(1);
+        assertThat(search(null, className + "*", 100)).hasSize(2);
+        assertThat(search(REPOSITORY_ID, packageName.replace('/', '.') + ".*", 100)).hasSize(2);
+        assertThat(search(REPOSITORY_ID, "*" + packageName + "/Bar.class", 100)).hasSize(1);
+        assertThat(search(null, packageName + "/Baz.class", 100)).isEmpty();
+        assertThat(search(null, packageName + "/Baz*", 100)).isEmpty();
+    }
+
+    @Test
+    public void archiveEntryIndexesShouldExist()
+    {
+        try (ODatabaseSession session = databasePool.acquire())
+        {
+            OClass oClass = session.getMetadata().getSchema().getClass(ArtifactArchiveEntry.class.getSimpleName());
+
+            assertThat(oClass.getClassIndex("ArtifactArchiveEntry.artifactEntryUuid")).isNotNull();
+            assertThat(oClass.getClassIndex("ArtifactArchiveEntry.path")).isNotNull();
+            assertThat(oClass.getClassIndex("ArtifactArchiveEntry.className")).isNotNull();
+        }
+    }
+
+    @Test
+    public void searchLimitShouldBeClamped()
+    {
+        ArtifactEntry artifactEntry = createArtifactEntry(REPOSITORY_ID, "foo.jar");
+
+        List<String> paths = new ArrayList<>();
+        for (int i = 0; i <= Paginator.MAX_LIMIT; i++)
+        {
+            paths.add(String.format("%s/Foo%s.class", packageName, i));
+        }
+        artifactArchiveEntryService.saveArchiveEntries(artifactEntry, entries(paths.toArray(new String[0])));
+
+        assertThat(search(REPOSITORY_ID, packageName + "/*", Integer.MAX_VALUE)).hasSize(Paginator.MAX_LIMIT);
+        assertThat(search(REPOSITORY_ID, packageName + "/*", 0)).hasSize(Paginator.MAX_LIMIT);
+    }
+
+    @Test
+    public void nestedArchiveQueryShouldSelectArtifactEntries()
+    {
+        ArtifactEntry fooEntry = createArtifactEntry(REPOSITORY_ID, "foo.jar");
+        ArtifactEntry barEntry = createArtifactEntry(REPOSITORY_ID, "bar.jar");
+        ArtifactEntry otherFooEntry = createArtifactEntry(OTHER_REPOSITORY_ID, "foo.jar");
+
+        artifactArchiveEntryService.saveArchiveEntries(fooEntry, entries(packageName + "/Foo.class"));
+        artifactArchiveEntryService.saveArchiveEntries(barEntry, entries(packageName + "/Bar.class"));
+        artifactArchiveEntryService.saveArchiveEntries(otherFooEntry, entries(packageName + "/Foo.class"));
+
+        String className = packageName.replace('/', '.') + ".Foo";
+
+        assertThat(selectByArchive(REPOSITORY_ID, className, ExpOperator.EQ)).containsExactly(fooEntry.getUuid());
+        assertThat(selectByArchive(REPOSITORY_ID, packageName + "/%", ExpOperator.LIKE))
+                .containsExactlyInAnyOrder(fooEntry.getUuid(), barEntry.getUuid());
+        assertThat(selectByArchive(OTHER_REPOSITORY_ID, packageName + "/Bar.class", ExpOperator.EQ)).isEmpty();
+    }
+
+    /**
+     * Selects the artifact entries of the repository, which archives contain the path or the class name, the same
+     * way as the `archive` AQL keyword does.
+     */
+    private List<String> selectByArchive(String repositoryId,
+                                         String value,
+                                         ExpOperator operator)
+    {
+        Selector<ArtifactArchiveEntry> archiveSelector = new Selector<>(ArtifactArchiveEntry.class);
+        archiveSelector.select("artifactEntryUuid");
+        archiveSelector.where(Predicate.of(operator.of("path", value))
+                                       .or(Predicate.of(operator.of("className", value))));
+
+        Selector<ArtifactEntry> selector = new Selector<>(ArtifactEntry.class);
+        selector.where(Predicate.of(ExpOperator.EQ.of("storageId", STORAGE_ID)))
+                .and(Predicate.of(ExpOperator.EQ.of("repositoryId", repositoryId)))
+                .and(Predicate.of(ExpOperator.IN.of("uuid", archiveSelector)));
+
+        return new TransactionTemplate(transactionManager).execute(t -> {
+            QueryTemplate<List<ArtifactEntry>, ArtifactEntry> queryTemplate = new OQueryTemplate<>(entityManager);
+            List<ArtifactEntry> result = queryTemplate.select(selector);
+
+            return result.stream().map(ArtifactEntry::getUuid).collect(Collectors.toList());
+        });
+    }
+
+    private List<ArtifactArchiveEntry> search(String repositoryId,
+                                              String query,
+                                              int limit)
+    {
+        return artifactArchiveEntryService.search(STORAGE_ID, repositoryId, query, 0, limit);
+    }
+
+    private ArtifactEntry createArtifactEntry(String repositoryId,
+                                              String fileName)
+    {
+        ArtifactEntry artifactEntry = new ArtifactEntry();
+        artifactEntry.setArtifactCoordinates(new RawArtifactCoordinates(packageName + "/" + fileName));
+        artifactEntry.setStorageId(STORAGE_ID);
+        artifactEntry.setRepositoryId(repositoryId);
+
+        artifactEntry = artifactEntryService.save(artifactEntry);
+        artifactEntries.add(artifactEntry);
+
+        return artifactEntry;
+    }
+
+    private static Map<String, Long> entries(String... paths)
+    {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (String path : paths)
+        {
+            result.put(path, 100L);
+        }
+
+        return result;
+    }
+
+}
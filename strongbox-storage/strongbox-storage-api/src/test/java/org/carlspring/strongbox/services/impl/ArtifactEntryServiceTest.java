@@ -8,10 +8,12 @@ import org.carlspring.strongbox.data.CacheManagerTestExecutionListener;
 import org.carlspring.strongbox.data.service.support.search.PagingCriteria;
 import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.services.ArtifactEntryService;
+import org.carlspring.strongbox.services.support.ArtifactEntrySearchCriteria;
 
 import javax.inject.Inject;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -242,6 +244,40 @@ public class ArtifactEntryServiceTest
         assertThat(entries).hasSize(all - 1);
     }
 
+    @Test
+    public void searchWithKeysetPagingShouldWork(TestInfo testInfo)
+    {
+        final String groupId = getGroupId(GROUP_ID, testInfo);
+
+        int all = count(groupId);
+        updateArtifactAttributes(groupId);
+
+        ArtifactEntrySearchCriteria searchCriteria = anArtifactEntrySearchCriteria().withMinSizeInBytes(500L)
+                                                                                     .build();
+        List<ArtifactEntry> entries = new ArrayList<>();
+        String uuidAfter = null;
+        for (List<ArtifactEntry> page = artifactEntryService.findMatching(searchCriteria, uuidAfter, 1);
+             !page.isEmpty();
+             page = artifactEntryService.findMatching(searchCriteria, uuidAfter, 1))
+        {
+            assertThat(page).hasSize(1);
+
+            ArtifactEntry entry = page.get(0);
+            if (uuidAfter != null)
+            {
+                assertThat(entry.getUuid()).isGreaterThan(uuidAfter);
+            }
+            uuidAfter = entry.getUuid();
+
+            if (entry.getArtifactCoordinates().getId().startsWith(groupId))
+            {
+                entries.add(entry);
+            }
+        }
+
+        assertThat(entries).hasSize(all - 1);
+    }
+
     @Test
     public void deleteAllShouldWork(TestInfo testInfo)
     {
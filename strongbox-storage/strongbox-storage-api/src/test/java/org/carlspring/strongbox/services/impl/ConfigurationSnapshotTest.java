@@ -0,0 +1,114 @@
+package org.carlspring.strongbox.services.impl;
+
+import org.carlspring.strongbox.StorageApiTestConfig;
+import org.carlspring.strongbox.configuration.Configuration;
+import org.carlspring.strongbox.configuration.MutableConfiguration;
+import org.carlspring.strongbox.services.ConfigurationManagementService;
+import org.carlspring.strongbox.storage.StorageDto;
+import org.carlspring.strongbox.storage.repository.RepositoryDto;
+
+import javax.inject.Inject;
+import java.io.IOException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that {@link ConfigurationManagementService#getConfiguration()} shares the configuration snapshot between the
+ * reads, and publishes a new one (with a new configuration version) once the configuration is modified.
+ * <p>
+ * The snapshot throughput is measured by the <code>ConfigurationManagementServiceBenchmark</code> within the
+ * <code>strongbox-benchmarks</code> module.
+ */
+@SpringBootTest
+@ActiveProfiles(profiles = "test")
+@ContextConfiguration(classes = StorageApiTestConfig.class)
+public class ConfigurationSnapshotTest
+{
+
+    private static final String STORAGE_ID = "storage-config-snapshot";
+
+    private static final int REPOSITORY_COUNT = 16;
+
+    @Inject
+    private ConfigurationManagementService configurationManagementService;
+
+    @BeforeEach
+    public void setUp()
+        throws IOException
+    {
+        StorageDto storage = new StorageDto(STORAGE_ID);
+        for (int i = 0; i < REPOSITORY_COUNT; i++)
+        {
+            RepositoryDto repository = new RepositoryDto(String.format("releases-%s", i));
+            repository.setStorage(storage);
+            storage.addRepository(repository);
+        }
+
+        configurationManagementService.saveStorage(storage);
+    }
+
+    @AfterEach
+    public void tearDown()
+        throws IOException
+    {
+        configurationManagementService.removeStorage(STORAGE_ID);
+    }
+
+    @Test
+    public void snapshotShouldBeSharedUntilModified()
+        throws IOException
+    {
+        Configuration configuration = configurationManagementService.getConfiguration();
+        long version = configurationManagementService.getConfigurationVersion();
+
+        assertThat(configuration.getStorage(STORAGE_ID).getRepositories()).hasSize(REPOSITORY_COUNT);
+        assertThat(configurationManagementService.getConfiguration()).isSameAs(configuration);
+        assertThat(configurationManagementService.getConfigurationVersion()).isEqualTo(version);
+
+        configurationManagementService.setInstanceName(configuration.getInstanceName());
+
+        assertThat(configurationManagementService.getConfiguration()).isNotSameAs(configuration);
+        assertThat(configurationManagementService.getConfigurationVersion()).isGreaterThan(version);
+    }
+
+    @Test
+    public void snapshotShouldNotBeAffectedByMutableClone()
+        throws IOException
+    {
+        Configuration configuration = configurationManagementService.getConfiguration();
+        long version = configurationManagementService.getConfigurationVersion();
+
+        MutableConfiguration mutableConfiguration = configurationManagementService.getMutableConfigurationClone();
+        mutableConfiguration.getStorage(STORAGE_ID).removeRepository("releases-0");
+
+        assertThat(configurationManagementService.getConfiguration()).isSameAs(configuration);
+        assertThat(configurationManagementService.getConfigurationVersion()).isEqualTo(version);
+        assertThat(configuration.getStorage(STORAGE_ID).getRepositories()).hasSize(REPOSITORY_COUNT);
+        assertThat(configuration.getRepository(STORAGE_ID, "releases-0")).isNotNull();
+    }
+
+    @Test
+    public void snapshotShouldReflectModifications()
+        throws IOException
+    {
+        Configuration configuration = configurationManagementService.getConfiguration();
+        long version = configurationManagementService.getConfigurationVersion();
+
+        configurationManagementService.removeRepository(STORAGE_ID, "releases-0");
+
+        Configuration modifiedConfiguration = configurationManagementService.getConfiguration();
+        assertThat(modifiedConfiguration.getStorage(STORAGE_ID).getRepositories()).hasSize(REPOSITORY_COUNT - 1);
+        assertThat(modifiedConfiguration.getRepository(STORAGE_ID, "releases-0")).isNull();
+        assertThat(configurationManagementService.getConfigurationVersion()).isGreaterThan(version);
+
+        // The previous snapshot is immutable, so the readers holding it keep a consistent view.
+        assertThat(configuration.getStorage(STORAGE_ID).getRepositories()).hasSize(REPOSITORY_COUNT);
+    }
+
+}
@@ -1,18 +1,30 @@
 package org.carlspring.strongbox.services.impl;
 
 import org.carlspring.strongbox.StorageApiTestConfig;
+import org.carlspring.strongbox.artifact.ArtifactTag;
+import org.carlspring.strongbox.artifact.coordinates.RawArtifactCoordinates;
 import org.carlspring.strongbox.data.CacheManagerTestExecutionListener;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.domain.ArtifactTagEntry;
 import org.carlspring.strongbox.domain.RepositoryArtifactIdGroupEntry;
+import org.carlspring.strongbox.services.ArtifactTagService;
 import org.carlspring.strongbox.services.RepositoryArtifactIdGroupService;
 
 import javax.inject.Inject;
+import java.util.List;
+import java.util.stream.Collectors;
 
+import com.orientechnologies.orient.core.db.ODatabasePool;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestExecutionListeners;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
@@ -29,6 +41,12 @@ class RepositoryArtifactIdGroupServiceImplTest
     @Inject
     private RepositoryArtifactIdGroupService repositoryArtifactIdGroupService;
 
+    @Inject
+    private ArtifactTagService artifactTagService;
+
+    @Inject
+    private ODatabasePool databasePool;
+
     @Test
     public void repositoryArtifactIdGroupShouldBeProtectedByIndex()
     {
@@ -47,4 +65,68 @@ class RepositoryArtifactIdGroupServiceImplTest
                     System.out.println(repositoryArtifactIdGroupService.save(g2).getObjectId());
         });
     }
+
+    @Test
+    public void artifactEntriesShouldBeLookedUpByIndex()
+    {
+        try (ODatabaseSession session = databasePool.acquire())
+        {
+            OClass oClass = session.getMetadata().getSchema().getClass(ArtifactEntry.class.getSimpleName());
+            OIndex<?> index = oClass.getClassIndex("ArtifactEntry.artifactIdGroup");
+
+            assertThat(index).isNotNull();
+            assertThat(index.getDefinition().getFields()).containsExactly("storageId", "repositoryId",
+                                                                          "artifactIdGroup");
+        }
+    }
+
+    @Test
+    public void lastVersionShouldBeTrackedByGroup()
+    {
+        repositoryArtifactIdGroupService.findOneOrCreate("s1", "r1", "a2");
+
+        addArtifactToGroup("s1", "r1", "a2", "org/carlspring/a2/1.0");
+        addArtifactToGroup("s1", "r1", "a2", "org/carlspring/a2/2.0");
+        addArtifactToGroup("s1", "r1", "a2", "org/carlspring/a2/1.5");
+        // The same artifact stored again.
+        addArtifactToGroup("s1", "r1", "a2", "org/carlspring/a2/2.0");
+
+        RepositoryArtifactIdGroupEntry group = repositoryArtifactIdGroupService.findOne("s1", "r1", "a2");
+        assertThat(group.getLastVersionEntries().stream().map(ArtifactEntry::getArtifactPath))
+                .containsExactly("org/carlspring/a2/2.0");
+
+        ArtifactTag lastVersionTag = artifactTagService.findOneOrCreate(ArtifactTagEntry.LAST_VERSION);
+        List<ArtifactEntry> artifactEntries = repositoryArtifactIdGroupService.findArtifactEntries(group);
+        assertThat(artifactEntries).allMatch(e -> "a2".equals(e.getArtifactIdGroup()));
+        assertThat(artifactEntries.stream().map(ArtifactEntry::getArtifactPath))
+                .containsExactlyInAnyOrder("org/carlspring/a2/1.0", "org/carlspring/a2/1.5", "org/carlspring/a2/2.0");
+        assertThat(artifactEntries.stream()
+                                  .filter(e -> e.getTagSet().contains(lastVersionTag))
+                                  .map(ArtifactEntry::getArtifactPath)
+                                  .collect(Collectors.toList()))
+                .containsExactly("org/carlspring/a2/2.0");
+    }
+
+    private void addArtifactToGroup(String storageId,
+                                    String repositoryId,
+                                    String artifactId,
+                                    String path)
+    {
+        RepositoryArtifactIdGroupEntry group = repositoryArtifactIdGroupService.findOne(storageId, repositoryId,
+                                                                                        artifactId);
+        ArtifactEntry artifactEntry = repositoryArtifactIdGroupService.findArtifactEntries(group)
+                                                                      .stream()
+                                                                      .filter(e -> path.equals(e.getArtifactPath()))
+                                                                      .findFirst()
+                                                                      .orElseGet(ArtifactEntry::new);
+        if (artifactEntry.getArtifactCoordinates() == null)
+        {
+            artifactEntry.setStorageId(storageId);
+            artifactEntry.setRepositoryId(repositoryId);
+            artifactEntry.setArtifactCoordinates(new RawArtifactCoordinates(path));
+        }
+
+        repositoryArtifactIdGroupService.addArtifactToGroup(group, artifactEntry);
+    }
+
 }
@@ -0,0 +1,125 @@
+package org.carlspring.strongbox.services.support;
+
+import org.carlspring.strongbox.storage.StorageDto;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.repository.RepositoryData;
+import org.carlspring.strongbox.storage.repository.RepositoryDto;
+import org.carlspring.strongbox.storage.routing.MutableRoutingRule;
+import org.carlspring.strongbox.storage.routing.MutableRoutingRuleRepository;
+import org.carlspring.strongbox.storage.routing.MutableRoutingRules;
+import org.carlspring.strongbox.storage.routing.RoutingRuleTypeEnum;
+import org.carlspring.strongbox.storage.routing.RoutingRules;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RoutingRulesMatcherTest
+{
+
+    private static final String STORAGE_ID = "storage-routing";
+
+    private final Repository group = createRepository(STORAGE_ID, "group");
+
+    private final Repository releases = createRepository(STORAGE_ID, "releases");
+
+    private final Repository snapshots = createRepository(STORAGE_ID, "snapshots");
+
+    @Test
+    public void denyRuleShouldApplyToListedRepositoriesOnly()
+    {
+        RoutingRulesMatcher matcher = createMatcher(rule(STORAGE_ID, "group", "org/carlspring/.*",
+                                                         RoutingRuleTypeEnum.DENY,
+                                                         new MutableRoutingRuleRepository(STORAGE_ID, "releases")));
+
+        assertThat(matcher.isDenied(group, releases, "org/carlspring/foo/1.0/foo-1.0.jar")).isTrue();
+        assertThat(matcher.isDenied(group, releases, "org/apache/foo/1.0/foo-1.0.jar")).isFalse();
+        assertThat(matcher.isDenied(group, snapshots, "org/carlspring/foo/1.0/foo-1.0.jar")).isFalse();
+    }
+
+    @Test
+    public void acceptRuleShouldOverrideDenyRule()
+    {
+        RoutingRulesMatcher matcher = createMatcher(rule(STORAGE_ID, "group", "org/carlspring/.*",
+                                                         RoutingRuleTypeEnum.DENY),
+                                                    rule(STORAGE_ID, "group", "org/carlspring/strongbox/.*",
+                                                         RoutingRuleTypeEnum.ACCEPT,
+                                                         new MutableRoutingRuleRepository(STORAGE_ID, "releases")));
+
+        assertThat(matcher.isDenied(group, releases, "org/carlspring/strongbox/1.0/strongbox-1.0.jar")).isFalse();
+        assertThat(matcher.isDenied(group, snapshots, "org/carlspring/strongbox/1.0/strongbox-1.0.jar")).isTrue();
+        assertThat(matcher.isDenied(group, releases, "org/carlspring/foo/1.0/foo-1.0.jar")).isTrue();
+    }
+
+    @Test
+    public void wildcardsShouldMatchIgnoringCase()
+    {
+        RoutingRulesMatcher matcher = createMatcher(rule(null, "GROUP", "com/.*", RoutingRuleTypeEnum.DENY,
+                                                         new MutableRoutingRuleRepository(" " + STORAGE_ID, null)),
+                                                    rule(STORAGE_ID, "", "net/.*", RoutingRuleTypeEnum.DENY,
+                                                         new MutableRoutingRuleRepository(null, "Snapshots")),
+                                                    rule("", null, "io/.*", RoutingRuleTypeEnum.DENY));
+
+        assertThat(matcher.isDenied(group, releases, "com/foo/1.0/foo-1.0.jar")).isTrue();
+        assertThat(matcher.isDenied(group, releases, "net/foo/1.0/foo-1.0.jar")).isFalse();
+        assertThat(matcher.isDenied(group, snapshots, "net/foo/1.0/foo-1.0.jar")).isTrue();
+        assertThat(matcher.isDenied(group, snapshots, "io/foo/1.0/foo-1.0.jar")).isTrue();
+
+        Repository otherGroup = createRepository("storage-other", "other-group");
+        Repository otherReleases = createRepository("storage-other", "releases");
+
+        assertThat(matcher.isDenied(otherGroup, otherReleases, "com/foo/1.0/foo-1.0.jar")).isFalse();
+        assertThat(matcher.isDenied(otherGroup, otherReleases, "io/foo/1.0/foo-1.0.jar")).isTrue();
+    }
+
+    @Test
+    public void unrelatedRulesShouldBeIgnored()
+    {
+        List<MutableRoutingRule> rules = new ArrayList<>();
+        for (int i = 0; i < 1000; i++)
+        {
+            rules.add(rule(STORAGE_ID, "group-" + i, ".*", RoutingRuleTypeEnum.DENY));
+        }
+        RoutingRulesMatcher matcher = createMatcher(rules.toArray(new MutableRoutingRule[0]));
+
+        assertThat(matcher.isDenied(group, releases, "org/carlspring/foo/1.0/foo-1.0.jar")).isFalse();
+        assertThat(matcher.isDenied(createRepository(STORAGE_ID, "group-999"), releases,
+                                    "org/carlspring/foo/1.0/foo-1.0.jar")).isTrue();
+    }
+
+    private RoutingRulesMatcher createMatcher(MutableRoutingRule... rules)
+    {
+        MutableRoutingRules routingRules = new MutableRoutingRules();
+        routingRules.setRules(new ArrayList<>(Arrays.asList(rules)));
+
+        return new RoutingRulesMatcher(new RoutingRules(routingRules));
+    }
+
+    private static MutableRoutingRule rule(String storageId,
+                                           String groupRepositoryId,
+                                           String pattern,
+                                           RoutingRuleTypeEnum type,
+                                           MutableRoutingRuleRepository... repositories)
+    {
+        return MutableRoutingRule.create(storageId,
+                                         groupRepositoryId,
+                                         repositories.length == 0 ? Collections.emptyList() :
+                                         Arrays.asList(repositories),
+                                         pattern,
+                                         type);
+    }
+
+    private static Repository createRepository(String storageId,
+                                               String repositoryId)
+    {
+        RepositoryDto repository = new RepositoryDto(repositoryId);
+        repository.setStorage(new StorageDto(storageId));
+
+        return new RepositoryData(repository);
+    }
+
+}
@@ -0,0 +1,152 @@
+package org.carlspring.strongbox.storage.checksum;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class ChecksumRegenerationProgressTest
+{
+
+    private Path directory;
+
+    private Path checkpointPath;
+
+    /**
+     * Holds the submitted tasks, so that the test decides when (and in which order) they are completed.
+     */
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    private final Executor executor = tasks::add;
+
+    @BeforeEach
+    public void setUp()
+            throws IOException
+    {
+        directory = Files.createTempDirectory("checksum-regeneration");
+        checkpointPath = directory.resolve("storage0").resolve("releases.properties");
+    }
+
+    @AfterEach
+    public void tearDown()
+            throws IOException
+    {
+        FileUtils.deleteDirectory(directory.toFile());
+    }
+
+    @Test
+    public void testCheckpointFollowsCompletedDirectories()
+            throws IOException
+    {
+        ChecksumRegenerationProgress progress = new ChecksumRegenerationProgress(checkpointPath, null, false,
+                                                                                 executor, 0);
+        assertThat(progress.getResumePath()).isNull();
+
+        ChecksumRegenerationProgress.Directory first = progress.start("org/carlspring/a");
+        first.execute(() -> {});
+        progress.finish(first);
+
+        ChecksumRegenerationProgress.Directory second = progress.start("org/carlspring/b");
+        second.execute(() -> {});
+        progress.finish(second);
+
+        // The second directory is completed first, but the first one is still pending.
+        tasks.get(1).run();
+        assertThat(progress.getCompletedPath()).isNull();
+        assertThat(Files.exists(checkpointPath)).isFalse();
+
+        tasks.get(0).run();
+        assertThat(progress.getCompletedPath()).isEqualTo("org/carlspring/b");
+        assertThat(Files.exists(checkpointPath)).isTrue();
+
+        // The regeneration is interrupted here, so it's resumed after the last completed directory.
+        ChecksumRegenerationProgress resumed = new ChecksumRegenerationProgress(checkpointPath, null, false,
+                                                                                executor, 0);
+        assertThat(resumed.getResumePath()).isEqualTo("org/carlspring/b");
+
+        resumed.complete(0);
+        assertThat(Files.exists(checkpointPath)).isFalse();
+    }
+
+    @Test
+    public void testCheckpointWithDifferentParameters()
+            throws IOException
+    {
+        ChecksumRegenerationProgress progress = new ChecksumRegenerationProgress(checkpointPath, "org", false,
+                                                                                 executor, 0);
+        ChecksumRegenerationProgress.Directory first = progress.start("org/carlspring/a");
+        progress.finish(first);
+        assertThat(Files.exists(checkpointPath)).isTrue();
+
+        assertThat(new ChecksumRegenerationProgress(checkpointPath, "org", true, executor, 0).getResumePath())
+                .isNull();
+        assertThat(new ChecksumRegenerationProgress(checkpointPath, null, false, executor, 0).getResumePath())
+                .isNull();
+        assertThat(new ChecksumRegenerationProgress(checkpointPath, "org", false, executor, 0).getResumePath())
+                .isEqualTo("org/carlspring/a");
+    }
+
+    @Test
+    public void testCompleteTimesOutWithoutProgress()
+            throws IOException
+    {
+        ChecksumRegenerationProgress progress = new ChecksumRegenerationProgress(checkpointPath, null, false,
+                                                                                 executor, 0);
+        ChecksumRegenerationProgress.Directory first = progress.start("org/carlspring/a");
+        first.execute(() -> {});
+        progress.finish(first);
+
+        ChecksumRegenerationProgress.Directory second = progress.start("org/carlspring/b");
+        second.execute(() -> {});
+        progress.finish(second);
+
+        // The executor has been shut down, so the second file is never processed.
+        tasks.get(0).run();
+
+        assertThatExceptionOfType(IOException.class).isThrownBy(() -> progress.complete(10));
+        assertThat(progress.getCompletedPath()).isEqualTo("org/carlspring/a");
+
+        // The regeneration is resumed after the last completed directory.
+        assertThat(new ChecksumRegenerationProgress(checkpointPath, null, false, executor, 0).getResumePath())
+                .isEqualTo("org/carlspring/a");
+    }
+
+    @Test
+    public void testRejectedFileNotAwaited()
+            throws IOException
+    {
+        Executor rejectingExecutor = command -> {
+            throw new RejectedExecutionException();
+        };
+        ChecksumRegenerationProgress progress = new ChecksumRegenerationProgress(checkpointPath, null, false,
+                                                                                 rejectingExecutor, 0);
+        ChecksumRegenerationProgress.Directory first = progress.start("org/carlspring/a");
+
+        assertThatExceptionOfType(RejectedExecutionException.class).isThrownBy(() -> first.execute(() -> {}));
+        progress.finish(first);
+
+        progress.complete(0);
+        assertThat(progress.getCompletedPath()).isEqualTo("org/carlspring/a");
+    }
+
+    @Test
+    public void testExecutorRejectsFilesOnceShutDown()
+    {
+        ChecksumRegenerationExecutor checksumRegenerationExecutor = new ChecksumRegenerationExecutor(1, 0, 0);
+        checksumRegenerationExecutor.shutdown();
+
+        assertThatExceptionOfType(RejectedExecutionException.class)
+                .isThrownBy(() -> checksumRegenerationExecutor.execute(() -> {}));
+    }
+
+}
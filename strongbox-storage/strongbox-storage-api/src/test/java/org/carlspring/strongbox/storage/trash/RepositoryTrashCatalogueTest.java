@@ -0,0 +1,136 @@
+package org.carlspring.strongbox.storage.trash;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RepositoryTrashCatalogueTest
+{
+
+    private Path trashDirectory;
+
+    @BeforeEach
+    public void setUp()
+            throws IOException
+    {
+        trashDirectory = Files.createTempDirectory("repository-trash").resolve(".trash");
+    }
+
+    @AfterEach
+    public void tearDown()
+            throws IOException
+    {
+        FileUtils.deleteDirectory(trashDirectory.getParent().toFile());
+    }
+
+    @Test
+    public void testCatalogueIsRestoredFromJournal()
+            throws IOException
+    {
+        RepositoryTrashCatalogue catalogue = new RepositoryTrashCatalogue(trashDirectory);
+        catalogue.add(path("org", "carlspring", "a", "1.0", "a-1.0.jar"), 100, 1000);
+        catalogue.add(path("org", "carlspring", "a", "1.1", "a-1.1.jar"), 200, 2000);
+        catalogue.add(path("org", "carlspring", "a-b", "1.0", "a-b-1.0.jar"), 300, 3000);
+        catalogue.remove(path("org", "carlspring", "a", "1.0"));
+
+        catalogue = new RepositoryTrashCatalogue(trashDirectory);
+
+        assertThat(paths(catalogue.find(""))).containsExactly(path("org", "carlspring", "a-b", "1.0", "a-b-1.0.jar"),
+                                                              path("org", "carlspring", "a", "1.1", "a-1.1.jar"));
+
+        TrashStatistics statistics = catalogue.getStatistics();
+        assertThat(statistics.getCount()).isEqualTo(2);
+        assertThat(statistics.getSize()).isEqualTo(500);
+        assertThat(statistics.getOldestDeleted().getTime()).isEqualTo(2000);
+    }
+
+    @Test
+    public void testFindDoesNotIncludeSiblings()
+            throws IOException
+    {
+        RepositoryTrashCatalogue catalogue = new RepositoryTrashCatalogue(trashDirectory);
+        catalogue.add(path("org", "carlspring", "a", "1.0", "a-1.0.jar"), 100, 1000);
+        catalogue.add(path("org", "carlspring", "a-b", "1.0", "a-b-1.0.jar"), 300, 3000);
+
+        assertThat(paths(catalogue.find(path("org", "carlspring", "a")))).containsExactly(
+                path("org", "carlspring", "a", "1.0", "a-1.0.jar"));
+        assertThat(paths(catalogue.find(path("org", "carlspring", "a", "1.0", "a-1.0.jar")))).containsExactly(
+                path("org", "carlspring", "a", "1.0", "a-1.0.jar"));
+        assertThat(catalogue.find(path("org", "carlspring", "c"))).isEmpty();
+    }
+
+    @Test
+    public void testFindExpired()
+            throws IOException
+    {
+        RepositoryTrashCatalogue catalogue = new RepositoryTrashCatalogue(trashDirectory);
+        catalogue.add("c", 100, 3000);
+        catalogue.add("a", 100, 1000);
+        catalogue.add("b", 100, 2000);
+
+        assertThat(paths(catalogue.findExpired(2500, -1))).containsExactly("a", "b");
+        assertThat(paths(catalogue.findExpired(-1, 150))).containsExactly("a", "b");
+        assertThat(paths(catalogue.findExpired(1500, 250))).containsExactly("a");
+        assertThat(catalogue.findExpired(-1, -1)).isEmpty();
+    }
+
+    @Test
+    public void testCatalogueIsRebuiltFromTrashDirectory()
+            throws IOException
+    {
+        Path file = trashDirectory.resolve("org").resolve("a-1.0.jar");
+        Files.createDirectories(file.getParent());
+        Files.write(file, new byte[42]);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(1000));
+
+        RepositoryTrashCatalogue catalogue = new RepositoryTrashCatalogue(trashDirectory);
+
+        List<TrashEntry> entries = catalogue.find("");
+        assertThat(paths(entries)).containsExactly(path("org", "a-1.0.jar"));
+        assertThat(entries.get(0).getSize()).isEqualTo(42);
+        assertThat(entries.get(0).getDeleted().getTime()).isEqualTo(1000);
+        assertThat(trashDirectory.resolve(RepositoryTrashCatalogue.JOURNAL)).exists();
+
+        // The journal isn't listed as the trashed file.
+        catalogue = new RepositoryTrashCatalogue(trashDirectory);
+        assertThat(paths(catalogue.find(""))).containsExactly(path("org", "a-1.0.jar"));
+    }
+
+    @Test
+    public void testJournalIsCompacted()
+            throws IOException
+    {
+        RepositoryTrashCatalogue catalogue = new RepositoryTrashCatalogue(trashDirectory);
+        for (int i = 0; i < 2000; i++)
+        {
+            catalogue.add("a", i, i);
+        }
+
+        assertThat(Files.readAllLines(trashDirectory.resolve(RepositoryTrashCatalogue.JOURNAL)).size())
+                .isLessThanOrEqualTo(1000);
+
+        catalogue.clear();
+        assertThat(Files.readAllLines(trashDirectory.resolve(RepositoryTrashCatalogue.JOURNAL))).isEmpty();
+        assertThat(new RepositoryTrashCatalogue(trashDirectory).getStatistics().getCount()).isZero();
+    }
+
+    private String path(String... names)
+    {
+        return String.join(trashDirectory.getFileSystem().getSeparator(), names);
+    }
+
+    private List<String> paths(List<TrashEntry> entries)
+    {
+        return entries.stream().map(TrashEntry::getPath).collect(Collectors.toList());
+    }
+
+}
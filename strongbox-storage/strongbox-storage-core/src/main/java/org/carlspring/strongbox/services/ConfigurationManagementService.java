@@ -22,8 +22,17 @@ public interface ConfigurationManagementService
 
     MutableConfiguration getMutableConfigurationClone();
 
+    /**
+     * Returns the immutable snapshot of the current configuration, which is shared between callers and
+     * republished on every modification.
+     */
     Configuration getConfiguration();
 
+    /**
+     * Returns the version of the current configuration snapshot, which is incremented on every modification.
+     */
+    long getConfigurationVersion();
+
     void setConfiguration(MutableConfiguration configuration) throws IOException;
 
     void setInstanceName(String instanceName) throws IOException;
@@ -30,11 +30,15 @@ public class RebuildMavenMetadataCronJob
 
     private static final String PROPERTY_BASE_PATH = "basePath";
 
+    private static final String PROPERTY_FULL_SCAN = "fullScan";
+
     private static final Set<CronJobField> FIELDS = ImmutableSet.of(
             new CronJobStorageIdAutocompleteField(new CronJobStringTypeField(
                     new CronJobOptionalField(new CronJobNamedField(PROPERTY_STORAGE_ID)))),
             new CronJobRepositoryIdAutocompleteField(new CronJobStringTypeField(
                     new CronJobOptionalField(new CronJobNamedField(PROPERTY_REPOSITORY_ID)))),
+            new CronJobBooleanTypeField(
+                    new CronJobOptionalField(new CronJobNamedField(PROPERTY_FULL_SCAN))),
             new CronJobStringTypeField(
                     new CronJobOptionalField(new CronJobNamedField(PROPERTY_BASE_PATH))));
 
@@ -56,21 +60,28 @@ public class RebuildMavenMetadataCronJob
         String repositoryId = config.getProperty(PROPERTY_REPOSITORY_ID);
         String basePath = config.getProperty(PROPERTY_BASE_PATH);
 
+        /**
+         * The values of fullScan are:
+         * - true  - to collect the versions from the POM files, in order to repair the metadata,
+         * - false - to collect the versions from the artifact entries
+         */
+        boolean fullScan = Boolean.valueOf(config.getProperty(PROPERTY_FULL_SCAN));
+
         if (storageId == null)
         {
             Map<String, Storage> storages = getStorages();
             for (String storage : storages.keySet())
             {
-                rebuildRepositories(storage);
+                rebuildRepositories(storage, fullScan);
             }
         }
         else if (repositoryId == null)
         {
-            rebuildRepositories(storageId);
+            rebuildRepositories(storageId, fullScan);
         }
         else
         {
-            artifactMetadataService.rebuildMetadata(storageId, repositoryId, basePath);
+            artifactMetadataService.rebuildMetadata(storageId, repositoryId, basePath, fullScan);
         }
     }
 
@@ -89,18 +100,20 @@ public class RebuildMavenMetadataCronJob
      * To rebuild artifact's metadata in repositories
      *
      * @param storageId path of storage
+     * @param fullScan  whether the versions should be collected from the POM files
      * @throws NoSuchAlgorithmException
      * @throws XmlPullParserException
      * @throws IOException
      */
-    private void rebuildRepositories(String storageId)
+    private void rebuildRepositories(String storageId,
+                                     boolean fullScan)
             throws NoSuchAlgorithmException, XmlPullParserException, IOException
     {
         Map<String, ? extends Repository> repositories = getRepositories(storageId);
 
         for (String repository : repositories.keySet())
         {
-            artifactMetadataService.rebuildMetadata(storageId, repository, null);
+            artifactMetadataService.rebuildMetadata(storageId, repository, null, fullScan);
         }
     }
 
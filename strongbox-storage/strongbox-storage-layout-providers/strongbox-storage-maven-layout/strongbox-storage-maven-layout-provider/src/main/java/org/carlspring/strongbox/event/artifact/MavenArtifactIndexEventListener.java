@@ -0,0 +1,62 @@
+package org.carlspring.strongbox.event.artifact;
+
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.layout.Maven2LayoutProvider;
+import org.carlspring.strongbox.repository.MavenRepositoryFeatures;
+import org.carlspring.strongbox.storage.indexing.local.RepositoryHostedIndexUpdater;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import javax.inject.Inject;
+import java.io.IOException;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Passes the stored and deleted artifacts of the indexed hosted repositories to the {@link RepositoryHostedIndexUpdater}.
+ */
+@Component
+public class MavenArtifactIndexEventListener
+        extends BaseMavenArtifactEventListener
+{
+
+    @Inject
+    private MavenRepositoryFeatures mavenRepositoryFeatures;
+
+    @Inject
+    private RepositoryHostedIndexUpdater repositoryHostedIndexUpdater;
+
+    @EventListener
+    public void handle(final ArtifactEvent<RepositoryPath> event)
+    {
+        final Repository repository = getRepository(event);
+
+        if (!Maven2LayoutProvider.ALIAS.equals(repository.getLayout()))
+        {
+            return;
+        }
+
+        if (!repository.isHostedRepository() || !mavenRepositoryFeatures.isIndexingEnabled(repository))
+        {
+            return;
+        }
+
+        try
+        {
+            if (event.getType() == ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_STORED.getType() ||
+                event.getType() == ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_UPDATED.getType())
+            {
+                repositoryHostedIndexUpdater.recordStored(event.getPath());
+            }
+            else if (event.getType() == ArtifactEventTypeEnum.EVENT_ARTIFACT_PATH_DELETED.getType())
+            {
+                repositoryHostedIndexUpdater.recordDeleted(event.getPath());
+            }
+        }
+        catch (IOException e)
+        {
+            logger.error("Unable to record index update of file {}", event.getPath(), e);
+        }
+    }
+
+}
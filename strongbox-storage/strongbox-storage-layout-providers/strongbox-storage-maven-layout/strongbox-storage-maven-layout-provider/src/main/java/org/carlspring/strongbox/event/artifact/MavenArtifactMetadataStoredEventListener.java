@@ -2,9 +2,11 @@ package org.carlspring.strongbox.event.artifact;
 
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.layout.Maven2LayoutProvider;
+import org.carlspring.strongbox.repository.group.metadata.MavenMetadataGroupRepositoryUpdater;
 import org.carlspring.strongbox.storage.repository.Repository;
 
 import javax.inject.Inject;
+import java.io.IOException;
 
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
@@ -20,6 +22,9 @@ public class MavenArtifactMetadataStoredEventListener
     @Inject
     private Maven2LayoutProvider maven2LayoutProvider;
 
+    @Inject
+    private MavenMetadataGroupRepositoryUpdater mavenMetadataGroupRepositoryUpdater;
+
     /**
      * Why not @{@link org.carlspring.strongbox.event.AsyncEventListener}:
      * <p>
@@ -29,6 +34,9 @@ public class MavenArtifactMetadataStoredEventListener
      * Then this listener will be invoked and it will update all groups containing this proxy repository.
      * We need to have updated initial group when we return from the initial call.
      * Async update could be done a bit later.
+     * <p>
+     * The metadata of the hosted repositories is only stored by the deployments though, so the groups containing them
+     * are updated by the {@link MavenMetadataGroupRepositoryUpdater} in the background.
      */
     @EventListener
     public void handle(final ArtifactEvent<RepositoryPath> event)
@@ -50,6 +58,21 @@ public class MavenArtifactMetadataStoredEventListener
             return;
         }
 
+        if (repository.isHostedRepository())
+        {
+            try
+            {
+                mavenMetadataGroupRepositoryUpdater.recordUpdated(event.getPath().getParent());
+            }
+            catch (IOException e)
+            {
+                logger.error("Unable to record parent group repositories metadata update of file {}",
+                             event.getPath(), e);
+            }
+
+            return;
+        }
+
         updateMetadataInGroupsContainingRepository(event, RepositoryPath::getParent);
     }
 
@@ -0,0 +1,69 @@
+package org.carlspring.strongbox.event.artifact;
+
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.layout.Maven2LayoutProvider;
+import org.carlspring.strongbox.storage.metadata.MetadataHelper;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import javax.inject.Inject;
+import java.io.IOException;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Updates the Maven metadata of the hosted repositories with the versions of the stored artifacts, so that the
+ * metadata doesn't have to be rebuilt from the POM files.
+ * <p>
+ * The clients which don't deploy the metadata (or deploy only some of the artifacts) get the metadata maintained by
+ * the server. The Maven clients deploy the <code>maven-metadata.xml</code> after the artifacts, merged with the
+ * metadata they have retrieved from the server, and the stored client metadata simply replaces the metadata of the
+ * server, as the last writer (the stored metadata files themselves don't trigger any update here). The next stored
+ * artifact is added to whatever metadata was stored last.
+ */
+@Component
+public class MavenArtifactStoredEventListener
+        extends BaseMavenArtifactEventListener
+{
+
+    @Inject
+    private ArtifactEventListenerRegistry artifactEventListenerRegistry;
+
+    @EventListener
+    public void handle(final ArtifactEvent<RepositoryPath> event)
+    {
+        final Repository repository = getRepository(event);
+
+        if (!Maven2LayoutProvider.ALIAS.equals(repository.getLayout()) || !repository.isHostedRepository())
+        {
+            return;
+        }
+
+        if (event.getType() != ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_STORED.getType())
+        {
+            return;
+        }
+
+        RepositoryPath artifactPath = event.getPath();
+        try
+        {
+            if (!Boolean.TRUE.equals(RepositoryFiles.isArtifact(artifactPath)))
+            {
+                return;
+            }
+
+            if (mavenMetadataManager.updateMetadata(artifactPath))
+            {
+                RepositoryPath artifactBasePath = artifactPath.getParent().getParent();
+                artifactEventListenerRegistry.dispatchArtifactMetadataStoredEvent(
+                        artifactBasePath.resolve(MetadataHelper.MAVEN_METADATA_XML));
+            }
+        }
+        catch (IOException e)
+        {
+            logger.error("Unable to update the metadata of file {}", artifactPath, e);
+        }
+    }
+
+}
@@ -79,8 +79,7 @@ public abstract class AbstractMavenArtifactLocatorOperation
         }
         getVisitedRootPaths().put(artifactGroupDirectoryPath, versionDirectories);
 
-        VersionCollector versionCollector = new VersionCollector();
-        VersionCollectionRequest request = versionCollector.collectVersions(artifactGroupDirectoryPath.toAbsolutePath());
+        VersionCollectionRequest request = collectVersions(artifactGroupDirectoryPath);
 
         if (logger.isDebugEnabled())
         {
@@ -94,6 +93,17 @@ public abstract class AbstractMavenArtifactLocatorOperation
         executeOperation(request, artifactGroupDirectoryPath, versionDirectories);
     }
 
+    /**
+     * Collects the artifact versions by reading the POM files of the version directories.
+     */
+    protected VersionCollectionRequest collectVersions(RepositoryPath artifactGroupDirectoryPath)
+            throws IOException
+    {
+        VersionCollector versionCollector = new VersionCollector();
+
+        return versionCollector.collectVersions(artifactGroupDirectoryPath.toAbsolutePath());
+    }
+
     public abstract void executeOperation(VersionCollectionRequest request,
                                           RepositoryPath artifactGroupDirectoryPath,
                                           List<RepositoryPath> versionDirectories)
@@ -2,10 +2,13 @@ package org.carlspring.strongbox.locator.handlers;
 
 import org.carlspring.strongbox.event.artifact.ArtifactEventListenerRegistry;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.storage.metadata.ArtifactEntryVersionCollector;
 import org.carlspring.strongbox.storage.metadata.MavenMetadataManager;
 import org.carlspring.strongbox.storage.metadata.VersionCollectionRequest;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
 
@@ -25,14 +28,40 @@ public class GenerateMavenMetadataOperation
 
     private final ArtifactEventListenerRegistry artifactEventListenerRegistry;
 
+    private final ArtifactEntryVersionCollector artifactEntryVersionCollector;
+
 
     public GenerateMavenMetadataOperation(@Nonnull final MavenMetadataManager mavenMetadataManager,
                                           @Nonnull final ArtifactEventListenerRegistry artifactEventListenerRegistry)
+    {
+        this(mavenMetadataManager, artifactEventListenerRegistry, null);
+    }
+
+    /**
+     * @param artifactEntryVersionCollector collects the versions from the artifact entries instead of the POM files,
+     *                                      if specified
+     */
+    public GenerateMavenMetadataOperation(@Nonnull final MavenMetadataManager mavenMetadataManager,
+                                          @Nonnull final ArtifactEventListenerRegistry artifactEventListenerRegistry,
+                                          @Nullable final ArtifactEntryVersionCollector artifactEntryVersionCollector)
     {
         Objects.requireNonNull(mavenMetadataManager);
         Objects.requireNonNull(artifactEventListenerRegistry);
         this.mavenMetadataManager = mavenMetadataManager;
         this.artifactEventListenerRegistry = artifactEventListenerRegistry;
+        this.artifactEntryVersionCollector = artifactEntryVersionCollector;
+    }
+
+    @Override
+    protected VersionCollectionRequest collectVersions(RepositoryPath artifactGroupDirectoryPath)
+            throws IOException
+    {
+        if (artifactEntryVersionCollector == null)
+        {
+            return super.collectVersions(artifactGroupDirectoryPath);
+        }
+
+        return artifactEntryVersionCollector.collectVersions(artifactGroupDirectoryPath);
     }
 
     @Override
@@ -149,21 +149,21 @@ public class Maven2LayoutProvider
     }
 
     @Override
-    public Set<String> listArchiveFilenames(final RepositoryPath repositoryPath)
+    public Map<String, Long> listArchiveEntries(final RepositoryPath repositoryPath)
     {
         if (JarArchiveListingFunction.INSTANCE.supports(repositoryPath))
         {
             try
             {
-                return JarArchiveListingFunction.INSTANCE.listFilenames(repositoryPath);
+                return JarArchiveListingFunction.INSTANCE.listEntries(repositoryPath);
             }
             catch (IOException e)
             {
-                logger.warn("Unable to list filenames in archive path {} using {}",
+                logger.warn("Unable to list entries in archive path {} using {}",
                             repositoryPath, JarArchiveListingFunction.INSTANCE.getClass(), e);
             }
         }
-        return Collections.emptySet();
+        return Collections.emptyMap();
     }
 
     public boolean requiresGroupAggregation(final RepositoryPath repositoryPath)
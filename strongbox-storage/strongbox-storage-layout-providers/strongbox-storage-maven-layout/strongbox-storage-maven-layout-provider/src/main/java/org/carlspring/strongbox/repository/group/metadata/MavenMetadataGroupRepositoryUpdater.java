@@ -0,0 +1,140 @@
+package org.carlspring.strongbox.repository.group.metadata;
+
+import org.carlspring.strongbox.configuration.ConfigurationManager;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.util.CoalescingFlusher;
+
+import javax.inject.Inject;
+import java.io.IOException;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Merges the updated artifact metadata into the group repositories in the background, instead of within the request
+ * which stored the metadata.
+ * <p>
+ * The updates are collected in memory and periodically flushed (see {@link CoalescingFlusher}), so that several
+ * updates of the same artifact metadata within the flush interval are merged into the groups only once. The group
+ * metadata merge reads the current artifact metadata of the repository, so the latest update always wins. The failed
+ * updates are retried with the next flush.
+ */
+@Component
+public class MavenMetadataGroupRepositoryUpdater
+        implements InitializingBean, DisposableBean
+{
+
+    private static final String KEY_SEPARATOR = "/";
+
+    @Inject
+    private ConfigurationManager configurationManager;
+
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
+    @Inject
+    private MavenMetadataGroupRepositoryComponent mavenMetadataGroupRepositoryComponent;
+
+    /**
+     * Specifies how often (in milliseconds) the collected group metadata updates are flushed.
+     */
+    @Value("${strongbox.mavenGroupMetadataUpdates.flushInterval:1000}")
+    private long flushInterval;
+
+    /**
+     * Maximum number of attempts to merge the artifact metadata into the groups.
+     */
+    @Value("${strongbox.mavenGroupMetadataUpdates.maxAttempts:10}")
+    private int maxAttempts;
+
+    private CoalescingFlusher<PendingGroupUpdate> flusher;
+
+    @Override
+    public void afterPropertiesSet()
+    {
+        // The group metadata merge reads the current artifact metadata, so the pending update is kept as is.
+        flusher = new CoalescingFlusher<PendingGroupUpdate>("maven-group-metadata-updates",
+                                                            PendingGroupUpdate::calculateKey,
+                                                            (older, newer) -> older,
+                                                            batch -> flush(batch.get(0)));
+        flusher.withFlushInterval(flushInterval)
+               .withMaxAttempts(maxAttempts)
+               .start();
+    }
+
+    @Override
+    public void destroy()
+    {
+        flusher.shutdown();
+    }
+
+    /**
+     * @param artifactBasePath the artifact metadata base path (<code>groupId/artifactId</code>) of the repository
+     */
+    public void recordUpdated(RepositoryPath artifactBasePath)
+        throws IOException
+    {
+        Repository repository = artifactBasePath.getRepository();
+
+        flusher.record(new PendingGroupUpdate(repository.getStorage().getId(),
+                                              repository.getId(),
+                                              RepositoryFiles.relativizePath(artifactBasePath)));
+    }
+
+    public int getPendingCount()
+    {
+        return flusher.getPendingCount();
+    }
+
+    /**
+     * Flushes all the collected group metadata updates.
+     */
+    public void flush()
+    {
+        flusher.flush();
+    }
+
+    private void flush(PendingGroupUpdate update)
+        throws IOException
+    {
+        Repository repository = configurationManager.getRepository(update.storageId, update.repositoryId);
+        if (repository == null)
+        {
+            return;
+        }
+
+        mavenMetadataGroupRepositoryComponent.updateGroupsContaining(repositoryPathResolver.resolve(repository,
+                                                                                                    update.path));
+    }
+
+    private static class PendingGroupUpdate
+    {
+
+        private final String storageId;
+
+        private final String repositoryId;
+
+        private final String path;
+
+        private PendingGroupUpdate(String storageId,
+                                   String repositoryId,
+                                   String path)
+        {
+            this.storageId = storageId;
+            this.repositoryId = repositoryId;
+            this.path = path;
+        }
+
+        private String calculateKey()
+        {
+            return storageId + KEY_SEPARATOR + repositoryId + KEY_SEPARATOR + path;
+        }
+
+    }
+
+}
@@ -56,6 +56,21 @@ public interface ArtifactMetadataService
     void rebuildMetadata(String storageId, String repositoryId, String artifactPath)
             throws IOException, XmlPullParserException, NoSuchAlgorithmException;
 
+    /**
+     * Rebuild metadata for artifact using artifactPath (string)
+     *
+     * @param storageId     String
+     * @param repositoryId  String
+     * @param artifactPath  String
+     * @param fullScan      <code>true</code> to collect the versions from the POM files, in order to repair the
+     *                      metadata, or <code>false</code> to collect the versions from the artifact entries
+     *
+     * @throws IOException
+     * @throws XmlPullParserException
+     */
+    void rebuildMetadata(String storageId, String repositoryId, String artifactPath, boolean fullScan)
+            throws IOException, XmlPullParserException, NoSuchAlgorithmException;
+
     /**
      * Rebuild metadata for all repositories in the storage
      *
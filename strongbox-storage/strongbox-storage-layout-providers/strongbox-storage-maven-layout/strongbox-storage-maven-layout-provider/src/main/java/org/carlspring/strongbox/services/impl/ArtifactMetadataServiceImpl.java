@@ -13,6 +13,7 @@ import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
 import org.carlspring.strongbox.providers.layout.Maven2LayoutProvider;
 import org.carlspring.strongbox.services.ArtifactMetadataService;
 import org.carlspring.strongbox.storage.Storage;
+import org.carlspring.strongbox.storage.metadata.ArtifactEntryVersionCollector;
 import org.carlspring.strongbox.storage.metadata.MavenMetadataManager;
 import org.carlspring.strongbox.storage.metadata.MetadataHelper;
 import org.carlspring.strongbox.storage.metadata.MetadataType;
@@ -59,6 +60,9 @@ public class ArtifactMetadataServiceImpl
     @Inject
     private RepositoryPathResolver repositoryPathResolver;
 
+    @Inject
+    private ArtifactEntryVersionCollector artifactEntryVersionCollector;
+
     public ArtifactMetadataServiceImpl()
     {
     }
@@ -103,6 +107,16 @@ public class ArtifactMetadataServiceImpl
                                 String repositoryId,
                                 String basePath)
             throws IOException
+    {
+        rebuildMetadata(storageId, repositoryId, basePath, true);
+    }
+
+    @Override
+    public void rebuildMetadata(String storageId,
+                                String repositoryId,
+                                String basePath,
+                                boolean fullScan)
+            throws IOException
     {
         Storage storage = getConfiguration().getStorage(storageId);
         Repository repository = storage.getRepository(repositoryId);
@@ -120,7 +134,10 @@ public class ArtifactMetadataServiceImpl
             repositoryBasePath = repositoryBasePath.resolve(basePath);
         }
 
-        GenerateMavenMetadataOperation operation = new GenerateMavenMetadataOperation(mavenMetadataManager, artifactEventListenerRegistry);
+        GenerateMavenMetadataOperation operation = new GenerateMavenMetadataOperation(mavenMetadataManager,
+                                                                                      artifactEventListenerRegistry,
+                                                                                      fullScan ? null :
+                                                                                      artifactEntryVersionCollector);
         operation.setBasePath(repositoryBasePath);
 
         ArtifactDirectoryLocator locator = new ArtifactDirectoryLocator();
@@ -5,6 +5,8 @@ import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.domain.MavenArtifactEntryUtils;
 
 import java.io.File;
+import java.util.Set;
+import java.util.function.Function;
 
 import org.apache.commons.io.FilenameUtils;
 import org.apache.maven.index.ArtifactContext;
@@ -22,14 +24,20 @@ public class ArtifactEntryArtifactContext
 
     private final ArtifactEntry artifactEntry;
     private final ArtifactEntryArtifactContextHelper artifactEntryArtifactContextHelper;
+    private final Function<ArtifactEntry, Set<String>> archiveFilenamesResolver;
 
+    /**
+     * @param archiveFilenamesResolver used to load the archive filenames, only if the index needs them
+     */
     public ArtifactEntryArtifactContext(final ArtifactEntry artifactEntry,
-                                        final ArtifactEntryArtifactContextHelper artifactEntryArtifactContextHelper)
+                                        final ArtifactEntryArtifactContextHelper artifactEntryArtifactContextHelper,
+                                        final Function<ArtifactEntry, Set<String>> archiveFilenamesResolver)
             throws IllegalArgumentException
     {
         super(null, null, null, asArtifactInfo(artifactEntry), asGav(artifactEntry));
         this.artifactEntry = artifactEntry;
         this.artifactEntryArtifactContextHelper = artifactEntryArtifactContextHelper;
+        this.archiveFilenamesResolver = archiveFilenamesResolver;
     }
 
     private static ArtifactInfo asArtifactInfo(ArtifactEntry artifactEntry)
@@ -72,6 +80,11 @@ public class ArtifactEntryArtifactContext
         return artifactEntry;
     }
 
+    public Set<String> getArchiveFilenames()
+    {
+        return archiveFilenamesResolver.apply(artifactEntry);
+    }
+
     @Override
     public File getArtifact()
     {
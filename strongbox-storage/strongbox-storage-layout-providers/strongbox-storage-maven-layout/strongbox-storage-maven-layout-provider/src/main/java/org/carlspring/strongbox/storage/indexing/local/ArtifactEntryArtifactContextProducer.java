@@ -0,0 +1,148 @@
+package org.carlspring.strongbox.storage.indexing.local;
+
+import org.carlspring.strongbox.artifact.coordinates.MavenArtifactCoordinates;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.domain.RepositoryArtifactIdGroupEntry;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.apache.maven.index.ArtifactContext;
+
+/**
+ * Produces the {@link ArtifactEntryArtifactContext}s of the {@link RepositoryArtifactIdGroupEntry} artifacts, both for
+ * the full index rebuild and for the incremental index updates.
+ *
+ * @author Przemyslaw Fusik
+ */
+final class ArtifactEntryArtifactContextProducer
+{
+
+    private ArtifactEntryArtifactContextProducer()
+    {
+    }
+
+    /**
+     * The artifacts are processed by version, because the artifact context depends on its same version neighbours
+     * (pom, sources and javadoc).
+     *
+     * @param artifactEntries          the artifacts of the {@link RepositoryArtifactIdGroupEntry}
+     * @param archiveFilenamesResolver loads the archive filenames of the artifact
+     */
+    static List<ArtifactContext> createArtifactContexts(final Collection<ArtifactEntry> artifactEntries,
+                                                        final Predicate<String> versionFilter,
+                                                        final Function<ArtifactEntry, Set<String>> archiveFilenamesResolver)
+    {
+        final List<ArtifactContext> artifactContexts = new ArrayList<>();
+        final Map<String, List<ArtifactEntry>> groupedByVersion = groupArtifactEntriesByVersion(artifactEntries);
+        for (final Map.Entry<String, List<ArtifactEntry>> sameVersionArtifactEntries : groupedByVersion.entrySet())
+        {
+            if (!versionFilter.test(sameVersionArtifactEntries.getKey()))
+            {
+                continue;
+            }
+
+            for (final ArtifactEntry artifactEntry : sameVersionArtifactEntries.getValue())
+            {
+                if (!isIndexable(artifactEntry.getArtifactPath()))
+                {
+                    continue;
+                }
+
+                final List<ArtifactEntry> groupClone = new ArrayList<>(sameVersionArtifactEntries.getValue());
+                groupClone.remove(artifactEntry);
+
+                final ArtifactEntryArtifactContextHelper artifactContextHelper = createArtifactContextHelper(
+                        artifactEntry,
+                        groupClone);
+                final ArtifactEntryArtifactContext ac = new ArtifactEntryArtifactContext(artifactEntry,
+                                                                                         artifactContextHelper,
+                                                                                         archiveFilenamesResolver);
+                artifactContexts.add(ac);
+            }
+        }
+        return artifactContexts;
+    }
+
+    private static Map<String, List<ArtifactEntry>> groupArtifactEntriesByVersion(final Collection<ArtifactEntry> artifactEntries)
+    {
+        final Map<String, List<ArtifactEntry>> groupedByVersion = new LinkedHashMap<>();
+        for (final ArtifactEntry artifactEntry : artifactEntries)
+        {
+            final MavenArtifactCoordinates coordinates = (MavenArtifactCoordinates) artifactEntry.getArtifactCoordinates();
+            final String version = coordinates.getVersion();
+            List<ArtifactEntry> artifactEntries = groupedByVersion.get(version);
+            if (artifactEntries == null)
+            {
+                artifactEntries = new ArrayList<>();
+                groupedByVersion.put(version, artifactEntries);
+            }
+            artifactEntries.add(artifactEntry);
+        }
+        return groupedByVersion;
+    }
+
+    private static ArtifactEntryArtifactContextHelper createArtifactContextHelper(final ArtifactEntry artifactEntry,
+                                                                                  final List<ArtifactEntry> group)
+    {
+        boolean pomExists = false;
+        boolean sourcesExists = false;
+        boolean javadocExists = false;
+        if (group.size() < 1)
+        {
+            return new ArtifactEntryArtifactContextHelper(pomExists, sourcesExists, javadocExists);
+        }
+        final MavenArtifactCoordinates coordinates = (MavenArtifactCoordinates) artifactEntry.getArtifactCoordinates();
+        if ("javadoc".equals(coordinates.getClassifier()) || "sources".equals(coordinates.getClassifier()))
+        {
+            return new ArtifactEntryArtifactContextHelper(pomExists, sourcesExists, javadocExists);
+        }
+        if ("pom".equals(coordinates.getExtension()))
+        {
+            return new ArtifactEntryArtifactContextHelper(pomExists, sourcesExists, javadocExists);
+        }
+
+        for (final ArtifactEntry neighbour : group)
+        {
+            final MavenArtifactCoordinates neighbourCoordinates = (MavenArtifactCoordinates) neighbour.getArtifactCoordinates();
+            pomExists |=
+                    ("pom".equals(neighbourCoordinates.getExtension()) &&
+                     neighbourCoordinates.getClassifier() == null);
+            if (Objects.equals(coordinates.getExtension(), neighbourCoordinates.getExtension()))
+            {
+                javadocExists |= "javadoc".equals(neighbourCoordinates.getClassifier());
+                sourcesExists |= "sources".equals(neighbourCoordinates.getClassifier());
+            }
+        }
+        return new ArtifactEntryArtifactContextHelper(pomExists, sourcesExists, javadocExists);
+    }
+
+    /**
+     * org.apache.maven.index.DefaultArtifactContextProducer#isIndexable(java.io.File)
+     */
+    static boolean isIndexable(final String artifactPath)
+    {
+        final String filename = Paths.get(artifactPath).getFileName().toString();
+
+        if (filename.equals("maven-metadata.xml")
+            // || filename.endsWith( "-javadoc.jar" )
+            // || filename.endsWith( "-javadocs.jar" )
+            // || filename.endsWith( "-sources.jar" )
+            || filename.endsWith(".properties")
+            // || filename.endsWith( ".xml" ) // NEXUS-3029
+            || filename.endsWith(".asc") || filename.endsWith(".md5") || filename.endsWith(".sha1"))
+        {
+            return false;
+        }
+
+        return true;
+    }
+}
@@ -1,7 +1,6 @@
 package org.carlspring.strongbox.storage.indexing.local;
 
 import org.carlspring.strongbox.artifact.coordinates.MavenArtifactCoordinates;
-import org.carlspring.strongbox.domain.ArtifactArchiveListing;
 import org.carlspring.strongbox.domain.ArtifactEntry;
 
 import java.util.Set;
@@ -44,7 +43,7 @@ public class ArtifactEntryJarFileContentsIndexCreator
             "war" .equals(extension) ||
             "zip" .equals(extension))
         {
-            updateArtifactInfo(artifactInfo, artifactEntry);
+            updateArtifactInfo(artifactInfo, artifactEntryArtifactContext);
         }
     }
 
@@ -52,8 +51,9 @@ public class ArtifactEntryJarFileContentsIndexCreator
      * @see JarFileContentsIndexCreator#updateArtifactInfo(org.apache.maven.index.ArtifactInfo, java.io.File)
      */
     private void updateArtifactInfo(final ArtifactInfo artifactInfo,
-                                    final ArtifactEntry artifactEntry)
+                                    final ArtifactEntryArtifactContext artifactContext)
     {
+        final ArtifactEntry artifactEntry = artifactContext.getArtifactEntry();
         final MavenArtifactCoordinates coordinates = (MavenArtifactCoordinates) artifactEntry.getArtifactCoordinates();
 
         String strippedPrefix = null;
@@ -62,7 +62,7 @@ public class ArtifactEntryJarFileContentsIndexCreator
             strippedPrefix = "WEB-INF/classes/";
         }
 
-        updateArtifactInfo(artifactInfo, artifactEntry, strippedPrefix);
+        updateArtifactInfo(artifactInfo, artifactEntry, artifactContext.getArchiveFilenames(), strippedPrefix);
     }
 
     /**
@@ -70,16 +70,14 @@ public class ArtifactEntryJarFileContentsIndexCreator
      */
     private void updateArtifactInfo(final ArtifactInfo artifactInfo,
                                     final ArtifactEntry artifactEntry,
+                                    final Set<String> filenames,
                                     final String strippedPrefix)
     {
-        ArtifactArchiveListing artifactArchiveListing = artifactEntry.getArtifactArchiveListing();
-        if (artifactArchiveListing == null || CollectionUtils.isEmpty(artifactArchiveListing.getFilenames()))
+        if (CollectionUtils.isEmpty(filenames))
         {
             return;
         }
 
-        Set<String> filenames = artifactArchiveListing.getFilenames();
-
         final StringBuilder sb = new StringBuilder();
 
         for (final String name : filenames)
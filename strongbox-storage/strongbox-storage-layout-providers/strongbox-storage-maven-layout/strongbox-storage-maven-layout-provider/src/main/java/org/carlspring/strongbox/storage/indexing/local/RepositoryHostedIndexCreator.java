@@ -1,10 +1,10 @@
 package org.carlspring.strongbox.storage.indexing.local;
 
-import org.carlspring.strongbox.artifact.coordinates.MavenArtifactCoordinates;
 import org.carlspring.strongbox.data.service.support.search.PagingCriteria;
 import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.domain.RepositoryArtifactIdGroupEntry;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.services.ArtifactArchiveEntryService;
 import org.carlspring.strongbox.services.RepositoryArtifactIdGroupService;
 import org.carlspring.strongbox.storage.indexing.*;
 import org.carlspring.strongbox.storage.indexing.RepositoryIndexDirectoryPathResolver.RepositoryIndexDirectoryPathResolverQualifier;
@@ -15,8 +15,8 @@ import org.carlspring.strongbox.storage.repository.RepositoryTypeEnum;
 
 import javax.inject.Inject;
 import java.io.IOException;
-import java.nio.file.Paths;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.maven.index.ArtifactContext;
 import org.springframework.stereotype.Component;
@@ -35,6 +35,9 @@ public class RepositoryHostedIndexCreator
     @Inject
     private RepositoryArtifactIdGroupService repositoryArtifactIdGroupService;
 
+    @Inject
+    private ArtifactArchiveEntryService artifactArchiveEntryService;
+
     @Inject
     @RepositoryIndexDirectoryPathResolverQualifier(IndexTypeEnum.LOCAL)
     private RepositoryIndexDirectoryPathResolver indexDirectoryPathResolver;
@@ -91,113 +94,17 @@ public class RepositoryHostedIndexCreator
                     repositoryId,
                     pagingCriteria);
 
-            final List<ArtifactContext> artifactContexts = createArtifactContexts(repositoryArtifactIdGroupEntries);
-            Indexer.INSTANCE.addArtifactsToIndex(artifactContexts, indexingContext);
-        }
-    }
-
-    private List<ArtifactContext> createArtifactContexts(final List<RepositoryArtifactIdGroupEntry> repositoryArtifactIdGroupEntries)
-    {
-        final List<ArtifactContext> artifactContexts = new ArrayList<>();
-        for (final RepositoryArtifactIdGroupEntry repositoryArtifactIdGroupEntry : repositoryArtifactIdGroupEntries)
-        {
-            final Map<String, List<ArtifactEntry>> groupedByVersion = groupArtifactEntriesByVersion(
-                    repositoryArtifactIdGroupEntry);
-            for (final Map.Entry<String, List<ArtifactEntry>> sameVersionArtifactEntries : groupedByVersion.entrySet())
-            {
-                for (final ArtifactEntry artifactEntry : sameVersionArtifactEntries.getValue())
-                {
-                    if (!isIndexable(artifactEntry))
-                    {
-                        continue;
-                    }
-
-                    final List<ArtifactEntry> groupClone = new ArrayList<>(sameVersionArtifactEntries.getValue());
-                    groupClone.remove(artifactEntry);
-
-                    final ArtifactEntryArtifactContextHelper artifactContextHelper = createArtifactContextHelper(
-                            artifactEntry,
-                            groupClone);
-                    final ArtifactEntryArtifactContext ac = new ArtifactEntryArtifactContext(artifactEntry,
-                                                                                             artifactContextHelper);
-                    artifactContexts.add(ac);
-                }
-            }
-        }
-        return artifactContexts;
-    }
-
-    private Map<String, List<ArtifactEntry>> groupArtifactEntriesByVersion(final RepositoryArtifactIdGroupEntry groupEntry)
-    {
-        final Map<String, List<ArtifactEntry>> groupedByVersion = new LinkedHashMap<>();
-        for (final ArtifactEntry artifactEntry : groupEntry.getArtifactEntries())
-        {
-            final MavenArtifactCoordinates coordinates = (MavenArtifactCoordinates) artifactEntry.getArtifactCoordinates();
-            final String version = coordinates.getVersion();
-            List<ArtifactEntry> artifactEntries = groupedByVersion.get(version);
-            if (artifactEntries == null)
-            {
-                artifactEntries = new ArrayList<>();
-                groupedByVersion.put(version, artifactEntries);
-            }
-            artifactEntries.add(artifactEntry);
-        }
-        return groupedByVersion;
-    }
-
-    private ArtifactEntryArtifactContextHelper createArtifactContextHelper(final ArtifactEntry artifactEntry,
-                                                                           final List<ArtifactEntry> group)
-    {
-        boolean pomExists = false;
-        boolean sourcesExists = false;
-        boolean javadocExists = false;
-        if (group.size() < 1)
-        {
-            return new ArtifactEntryArtifactContextHelper(pomExists, sourcesExists, javadocExists);
-        }
-        final MavenArtifactCoordinates coordinates = (MavenArtifactCoordinates) artifactEntry.getArtifactCoordinates();
-        if ("javadoc".equals(coordinates.getClassifier()) || "sources".equals(coordinates.getClassifier()))
-        {
-            return new ArtifactEntryArtifactContextHelper(pomExists, sourcesExists, javadocExists);
-        }
-        if ("pom".equals(coordinates.getExtension()))
-        {
-            return new ArtifactEntryArtifactContextHelper(pomExists, sourcesExists, javadocExists);
-        }
-
-        for (final ArtifactEntry neighbour : group)
-        {
-            final MavenArtifactCoordinates neighbourCoordinates = (MavenArtifactCoordinates) neighbour.getArtifactCoordinates();
-            pomExists |=
-                    ("pom".equals(neighbourCoordinates.getExtension()) &&
-                     neighbourCoordinates.getClassifier() == null);
-            if (Objects.equals(coordinates.getExtension(), neighbourCoordinates.getExtension()))
+            final List<ArtifactContext> artifactContexts = new ArrayList<>();
+            for (final RepositoryArtifactIdGroupEntry repositoryArtifactIdGroupEntry : repositoryArtifactIdGroupEntries)
             {
-                javadocExists |= "javadoc".equals(neighbourCoordinates.getClassifier());
-                sourcesExists |= "sources".equals(neighbourCoordinates.getClassifier());
+                final List<ArtifactEntry> artifactEntries = repositoryArtifactIdGroupService.findArtifactEntries(
+                        repositoryArtifactIdGroupEntry);
+                artifactContexts.addAll(ArtifactEntryArtifactContextProducer.createArtifactContexts(
+                        artifactEntries,
+                        version -> true,
+                        artifactArchiveEntryService::findArchivePaths));
             }
+            Indexer.INSTANCE.addArtifactsToIndex(artifactContexts, indexingContext);
         }
-        return new ArtifactEntryArtifactContextHelper(pomExists, sourcesExists, javadocExists);
-    }
-
-    /**
-     * org.apache.maven.index.DefaultArtifactContextProducer#isIndexable(java.io.File)
-     */
-    private boolean isIndexable(final ArtifactEntry artifactEntry)
-    {
-        final String filename = Paths.get(artifactEntry.getArtifactPath()).getFileName().toString();
-
-        if (filename.equals("maven-metadata.xml")
-            // || filename.endsWith( "-javadoc.jar" )
-            // || filename.endsWith( "-javadocs.jar" )
-            // || filename.endsWith( "-sources.jar" )
-            || filename.endsWith(".properties")
-            // || filename.endsWith( ".xml" ) // NEXUS-3029
-            || filename.endsWith(".asc") || filename.endsWith(".md5") || filename.endsWith(".sha1"))
-        {
-            return false;
-        }
-
-        return true;
     }
 }
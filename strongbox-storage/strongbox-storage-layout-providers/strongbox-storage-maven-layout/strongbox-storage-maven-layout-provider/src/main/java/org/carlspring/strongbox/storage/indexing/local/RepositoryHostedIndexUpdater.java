@@ -0,0 +1,314 @@
+package org.carlspring.strongbox.storage.indexing.local;
+
+import org.carlspring.strongbox.artifact.MavenArtifact;
+import org.carlspring.strongbox.artifact.MavenArtifactUtils;
+import org.carlspring.strongbox.artifact.coordinates.MavenArtifactCoordinates;
+import org.carlspring.strongbox.configuration.ConfigurationManager;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.domain.RepositoryArtifactIdGroupEntry;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathLock;
+import org.carlspring.strongbox.repository.MavenRepositoryFeatures;
+import org.carlspring.strongbox.services.ArtifactArchiveEntryService;
+import org.carlspring.strongbox.services.RepositoryArtifactIdGroupService;
+import org.carlspring.strongbox.storage.indexing.IndexLockedException;
+import org.carlspring.strongbox.storage.indexing.IndexPacker;
+import org.carlspring.strongbox.storage.indexing.IndexTypeEnum;
+import org.carlspring.strongbox.storage.indexing.Indexer;
+import org.carlspring.strongbox.storage.indexing.RepositoryCloseableIndexingContext;
+import org.carlspring.strongbox.storage.indexing.RepositoryIndexCreator;
+import org.carlspring.strongbox.storage.indexing.RepositoryIndexCreator.RepositoryIndexCreatorQualifier;
+import org.carlspring.strongbox.storage.indexing.RepositoryIndexDirectoryPathResolver;
+import org.carlspring.strongbox.storage.indexing.RepositoryIndexDirectoryPathResolver.RepositoryIndexDirectoryPathResolverQualifier;
+import org.carlspring.strongbox.storage.indexing.RepositoryIndexingContextFactory;
+import org.carlspring.strongbox.storage.indexing.RepositoryIndexingContextFactory.RepositoryIndexingContextFactoryQualifier;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.repository.RepositoryTypeEnum;
+import org.carlspring.strongbox.util.CoalescingFlusher;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+
+import org.apache.maven.index.ArtifactContext;
+import org.apache.maven.index.ArtifactInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies the stored and deleted artifacts to the hosted repository index incrementally, instead of rebuilding the
+ * whole index with the {@link RepositoryHostedIndexCreator}.
+ * <p>
+ * The changes are collected in memory and periodically flushed (see {@link CoalescingFlusher}), one index update per
+ * repository. Each update re-indexes the affected artifact versions, removes the deleted artifacts and then packs the
+ * index, so that the incremental chunks (<code>nexus-maven-repository-index.N.gz</code>) are emitted along with the
+ * updated <code>nexus-maven-repository-index.properties</code>, and the index consumers only need to fetch the
+ * changes.
+ */
+@Component
+public class RepositoryHostedIndexUpdater
+        implements InitializingBean, DisposableBean
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(RepositoryHostedIndexUpdater.class);
+
+    private static final String KEY_SEPARATOR = "/";
+
+    @Inject
+    private ConfigurationManager configurationManager;
+
+    @Inject
+    private MavenRepositoryFeatures mavenRepositoryFeatures;
+
+    @Inject
+    private RepositoryArtifactIdGroupService repositoryArtifactIdGroupService;
+
+    @Inject
+    private ArtifactArchiveEntryService artifactArchiveEntryService;
+
+    @Inject
+    private RepositoryPathLock repositoryPathLock;
+
+    @Inject
+    @RepositoryIndexCreatorQualifier(RepositoryTypeEnum.HOSTED)
+    private RepositoryIndexCreator repositoryIndexCreator;
+
+    @Inject
+    @RepositoryIndexDirectoryPathResolverQualifier(IndexTypeEnum.LOCAL)
+    private RepositoryIndexDirectoryPathResolver indexDirectoryPathResolver;
+
+    @Inject
+    @RepositoryIndexingContextFactoryQualifier(IndexTypeEnum.LOCAL)
+    private RepositoryIndexingContextFactory indexingContextFactory;
+
+    /**
+     * Specifies how often (in milliseconds) the collected index updates are flushed.
+     */
+    @Value("${strongbox.mavenIndexUpdates.flushInterval:5000}")
+    private long flushInterval;
+
+    /**
+     * Maximum number of attempts to apply the index updates of the repository (for example, while the index is
+     * locked by the full index rebuild).
+     */
+    @Value("${strongbox.mavenIndexUpdates.maxAttempts:60}")
+    private int maxAttempts;
+
+    private CoalescingFlusher<PendingIndexUpdates> flusher;
+
+    @Override
+    public void afterPropertiesSet()
+    {
+        flusher = new CoalescingFlusher<>("maven-index-updates",
+                                          PendingIndexUpdates::calculateKey,
+                                          PendingIndexUpdates::merge,
+                                          batch -> flush(batch.get(0)));
+        flusher.withFlushInterval(flushInterval)
+               .withMaxAttempts(maxAttempts)
+               .start();
+    }
+
+    @Override
+    public void destroy()
+    {
+        flusher.shutdown();
+    }
+
+    public void recordStored(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        record(repositoryPath, true);
+    }
+
+    public void recordDeleted(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        record(repositoryPath, false);
+    }
+
+    private void record(RepositoryPath repositoryPath,
+                        boolean stored)
+        throws IOException
+    {
+        String path = RepositoryFiles.relativizePath(repositoryPath);
+        if (!ArtifactEntryArtifactContextProducer.isIndexable(path))
+        {
+            return;
+        }
+
+        Repository repository = repositoryPath.getRepository();
+        PendingIndexUpdates updates = new PendingIndexUpdates(repository.getStorage().getId(), repository.getId());
+        updates.paths.put(path, stored);
+
+        flusher.record(updates);
+    }
+
+    public int getPendingCount()
+    {
+        return flusher.getPendingCount();
+    }
+
+    /**
+     * Flushes all the collected index updates.
+     */
+    public void flush()
+    {
+        flusher.flush();
+    }
+
+    private void flush(PendingIndexUpdates updates)
+        throws IOException
+    {
+        Repository repository = configurationManager.getRepository(updates.storageId, updates.repositoryId);
+        if (repository == null || !repository.isHostedRepository() ||
+            !mavenRepositoryFeatures.isIndexingEnabled(repository))
+        {
+            return;
+        }
+
+        RepositoryPath indexDirectoryPath = indexDirectoryPathResolver.resolve(repository);
+        if (!IndexPacker.packageExists(indexDirectoryPath))
+        {
+            // Nothing has been published yet, so there is nothing to increment.
+            repositoryIndexCreator.apply(repository);
+
+            return;
+        }
+
+        Lock lock = repositoryPathLock.lock(indexDirectoryPath).writeLock();
+        if (!lock.tryLock())
+        {
+            throw new IndexLockedException(String.format("Index of repository [%s] is currently locked.",
+                                                         updates.calculateKey()));
+        }
+        try (RepositoryCloseableIndexingContext indexingContext = indexingContextFactory.create(repository))
+        {
+            update(updates, indexingContext);
+
+            // The index packer emits the documents modified after the previous package timestamp as the
+            // incremental chunk.
+            indexingContext.updateTimestamp(true);
+            IndexPacker.pack(indexDirectoryPath, indexingContext);
+
+            logger.debug("Applied [{}] index updates to [{}].", updates.paths.size(), updates.calculateKey());
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    private void update(PendingIndexUpdates updates,
+                        RepositoryCloseableIndexingContext indexingContext)
+        throws IOException
+    {
+        List<ArtifactContext> deletedArtifactContexts = new ArrayList<>();
+        // The neighbours of the changed artifacts (same artifactId and version) should be re-indexed as well, because
+        // their pom, sources and javadoc flags might have been changed.
+        Map<String, Set<String>> changedVersions = new HashMap<>();
+        for (Map.Entry<String, Boolean> entry : updates.paths.entrySet())
+        {
+            MavenArtifact artifact = MavenArtifactUtils.convertPathToArtifact(entry.getKey());
+            if (artifact == null)
+            {
+                continue;
+            }
+
+            MavenArtifactCoordinates coordinates = new MavenArtifactCoordinates(artifact);
+            if (!entry.getValue())
+            {
+                deletedArtifactContexts.add(createDeletedArtifactContext(updates.repositoryId, coordinates));
+            }
+
+            changedVersions.computeIfAbsent(coordinates.getId(), k -> new HashSet<>()).add(coordinates.getVersion());
+        }
+
+        Indexer.INSTANCE.deleteArtifactsFromIndex(deletedArtifactContexts, indexingContext);
+
+        List<ArtifactContext> artifactContexts = new ArrayList<>();
+        for (Map.Entry<String, Set<String>> entry : changedVersions.entrySet())
+        {
+            RepositoryArtifactIdGroupEntry artifactGroup = repositoryArtifactIdGroupService.findOne(updates.storageId,
+                                                                                                     updates.repositoryId,
+                                                                                                     entry.getKey());
+            if (artifactGroup == null)
+            {
+                continue;
+            }
+
+            List<ArtifactEntry> artifactEntries = repositoryArtifactIdGroupService.findArtifactEntries(artifactGroup);
+            artifactContexts.addAll(ArtifactEntryArtifactContextProducer.createArtifactContexts(
+                    artifactEntries,
+                    entry.getValue()::contains,
+                    artifactArchiveEntryService::findArchivePaths));
+        }
+
+        Indexer.INSTANCE.addArtifactsToIndex(artifactContexts, indexingContext);
+    }
+
+    /**
+     * The deleted artifact document is identified by its coordinates only.
+     */
+    private ArtifactContext createDeletedArtifactContext(String repositoryId,
+                                                         MavenArtifactCoordinates coordinates)
+    {
+        ArtifactInfo artifactInfo = new ArtifactInfo(repositoryId,
+                                                     coordinates.getGroupId(),
+                                                     coordinates.getArtifactId(),
+                                                     coordinates.getVersion(),
+                                                     coordinates.getClassifier(),
+                                                     coordinates.getExtension());
+
+        return new ArtifactContext(null, null, null, artifactInfo, artifactInfo.calculateGav());
+    }
+
+    private static class PendingIndexUpdates
+    {
+
+        private final String storageId;
+
+        private final String repositoryId;
+
+        /**
+         * The artifact paths, <code>true</code> if stored and <code>false</code> if deleted.
+         */
+        private final Map<String, Boolean> paths = new LinkedHashMap<>();
+
+        private PendingIndexUpdates(String storageId,
+                                    String repositoryId)
+        {
+            this.storageId = storageId;
+            this.repositoryId = repositoryId;
+        }
+
+        private PendingIndexUpdates merge(PendingIndexUpdates other)
+        {
+            other.paths.forEach((path, stored) -> {
+                // Keep the order of the latest change.
+                paths.remove(path);
+                paths.put(path, stored);
+            });
+
+            return this;
+        }
+
+        private String calculateKey()
+        {
+            return storageId + KEY_SEPARATOR + repositoryId;
+        }
+
+    }
+
+}
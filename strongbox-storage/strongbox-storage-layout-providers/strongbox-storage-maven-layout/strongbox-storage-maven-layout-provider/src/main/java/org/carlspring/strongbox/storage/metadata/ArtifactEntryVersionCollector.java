@@ -0,0 +1,197 @@
+package org.carlspring.strongbox.storage.metadata;
+
+import org.carlspring.strongbox.artifact.MavenArtifactUtils;
+import org.carlspring.strongbox.artifact.coordinates.MavenArtifactCoordinates;
+import org.carlspring.strongbox.data.criteria.Expression.ExpOperator;
+import org.carlspring.strongbox.data.criteria.OQueryTemplate;
+import org.carlspring.strongbox.data.criteria.Predicate;
+import org.carlspring.strongbox.data.criteria.QueryTemplate;
+import org.carlspring.strongbox.data.criteria.Selector;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.services.ArtifactEntryService;
+import org.carlspring.strongbox.storage.metadata.maven.comparators.MetadataVersionComparator;
+import org.carlspring.strongbox.storage.metadata.maven.comparators.SnapshotVersionComparator;
+import org.carlspring.strongbox.storage.metadata.maven.versions.MetadataVersion;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import javax.inject.Inject;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.IOException;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.ArtifactUtils;
+import org.apache.maven.artifact.repository.metadata.SnapshotVersion;
+import org.javatuples.Pair;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Collects the artifact versions from the {@link ArtifactEntry} records, as opposed to the {@link VersionCollector},
+ * which lists the version directories and reads the POM files.
+ * <p>
+ * The Maven plugin information is only available from the POM files, so it is not collected here.
+ */
+@Component
+public class ArtifactEntryVersionCollector
+{
+
+    private static final String GROUP_ID = "groupId";
+
+    private static final String ARTIFACT_ID = "artifactId";
+
+    private static final String VERSION = "version";
+
+    private static final String COORDINATES = "artifactCoordinates.coordinates.";
+
+    @Inject
+    private ArtifactEntryService artifactEntryService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+
+    public VersionCollectionRequest collectVersions(RepositoryPath artifactBasePath)
+            throws IOException
+    {
+        Map<String, MetadataVersion> versions = new LinkedHashMap<>();
+        for (ArtifactEntry artifactEntry : findArtifactEntries(artifactBasePath))
+        {
+            String version = artifactEntry.getArtifactCoordinates().getVersion();
+            if (version == null)
+            {
+                continue;
+            }
+
+            if (ArtifactUtils.isSnapshot(version))
+            {
+                version = ArtifactUtils.toSnapshotVersion(version);
+            }
+
+            FileTime createdDate = FileTime.fromMillis(getCreated(artifactEntry).getTime());
+
+            MetadataVersion metadataVersion = versions.computeIfAbsent(version, v -> {
+                MetadataVersion result = new MetadataVersion();
+                result.setVersion(v);
+                result.setCreatedDate(createdDate);
+
+                return result;
+            });
+
+            // The version was created along with its first artifact.
+            if (createdDate.compareTo(metadataVersion.getCreatedDate()) < 0)
+            {
+                metadataVersion.setCreatedDate(createdDate);
+            }
+        }
+
+        List<MetadataVersion> metadataVersions = new ArrayList<>(versions.values());
+        metadataVersions.sort(new MetadataVersionComparator());
+
+        VersionCollectionRequest request = new VersionCollectionRequest();
+        request.setArtifactBasePath(artifactBasePath);
+        request.setMetadataVersions(metadataVersions);
+        request.setVersioning(new VersionCollector().generateVersioning(metadataVersions));
+
+        return request;
+    }
+
+    /**
+     * Get the timestamped snapshot versioning information of the snapshot version.
+     * <p>
+     * Only the artifacts of the base version (<code>1.0-%</code>) are loaded, rather than all the artifacts of the
+     * group, as this is called on every snapshot deployment.
+     *
+     * @param artifactBasePath the artifact base path (<code>groupId/artifactId</code>)
+     * @param version          the snapshot version (<code>1.0-SNAPSHOT</code>)
+     */
+    @Transactional
+    public List<SnapshotVersion> collectTimestampedSnapshotVersions(RepositoryPath artifactBasePath,
+                                                                    String version)
+            throws IOException
+    {
+        List<SnapshotVersion> snapshotVersions = new ArrayList<>();
+        for (ArtifactEntry artifactEntry : findSnapshotArtifactEntries(artifactBasePath, version))
+        {
+            MavenArtifactCoordinates coordinates = (MavenArtifactCoordinates) artifactEntry.getArtifactCoordinates();
+            if (coordinates.getVersion() == null || !ArtifactUtils.isSnapshot(coordinates.getVersion()) ||
+                !version.equals(ArtifactUtils.toSnapshotVersion(coordinates.getVersion())))
+            {
+                continue;
+            }
+
+            snapshotVersions.add(MetadataHelper.createSnapshotVersion(coordinates.getGroupId(),
+                                                                      coordinates.getArtifactId(),
+                                                                      coordinates.getVersion(),
+                                                                      coordinates.getClassifier(),
+                                                                      coordinates.getExtension()));
+        }
+
+        snapshotVersions.sort(new SnapshotVersionComparator());
+
+        return snapshotVersions;
+    }
+
+    private List<ArtifactEntry> findArtifactEntries(RepositoryPath artifactBasePath)
+            throws IOException
+    {
+        Repository repository = artifactBasePath.getRepository();
+        Pair<String, String> artifactGroup = MavenArtifactUtils.getDirectoryGA(artifactBasePath);
+
+        Map<String, String> coordinates = new HashMap<>();
+        coordinates.put(GROUP_ID, artifactGroup.getValue0());
+        coordinates.put(ARTIFACT_ID, artifactGroup.getValue1());
+
+        return artifactEntryService.findArtifactList(repository.getStorage().getId(),
+                                                     repository.getId(),
+                                                     coordinates,
+                                                     true);
+    }
+
+    /**
+     * @return the artifacts, which version starts with the base version (<code>1.0-</code>) of the snapshot version
+     */
+    private List<ArtifactEntry> findSnapshotArtifactEntries(RepositoryPath artifactBasePath,
+                                                            String version)
+            throws IOException
+    {
+        Repository repository = artifactBasePath.getRepository();
+        Pair<String, String> artifactGroup = MavenArtifactUtils.getDirectoryGA(artifactBasePath);
+        String baseVersion = version.substring(0, version.length() - Artifact.SNAPSHOT_VERSION.length());
+
+        Predicate predicate = Predicate.of(ExpOperator.EQ.of("storageId", repository.getStorage().getId()))
+                                       .and(Predicate.of(ExpOperator.EQ.of("repositoryId", repository.getId())))
+                                       .and(Predicate.of(ExpOperator.EQ.of(COORDINATES + GROUP_ID,
+                                                                           artifactGroup.getValue0())))
+                                       .and(Predicate.of(ExpOperator.EQ.of(COORDINATES + ARTIFACT_ID,
+                                                                           artifactGroup.getValue1())))
+                                       .and(Predicate.of(ExpOperator.LIKE.of(COORDINATES + VERSION,
+                                                                             baseVersion + "%")));
+
+        Selector<ArtifactEntry> selector = new Selector<>(ArtifactEntry.class);
+        selector.where(predicate);
+
+        QueryTemplate<List<ArtifactEntry>, ArtifactEntry> queryTemplate = new OQueryTemplate<>(entityManager);
+
+        return queryTemplate.select(selector);
+    }
+
+    private static Date getCreated(ArtifactEntry artifactEntry)
+    {
+        if (artifactEntry.getCreated() != null)
+        {
+            return artifactEntry.getCreated();
+        }
+
+        return artifactEntry.getLastUpdated() != null ? artifactEntry.getLastUpdated() : new Date();
+    }
+
+}
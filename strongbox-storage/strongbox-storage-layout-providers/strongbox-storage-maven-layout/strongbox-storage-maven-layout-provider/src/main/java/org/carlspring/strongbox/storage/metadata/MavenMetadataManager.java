@@ -26,7 +26,9 @@ import java.util.List;
 import java.util.concurrent.locks.Lock;
 import java.util.function.Consumer;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import org.apache.commons.lang3.mutable.MutableBoolean;
 import org.apache.maven.artifact.ArtifactUtils;
 import org.apache.maven.artifact.repository.metadata.Metadata;
 import org.apache.maven.artifact.repository.metadata.Plugin;
@@ -61,6 +63,9 @@ public class MavenMetadataManager
     @Inject
     private RepositoryPathLock repositoryPathLock;
 
+    @Inject
+    private ArtifactEntryVersionCollector artifactEntryVersionCollector;
+
 
     public Metadata readMetadata(MavenArtifact artifact)
             throws IOException,
@@ -281,7 +286,19 @@ public class MavenMetadataManager
         VersionCollector versionCollector = new VersionCollector();
         List<SnapshotVersion> snapshotVersions = versionCollector.collectTimestampedSnapshotVersions(snapshotBasePath);
 
-        Versioning snapshotVersioning = versionCollector.generateSnapshotVersions(snapshotVersions);
+        return generateSnapshotVersioningMetadata(groupId, aritfactId, snapshotBasePath, version, snapshotVersions,
+                                                  store);
+    }
+
+    public Metadata generateSnapshotVersioningMetadata(String groupId,
+                                                       String aritfactId,
+                                                       RepositoryPath snapshotBasePath,
+                                                       String version,
+                                                       List<SnapshotVersion> snapshotVersions,
+                                                       boolean store)
+            throws IOException
+    {
+        Versioning snapshotVersioning = new VersionCollector().generateSnapshotVersions(snapshotVersions);
 
         MetadataHelper.setupSnapshotVersioning(snapshotVersioning);
 
@@ -307,6 +324,125 @@ public class MavenMetadataManager
         return snapshotMetadata;
     }
 
+    /**
+     * Updates the artifact level metadata, along with the snapshot version level metadata, with the version of the
+     * stored artifact.
+     * <p>
+     * Unlike {@link #generateMetadata(RepositoryPath, VersionCollectionRequest)}, the existing metadata is updated in
+     * place, and the versions are only collected from the artifact entries if there is no valid metadata yet, so that
+     * neither the version directories, nor the POM files, are scanned.
+     *
+     * @return <code>true</code> if the artifact level metadata was changed
+     */
+    public boolean updateMetadata(RepositoryPath artifactPath)
+            throws IOException
+    {
+        MavenArtifact artifact = MavenArtifactUtils.convertPathToArtifact(artifactPath);
+        if (artifact == null || artifact.getVersion() == null)
+        {
+            return false;
+        }
+
+        Repository repository = artifactPath.getRepository();
+        RepositoryPath artifactBasePath = artifactPath.getParent().getParent();
+
+        boolean snapshot = ArtifactUtils.isSnapshot(artifact.getVersion());
+        String version = snapshot ? ArtifactUtils.toSnapshotVersion(artifact.getVersion()) : artifact.getVersion();
+
+        MutableBoolean result = new MutableBoolean();
+        doInLock(artifactBasePath, path ->
+        {
+            try
+            {
+                Metadata metadata = readOrCollectMetadata(artifactBasePath, artifact);
+                Versioning versioning = metadata.getVersioning();
+
+                boolean versionAdded = !versioning.getVersions().contains(version);
+                if (versionAdded)
+                {
+                    versioning.addVersion(version);
+                    versioning.getVersions().sort(new VersionComparator());
+                }
+
+                if (versionAdded || versioning.getLatest() == null)
+                {
+                    versioning.setLatest(versioning.getVersions().get(versioning.getVersions().size() - 1));
+                    if (repository.getPolicy().equals(RepositoryPolicyEnum.RELEASE.getPolicy()))
+                    {
+                        versioning.setRelease(versioning.getLatest());
+                    }
+
+                    MetadataHelper.setLastUpdated(versioning);
+
+                    storeMetadata(artifactBasePath, null, metadata, MetadataType.ARTIFACT_ROOT_LEVEL);
+                    result.setTrue();
+                }
+
+                if (snapshot)
+                {
+                    List<SnapshotVersion> snapshotVersions =
+                            artifactEntryVersionCollector.collectTimestampedSnapshotVersions(artifactBasePath, version);
+                    if (!containsSnapshotVersion(snapshotVersions, artifact))
+                    {
+                        snapshotVersions.add(MetadataHelper.createSnapshotVersion(artifact, artifact.getType()));
+                        snapshotVersions.sort(new SnapshotVersionComparator());
+                    }
+                    generateSnapshotVersioningMetadata(artifact.getGroupId(), artifact.getArtifactId(),
+                                                       artifactBasePath.resolve(version), version, snapshotVersions,
+                                                       true);
+                }
+            }
+            catch (IOException e)
+            {
+                throw new UndeclaredThrowableException(e);
+            }
+        });
+
+        logger.debug("Updated Maven metadata for {} in '{}:{}'.", artifactPath, repository.getStorage().getId(),
+                     repository.getId());
+
+        return result.isTrue();
+    }
+
+    private static boolean containsSnapshotVersion(List<SnapshotVersion> snapshotVersions,
+                                                   MavenArtifact artifact)
+    {
+        return snapshotVersions.stream()
+                               .anyMatch(v -> v.getVersion().equals(artifact.getVersion()) &&
+                                              StringUtils.equals(v.getExtension(), artifact.getType()) &&
+                                              StringUtils.equals(StringUtils.trimToNull(v.getClassifier()),
+                                                                 StringUtils.trimToNull(artifact.getClassifier())));
+    }
+
+    private Metadata readOrCollectMetadata(RepositoryPath artifactBasePath,
+                                           MavenArtifact artifact)
+            throws IOException
+    {
+        Path metadataPath = MetadataHelper.getArtifactMetadataPath(artifactBasePath);
+        if (Files.exists(metadataPath))
+        {
+            try
+            {
+                Metadata metadata = readMetadata(artifactBasePath);
+                if (metadata.getVersioning() != null)
+                {
+                    return metadata;
+                }
+            }
+            catch (XmlPullParserException e)
+            {
+                logger.warn("Unable to read the metadata {}, the versions will be collected again.", metadataPath, e);
+            }
+        }
+
+        Metadata metadata = new Metadata();
+        metadata.setGroupId(artifact.getGroupId());
+        metadata.setArtifactId(artifact.getArtifactId());
+        metadata.setVersioning(artifactEntryVersionCollector.collectVersions(artifactBasePath).getVersioning());
+
+        return metadata;
+    }
+
     public void mergeAndStore(final RepositoryPath metadataBasePath,
                               final Metadata mergeMetadata) throws IOException
     {
@@ -0,0 +1,93 @@
+package org.carlspring.strongbox.providers.layout;
+
+import org.carlspring.strongbox.config.Maven2LayoutProviderTestConfig;
+import org.carlspring.strongbox.io.LayoutInputStream;
+import org.carlspring.strongbox.io.StreamUtils;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.testing.artifact.ArtifactManagementTestExecutionListener;
+import org.carlspring.strongbox.testing.artifact.MavenTestArtifact;
+import org.carlspring.strongbox.testing.repository.MavenRepository;
+import org.carlspring.strongbox.testing.storage.repository.RepositoryManagementTestExecutionListener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the artifact reads don't calculate the artifact checksums, while the explicit verification still does.
+ * <p>
+ * The read cost is measured by the <code>ArtifactReadBenchmark</code> within the <code>strongbox-benchmarks</code>
+ * module.
+ */
+@SpringBootTest
+@ActiveProfiles(profiles = "test")
+@ContextConfiguration(classes = Maven2LayoutProviderTestConfig.class)
+public class ArtifactReadDigestTest
+{
+
+    private static final String REPOSITORY_RELEASES = "ardt-releases";
+
+    private static final long ARTIFACT_SIZE = 1024L * 1024;
+
+    @Test
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    public void readShouldNotCalculateDigests(@MavenRepository(repositoryId = REPOSITORY_RELEASES)
+                                              Repository repository,
+                                              @MavenTestArtifact(repositoryId = REPOSITORY_RELEASES,
+                                                                 id = "org.carlspring.strongbox:read-digest",
+                                                                 versions = "1.0",
+                                                                 bytesSize = ARTIFACT_SIZE)
+                                              Path path)
+        throws IOException
+    {
+        RepositoryPath repositoryPath = (RepositoryPath) path.normalize();
+        LayoutFileSystemProvider provider = (LayoutFileSystemProvider) repositoryPath.getFileSystem().provider();
+
+        try (InputStream is = Files.newInputStream(repositoryPath))
+        {
+            long bytes = readFully(is);
+
+            assertThat(bytes).isEqualTo(Files.size(repositoryPath));
+            assertThat(StreamUtils.findSource(LayoutInputStream.class, is).getDigests()).isEmpty();
+        }
+
+        // The explicit verification still calculates the checksums, which match the stored ones.
+        try (InputStream is = provider.newDigestInputStream(repositoryPath))
+        {
+            readFully(is);
+
+            String sha1 = StreamUtils.findSource(LayoutInputStream.class, is)
+                                     .getMessageDigestAsHexadecimalString(MessageDigestAlgorithms.SHA_1);
+            RepositoryPath sha1Path = provider.getChecksumPath(repositoryPath, MessageDigestAlgorithms.SHA_1);
+
+            assertThat(sha1).isEqualTo(new String(Files.readAllBytes(sha1Path), StandardCharsets.UTF_8).trim());
+        }
+    }
+
+    private long readFully(InputStream is)
+        throws IOException
+    {
+        long result = 0;
+        byte[] buffer = new byte[8192];
+        int n;
+        while ((n = is.read(buffer)) != -1)
+        {
+            result += n;
+        }
+
+        return result;
+    }
+
+}
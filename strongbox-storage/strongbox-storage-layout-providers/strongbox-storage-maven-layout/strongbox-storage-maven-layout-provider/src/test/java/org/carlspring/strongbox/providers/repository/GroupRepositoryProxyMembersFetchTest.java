@@ -0,0 +1,218 @@
+package org.carlspring.strongbox.providers.repository;
+
+import org.carlspring.strongbox.config.Maven2LayoutProviderTestConfig;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.testing.repository.MavenRepository;
+import org.carlspring.strongbox.testing.storage.repository.RepositoryManagementTestExecutionListener;
+import org.carlspring.strongbox.testing.storage.repository.TestRepository.Group;
+import org.carlspring.strongbox.testing.storage.repository.TestRepository.Remote;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the proxy members of the group repository are probed concurrently against slow remote repositories,
+ * and that the path is only fetched from the first member in the declared order which has it.
+ */
+@SpringBootTest
+@ActiveProfiles(profiles = "test")
+@ContextConfiguration(classes = Maven2LayoutProviderTestConfig.class)
+public class GroupRepositoryProxyMembersFetchTest
+{
+
+    private static final int REMOTE_PORT = 48232;
+
+    private static final String REMOTE_URL = "http://localhost:" + REMOTE_PORT + "/";
+
+    private static final String ARTIFACT_PATH = "org/carlspring/strongbox/group/slow-artifact/1.0/slow-artifact-1.0.jar";
+
+    private static final long REMOTE_LATENCY_MILLIS = 500L;
+
+    private static final String REPOSITORY_MISSING_1 = "grpmft-missing-1";
+
+    private static final String REPOSITORY_MISSING_2 = "grpmft-missing-2";
+
+    private static final String REPOSITORY_MISSING_3 = "grpmft-missing-3";
+
+    private static final String REPOSITORY_FIRST = "grpmft-first";
+
+    private static final String REPOSITORY_SECOND = "grpmft-second";
+
+    private static final String REPOSITORY_GROUP = "grpmft-group";
+
+    @Inject
+    private RepositoryProviderRegistry repositoryProviderRegistry;
+
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
+    private HttpServer remote;
+
+    /**
+     * The number of the artifact requests, by the request method and the remote repository.
+     */
+    private final Map<String, AtomicInteger> remoteRequestCounts = new ConcurrentHashMap<>();
+
+    private final byte[] content = new byte[4096];
+
+    @BeforeEach
+    public void setUp()
+        throws IOException
+    {
+        new Random().nextBytes(content);
+
+        remote = HttpServer.create(new InetSocketAddress("localhost", REMOTE_PORT), 0);
+        remote.createContext("/", this::serveSlowly);
+        remote.setExecutor(Executors.newCachedThreadPool());
+        remote.start();
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        remote.stop(0);
+    }
+
+    private void serveSlowly(HttpExchange exchange)
+        throws IOException
+    {
+        try
+        {
+            String path = exchange.getRequestURI().getPath();
+            if (!path.endsWith(ARTIFACT_PATH))
+            {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            String remoteRepository = path.substring(1, path.indexOf('/', 1));
+            remoteRequestCounts.computeIfAbsent(calculateKey(exchange.getRequestMethod(), remoteRepository),
+                                                k -> new AtomicInteger())
+                               .incrementAndGet();
+
+            TimeUnit.MILLISECONDS.sleep(REMOTE_LATENCY_MILLIS);
+
+            if (remoteRepository.startsWith("missing"))
+            {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            if ("HEAD".equals(exchange.getRequestMethod()))
+            {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+
+            exchange.sendResponseHeaders(200, content.length);
+            try (OutputStream os = exchange.getResponseBody())
+            {
+                os.write(content);
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        finally
+        {
+            exchange.close();
+        }
+    }
+
+    @Test
+    @ExtendWith(RepositoryManagementTestExecutionListener.class)
+    public void testProxyMembersProbedConcurrently(@MavenRepository(repositoryId = REPOSITORY_MISSING_1)
+                                                   @Remote(url = REMOTE_URL + "missing-1/")
+                                                   Repository missing1,
+                                                   @MavenRepository(repositoryId = REPOSITORY_MISSING_2)
+                                                   @Remote(url = REMOTE_URL + "missing-2/")
+                                                   Repository missing2,
+                                                   @MavenRepository(repositoryId = REPOSITORY_MISSING_3)
+                                                   @Remote(url = REMOTE_URL + "missing-3/")
+                                                   Repository missing3,
+                                                   @MavenRepository(repositoryId = REPOSITORY_FIRST)
+                                                   @Remote(url = REMOTE_URL + "first/")
+                                                   Repository first,
+                                                   @MavenRepository(repositoryId = REPOSITORY_SECOND)
+                                                   @Remote(url = REMOTE_URL + "second/")
+                                                   Repository second,
+                                                   @Group({ REPOSITORY_MISSING_1,
+                                                            REPOSITORY_MISSING_2,
+                                                            REPOSITORY_MISSING_3,
+                                                            REPOSITORY_FIRST,
+                                                            REPOSITORY_SECOND })
+                                                   @MavenRepository(repositoryId = REPOSITORY_GROUP)
+                                                   Repository group)
+        throws Exception
+    {
+        RepositoryProvider repositoryProvider = repositoryProviderRegistry.getProvider(group.getType());
+        RepositoryPath repositoryPath = repositoryPathResolver.resolve(group, ARTIFACT_PATH);
+
+        long start = System.nanoTime();
+        RepositoryPath result = (RepositoryPath) repositoryProvider.fetchPath(repositoryPath);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getRepository().getId()).isEqualTo(REPOSITORY_FIRST);
+        assertThat(Files.readAllBytes(result)).isEqualTo(content);
+
+        // Fetching the path from the members one by one would take at least four round trips.
+        assertThat(elapsed).isLessThan(4 * REMOTE_LATENCY_MILLIS);
+
+        // The missing members have only been probed, and the path has only been fetched from the first member which
+        // has it.
+        assertThat(getRemoteRequestCount("GET", "missing-1")).isZero();
+        assertThat(getRemoteRequestCount("GET", "missing-2")).isZero();
+        assertThat(getRemoteRequestCount("GET", "missing-3")).isZero();
+        assertThat(getRemoteRequestCount("GET", "first")).isEqualTo(1);
+        assertThat(getRemoteRequestCount("GET", "second")).isZero();
+        assertThat(repositoryPathResolver.resolve(second, ARTIFACT_PATH)).matches(Files::notExists);
+
+        // The recently missing members are not asked again, and the first member serves the stored path.
+        result = (RepositoryPath) repositoryProvider.fetchPath(repositoryPathResolver.resolve(group, ARTIFACT_PATH));
+
+        assertThat(result.getRepository().getId()).isEqualTo(REPOSITORY_FIRST);
+        assertThat(getRemoteRequestCount("HEAD", "missing-1")).isEqualTo(1);
+        assertThat(getRemoteRequestCount("HEAD", "missing-2")).isEqualTo(1);
+        assertThat(getRemoteRequestCount("HEAD", "missing-3")).isEqualTo(1);
+        assertThat(getRemoteRequestCount("GET", "first")).isEqualTo(1);
+    }
+
+    private int getRemoteRequestCount(String method,
+                                      String remoteRepository)
+    {
+        AtomicInteger count = remoteRequestCounts.get(calculateKey(method, remoteRepository));
+
+        return count == null ? 0 : count.get();
+    }
+
+    private static String calculateKey(String method,
+                                       String remoteRepository)
+    {
+        return method + " " + remoteRepository;
+    }
+
+}
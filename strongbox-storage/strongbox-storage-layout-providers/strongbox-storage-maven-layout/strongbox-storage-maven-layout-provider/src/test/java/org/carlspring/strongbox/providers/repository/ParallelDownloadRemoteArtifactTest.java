@@ -52,6 +52,9 @@ public class ParallelDownloadRemoteArtifactTest
     @Inject
     private PlatformTransactionManager transactionManager;
 
+    @Inject
+    private ArtifactDownloadStatisticsCollector artifactDownloadStatisticsCollector;
+
     @Override
     public InputStream getInputStream()
     {
@@ -127,6 +130,8 @@ public class ParallelDownloadRemoteArtifactTest
 
         assertThat(actual).isEqualTo(expected);
         
+        artifactDownloadStatisticsCollector.flush();
+
         RepositoryPath repositoryPath = repositoryPathResolver.resolve(storageId,
                                                                        repositoryId,
                                                                        path);
@@ -0,0 +1,236 @@
+package org.carlspring.strongbox.providers.repository;
+
+import org.carlspring.strongbox.config.Maven2LayoutProviderTestConfig;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.repository.proxied.ProxyRepositoryArtifactResolver;
+import org.carlspring.strongbox.providers.repository.proxied.RemoteArtifactDownload;
+import org.carlspring.strongbox.services.ArtifactResolutionService;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.testing.repository.MavenRepository;
+import org.carlspring.strongbox.testing.storage.repository.RepositoryManagementTestExecutionListener;
+import org.carlspring.strongbox.testing.storage.repository.TestRepository.Remote;
+
+import javax.inject.Inject;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the proxied artifacts are streamed to the clients while they are being fetched from a slow remote
+ * repository, and that the concurrent requests for the same path share the single remote download.
+ */
+@SpringBootTest
+@ActiveProfiles(profiles = "test")
+@ContextConfiguration(classes = Maven2LayoutProviderTestConfig.class)
+public class StreamingDownloadRemoteArtifactTest
+{
+
+    private static final int REMOTE_PORT = 48231;
+
+    private static final String PROXY_REPOSITORY_URL = "http://localhost:" + REMOTE_PORT + "/maven2/";
+
+    private static final String ARTIFACT_PATH = "org/carlspring/strongbox/streaming/slow-artifact/1.0/slow-artifact-1.0.jar";
+
+    private static final int CHUNK_SIZE = 4096;
+
+    private static final int CHUNK_COUNT = 20;
+
+    private static final long CHUNK_DELAY_MILLIS = 100L;
+
+    @Inject
+    private ArtifactResolutionService artifactResolutionService;
+
+    @Inject
+    private ProxyRepositoryArtifactResolver proxyRepositoryArtifactResolver;
+
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
+    private HttpServer remote;
+
+    private final AtomicInteger remoteRequestCount = new AtomicInteger();
+
+    private final byte[] content = new byte[CHUNK_SIZE * CHUNK_COUNT];
+
+    @BeforeEach
+    public void setUp()
+        throws IOException
+    {
+        new Random().nextBytes(content);
+
+        remote = HttpServer.create(new InetSocketAddress("localhost", REMOTE_PORT), 0);
+        remote.createContext("/maven2/", this::serveSlowly);
+        remote.setExecutor(Executors.newCachedThreadPool());
+        remote.start();
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        remote.stop(0);
+    }
+
+    private void serveSlowly(HttpExchange exchange)
+        throws IOException
+    {
+        try
+        {
+            if (!exchange.getRequestURI().getPath().endsWith(ARTIFACT_PATH) ||
+                !"GET".equals(exchange.getRequestMethod()))
+            {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            remoteRequestCount.incrementAndGet();
+
+            // Chunked response, as the content length is not known in advance.
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream os = exchange.getResponseBody())
+            {
+                for (int i = 0; i < CHUNK_COUNT; i++)
+                {
+                    os.write(content, i * CHUNK_SIZE, CHUNK_SIZE);
+                    os.flush();
+
+                    TimeUnit.MILLISECONDS.sleep(CHUNK_DELAY_MILLIS);
+                }
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        finally
+        {
+            exchange.close();
+        }
+    }
+
+    @Test
+    @ExtendWith(RepositoryManagementTestExecutionListener.class)
+    public void testFirstBytesServedBeforeDownloadCompleted(@MavenRepository(repositoryId = "sdrat-first-bytes")
+                                                            @Remote(url = PROXY_REPOSITORY_URL)
+                                                            Repository proxyRepository)
+        throws Exception
+    {
+        final String storageId = proxyRepository.getStorage().getId();
+        final String repositoryId = proxyRepository.getId();
+
+        RepositoryPath repositoryPath = artifactResolutionService.resolveDownloadPath(storageId,
+                                                                                      repositoryId,
+                                                                                      ARTIFACT_PATH);
+        assertThat(repositoryPath).isNotNull();
+
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (InputStream is = artifactResolutionService.getInputStream(repositoryPath))
+        {
+            byte[] buffer = new byte[CHUNK_SIZE];
+            int n = is.read(buffer);
+
+            // then: the first bytes have been received while the artifact is still being fetched
+            assertThat(n).isGreaterThan(0);
+            assertThat(proxyRepositoryArtifactResolver.getInFlightDownload(repositoryPath)).isPresent();
+
+            result.write(buffer, 0, n);
+            IOUtils.copy(is, result);
+        }
+
+        assertThat(result.toByteArray()).isEqualTo(content);
+
+        awaitStored(repositoryPath);
+        assertThat(Files.size(repositoryPath)).isEqualTo(content.length);
+        assertThat(remoteRequestCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @ExtendWith(RepositoryManagementTestExecutionListener.class)
+    public void testConcurrentRequestsAttachedToInFlightDownload(@MavenRepository(repositoryId = "sdrat-concurrent")
+                                                                 @Remote(url = PROXY_REPOSITORY_URL)
+                                                                 Repository proxyRepository)
+        throws Exception
+    {
+        final String storageId = proxyRepository.getStorage().getId();
+        final String repositoryId = proxyRepository.getId();
+        final int concurrency = 4;
+
+        List<Callable<byte[]>> requests = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++)
+        {
+            requests.add(() -> {
+                RepositoryPath repositoryPath = artifactResolutionService.resolveDownloadPath(storageId,
+                                                                                              repositoryId,
+                                                                                              ARTIFACT_PATH);
+                try (InputStream is = artifactResolutionService.getInputStream(repositoryPath))
+                {
+                    return IOUtils.toByteArray(is);
+                }
+            });
+        }
+        // The blocking resolution should be attached to the same download as well.
+        requests.add(() -> {
+            RepositoryPath repositoryPath = artifactResolutionService.resolvePath(storageId,
+                                                                                  repositoryId,
+                                                                                  ARTIFACT_PATH);
+            return Files.readAllBytes(repositoryPath);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(requests.size());
+        try
+        {
+            for (Future<byte[]> result : executor.invokeAll(requests))
+            {
+                assertThat(result.get()).isEqualTo(content);
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        RepositoryPath repositoryPath = repositoryPathResolver.resolve(proxyRepository, ARTIFACT_PATH);
+        awaitStored(repositoryPath);
+
+        assertThat(Files.size(repositoryPath)).isEqualTo(content.length);
+        assertThat(remoteRequestCount.get()).isEqualTo(1);
+    }
+
+    private void awaitStored(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        Optional<RemoteArtifactDownload> download = proxyRepositoryArtifactResolver.getInFlightDownload(repositoryPath);
+        if (download.isPresent())
+        {
+            download.get().await();
+        }
+
+        assertThat(Files.exists(repositoryPath)).isTrue();
+    }
+
+}
@@ -0,0 +1,172 @@
+package org.carlspring.strongbox.repository.group.metadata;
+
+import org.carlspring.strongbox.config.Maven2LayoutProviderTestConfig;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.repository.group.BaseMavenGroupRepositoryComponentTest;
+import org.carlspring.strongbox.services.ArtifactManagementService;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.testing.repository.MavenRepository;
+import org.carlspring.strongbox.testing.storage.repository.RepositoryManagementTestExecutionListener;
+import org.carlspring.strongbox.testing.storage.repository.TestRepository.Group;
+
+import javax.inject.Inject;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.maven.artifact.repository.metadata.Metadata;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
+
+/**
+ * The artifacts are deployed concurrently into the hosted repositories, and the group metadata is checked once the
+ * collected group metadata updates are flushed.
+ */
+@SpringBootTest
+@ActiveProfiles(profiles = "test")
+@ContextConfiguration(classes = Maven2LayoutProviderTestConfig.class)
+@Execution(CONCURRENT)
+public class MavenMetadataGroupRepositoryUpdaterTest
+        extends BaseMavenGroupRepositoryComponentTest
+{
+
+    private static final String REPOSITORY_LEAF_UA = "leaf-repo-ua";
+
+    private static final String REPOSITORY_LEAF_UB = "leaf-repo-ub";
+
+    private static final String REPOSITORY_LEAF_UC = "leaf-repo-uc";
+
+    private static final String REPOSITORY_GROUP_UD = "group-repo-ud";
+
+    private static final String REPOSITORY_GROUP_UE = "group-repo-ue";
+
+    private static final String REPOSITORY_GROUP_UF = "group-repo-uf";
+
+    private static final String ARTIFACT_BASE_PATH = "org/carlspring/strongbox/group/updater/concurrent-foo";
+
+    private static final int CONCURRENCY = 8;
+
+    @Inject
+    private ArtifactManagementService mavenArtifactManagementService;
+
+    @Inject
+    private MavenMetadataGroupRepositoryUpdater mavenMetadataGroupRepositoryUpdater;
+
+    @ExtendWith(RepositoryManagementTestExecutionListener.class)
+    @Test
+    public void testGroupMetadataAfterConcurrentDeploymentsIntoDifferentMembers(
+            @MavenRepository(repositoryId = REPOSITORY_LEAF_UA) Repository repositoryLeafUa,
+            @MavenRepository(repositoryId = REPOSITORY_LEAF_UB) Repository repositoryLeafUb,
+            @Group({ REPOSITORY_LEAF_UA,
+                     REPOSITORY_LEAF_UB })
+            @MavenRepository(repositoryId = REPOSITORY_GROUP_UD) Repository repositoryGroupUd)
+            throws Exception
+    {
+        // when
+        List<String> versions = deployConcurrently(repositoryLeafUa, "1.", repositoryLeafUb, "2.");
+        mavenMetadataGroupRepositoryUpdater.flush();
+
+        // then
+        assertThat(readVersions(repositoryLeafUa)).hasSize(CONCURRENCY);
+        assertThat(readVersions(repositoryLeafUb)).hasSize(CONCURRENCY);
+        assertThat(readVersions(repositoryGroupUd)).containsExactlyInAnyOrderElementsOf(versions);
+    }
+
+    @ExtendWith(RepositoryManagementTestExecutionListener.class)
+    @Test
+    public void testNestedGroupMetadataAfterConcurrentDeploymentsIntoSameMember(
+            @MavenRepository(repositoryId = REPOSITORY_LEAF_UC) Repository repositoryLeafUc,
+            @Group({ REPOSITORY_LEAF_UC })
+            @MavenRepository(repositoryId = REPOSITORY_GROUP_UE) Repository repositoryGroupUe,
+            @Group({ REPOSITORY_GROUP_UE })
+            @MavenRepository(repositoryId = REPOSITORY_GROUP_UF) Repository repositoryGroupUf)
+            throws Exception
+    {
+        // when
+        List<String> versions = deployConcurrently(repositoryLeafUc, "1.", repositoryLeafUc, "2.");
+        mavenMetadataGroupRepositoryUpdater.flush();
+
+        // then
+        assertThat(readVersions(repositoryLeafUc)).containsExactlyInAnyOrderElementsOf(versions);
+        assertThat(readVersions(repositoryGroupUe)).containsExactlyInAnyOrderElementsOf(versions);
+        assertThat(readVersions(repositoryGroupUf)).containsExactlyInAnyOrderElementsOf(versions);
+    }
+
+    /**
+     * Deploys {@link #CONCURRENCY} versions into each of the given repositories, all at the same time.
+     *
+     * @return the deployed versions
+     */
+    private List<String> deployConcurrently(Repository firstRepository,
+                                            String firstVersionPrefix,
+                                            Repository secondRepository,
+                                            String secondVersionPrefix)
+            throws InterruptedException
+    {
+        List<String> versions = new ArrayList<>();
+        List<String> failures = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < CONCURRENCY; i++)
+        {
+            threads.add(newDeployment(firstRepository, firstVersionPrefix + i, failures));
+            threads.add(newDeployment(secondRepository, secondVersionPrefix + i, failures));
+
+            versions.add(firstVersionPrefix + i);
+            versions.add(secondVersionPrefix + i);
+        }
+
+        threads.forEach(Thread::start);
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+
+        assertThat(failures).isEmpty();
+
+        return versions;
+    }
+
+    private Thread newDeployment(Repository repository,
+                                 String version,
+                                 List<String> failures)
+    {
+        String path = String.format("%s/%s/concurrent-foo-%s.jar", ARTIFACT_BASE_PATH, version, version);
+
+        return new Thread(() -> {
+            byte[] content = new byte[1024];
+            new Random().nextBytes(content);
+
+            RepositoryPath repositoryPath = repositoryPathResolver.resolve(repository, path);
+            try (InputStream is = new ByteArrayInputStream(content))
+            {
+                mavenArtifactManagementService.store(repositoryPath, is);
+            }
+            catch (IOException e)
+            {
+                synchronized (failures)
+                {
+                    failures.add(repositoryPath + ": " + e.getMessage());
+                }
+            }
+        });
+    }
+
+    private List<String> readVersions(Repository repository)
+            throws Exception
+    {
+        Metadata metadata = mavenMetadataManager.readMetadata(repositoryPathResolver.resolve(repository,
+                                                                                             ARTIFACT_BASE_PATH));
+
+        return metadata.getVersioning().getVersions();
+    }
+
+}
@@ -0,0 +1,176 @@
+package org.carlspring.strongbox.storage.indexing.local;
+
+import org.carlspring.strongbox.config.Maven2LayoutProviderTestConfig;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.repository.MavenRepositoryFeatures;
+import org.carlspring.strongbox.services.ArtifactManagementService;
+import org.carlspring.strongbox.storage.indexing.BaseRepositoryIndexCreatorTest;
+import org.carlspring.strongbox.storage.indexing.IndexTypeEnum;
+import org.carlspring.strongbox.storage.indexing.RepositoryCloseableIndexingContext;
+import org.carlspring.strongbox.storage.indexing.RepositoryIndexingContextFactory;
+import org.carlspring.strongbox.storage.indexing.RepositoryIndexingContextFactory.RepositoryIndexingContextFactoryQualifier;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.testing.MavenIndexedRepositorySetup;
+import org.carlspring.strongbox.testing.repository.MavenRepository;
+import org.carlspring.strongbox.testing.storage.repository.RepositoryManagementTestExecutionListener;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.Query;
+import org.apache.maven.index.FlatSearchRequest;
+import org.apache.maven.index.MAVEN;
+import org.apache.maven.index.expr.SourcedSearchExpression;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles(profiles = "test")
+@ContextConfiguration(classes = Maven2LayoutProviderTestConfig.class)
+public class RepositoryHostedIndexUpdaterTest
+        extends BaseRepositoryIndexCreatorTest
+{
+
+    private static final String REPOSITORY_RELEASES = "rhiut-releases";
+
+    private static final String REPOSITORY_RELEASES_2 = "rhiut-releases-2";
+
+    private static final String ARTIFACT_PATH = "org/carlspring/properties-injector/%s/properties-injector-%s.jar";
+
+    private Resource jarArtifact = new ClassPathResource("artifacts/properties-injector-1.7.jar");
+
+    @Inject
+    private ArtifactManagementService artifactManagementService;
+
+    @Inject
+    private RepositoryHostedIndexUpdater repositoryHostedIndexUpdater;
+
+    @Inject
+    @RepositoryIndexingContextFactoryQualifier(IndexTypeEnum.LOCAL)
+    private RepositoryIndexingContextFactory indexingContextFactory;
+
+    @ExtendWith(RepositoryManagementTestExecutionListener.class)
+    @Test
+    public void indexShouldBeUpdatedIncrementally(@MavenRepository(repositoryId = REPOSITORY_RELEASES,
+                                                                   setup = MavenIndexedRepositorySetup.class)
+                                                  Repository repository)
+            throws Exception
+    {
+        RepositoryPath indexPath = repositoryPathResolver.resolve(repository)
+                                                        .resolve(MavenRepositoryFeatures.INDEX)
+                                                        .resolve("local");
+
+        // The first update publishes the whole index.
+        RepositoryPath artifactPath1 = store(repository, "1.7");
+        repositoryHostedIndexUpdater.flush();
+
+        assertThat(indexPath.resolve("nexus-maven-repository-index.gz")).matches(Files::exists);
+        assertThat(indexPath.resolve("nexus-maven-repository-index.1.gz")).matches(Files::notExists);
+        assertHits(repository, "1.7", 1);
+
+        // The next updates are published as the incremental chunks.
+        store(repository, "1.8");
+        repositoryHostedIndexUpdater.flush();
+
+        assertThat(indexPath.resolve("nexus-maven-repository-index.1.gz")).matches(Files::exists);
+        assertThat(readProperties(indexPath)).containsKey("nexus.index.incremental-0");
+        assertHits(repository, "1.7", 1);
+        assertHits(repository, "1.8", 1);
+
+        Files.delete(artifactPath1);
+        repositoryHostedIndexUpdater.flush();
+
+        assertThat(indexPath.resolve("nexus-maven-repository-index.2.gz")).matches(Files::exists);
+        assertHits(repository, "1.7", 0);
+        assertHits(repository, "1.8", 1);
+        assertThat(repositoryHostedIndexUpdater.getPendingCount()).isZero();
+    }
+
+    @ExtendWith(RepositoryManagementTestExecutionListener.class)
+    @Test
+    public void indexShouldBeUpdatedOnVersionDirectoryDelete(@MavenRepository(repositoryId = REPOSITORY_RELEASES_2,
+                                                                              setup = MavenIndexedRepositorySetup.class)
+                                                             Repository repository)
+            throws Exception
+    {
+        RepositoryPath indexPath = repositoryPathResolver.resolve(repository)
+                                                        .resolve(MavenRepositoryFeatures.INDEX)
+                                                        .resolve("local");
+
+        RepositoryPath artifactPath1 = store(repository, "1.7");
+        store(repository, "1.8");
+        repositoryHostedIndexUpdater.flush();
+
+        assertHits(repository, "1.7", 1);
+        assertHits(repository, "1.8", 1);
+
+        // The deletes of the artifacts within the directory are published as the incremental chunk.
+        Files.delete(artifactPath1.getParent());
+        repositoryHostedIndexUpdater.flush();
+
+        assertThat(indexPath.resolve("nexus-maven-repository-index.1.gz")).matches(Files::exists);
+        assertThat(readProperties(indexPath)).containsKey("nexus.index.incremental-0");
+        assertHits(repository, "1.7", 0);
+        assertHits(repository, "1.8", 1);
+        assertThat(repositoryHostedIndexUpdater.getPendingCount()).isZero();
+    }
+
+    private RepositoryPath store(Repository repository,
+                                 String version)
+            throws IOException
+    {
+        RepositoryPath repositoryPath = repositoryPathResolver.resolve(repository,
+                                                                       String.format(ARTIFACT_PATH, version, version));
+        try (InputStream is = jarArtifact.getInputStream())
+        {
+            artifactManagementService.validateAndStore(repositoryPath, is);
+        }
+
+        return repositoryPath;
+    }
+
+    private void assertHits(Repository repository,
+                            String version,
+                            int expectedHitsCount)
+            throws IOException
+    {
+        Query query = new BooleanQuery.Builder()
+                              .add(indexer.constructQuery(MAVEN.ARTIFACT_ID,
+                                                          new SourcedSearchExpression("properties-injector")),
+                                   BooleanClause.Occur.MUST)
+                              .add(indexer.constructQuery(MAVEN.VERSION, new SourcedSearchExpression(version)),
+                                   BooleanClause.Occur.MUST)
+                              .build();
+
+        try (RepositoryCloseableIndexingContext indexingContext = indexingContextFactory.create(repository))
+        {
+            assertThat(indexer.searchFlat(new FlatSearchRequest(query, indexingContext)).getTotalHitsCount())
+                    .isEqualTo(expectedHitsCount);
+        }
+    }
+
+    private Properties readProperties(Path indexPath)
+            throws IOException
+    {
+        Properties properties = new Properties();
+        try (InputStream is = Files.newInputStream(indexPath.resolve("nexus-maven-repository-index.properties")))
+        {
+            properties.load(is);
+        }
+
+        return properties;
+    }
+
+}
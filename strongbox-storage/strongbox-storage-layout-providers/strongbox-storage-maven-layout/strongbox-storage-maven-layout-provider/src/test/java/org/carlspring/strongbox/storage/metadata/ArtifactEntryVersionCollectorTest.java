@@ -0,0 +1,62 @@
+package org.carlspring.strongbox.storage.metadata;
+
+import org.carlspring.strongbox.config.Maven2LayoutProviderTestConfig;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.repository.RepositoryPolicyEnum;
+import org.carlspring.strongbox.testing.artifact.ArtifactManagementTestExecutionListener;
+import org.carlspring.strongbox.testing.artifact.MavenTestArtifact;
+import org.carlspring.strongbox.testing.repository.MavenRepository;
+import org.carlspring.strongbox.testing.storage.repository.RepositoryManagementTestExecutionListener;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.apache.maven.artifact.repository.metadata.SnapshotVersion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles(profiles = "test")
+@ContextConfiguration(classes = Maven2LayoutProviderTestConfig.class)
+public class ArtifactEntryVersionCollectorTest
+{
+
+    private static final String REPOSITORY_SNAPSHOTS = "aevct-snapshots";
+
+    @Inject
+    private ArtifactEntryVersionCollector artifactEntryVersionCollector;
+
+    @Test
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    public void timestampedSnapshotVersionsShouldBeCollectedForSnapshotVersion(@MavenRepository(repositoryId = REPOSITORY_SNAPSHOTS,
+                                                                                                policy = RepositoryPolicyEnum.SNAPSHOT)
+                                                                               Repository repository,
+                                                                               @MavenTestArtifact(repositoryId = REPOSITORY_SNAPSHOTS,
+                                                                                                  id = "org.carlspring.strongbox.metadata:collector-foo",
+                                                                                                  versions = { "3.1-20190812.124500-1",
+                                                                                                               "3.1-20190812.124600-2",
+                                                                                                               "3.10-20190812.124700-1",
+                                                                                                               "3.2-20190812.124800-1" })
+                                                                               List<Path> artifactPaths)
+            throws IOException
+    {
+        RepositoryPath artifactBasePath = (RepositoryPath) artifactPaths.get(0).normalize().getParent().getParent();
+
+        // Only the artifacts of the 3.1 base version are loaded, while 3.10 (also matching `3.1%`) is left out.
+        List<SnapshotVersion> snapshotVersions =
+                artifactEntryVersionCollector.collectTimestampedSnapshotVersions(artifactBasePath, "3.1-SNAPSHOT");
+
+        assertThat(snapshotVersions).extracting(SnapshotVersion::getVersion)
+                                    .containsOnly("3.1-20190812.124500-1", "3.1-20190812.124600-2")
+                                    .contains("3.1-20190812.124500-1", "3.1-20190812.124600-2");
+    }
+
+}
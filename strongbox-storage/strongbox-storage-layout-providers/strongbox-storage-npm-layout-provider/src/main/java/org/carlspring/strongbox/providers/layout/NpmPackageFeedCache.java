@@ -0,0 +1,101 @@
+package org.carlspring.strongbox.providers.layout;
+
+import org.carlspring.strongbox.data.CacheName;
+
+import javax.inject.Inject;
+import java.io.Serializable;
+import java.util.function.Supplier;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of the materialized npm package documents (packuments), keyed by storage, repository and package id.
+ * <p>
+ * The packuments are kept within the {@link CacheName.Artifact#NPM_PACKAGE_FEEDS} cache, so they are shared by the
+ * cluster nodes. The package is evicted from all the repositories when a package file is stored or deleted.
+ */
+@Component
+public class NpmPackageFeedCache
+        extends AbstractLayoutPackageCache<NpmPackageFeedCache.CachedPackageFeed>
+{
+
+    @Inject
+    NpmPackageFeedCache(CacheManager cacheManager)
+    {
+        super(cacheManager, CacheName.Artifact.NPM_PACKAGE_FEEDS, NpmLayoutProvider.ALIAS);
+    }
+
+    public CachedPackageFeed get(String storageId,
+                                 String repositoryId,
+                                 String packageId,
+                                 Supplier<CachedPackageFeed> loader)
+    {
+        return get(calculateKey(storageId, repositoryId, packageId), loader, packageId);
+    }
+
+    /**
+     * The npm package files are located under the `{packageId}` directory, where the package id is either `name` or
+     * `@scope/name`.
+     */
+    @Override
+    protected String calculatePackageId(String path)
+    {
+        String[] segments = path.split(KEY_SEPARATOR);
+        if (segments.length == 0 || segments[0].isEmpty())
+        {
+            return null;
+        }
+
+        if (!segments[0].startsWith("@"))
+        {
+            return segments[0];
+        }
+
+        return segments.length > 1 ? segments[0] + KEY_SEPARATOR + segments[1] : null;
+    }
+
+    @Override
+    protected String[] calculateEvictedRegions(String packageId)
+    {
+        return new String[]{ packageId };
+    }
+
+    private static String calculateKey(String storageId,
+                                       String repositoryId,
+                                       String packageId)
+    {
+        return storageId + KEY_SEPARATOR + repositoryId + KEY_SEPARATOR + packageId;
+    }
+
+    /**
+     * The serialized packument along with its revision, which is also used as the entity tag.
+     */
+    public static class CachedPackageFeed
+            implements Serializable
+    {
+
+        private final byte[] content;
+
+        private final String revision;
+
+        public CachedPackageFeed(byte[] content,
+                                 String revision)
+        {
+            this.content = content;
+            this.revision = revision;
+        }
+
+        public byte[] getContent()
+        {
+            return content;
+        }
+
+        public String getRevision()
+        {
+            return revision;
+        }
+
+    }
+
+}
@@ -43,6 +43,9 @@ public class NpmUnpublishService
     @Inject
     private NpmRepositoryFeatures repositoryFeatures;
 
+    @Inject
+    private NpmPackageFeedCache npmPackageFeedCache;
+
     public Result unpublishPackage(Repository repository,
                                    String packageScope,
                                    String packageName)
@@ -82,6 +85,11 @@ public class NpmUnpublishService
 
             return Result.INTERNAL_SERVER_ERROR;
         }
+        finally
+        {
+            // No events are dispatched for the deleted directories.
+            npmPackageFeedCache.evict(NpmArtifactCoordinates.calculatePackageId(packageScope, packageName));
+        }
 
         logger.info("Npm unpublish succeeded: path-[{}]", path);
 
@@ -137,6 +145,10 @@ public class NpmUnpublishService
 
             return Result.INTERNAL_SERVER_ERROR;
         }
+        finally
+        {
+            npmPackageFeedCache.evict(coordinates.getId());
+        }
         logger.info("Npm unpublish succeeded: path-[{}]", path);
 
         return Result.UNPUBLISHED;
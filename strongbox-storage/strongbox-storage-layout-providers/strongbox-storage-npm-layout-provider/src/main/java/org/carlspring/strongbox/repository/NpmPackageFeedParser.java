@@ -23,6 +23,7 @@ import org.carlspring.strongbox.npm.metadata.PackageVersion;
 import org.carlspring.strongbox.npm.metadata.SearchResult;
 import org.carlspring.strongbox.npm.metadata.SearchResults;
 import org.carlspring.strongbox.npm.metadata.Versions;
+import org.carlspring.strongbox.providers.layout.NpmPackageFeedCache;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathLock;
@@ -57,6 +58,9 @@ public class NpmPackageFeedParser
     @Inject
     private RepositoryPathLock repositoryPathLock;
 
+    @Inject
+    private NpmPackageFeedCache npmPackageFeedCache;
+
     public void parseSearchResult(Repository repository,
                                   SearchResults searchResults)
         throws IOException
@@ -94,6 +98,9 @@ public class NpmPackageFeedParser
             RepositoryPath repositoryPath = repositoryPathResolver.resolve(repository).resolve(e);
 
             saveArtifactEntry(repositoryPath);
+
+            // The remote package entries are saved without the artifact events.
+            npmPackageFeedCache.evict(e.getArtifactCoordinates().getId());
         }
     }
 
@@ -447,21 +447,33 @@ public class NpmRepositoryFeatures implements RepositoryFeatures
     public class ViewPackageEventListener
     {
 
-        private NpmViewRequest npmSearchRequest;
+        /**
+         * The view request is bound to the thread which performs the package search, and shouldn't be visible to the
+         * concurrent requests.
+         */
+        private final ThreadLocal<NpmViewRequest> npmSearchRequest = new ThreadLocal<>();
 
         public NpmViewRequest getNpmSearchRequest()
         {
-            return npmSearchRequest;
+            return npmSearchRequest.get();
         }
 
         public void setNpmSearchRequest(NpmViewRequest npmSearchRequest)
         {
-            this.npmSearchRequest = npmSearchRequest;
+            if (npmSearchRequest == null)
+            {
+                this.npmSearchRequest.remove();
+
+                return;
+            }
+
+            this.npmSearchRequest.set(npmSearchRequest);
         }
 
         @EventListener
         public void handle(RemoteRepositorySearchEvent event)
         {
+            NpmViewRequest npmSearchRequest = getNpmSearchRequest();
             if (npmSearchRequest == null)
             {
                 return;
@@ -484,8 +496,8 @@ public class NpmRepositoryFeatures implements RepositoryFeatures
             logger.debug("NPM remote repository [{}] cached package count is [{}]",
                          repository.getId(), packageCount);
 
-            Runnable job = () -> fetchRemotePackageFeed(storage.getId(), repository.getId(),
-                                                        npmSearchRequest.getPackageId());
+            String packageId = npmSearchRequest.getPackageId();
+            Runnable job = () -> fetchRemotePackageFeed(storage.getId(), repository.getId(), packageId);
             if (packageCount.longValue() == 0)
             {
                 // Syncronously fetch remote package feed if ve have no cached
@@ -42,6 +42,12 @@ public class NugetArtifactCoordinates
 
     private static final Pattern NUGET_PACKAGE_REGEXP = Pattern.compile(NUGET_PACKAGE_REGEXP_PATTERN);
 
+    /**
+     * The package <code>.nuspec</code> contents, stored along with the package so that the feeds don't need to read
+     * the <code>.nuspec</code> file for each package.
+     */
+    private String nuspec;
+
 
     public NugetArtifactCoordinates()
     {
@@ -103,6 +109,16 @@ public class NugetArtifactCoordinates
         setCoordinate(EXTENSION, type);
     }
     
+    public String getNuspec()
+    {
+        return nuspec;
+    }
+
+    public void setNuspec(String nuspec)
+    {
+        this.nuspec = nuspec;
+    }
+
     public String toPath()
     {
         String idLocal = getId();
@@ -7,14 +7,17 @@ import org.carlspring.strongbox.storage.metadata.nuget.Nupkg;
 import org.carlspring.strongbox.storage.metadata.nuget.Nuspec;
 import org.carlspring.strongbox.storage.metadata.nuget.Nuspec.Metadata;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.*;
 
 import javax.xml.bind.DatatypeConverter;
 
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.Assert;
@@ -64,6 +67,13 @@ public class PathNupkg implements Nupkg
         throws IOException,
         UnsupportedEncodingException
     {
+        // The checksum calculated on upload, so there is no need to read the checksum file.
+        String checksum = path.getArtifactEntry().getChecksums().get(MessageDigestAlgorithms.SHA_512);
+        if (checksum != null)
+        {
+            return checksum;
+        }
+
         Map<String, RepositoryPath> checksumPathMap = path.getFileSystem().provider().resolveChecksumPathMap(path);
         if (checksumPathMap.isEmpty())
         {
@@ -98,6 +108,13 @@ public class PathNupkg implements Nupkg
     private Nuspec createNuspecFile()
         throws NugetFormatException
     {
+        // The .nuspec contents stored on upload, so there is no need to read the .nuspec file.
+        String nuspec = artifactCoordinates.getNuspec();
+        if (nuspec != null)
+        {
+            return Nuspec.parse(new ByteArrayInputStream(nuspec.getBytes(StandardCharsets.UTF_8)));
+        }
+
         RepositoryPath nuspecPath = path.resolveSibling(artifactCoordinates.getId() + ".nuspec");
         if (!Files.exists(nuspecPath))
         {
@@ -110,9 +127,9 @@ public class PathNupkg implements Nupkg
             return result;
         }
         
-        try
+        try (InputStream is = Files.newInputStream(nuspecPath))
         {
-            return Nuspec.parse(Files.newInputStream(nuspecPath));
+            return Nuspec.parse(is);
         }
         catch (IOException e)
         {
@@ -0,0 +1,79 @@
+package org.carlspring.strongbox.providers.layout;
+
+import org.carlspring.strongbox.data.CacheName;
+
+import javax.inject.Inject;
+import java.util.function.Supplier;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of the rendered NuGet OData feed pages, keyed by the feed and the query of the page.
+ * <p>
+ * The pages are kept within the {@link CacheName.Artifact#NUGET_PACKAGE_FEED_PAGES} cache, so they are shared by the
+ * cluster nodes. The <code>FindPackagesById()</code> pages are evicted when a file of the package is stored or
+ * deleted, while the search pages (which might contain any package) are evicted on any package change.
+ */
+@Component
+public class NugetPackageFeedCache
+        extends AbstractLayoutPackageCache<byte[]>
+{
+
+    /**
+     * The region of the search pages.
+     */
+    private static final String SEARCH_REGION = "?";
+
+    @Inject
+    NugetPackageFeedCache(CacheManager cacheManager)
+    {
+        super(cacheManager, CacheName.Artifact.NUGET_PACKAGE_FEED_PAGES, NugetLayoutProvider.ALIAS);
+    }
+
+    /**
+     * @param feedId    the feed URI, which is rendered within the page
+     * @param packageId the package of the page, or <code>null</code> for the search pages
+     * @param query     the query parameters of the page
+     * @param loader    renders the page
+     */
+    public byte[] get(String feedId,
+                      String packageId,
+                      String query,
+                      Supplier<byte[]> loader)
+    {
+        return get(calculateKey(feedId, packageId, query), loader, calculateRegion(packageId));
+    }
+
+    /**
+     * The NuGet package files are located under the `{packageId}/{version}` directory.
+     */
+    @Override
+    protected String calculatePackageId(String path)
+    {
+        return calculateFirstSegment(path);
+    }
+
+    /**
+     * The pages of the package, along with all the search pages.
+     */
+    @Override
+    protected String[] calculateEvictedRegions(String packageId)
+    {
+        return new String[]{ calculateRegion(packageId), SEARCH_REGION };
+    }
+
+    private static String calculateRegion(String packageId)
+    {
+        // NuGet package ids are case insensitive.
+        return packageId == null ? SEARCH_REGION : packageId.toLowerCase();
+    }
+
+    private static String calculateKey(String feedId,
+                                       String packageId,
+                                       String query)
+    {
+        return feedId + KEY_SEPARATOR + (packageId == null ? "" : packageId) + "?" + query;
+    }
+
+}
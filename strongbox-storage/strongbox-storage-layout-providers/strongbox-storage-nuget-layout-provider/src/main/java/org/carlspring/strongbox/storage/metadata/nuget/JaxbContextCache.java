@@ -0,0 +1,39 @@
+package org.carlspring.strongbox.storage.metadata.nuget;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shares the {@link JAXBContext} instances of the NuGet metadata classes.
+ * <p>
+ * Creating a {@link JAXBContext} is expensive, while the context itself is thread safe (as opposed to the
+ * marshallers and unmarshallers created from it), so there is no need to create it for each document.
+ */
+public final class JaxbContextCache
+{
+
+    private static final Map<Class<?>, JAXBContext> CONTEXTS = new ConcurrentHashMap<>();
+
+    private JaxbContextCache()
+    {
+    }
+
+    public static JAXBContext getContext(Class<?> type)
+        throws JAXBException
+    {
+        JAXBContext context = CONTEXTS.get(type);
+        if (context != null)
+        {
+            return context;
+        }
+
+        // Concurrent callers might both create the context, which is harmless.
+        context = JAXBContext.newInstance(type);
+        JAXBContext existing = CONTEXTS.putIfAbsent(type, context);
+
+        return existing != null ? existing : context;
+    }
+
+}
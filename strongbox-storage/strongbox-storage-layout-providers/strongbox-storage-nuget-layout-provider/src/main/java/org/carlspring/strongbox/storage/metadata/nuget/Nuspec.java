@@ -116,7 +116,7 @@ public class Nuspec implements Serializable
     {
         try
         {
-            JAXBContext context = JAXBContext.newInstance(Nuspec.class);
+            JAXBContext context = JaxbContextCache.getContext(Nuspec.class);
             Unmarshaller unmarshaller = context.createUnmarshaller();
             unmarshaller.setEventHandler(new NuspecXmlValidationEventHandler());
             XMLReader reader = XMLReaderFactory.createXMLReader();
@@ -401,7 +401,7 @@ public class Nuspec implements Serializable
     public void saveTo(OutputStream outputStream)
         throws JAXBException
     {
-        JAXBContext context = JAXBContext.newInstance(this.getClass());
+        JAXBContext context = JaxbContextCache.getContext(this.getClass());
         Marshaller marshaller = context.createMarshaller();
         marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
         marshaller.marshal(this, outputStream);
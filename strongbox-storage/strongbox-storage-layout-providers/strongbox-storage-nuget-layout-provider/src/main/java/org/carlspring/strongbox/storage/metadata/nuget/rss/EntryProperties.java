@@ -42,6 +42,7 @@ import javax.xml.parsers.ParserConfigurationException;
 
 import org.carlspring.strongbox.artifact.coordinates.versioning.SemanticVersion;
 import org.carlspring.strongbox.storage.metadata.nuget.Dependency;
+import org.carlspring.strongbox.storage.metadata.nuget.JaxbContextCache;
 import org.carlspring.strongbox.storage.metadata.nuget.NugetFormatException;
 import org.carlspring.strongbox.storage.metadata.nuget.Nuspec;
 import org.carlspring.strongbox.storage.metadata.nuget.StringListTypeAdapter;
@@ -64,7 +65,7 @@ public class EntryProperties
     public static EntryProperties parse(InputStream inputStream)
         throws JAXBException
     {
-        JAXBContext context = JAXBContext.newInstance(EntryProperties.class);
+        JAXBContext context = JaxbContextCache.getContext(EntryProperties.class);
         Unmarshaller unmarshaller = context.createUnmarshaller();
         return (EntryProperties) unmarshaller.unmarshal(inputStream);
     }
@@ -38,6 +38,7 @@ import javax.xml.bind.annotation.XmlType;
 
 import org.apache.xml.serialize.OutputFormat;
 import org.apache.xml.serialize.XMLSerializer;
+import org.carlspring.strongbox.storage.metadata.nuget.JaxbContextCache;
 import org.carlspring.strongbox.storage.metadata.nuget.XmlWritable;
 
 /**
@@ -55,7 +56,7 @@ public class PackageFeed implements XmlWritable
     public static PackageFeed parse(InputStream inputStream)
         throws JAXBException
     {
-        JAXBContext context = JAXBContext.newInstance(PackageFeed.class);
+        JAXBContext context = JaxbContextCache.getContext(PackageFeed.class);
         Unmarshaller unmarshaller = context.createUnmarshaller();
         return (PackageFeed) unmarshaller.unmarshal(inputStream);
     }
@@ -184,7 +185,7 @@ public class PackageFeed implements XmlWritable
         throws JAXBException
     {
         // Initial Serialization
-        JAXBContext context = JAXBContext.newInstance(this.getClass());
+        JAXBContext context = JaxbContextCache.getContext(this.getClass());
         Marshaller marshaller = context.createMarshaller();
         Map<String, String> uriToPrefix = new HashMap<>();
         uriToPrefix.put("http://www.w3.org/2005/Atom", "atom");
@@ -0,0 +1,95 @@
+package org.carlspring.strongbox.providers.layout;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.carlspring.strongbox.data.CacheName;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
+
+@Execution(CONCURRENT)
+public class NugetPackageFeedCacheTest
+{
+
+    private static final String FEED_ID = "http://localhost:48080/storages/storage-nuget/releases/";
+
+    private final AtomicInteger renderCount = new AtomicInteger();
+
+    private NugetPackageFeedCache cache;
+
+    @BeforeEach
+    public void setUp()
+    {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheName.Common.CACHE_REGIONS,
+                                                                               CacheName.Artifact.NUGET_PACKAGE_FEED_PAGES);
+        cacheManager.setStoreByValue(true);
+
+        cache = new NugetPackageFeedCache(cacheManager);
+    }
+
+    @Test
+    public void testCachedPages()
+    {
+        assertThat(get("Org.Carlspring.Strongbox", "FindPackagesById()")).isEqualTo("1");
+        assertThat(get("Org.Carlspring.Strongbox", "FindPackagesById()")).isEqualTo("1");
+        assertThat(get(null, "$skip=0&$top=30")).isEqualTo("2");
+        assertThat(get(null, "$skip=30&$top=30")).isEqualTo("3");
+
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void testEvictPackage()
+    {
+        get("Org.Carlspring.Strongbox", "FindPackagesById()");
+        get("Org.Carlspring.Other", "FindPackagesById()");
+        get(null, "$skip=0&$top=30");
+
+        cache.evict("org.carlspring.strongbox");
+
+        assertThat(get("Org.Carlspring.Strongbox", "FindPackagesById()")).isEqualTo("4");
+        assertThat(get("Org.Carlspring.Other", "FindPackagesById()")).isEqualTo("2");
+        // The search pages might contain the package as well.
+        assertThat(get(null, "$skip=0&$top=30")).isEqualTo("5");
+    }
+
+    @Test
+    public void testPageRenderedConcurrentlyWithEvictionNotServed()
+    {
+        byte[] content = cache.get(FEED_ID, null, "$skip=0&$top=30", () -> {
+            byte[] result = String.valueOf(renderCount.incrementAndGet()).getBytes(StandardCharsets.UTF_8);
+            cache.evict("org.carlspring.strongbox");
+
+            return result;
+        });
+
+        assertThat(new String(content, StandardCharsets.UTF_8)).isEqualTo("1");
+        assertThat(get(null, "$skip=0&$top=30")).isEqualTo("2");
+        assertThat(get(null, "$skip=0&$top=30")).isEqualTo("2");
+    }
+
+    @Test
+    public void testCalculatePackageId()
+    {
+        assertThat(cache.calculatePackageId("Org.Carlspring.Strongbox/1.0.0/Org.Carlspring.Strongbox.nuspec"))
+                .isEqualTo("Org.Carlspring.Strongbox");
+        assertThat(cache.calculatePackageId("")).isNull();
+    }
+
+    private String get(String packageId,
+                       String query)
+    {
+        byte[] content = cache.get(FEED_ID, packageId, query,
+                                   () -> String.valueOf(renderCount.incrementAndGet())
+                                               .getBytes(StandardCharsets.UTF_8));
+
+        return new String(content, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,129 @@
+package org.carlspring.strongbox.providers.layout;
+
+import org.carlspring.strongbox.data.CacheName;
+
+import javax.inject.Inject;
+import java.io.Serializable;
+import java.util.function.Supplier;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Cache of the rendered PyPI "simple" repository API pages (PEP 503 and PEP 691), keyed by storage, repository and
+ * project name. The root index page is cached with the <code>null</code> project name.
+ * <p>
+ * The pages are kept within the {@link CacheName.Artifact#PYPI_SIMPLE_INDEX_PAGES} cache, so they are shared by the
+ * cluster nodes. The project pages, along with the root index pages, are evicted from all the repositories when a
+ * package file is stored or deleted.
+ */
+@Component
+public class PypiSimpleIndexCache
+        extends AbstractLayoutPackageCache<PypiSimpleIndexCache.CachedSimplePage>
+{
+
+    /**
+     * The region of the root index pages.
+     */
+    private static final String ROOT_INDEX_REGION = KEY_SEPARATOR;
+
+    @Inject
+    PypiSimpleIndexCache(CacheManager cacheManager)
+    {
+        super(cacheManager, CacheName.Artifact.PYPI_SIMPLE_INDEX_PAGES, PypiLayoutProvider.ALIAS);
+    }
+
+    /**
+     * @param projectName the project of the page, or <code>null</code> for the root index page
+     * @param loader      renders the page
+     */
+    public CachedSimplePage get(String storageId,
+                                String repositoryId,
+                                String projectName,
+                                Supplier<CachedSimplePage> loader)
+    {
+        return get(calculateKey(storageId, repositoryId, projectName), loader, calculateRegion(projectName));
+    }
+
+    /**
+     * The PyPI package files are located under the `{distribution}/{version}` directory.
+     */
+    @Override
+    protected String calculatePackageId(String path)
+    {
+        return calculateFirstSegment(path);
+    }
+
+    /**
+     * The project pages, along with the root index pages.
+     */
+    @Override
+    protected String[] calculateEvictedRegions(String projectName)
+    {
+        return new String[]{ calculateRegion(projectName), ROOT_INDEX_REGION };
+    }
+
+    private static String calculateRegion(String projectName)
+    {
+        // Project names are case insensitive.
+        return projectName == null ? ROOT_INDEX_REGION : projectName.toLowerCase();
+    }
+
+    private static String calculateKey(String storageId,
+                                       String repositoryId,
+                                       String projectName)
+    {
+        // Project names are case insensitive.
+        return storageId + KEY_SEPARATOR + repositoryId + KEY_SEPARATOR +
+               (projectName == null ? "" : projectName.toLowerCase());
+    }
+
+    /**
+     * The HTML (PEP 503) and JSON (PEP 691) representations of the page, rendered from the same search results, along
+     * with their entity tags.
+     */
+    public static class CachedSimplePage
+            implements Serializable
+    {
+
+        private final byte[] htmlContent;
+
+        private final byte[] jsonContent;
+
+        private final String htmlETag;
+
+        private final String jsonETag;
+
+        public CachedSimplePage(byte[] htmlContent,
+                                byte[] jsonContent)
+        {
+            this.htmlContent = htmlContent;
+            this.jsonContent = jsonContent;
+            this.htmlETag = DigestUtils.md5DigestAsHex(htmlContent);
+            this.jsonETag = DigestUtils.md5DigestAsHex(jsonContent);
+        }
+
+        public byte[] getHtmlContent()
+        {
+            return htmlContent;
+        }
+
+        public byte[] getJsonContent()
+        {
+            return jsonContent;
+        }
+
+        public String getHtmlETag()
+        {
+            return htmlETag;
+        }
+
+        public String getJsonETag()
+        {
+            return jsonETag;
+        }
+
+    }
+
+}
@@ -0,0 +1,246 @@
+package org.carlspring.strongbox.providers.layout;
+
+import org.carlspring.strongbox.artifact.coordinates.RpmArtifactCoordinates;
+import org.carlspring.strongbox.configuration.ConfigurationManager;
+import org.carlspring.strongbox.event.artifact.ArtifactEvent;
+import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathLock;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.storage.metadata.rpm.RpmPackageMetadata;
+import org.carlspring.strongbox.storage.metadata.rpm.RpmRepodata;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.util.CoalescingFlusher;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the <code>repodata</code> of the hosted RPM repositories up to date: the stored packages are added to the
+ * repository metadata, and the deleted packages are removed from it.
+ * <p>
+ * Only the header of the stored package is read within the request, while the metadata itself is updated in the
+ * background (see {@link CoalescingFlusher}), so that the deployments don't wait for the <code>repodata</code> lock,
+ * and the packages deployed to the same repository within the flush interval are added with a single update. The
+ * entries of the other packages are copied from the current metadata (see {@link RpmRepodata}).
+ */
+@Component
+public class RpmRepodataUpdater
+        implements InitializingBean, DisposableBean
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(RpmRepodataUpdater.class);
+
+    private static final String RPM_EXTENSION = ".rpm";
+
+    private static final String KEY_SEPARATOR = "/";
+
+    @Inject
+    private RepositoryPathLock repositoryPathLock;
+
+    @Inject
+    private ConfigurationManager configurationManager;
+
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
+    /**
+     * Specifies how often (in milliseconds) the collected repodata updates are flushed.
+     */
+    @Value("${strongbox.rpmRepodataUpdates.flushInterval:1000}")
+    private long flushInterval;
+
+    /**
+     * Maximum number of attempts to update the repodata.
+     */
+    @Value("${strongbox.rpmRepodataUpdates.maxAttempts:10}")
+    private int maxAttempts;
+
+    /**
+     * How long (in milliseconds) the metadata files are kept, once they are not referenced anymore.
+     */
+    @Value("${strongbox.rpmRepodataUpdates.gracePeriod:600000}")
+    private long gracePeriod;
+
+    private CoalescingFlusher<PendingRepodataUpdate> flusher;
+
+    @Override
+    public void afterPropertiesSet()
+    {
+        flusher = new CoalescingFlusher<PendingRepodataUpdate>("rpm-repodata-updates",
+                                                               PendingRepodataUpdate::calculateKey,
+                                                               PendingRepodataUpdate::merge,
+                                                               batch -> flush(batch.get(0)));
+        flusher.withFlushInterval(flushInterval)
+               .withMaxAttempts(maxAttempts)
+               .start();
+    }
+
+    @Override
+    public void destroy()
+    {
+        flusher.shutdown();
+    }
+
+    @EventListener
+    public void handle(final ArtifactEvent<RepositoryPath> event)
+    {
+        RepositoryPath repositoryPath = event.getPath();
+        Repository repository = repositoryPath.getRepository();
+        if (!RpmArtifactCoordinates.LAYOUT_ALIAS.equals(repository.getLayout()) || !repository.isHostedRepository())
+        {
+            return;
+        }
+
+        try
+        {
+            String path = RepositoryFiles.relativizePath(repositoryPath);
+            if (path.equals(RpmRepodata.REPODATA) || path.startsWith(RpmRepodata.REPODATA + "/"))
+            {
+                return;
+            }
+
+            if ((event.getType() == ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_STORED.getType() ||
+                 event.getType() == ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_UPDATED.getType()) &&
+                path.endsWith(RPM_EXTENSION))
+            {
+                RpmPackageMetadata metadata = RpmPackageMetadata.read(repositoryPath, path);
+                flusher.record(new PendingRepodataUpdate(repository, Collections.singletonMap(path, metadata),
+                                                         Collections.emptySet()));
+            }
+            else if (event.getType() == ArtifactEventTypeEnum.EVENT_ARTIFACT_PATH_DELETED.getType())
+            {
+                flusher.record(new PendingRepodataUpdate(repository, Collections.emptyMap(),
+                                                         Collections.singleton(path)));
+            }
+        }
+        catch (IOException e)
+        {
+            logger.error("Failed to update the repodata of [{}] for [{}].", repository.getId(), repositoryPath, e);
+        }
+    }
+
+    public int getPendingCount()
+    {
+        return flusher.getPendingCount();
+    }
+
+    /**
+     * Flushes all the collected repodata updates.
+     */
+    public void flush()
+    {
+        flusher.flush();
+    }
+
+    private void flush(PendingRepodataUpdate update)
+        throws IOException
+    {
+        Repository repository = configurationManager.getRepository(update.storageId, update.repositoryId);
+        if (repository == null)
+        {
+            return;
+        }
+
+        RepositoryPath root = repositoryPathResolver.resolve(repository);
+
+        Lock lock = repositoryPathLock.lock(root.resolve(RpmRepodata.REPODATA)).writeLock();
+        lock.lock();
+        try
+        {
+            RpmRepodata repodata = new RpmRepodata(root, gracePeriod);
+            if (update.addedPackages.isEmpty() && !repodata.readLocations().containsKey(RpmRepodata.PRIMARY))
+            {
+                return;
+            }
+
+            repodata.update(update.addedPackages.values(), update::isRemoved);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+
+        logger.debug("Updated the repodata of [{}].", root);
+    }
+
+    private static class PendingRepodataUpdate
+    {
+
+        private final String storageId;
+
+        private final String repositoryId;
+
+        /**
+         * The packages to add, by location.
+         */
+        private final Map<String, RpmPackageMetadata> addedPackages;
+
+        /**
+         * The deleted paths, the whole directories might be deleted as well.
+         */
+        private final Set<String> removedPaths;
+
+        private PendingRepodataUpdate(Repository repository,
+                                      Map<String, RpmPackageMetadata> addedPackages,
+                                      Set<String> removedPaths)
+        {
+            this(repository.getStorage().getId(), repository.getId(), addedPackages, removedPaths);
+        }
+
+        private PendingRepodataUpdate(String storageId,
+                                      String repositoryId,
+                                      Map<String, RpmPackageMetadata> addedPackages,
+                                      Set<String> removedPaths)
+        {
+            this.storageId = storageId;
+            this.repositoryId = repositoryId;
+            this.addedPackages = addedPackages;
+            this.removedPaths = removedPaths;
+        }
+
+        private String calculateKey()
+        {
+            return storageId + KEY_SEPARATOR + repositoryId;
+        }
+
+        private boolean isRemoved(String location)
+        {
+            return location != null &&
+                   removedPaths.stream()
+                               .anyMatch(p -> p.isEmpty() || location.equals(p) || location.startsWith(p + "/"));
+        }
+
+        /**
+         * The newer deletions drop the older added packages, while the newer added packages replace the older ones.
+         */
+        private PendingRepodataUpdate merge(PendingRepodataUpdate newer)
+        {
+            Map<String, RpmPackageMetadata> mergedPackages = new LinkedHashMap<>(addedPackages);
+            mergedPackages.keySet().removeIf(newer::isRemoved);
+            mergedPackages.putAll(newer.addedPackages);
+
+            Set<String> mergedPaths = new HashSet<>(removedPaths);
+            mergedPaths.addAll(newer.removedPaths);
+
+            return new PendingRepodataUpdate(storageId, repositoryId, mergedPackages, mergedPaths);
+        }
+
+    }
+
+}
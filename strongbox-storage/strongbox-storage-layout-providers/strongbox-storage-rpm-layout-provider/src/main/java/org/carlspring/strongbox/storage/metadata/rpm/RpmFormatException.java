@@ -0,0 +1,17 @@
+package org.carlspring.strongbox.storage.metadata.rpm;
+
+import java.io.IOException;
+
+/**
+ * Thrown when the file doesn't conform to the RPM package file format.
+ */
+public class RpmFormatException
+        extends IOException
+{
+
+    public RpmFormatException(String message)
+    {
+        super(message);
+    }
+
+}
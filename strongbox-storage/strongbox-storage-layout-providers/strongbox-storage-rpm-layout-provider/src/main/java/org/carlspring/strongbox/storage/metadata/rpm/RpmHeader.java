@@ -0,0 +1,110 @@
+package org.carlspring.strongbox.storage.metadata.rpm;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The main header of the RPM package, along with its position (the <code>rpm:header-range</code>) within the package
+ * file.
+ * <p>
+ * The integer values are represented with <code>long[]</code>, the strings with {@link String} and the string arrays
+ * (including the I18N strings) with <code>String[]</code>.
+ *
+ *
+ * @see RpmHeaderReader
+ */
+public class RpmHeader
+{
+
+    private static final String[] NO_STRINGS = new String[0];
+
+    private static final long[] NO_LONGS = new long[0];
+
+    private final Map<Integer, Object> tags;
+
+    private final long headerStart;
+
+    private final long headerEnd;
+
+    public RpmHeader(Map<Integer, Object> tags,
+                     long headerStart,
+                     long headerEnd)
+    {
+        this.tags = Collections.unmodifiableMap(tags);
+        this.headerStart = headerStart;
+        this.headerEnd = headerEnd;
+    }
+
+    public boolean contains(int tag)
+    {
+        return tags.containsKey(tag);
+    }
+
+    /**
+     * @return the string value, or the first value of the string array, or <code>null</code> if there is no such tag
+     */
+    public String getString(int tag)
+    {
+        Object value = tags.get(tag);
+        if (value instanceof String)
+        {
+            return (String) value;
+        }
+        if (value instanceof String[] && ((String[]) value).length > 0)
+        {
+            return ((String[]) value)[0];
+        }
+
+        return null;
+    }
+
+    public String[] getStringArray(int tag)
+    {
+        Object value = tags.get(tag);
+        if (value instanceof String[])
+        {
+            return (String[]) value;
+        }
+        if (value instanceof String)
+        {
+            return new String[]{ (String) value };
+        }
+
+        return NO_STRINGS;
+    }
+
+    /**
+     * @return the first integer value, or the <code>defaultValue</code> if there is no such tag
+     */
+    public long getLong(int tag,
+                        long defaultValue)
+    {
+        long[] values = getLongArray(tag);
+
+        return values.length > 0 ? values[0] : defaultValue;
+    }
+
+    public long[] getLongArray(int tag)
+    {
+        Object value = tags.get(tag);
+
+        return value instanceof long[] ? (long[]) value : NO_LONGS;
+    }
+
+    /**
+     * @return the offset of the header within the package file
+     */
+    public long getHeaderStart()
+    {
+        return headerStart;
+    }
+
+    /**
+     * @return the offset of the header end (the payload start) within the package file
+     */
+    public long getHeaderEnd()
+    {
+        return headerEnd;
+    }
+
+}
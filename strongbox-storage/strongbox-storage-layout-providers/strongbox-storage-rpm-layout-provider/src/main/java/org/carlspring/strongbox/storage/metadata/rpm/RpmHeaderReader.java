@@ -0,0 +1,255 @@
+package org.carlspring.strongbox.storage.metadata.rpm;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads the main header of the RPM package without reading the package payload.
+ * <p>
+ * The package file starts with the 96 bytes lead, followed by the signature header (padded to the 8 bytes boundary)
+ * and the main header, while the (compressed) payload follows the main header. Each header consists of the 16 bytes
+ * intro (magic, number of the index entries and the data store size), the 16 bytes index entries (tag, type, offset
+ * and count) and the data store.
+ *
+ *
+ * @see <a href="https://rpm-software-management.github.io/rpm/manual/format.html">RPM Package format</a>
+ */
+public class RpmHeaderReader
+{
+
+    static final int LEAD_SIZE = 96;
+
+    static final int LEAD_MAGIC = 0xEDABEEDB;
+
+    static final int HEADER_MAGIC = 0x8EADE801;
+
+    static final int HEADER_INTRO_SIZE = 16;
+
+    static final int INDEX_ENTRY_SIZE = 16;
+
+    static final int TYPE_NULL = 0;
+
+    static final int TYPE_CHAR = 1;
+
+    static final int TYPE_INT8 = 2;
+
+    static final int TYPE_INT16 = 3;
+
+    static final int TYPE_INT32 = 4;
+
+    static final int TYPE_INT64 = 5;
+
+    static final int TYPE_STRING = 6;
+
+    static final int TYPE_BIN = 7;
+
+    static final int TYPE_STRING_ARRAY = 8;
+
+    static final int TYPE_I18NSTRING = 9;
+
+    /**
+     * Upper bounds of the header structure, which protect from reading the arbitrary files as the RPM headers.
+     */
+    private static final int MAX_INDEX_ENTRIES = 0x10000;
+
+    private static final int MAX_DATA_SIZE = 0x10000000;
+
+    private RpmHeaderReader()
+    {
+    }
+
+    /**
+     * Reads the lead, the signature header and the main header. The stream is left positioned at the payload start.
+     */
+    public static RpmHeader read(InputStream inputStream)
+        throws IOException
+    {
+        DataInputStream in = new DataInputStream(inputStream);
+
+        if (in.readInt() != LEAD_MAGIC)
+        {
+            throw new RpmFormatException("Not an RPM package: invalid lead magic.");
+        }
+        skipFully(in, LEAD_SIZE - 4);
+
+        long offset = LEAD_SIZE;
+
+        // The signature header contents are not needed.
+        HeaderStructure signature = readHeaderStructure(in);
+        offset += signature.getLength();
+
+        int padding = (int) ((8 - signature.getLength() % 8) % 8);
+        skipFully(in, padding);
+        offset += padding;
+
+        HeaderStructure header = readHeaderStructure(in);
+
+        return new RpmHeader(header.parse(), offset, offset + header.getLength());
+    }
+
+    private static HeaderStructure readHeaderStructure(DataInputStream in)
+        throws IOException
+    {
+        if (in.readInt() != HEADER_MAGIC)
+        {
+            throw new RpmFormatException("Not an RPM package: invalid header magic.");
+        }
+        in.readInt();
+
+        int indexCount = in.readInt();
+        int dataSize = in.readInt();
+        if (indexCount < 0 || indexCount > MAX_INDEX_ENTRIES || dataSize < 0 || dataSize > MAX_DATA_SIZE)
+        {
+            throw new RpmFormatException(String.format("Invalid RPM header size: index [%s], data [%s].",
+                                                       indexCount, dataSize));
+        }
+
+        int[][] index = new int[indexCount][];
+        for (int i = 0; i < indexCount; i++)
+        {
+            index[i] = new int[]{ in.readInt(), in.readInt(), in.readInt(), in.readInt() };
+        }
+
+        byte[] data = new byte[dataSize];
+        in.readFully(data);
+
+        return new HeaderStructure(index, data);
+    }
+
+    private static void skipFully(DataInputStream in,
+                                  int length)
+        throws IOException
+    {
+        int skipped = in.skipBytes(length);
+        if (skipped < length)
+        {
+            // Fails with the `EOFException` on the truncated files.
+            in.readFully(new byte[length - skipped]);
+        }
+    }
+
+    private static class HeaderStructure
+    {
+
+        private final int[][] index;
+
+        private final byte[] data;
+
+        private HeaderStructure(int[][] index,
+                                byte[] data)
+        {
+            this.index = index;
+            this.data = data;
+        }
+
+        private long getLength()
+        {
+            return HEADER_INTRO_SIZE + (long) INDEX_ENTRY_SIZE * index.length + data.length;
+        }
+
+        private Map<Integer, Object> parse()
+            throws RpmFormatException
+        {
+            Map<Integer, Object> result = new HashMap<>();
+            for (int[] entry : index)
+            {
+                int tag = entry[0];
+                int type = entry[1];
+                int offset = entry[2];
+                int count = entry[3];
+                if (offset < 0 || offset > data.length || count < 0)
+                {
+                    throw new RpmFormatException(String.format("Invalid RPM header entry [%s].", tag));
+                }
+
+                Object value = parseValue(type, offset, count);
+                if (value != null)
+                {
+                    result.put(tag, value);
+                }
+            }
+
+            return result;
+        }
+
+        private Object parseValue(int type,
+                                  int offset,
+                                  int count)
+            throws RpmFormatException
+        {
+            switch (type)
+            {
+                case TYPE_INT16:
+                    return readIntegers(offset, count, 2);
+                case TYPE_INT32:
+                    return readIntegers(offset, count, 4);
+                case TYPE_INT64:
+                    return readIntegers(offset, count, 8);
+                case TYPE_STRING:
+                    return readStrings(offset, 1)[0];
+                case TYPE_STRING_ARRAY:
+                case TYPE_I18NSTRING:
+                    return readStrings(offset, count);
+                default:
+                    // The binary values (digests, signatures) are not needed.
+                    return null;
+            }
+        }
+
+        private long[] readIntegers(int offset,
+                                    int count,
+                                    int size)
+            throws RpmFormatException
+        {
+            if ((long) offset + (long) count * size > data.length)
+            {
+                throw new RpmFormatException("Invalid RPM header integer value.");
+            }
+
+            long[] result = new long[count];
+            for (int i = 0; i < count; i++)
+            {
+                long value = 0;
+                for (int j = 0; j < size; j++)
+                {
+                    value = (value << 8) | (data[offset + i * size + j] & 0xFF);
+                }
+                result[i] = value;
+            }
+
+            return result;
+        }
+
+        private String[] readStrings(int offset,
+                                     int count)
+            throws RpmFormatException
+        {
+            String[] result = new String[count];
+
+            int start = offset;
+            for (int i = 0; i < count; i++)
+            {
+                int end = start;
+                while (end < data.length && data[end] != 0)
+                {
+                    end++;
+                }
+                if (end == data.length)
+                {
+                    throw new RpmFormatException("Invalid RPM header string value.");
+                }
+
+                result[i] = new String(data, start, end - start, StandardCharsets.UTF_8);
+                start = end + 1;
+            }
+
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,92 @@
+package org.carlspring.strongbox.storage.metadata.rpm;
+
+/**
+ * The RPM header tags used to generate the repository metadata.
+ *
+ *
+ * @see <a href="https://github.com/rpm-software-management/rpm/blob/master/lib/rpmtag.h">rpmtag.h</a>
+ */
+public final class RpmHeaderTag
+{
+
+    public static final int NAME = 1000;
+
+    public static final int VERSION = 1001;
+
+    public static final int RELEASE = 1002;
+
+    public static final int EPOCH = 1003;
+
+    public static final int SUMMARY = 1004;
+
+    public static final int DESCRIPTION = 1005;
+
+    public static final int BUILDTIME = 1006;
+
+    public static final int BUILDHOST = 1007;
+
+    public static final int SIZE = 1009;
+
+    public static final int VENDOR = 1011;
+
+    public static final int LICENSE = 1014;
+
+    public static final int PACKAGER = 1015;
+
+    public static final int GROUP = 1016;
+
+    public static final int URL = 1020;
+
+    public static final int ARCH = 1022;
+
+    public static final int FILEMODES = 1030;
+
+    public static final int FILEFLAGS = 1037;
+
+    public static final int SOURCERPM = 1044;
+
+    public static final int ARCHIVESIZE = 1046;
+
+    public static final int PROVIDENAME = 1047;
+
+    public static final int REQUIREFLAGS = 1048;
+
+    public static final int REQUIRENAME = 1049;
+
+    public static final int REQUIREVERSION = 1050;
+
+    public static final int CONFLICTFLAGS = 1053;
+
+    public static final int CONFLICTNAME = 1054;
+
+    public static final int CONFLICTVERSION = 1055;
+
+    public static final int CHANGELOGTIME = 1080;
+
+    public static final int CHANGELOGNAME = 1081;
+
+    public static final int CHANGELOGTEXT = 1082;
+
+    public static final int OBSOLETENAME = 1090;
+
+    public static final int SOURCEPACKAGE = 1106;
+
+    public static final int PROVIDEFLAGS = 1112;
+
+    public static final int PROVIDEVERSION = 1113;
+
+    public static final int OBSOLETEFLAGS = 1114;
+
+    public static final int OBSOLETEVERSION = 1115;
+
+    public static final int DIRINDEXES = 1116;
+
+    public static final int BASENAMES = 1117;
+
+    public static final int DIRNAMES = 1118;
+
+    private RpmHeaderTag()
+    {
+    }
+
+}
@@ -0,0 +1,145 @@
+package org.carlspring.strongbox.storage.metadata.rpm;
+
+import org.carlspring.strongbox.domain.RpmPackageType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
+import org.apache.commons.io.IOUtils;
+
+/**
+ * The repository metadata of the single RPM package: the package header, along with the package file properties.
+ */
+public class RpmPackageMetadata
+{
+
+    private final RpmHeader header;
+
+    private final String pkgId;
+
+    private final long packageSize;
+
+    private final long fileTime;
+
+    private final String locationHref;
+
+    /**
+     * @param header       the package header
+     * @param pkgId        the SHA-256 checksum of the package file
+     * @param packageSize  the package file size
+     * @param fileTime     the package file modification time (in seconds)
+     * @param locationHref the package file path, relative to the repository root
+     */
+    public RpmPackageMetadata(RpmHeader header,
+                              String pkgId,
+                              long packageSize,
+                              long fileTime,
+                              String locationHref)
+    {
+        this.header = header;
+        this.pkgId = pkgId;
+        this.packageSize = packageSize;
+        this.fileTime = fileTime;
+        this.locationHref = locationHref;
+    }
+
+    /**
+     * Reads the package header and calculates the package checksum, within a single pass over the package file.
+     */
+    public static RpmPackageMetadata read(Path packagePath,
+                                          String locationHref)
+        throws IOException
+    {
+        MessageDigest digest;
+        try
+        {
+            digest = MessageDigest.getInstance(MessageDigestAlgorithms.SHA_256);
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new IllegalStateException(e);
+        }
+
+        RpmHeader header;
+        long packageSize;
+        try (InputStream is = new DigestInputStream(Files.newInputStream(packagePath), digest))
+        {
+            header = RpmHeaderReader.read(is);
+            // The payload is only needed for the checksum.
+            packageSize = header.getHeaderEnd() + IOUtils.skip(is, Long.MAX_VALUE);
+        }
+
+        return new RpmPackageMetadata(header,
+                                      Hex.encodeHexString(digest.digest()),
+                                      packageSize,
+                                      Files.getLastModifiedTime(packagePath).toMillis() / 1000,
+                                      locationHref);
+    }
+
+    public RpmHeader getHeader()
+    {
+        return header;
+    }
+
+    public String getPkgId()
+    {
+        return pkgId;
+    }
+
+    public long getPackageSize()
+    {
+        return packageSize;
+    }
+
+    public long getFileTime()
+    {
+        return fileTime;
+    }
+
+    public String getLocationHref()
+    {
+        return locationHref;
+    }
+
+    public String getName()
+    {
+        return header.getString(RpmHeaderTag.NAME);
+    }
+
+    /**
+     * The source packages have the build architecture within the header, while the repository metadata uses the
+     * <code>src</code> architecture for them.
+     */
+    public String getArch()
+    {
+        if (header.contains(RpmHeaderTag.SOURCEPACKAGE) || header.getString(RpmHeaderTag.SOURCERPM) == null)
+        {
+            return RpmPackageType.SOURCE.getPostfix();
+        }
+
+        return header.getString(RpmHeaderTag.ARCH);
+    }
+
+    public String getEpoch()
+    {
+        return String.valueOf(header.getLong(RpmHeaderTag.EPOCH, 0));
+    }
+
+    public String getVersion()
+    {
+        return header.getString(RpmHeaderTag.VERSION);
+    }
+
+    public String getRelease()
+    {
+        return header.getString(RpmHeaderTag.RELEASE);
+    }
+
+}
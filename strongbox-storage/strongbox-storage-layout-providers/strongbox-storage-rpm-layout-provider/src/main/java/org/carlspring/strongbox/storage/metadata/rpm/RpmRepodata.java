@@ -0,0 +1,651 @@
+package org.carlspring.strongbox.storage.metadata.rpm;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.stream.events.Attribute;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
+import org.apache.commons.io.output.CountingOutputStream;
+import static org.carlspring.strongbox.storage.metadata.rpm.RpmRepodataPackageWriter.COMMON_NAMESPACE;
+import static org.carlspring.strongbox.storage.metadata.rpm.RpmRepodataPackageWriter.FILELISTS_NAMESPACE;
+import static org.carlspring.strongbox.storage.metadata.rpm.RpmRepodataPackageWriter.OTHER_NAMESPACE;
+import static org.carlspring.strongbox.storage.metadata.rpm.RpmRepodataPackageWriter.RPM_NAMESPACE;
+import static org.carlspring.strongbox.storage.metadata.rpm.RpmRepodataPackageWriter.RPM_PREFIX;
+
+/**
+ * The <code>repodata</code> of the RPM repository: the <code>repomd.xml</code> index, along with the
+ * <code>primary.xml.gz</code>, <code>filelists.xml.gz</code> and <code>other.xml.gz</code> metadata files, which are
+ * consumed by <code>dnf</code> and <code>yum</code>.
+ * <p>
+ * The metadata is updated incrementally: the package entries of the current metadata files are copied to the new
+ * files as is, so only the headers of the added packages are read, as opposed to all the repository packages. The
+ * metadata files are stored with the checksum prefixed (unique) names, and the <code>repomd.xml</code> is replaced
+ * after the new metadata files are stored, so the clients never get the index referring to the missing files. All the
+ * files are written under the temporary names first, and then atomically moved into place.
+ * <p>
+ * The metadata files which are not referenced anymore are kept for the grace period, so that the clients which have
+ * just read the previous <code>repomd.xml</code> are still able to download them.
+ * <p>
+ * The updates of the same repository should be synchronized by the caller.
+ */
+public class RpmRepodata
+{
+
+    public static final String REPODATA = "repodata";
+
+    public static final String REPOMD = "repomd.xml";
+
+    public static final String PRIMARY = "primary";
+
+    public static final String FILELISTS = "filelists";
+
+    public static final String OTHER = "other";
+
+    /**
+     * The default grace period (in milliseconds) of the metadata files which are not referenced anymore.
+     */
+    public static final long DEFAULT_GRACE_PERIOD = 10 * 60 * 1000L;
+
+    private static final String REPO_NAMESPACE = "http://linux.duke.edu/metadata/repo";
+
+    private static final String TEMP_EXTENSION = ".tmp";
+
+    private static final Pattern DATA_FILE_NAME = Pattern.compile("[0-9a-f]{64}-\\w+\\.xml\\.gz");
+
+    private final Path repositoryRoot;
+
+    private final long gracePeriod;
+
+    /**
+     * @param repositoryRoot the repository root directory, the package locations are relative to
+     */
+    public RpmRepodata(Path repositoryRoot)
+    {
+        this(repositoryRoot, DEFAULT_GRACE_PERIOD);
+    }
+
+    /**
+     * @param repositoryRoot the repository root directory, the package locations are relative to
+     * @param gracePeriod    how long (in milliseconds) the metadata files are kept, once they are not referenced
+     */
+    public RpmRepodata(Path repositoryRoot,
+                       long gracePeriod)
+    {
+        this.repositoryRoot = repositoryRoot;
+        this.gracePeriod = gracePeriod;
+    }
+
+    public Path getRepomdPath()
+    {
+        return repositoryRoot.resolve(REPODATA).resolve(REPOMD);
+    }
+
+    /**
+     * @return the metadata file locations by type (relative to the repository root), or the empty map if there is no
+     *         metadata yet
+     */
+    public Map<String, String> readLocations()
+        throws IOException
+    {
+        Map<String, String> result = new LinkedHashMap<>();
+
+        Path repomdPath = getRepomdPath();
+        if (!Files.exists(repomdPath))
+        {
+            return result;
+        }
+
+        try (InputStream is = Files.newInputStream(repomdPath))
+        {
+            XMLStreamReader reader = createInputFactory().createXMLStreamReader(is);
+            String type = null;
+            while (reader.hasNext())
+            {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT)
+                {
+                    continue;
+                }
+
+                if ("data".equals(reader.getLocalName()))
+                {
+                    type = reader.getAttributeValue(null, "type");
+                }
+                else if ("location".equals(reader.getLocalName()) && type != null)
+                {
+                    result.put(type, reader.getAttributeValue(null, "href"));
+                }
+            }
+            reader.close();
+        }
+        catch (XMLStreamException e)
+        {
+            throw new IOException(String.format("Failed to read [%s].", repomdPath), e);
+        }
+
+        return result;
+    }
+
+    /**
+     * Adds (or replaces) the packages and removes the packages with the matching locations.
+     *
+     * @param addedPackages    the packages to add, the packages with the same locations are replaced
+     * @param removedLocations the locations of the packages to remove
+     */
+    public void update(Collection<RpmPackageMetadata> addedPackages,
+                       Predicate<String> removedLocations)
+        throws IOException
+    {
+        Map<String, String> oldLocations = readLocations();
+
+        Set<String> addedLocations = new HashSet<>();
+        addedPackages.forEach(p -> addedLocations.add(p.getLocationHref()));
+        Predicate<String> replacedLocations = removedLocations.or(addedLocations::contains);
+
+        // The package ids are only available within the primary metadata, so look them up first.
+        Set<String> removedPkgIds = new HashSet<>();
+        int retainedCount = scanPrimary(oldLocations.get(PRIMARY), replacedLocations, removedPkgIds);
+        int count = retainedCount + addedPackages.size();
+
+        Path repodataPath = repositoryRoot.resolve(REPODATA);
+        Files.createDirectories(repodataPath);
+
+        List<DataFile> dataFiles = new ArrayList<>();
+        try
+        {
+            dataFiles.add(writeDataFile(PRIMARY, COMMON_NAMESPACE, "metadata", count,
+                                        oldLocations.get(PRIMARY), true, replacedLocations,
+                                        addedPackages, RpmRepodataPackageWriter::writePrimary));
+            dataFiles.add(writeDataFile(FILELISTS, FILELISTS_NAMESPACE, "filelists", count,
+                                        oldLocations.get(FILELISTS), false, removedPkgIds::contains,
+                                        addedPackages, RpmRepodataPackageWriter::writeFilelists));
+            dataFiles.add(writeDataFile(OTHER, OTHER_NAMESPACE, "otherdata", count,
+                                        oldLocations.get(OTHER), false, removedPkgIds::contains,
+                                        addedPackages, RpmRepodataPackageWriter::writeOther));
+
+            storeDataFiles(dataFiles);
+        }
+        finally
+        {
+            for (DataFile dataFile : dataFiles)
+            {
+                Files.deleteIfExists(dataFile.tempFile);
+            }
+        }
+
+        Set<String> locations = new HashSet<>();
+        dataFiles.forEach(f -> locations.add(f.getLocation()));
+
+        // The grace period of the old metadata files starts now.
+        FileTime now = FileTime.fromMillis(System.currentTimeMillis());
+        for (String oldLocation : oldLocations.values())
+        {
+            Path oldPath = repositoryRoot.resolve(oldLocation);
+            if (!locations.contains(oldLocation) && Files.exists(oldPath))
+            {
+                Files.setLastModifiedTime(oldPath, now);
+            }
+        }
+
+        deleteExpiredDataFiles(locations, now.toMillis());
+    }
+
+    /**
+     * Deletes the metadata files which have not been referenced for longer than the grace period.
+     */
+    private void deleteExpiredDataFiles(Set<String> locations,
+                                        long now)
+        throws IOException
+    {
+        Path repodataPath = repositoryRoot.resolve(REPODATA);
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(repodataPath))
+        {
+            for (Path path : paths)
+            {
+                String fileName = path.getFileName().toString();
+                if (!DATA_FILE_NAME.matcher(fileName).matches() ||
+                    locations.contains(REPODATA + "/" + fileName) ||
+                    Files.getLastModifiedTime(path).toMillis() + gracePeriod > now)
+                {
+                    continue;
+                }
+
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    /**
+     * @return the number of the retained packages
+     */
+    private int scanPrimary(String location,
+                            Predicate<String> removedLocations,
+                            Set<String> removedPkgIds)
+        throws IOException
+    {
+        if (location == null || !Files.exists(repositoryRoot.resolve(location)))
+        {
+            return 0;
+        }
+
+        int retainedCount = 0;
+        try (InputStream is = new GZIPInputStream(Files.newInputStream(repositoryRoot.resolve(location))))
+        {
+            XMLStreamReader reader = createInputFactory().createXMLStreamReader(is);
+
+            String pkgId = null;
+            String href = null;
+            while (reader.hasNext())
+            {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT && "checksum".equals(reader.getLocalName()) &&
+                    "YES".equals(reader.getAttributeValue(null, "pkgid")))
+                {
+                    pkgId = reader.getElementText().trim();
+                }
+                else if (event == XMLStreamConstants.START_ELEMENT && "location".equals(reader.getLocalName()))
+                {
+                    href = reader.getAttributeValue(null, "href");
+                }
+                else if (event == XMLStreamConstants.END_ELEMENT && "package".equals(reader.getLocalName()))
+                {
+                    if (removedLocations.test(href))
+                    {
+                        removedPkgIds.add(pkgId);
+                    }
+                    else
+                    {
+                        retainedCount++;
+                    }
+
+                    pkgId = null;
+                    href = null;
+                }
+            }
+            reader.close();
+        }
+        catch (XMLStreamException e)
+        {
+            throw new IOException(String.format("Failed to read [%s].", location), e);
+        }
+
+        return retainedCount;
+    }
+
+    /**
+     * @param primary         the primary metadata packages are identified by location, while the others are
+     *                        identified by the package id
+     * @param removedPackages the identifiers of the packages to skip
+     */
+    private DataFile writeDataFile(String type,
+                                   String namespace,
+                                   String rootElement,
+                                   int count,
+                                   String oldLocation,
+                                   boolean primary,
+                                   Predicate<String> removedPackages,
+                                   Collection<RpmPackageMetadata> addedPackages,
+                                   PackageWriter packageWriter)
+        throws IOException
+    {
+        DataFile dataFile = new DataFile(type, createTempPath(type));
+
+        MessageDigest digest = createDigest();
+        MessageDigest openDigest = createDigest();
+        CountingOutputStream openCounter;
+        try (OutputStream os = new GZIPOutputStream(new DigestOutputStream(Files.newOutputStream(dataFile.tempFile),
+                                                                           digest)))
+        {
+            openCounter = new CountingOutputStream(new DigestOutputStream(os, openDigest));
+
+            XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(openCounter, "UTF-8");
+            writer.writeStartDocument("UTF-8", "1.0");
+            writer.writeCharacters("\n");
+
+            writer.setDefaultNamespace(namespace);
+            writer.setPrefix(RPM_PREFIX, RPM_NAMESPACE);
+            writer.writeStartElement(namespace, rootElement);
+            writer.writeDefaultNamespace(namespace);
+            if (primary)
+            {
+                writer.writeNamespace(RPM_PREFIX, RPM_NAMESPACE);
+            }
+            writer.writeAttribute("packages", String.valueOf(count));
+            writer.writeCharacters("\n");
+
+            copyPackages(writer, oldLocation, primary, removedPackages);
+
+            for (RpmPackageMetadata addedPackage : addedPackages)
+            {
+                packageWriter.write(writer, addedPackage);
+                writer.writeCharacters("\n");
+            }
+
+            writer.writeEndElement();
+            writer.writeEndDocument();
+            writer.flush();
+            writer.close();
+
+            openCounter.flush();
+        }
+        catch (XMLStreamException e)
+        {
+            throw new IOException(String.format("Failed to write [%s] metadata.", type), e);
+        }
+
+        dataFile.checksum = Hex.encodeHexString(digest.digest());
+        dataFile.openChecksum = Hex.encodeHexString(openDigest.digest());
+        dataFile.size = Files.size(dataFile.tempFile);
+        dataFile.openSize = openCounter.getByteCount();
+
+        return dataFile;
+    }
+
+    private void copyPackages(XMLStreamWriter writer,
+                              String location,
+                              boolean primary,
+                              Predicate<String> removedPackages)
+        throws IOException, XMLStreamException
+    {
+        if (location == null || !Files.exists(repositoryRoot.resolve(location)))
+        {
+            return;
+        }
+
+        try (InputStream is = new GZIPInputStream(Files.newInputStream(repositoryRoot.resolve(location))))
+        {
+            XMLEventReader reader = createInputFactory().createXMLEventReader(is);
+
+            int depth = 0;
+            List<XMLEvent> packageEvents = new ArrayList<>();
+            while (reader.hasNext())
+            {
+                XMLEvent event = reader.nextEvent();
+                if (event.isStartElement())
+                {
+                    depth++;
+                }
+
+                // The `package` elements are the children of the root element.
+                if (depth >= 2)
+                {
+                    packageEvents.add(event);
+                }
+
+                if (event.isEndElement())
+                {
+                    depth--;
+                    if (depth == 1)
+                    {
+                        String key = primary ? readLocation(packageEvents) : readPkgId(packageEvents);
+                        if (!removedPackages.test(key))
+                        {
+                            writeEvents(writer, packageEvents);
+                            writer.writeCharacters("\n");
+                        }
+                        packageEvents.clear();
+                    }
+                }
+            }
+            reader.close();
+        }
+    }
+
+    private static String readLocation(List<XMLEvent> packageEvents)
+    {
+        for (XMLEvent event : packageEvents)
+        {
+            if (event.isStartElement() && "location".equals(event.asStartElement().getName().getLocalPart()))
+            {
+                return getAttribute(event.asStartElement(), "href");
+            }
+        }
+
+        return null;
+    }
+
+    private static String readPkgId(List<XMLEvent> packageEvents)
+    {
+        return packageEvents.isEmpty() || !packageEvents.get(0).isStartElement() ? null :
+               getAttribute(packageEvents.get(0).asStartElement(), "pkgid");
+    }
+
+    private static String getAttribute(StartElement element,
+                                       String name)
+    {
+        Attribute attribute = element.getAttributeByName(new QName(name));
+
+        return attribute == null ? null : attribute.getValue();
+    }
+
+    private static void writeEvents(XMLStreamWriter writer,
+                                    List<XMLEvent> events)
+        throws XMLStreamException
+    {
+        for (XMLEvent event : events)
+        {
+            if (event.isStartElement())
+            {
+                StartElement element = event.asStartElement();
+                writer.writeStartElement(element.getName().getNamespaceURI(), element.getName().getLocalPart());
+                for (Iterator<?> i = element.getAttributes(); i.hasNext();)
+                {
+                    Attribute attribute = (Attribute) i.next();
+                    writer.writeAttribute(attribute.getName().getLocalPart(), attribute.getValue());
+                }
+            }
+            else if (event.isEndElement())
+            {
+                writer.writeEndElement();
+            }
+            else if (event.isCharacters())
+            {
+                writer.writeCharacters(event.asCharacters().getData());
+            }
+        }
+    }
+
+    /**
+     * @return the temporary path within the <code>repodata</code> directory, so that it could be atomically moved
+     */
+    private Path createTempPath(String name)
+    {
+        return repositoryRoot.resolve(REPODATA).resolve(String.format(".%s-%s%s", name, UUID.randomUUID(),
+                                                                      TEMP_EXTENSION));
+    }
+
+    private static void moveIntoPlace(Path source,
+                                      Path target)
+        throws IOException
+    {
+        Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void storeDataFiles(List<DataFile> dataFiles)
+        throws IOException
+    {
+        for (DataFile dataFile : dataFiles)
+        {
+            moveIntoPlace(dataFile.tempFile, repositoryRoot.resolve(dataFile.getLocation()));
+        }
+
+        Path repomdTempPath = createTempPath(REPOMD);
+        try
+        {
+            writeRepomd(repomdTempPath, dataFiles);
+            moveIntoPlace(repomdTempPath, getRepomdPath());
+        }
+        finally
+        {
+            Files.deleteIfExists(repomdTempPath);
+        }
+    }
+
+    private void writeRepomd(Path repomdPath,
+                             List<DataFile> dataFiles)
+        throws IOException
+    {
+        long timestamp = System.currentTimeMillis() / 1000;
+        try (OutputStream os = Files.newOutputStream(repomdPath))
+        {
+            XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(os, "UTF-8");
+            writer.writeStartDocument("UTF-8", "1.0");
+            writer.writeCharacters("\n");
+
+            writer.setDefaultNamespace(REPO_NAMESPACE);
+            writer.writeStartElement(REPO_NAMESPACE, "repomd");
+            writer.writeDefaultNamespace(REPO_NAMESPACE);
+            writer.writeNamespace(RPM_PREFIX, RPM_NAMESPACE);
+            writer.writeCharacters("\n  ");
+
+            writeElement(writer, "revision", String.valueOf(timestamp));
+
+            for (DataFile dataFile : dataFiles)
+            {
+                writer.writeCharacters("\n  ");
+                writer.writeStartElement(REPO_NAMESPACE, "data");
+                writer.writeAttribute("type", dataFile.type);
+
+                writer.writeCharacters("\n    ");
+                writer.writeStartElement(REPO_NAMESPACE, "checksum");
+                writer.writeAttribute("type", "sha256");
+                writer.writeCharacters(dataFile.checksum);
+                writer.writeEndElement();
+
+                writer.writeCharacters("\n    ");
+                writer.writeStartElement(REPO_NAMESPACE, "open-checksum");
+                writer.writeAttribute("type", "sha256");
+                writer.writeCharacters(dataFile.openChecksum);
+                writer.writeEndElement();
+
+                writer.writeCharacters("\n    ");
+                writer.writeEmptyElement(REPO_NAMESPACE, "location");
+                writer.writeAttribute("href", dataFile.getLocation());
+
+                writer.writeCharacters("\n    ");
+                writeElement(writer, "timestamp", String.valueOf(timestamp));
+                writer.writeCharacters("\n    ");
+                writeElement(writer, "size", String.valueOf(dataFile.size));
+                writer.writeCharacters("\n    ");
+                writeElement(writer, "open-size", String.valueOf(dataFile.openSize));
+
+                writer.writeCharacters("\n  ");
+                writer.writeEndElement();
+            }
+
+            writer.writeCharacters("\n");
+            writer.writeEndElement();
+            writer.writeEndDocument();
+            writer.flush();
+            writer.close();
+        }
+        catch (XMLStreamException e)
+        {
+            throw new IOException(String.format("Failed to write [%s].", getRepomdPath()), e);
+        }
+    }
+
+    private static void writeElement(XMLStreamWriter writer,
+                                     String element,
+                                     String value)
+        throws XMLStreamException
+    {
+        writer.writeStartElement(REPO_NAMESPACE, element);
+        writer.writeCharacters(value);
+        writer.writeEndElement();
+    }
+
+    private static XMLInputFactory createInputFactory()
+    {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+
+        return factory;
+    }
+
+    private static MessageDigest createDigest()
+    {
+        try
+        {
+            return MessageDigest.getInstance(MessageDigestAlgorithms.SHA_256);
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface PackageWriter
+    {
+
+        void write(XMLStreamWriter writer,
+                   RpmPackageMetadata metadata)
+            throws XMLStreamException;
+
+    }
+
+    private static class DataFile
+    {
+
+        private final String type;
+
+        private final Path tempFile;
+
+        private String checksum;
+
+        private String openChecksum;
+
+        private long size;
+
+        private long openSize;
+
+        private DataFile(String type,
+                         Path tempFile)
+        {
+            this.type = type;
+            this.tempFile = tempFile;
+        }
+
+        private String getLocation()
+        {
+            return String.format("%s/%s-%s.xml.gz", REPODATA, checksum, type);
+        }
+
+    }
+
+}
@@ -0,0 +1,331 @@
+package org.carlspring.strongbox.storage.metadata.rpm;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * Writes the <code>package</code> elements of the <code>primary.xml</code>, <code>filelists.xml</code> and
+ * <code>other.xml</code> repository metadata files, in the same form as <code>createrepo</code> does.
+ */
+class RpmRepodataPackageWriter
+{
+
+    static final String COMMON_NAMESPACE = "http://linux.duke.edu/metadata/common";
+
+    static final String RPM_NAMESPACE = "http://linux.duke.edu/metadata/rpm";
+
+    static final String RPM_PREFIX = "rpm";
+
+    static final String FILELISTS_NAMESPACE = "http://linux.duke.edu/metadata/filelists";
+
+    static final String OTHER_NAMESPACE = "http://linux.duke.edu/metadata/other";
+
+    private static final int RPMSENSE_LESS = 0x02;
+
+    private static final int RPMSENSE_GREATER = 0x04;
+
+    private static final int RPMSENSE_EQUAL = 0x08;
+
+    private static final int RPMSENSE_PREREQ = 0x40;
+
+    private static final int RPMSENSE_SCRIPT_PRE = 0x200;
+
+    private static final int RPMSENSE_SCRIPT_POST = 0x400;
+
+    private static final int RPMFILE_GHOST = 0x40;
+
+    private static final int S_IFMT = 0170000;
+
+    private static final int S_IFDIR = 0040000;
+
+    private RpmRepodataPackageWriter()
+    {
+    }
+
+    static void writePrimary(XMLStreamWriter writer,
+                             RpmPackageMetadata metadata)
+        throws XMLStreamException
+    {
+        RpmHeader header = metadata.getHeader();
+
+        writer.writeStartElement(COMMON_NAMESPACE, "package");
+        writer.writeAttribute("type", "rpm");
+
+        writeElement(writer, COMMON_NAMESPACE, "name", metadata.getName());
+        writeElement(writer, COMMON_NAMESPACE, "arch", metadata.getArch());
+        writeVersion(writer, COMMON_NAMESPACE, metadata);
+
+        writer.writeStartElement(COMMON_NAMESPACE, "checksum");
+        writer.writeAttribute("type", "sha256");
+        writer.writeAttribute("pkgid", "YES");
+        writer.writeCharacters(metadata.getPkgId());
+        writer.writeEndElement();
+
+        writeElement(writer, COMMON_NAMESPACE, "summary", header.getString(RpmHeaderTag.SUMMARY));
+        writeElement(writer, COMMON_NAMESPACE, "description", header.getString(RpmHeaderTag.DESCRIPTION));
+        writeElement(writer, COMMON_NAMESPACE, "packager", header.getString(RpmHeaderTag.PACKAGER));
+        writeElement(writer, COMMON_NAMESPACE, "url", header.getString(RpmHeaderTag.URL));
+
+        writer.writeEmptyElement(COMMON_NAMESPACE, "time");
+        writer.writeAttribute("file", String.valueOf(metadata.getFileTime()));
+        writer.writeAttribute("build", String.valueOf(header.getLong(RpmHeaderTag.BUILDTIME, 0)));
+
+        writer.writeEmptyElement(COMMON_NAMESPACE, "size");
+        writer.writeAttribute("package", String.valueOf(metadata.getPackageSize()));
+        writer.writeAttribute("installed", String.valueOf(header.getLong(RpmHeaderTag.SIZE, 0)));
+        writer.writeAttribute("archive", String.valueOf(header.getLong(RpmHeaderTag.ARCHIVESIZE, 0)));
+
+        writer.writeEmptyElement(COMMON_NAMESPACE, "location");
+        writer.writeAttribute("href", metadata.getLocationHref());
+
+        writer.writeStartElement(COMMON_NAMESPACE, "format");
+
+        writeElement(writer, RPM_NAMESPACE, "license", header.getString(RpmHeaderTag.LICENSE));
+        writeElement(writer, RPM_NAMESPACE, "vendor", header.getString(RpmHeaderTag.VENDOR));
+        writeElement(writer, RPM_NAMESPACE, "group", header.getString(RpmHeaderTag.GROUP));
+        writeElement(writer, RPM_NAMESPACE, "buildhost", header.getString(RpmHeaderTag.BUILDHOST));
+        writeElement(writer, RPM_NAMESPACE, "sourcerpm", header.getString(RpmHeaderTag.SOURCERPM));
+
+        writer.writeEmptyElement(RPM_NAMESPACE, "header-range");
+        writer.writeAttribute("start", String.valueOf(header.getHeaderStart()));
+        writer.writeAttribute("end", String.valueOf(header.getHeaderEnd()));
+
+        writeDependencies(writer, "provides", header, RpmHeaderTag.PROVIDENAME, RpmHeaderTag.PROVIDEFLAGS,
+                          RpmHeaderTag.PROVIDEVERSION);
+        writeDependencies(writer, "requires", header, RpmHeaderTag.REQUIRENAME, RpmHeaderTag.REQUIREFLAGS,
+                          RpmHeaderTag.REQUIREVERSION);
+        writeDependencies(writer, "conflicts", header, RpmHeaderTag.CONFLICTNAME, RpmHeaderTag.CONFLICTFLAGS,
+                          RpmHeaderTag.CONFLICTVERSION);
+        writeDependencies(writer, "obsoletes", header, RpmHeaderTag.OBSOLETENAME, RpmHeaderTag.OBSOLETEFLAGS,
+                          RpmHeaderTag.OBSOLETEVERSION);
+
+        writeFiles(writer, COMMON_NAMESPACE, header, true);
+
+        writer.writeEndElement();
+        writer.writeEndElement();
+    }
+
+    static void writeFilelists(XMLStreamWriter writer,
+                               RpmPackageMetadata metadata)
+        throws XMLStreamException
+    {
+        writer.writeStartElement(FILELISTS_NAMESPACE, "package");
+        writePackageAttributes(writer, metadata);
+        writeVersion(writer, FILELISTS_NAMESPACE, metadata);
+        writeFiles(writer, FILELISTS_NAMESPACE, metadata.getHeader(), false);
+        writer.writeEndElement();
+    }
+
+    static void writeOther(XMLStreamWriter writer,
+                           RpmPackageMetadata metadata)
+        throws XMLStreamException
+    {
+        RpmHeader header = metadata.getHeader();
+
+        writer.writeStartElement(OTHER_NAMESPACE, "package");
+        writePackageAttributes(writer, metadata);
+        writeVersion(writer, OTHER_NAMESPACE, metadata);
+
+        String[] authors = header.getStringArray(RpmHeaderTag.CHANGELOGNAME);
+        long[] dates = header.getLongArray(RpmHeaderTag.CHANGELOGTIME);
+        String[] texts = header.getStringArray(RpmHeaderTag.CHANGELOGTEXT);
+
+        // The package header has the latest changelog entries first.
+        for (int i = Math.min(authors.length, Math.min(dates.length, texts.length)) - 1; i >= 0; i--)
+        {
+            writer.writeStartElement(OTHER_NAMESPACE, "changelog");
+            writer.writeAttribute("author", authors[i]);
+            writer.writeAttribute("date", String.valueOf(dates[i]));
+            writer.writeCharacters(texts[i]);
+            writer.writeEndElement();
+        }
+
+        writer.writeEndElement();
+    }
+
+    private static void writePackageAttributes(XMLStreamWriter writer,
+                                               RpmPackageMetadata metadata)
+        throws XMLStreamException
+    {
+        writer.writeAttribute("pkgid", metadata.getPkgId());
+        writer.writeAttribute("name", metadata.getName());
+        writer.writeAttribute("arch", metadata.getArch());
+    }
+
+    private static void writeVersion(XMLStreamWriter writer,
+                                     String namespace,
+                                     RpmPackageMetadata metadata)
+        throws XMLStreamException
+    {
+        writer.writeEmptyElement(namespace, "version");
+        writer.writeAttribute("epoch", metadata.getEpoch());
+        writer.writeAttribute("ver", metadata.getVersion());
+        writer.writeAttribute("rel", metadata.getRelease());
+    }
+
+    private static void writeDependencies(XMLStreamWriter writer,
+                                          String element,
+                                          RpmHeader header,
+                                          int nameTag,
+                                          int flagsTag,
+                                          int versionTag)
+        throws XMLStreamException
+    {
+        String[] names = header.getStringArray(nameTag);
+        long[] flags = header.getLongArray(flagsTag);
+        String[] versions = header.getStringArray(versionTag);
+
+        boolean started = false;
+        for (int i = 0; i < names.length; i++)
+        {
+            // The `rpmlib(...)` dependencies are provided by the RPM itself.
+            if (names[i].startsWith("rpmlib("))
+            {
+                continue;
+            }
+
+            if (!started)
+            {
+                writer.writeStartElement(RPM_NAMESPACE, element);
+                started = true;
+            }
+
+            int flag = i < flags.length ? (int) flags[i] : 0;
+            String version = i < versions.length ? versions[i] : "";
+
+            writer.writeEmptyElement(RPM_NAMESPACE, "entry");
+            writer.writeAttribute("name", names[i]);
+
+            String comparison = getComparison(flag);
+            if (comparison != null && !version.isEmpty())
+            {
+                writer.writeAttribute("flags", comparison);
+                writeEvr(writer, version);
+            }
+
+            if ((flag & (RPMSENSE_PREREQ | RPMSENSE_SCRIPT_PRE | RPMSENSE_SCRIPT_POST)) != 0)
+            {
+                writer.writeAttribute("pre", "1");
+            }
+        }
+
+        if (started)
+        {
+            writer.writeEndElement();
+        }
+    }
+
+    private static String getComparison(int flag)
+    {
+        switch (flag & (RPMSENSE_LESS | RPMSENSE_GREATER | RPMSENSE_EQUAL))
+        {
+            case RPMSENSE_LESS:
+                return "LT";
+            case RPMSENSE_GREATER:
+                return "GT";
+            case RPMSENSE_EQUAL:
+                return "EQ";
+            case RPMSENSE_LESS | RPMSENSE_EQUAL:
+                return "LE";
+            case RPMSENSE_GREATER | RPMSENSE_EQUAL:
+                return "GE";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Splits the `[epoch:]version[-release]` dependency version.
+     */
+    private static void writeEvr(XMLStreamWriter writer,
+                                 String evr)
+        throws XMLStreamException
+    {
+        String epoch = "0";
+        int epochEnd = evr.indexOf(':');
+        if (epochEnd > 0)
+        {
+            epoch = evr.substring(0, epochEnd);
+            evr = evr.substring(epochEnd + 1);
+        }
+
+        String release = null;
+        int releaseStart = evr.lastIndexOf('-');
+        if (releaseStart > 0)
+        {
+            release = evr.substring(releaseStart + 1);
+            evr = evr.substring(0, releaseStart);
+        }
+
+        writer.writeAttribute("epoch", epoch);
+        writer.writeAttribute("ver", evr);
+        if (release != null)
+        {
+            writer.writeAttribute("rel", release);
+        }
+    }
+
+    /**
+     * @param primaryOnly only the files which are commonly used as dependencies (executables and configuration) are
+     *                    listed within the <code>primary.xml</code>
+     */
+    private static void writeFiles(XMLStreamWriter writer,
+                                   String namespace,
+                                   RpmHeader header,
+                                   boolean primaryOnly)
+        throws XMLStreamException
+    {
+        String[] baseNames = header.getStringArray(RpmHeaderTag.BASENAMES);
+        String[] dirNames = header.getStringArray(RpmHeaderTag.DIRNAMES);
+        long[] dirIndexes = header.getLongArray(RpmHeaderTag.DIRINDEXES);
+        long[] modes = header.getLongArray(RpmHeaderTag.FILEMODES);
+        long[] flags = header.getLongArray(RpmHeaderTag.FILEFLAGS);
+
+        for (int i = 0; i < baseNames.length && i < dirIndexes.length; i++)
+        {
+            int dirIndex = (int) dirIndexes[i];
+            if (dirIndex < 0 || dirIndex >= dirNames.length)
+            {
+                continue;
+            }
+
+            String file = dirNames[dirIndex] + baseNames[i];
+            if (primaryOnly && !isPrimaryFile(file))
+            {
+                continue;
+            }
+
+            writer.writeStartElement(namespace, "file");
+            if (i < flags.length && (flags[i] & RPMFILE_GHOST) != 0)
+            {
+                writer.writeAttribute("type", "ghost");
+            }
+            else if (i < modes.length && (modes[i] & S_IFMT) == S_IFDIR)
+            {
+                writer.writeAttribute("type", "dir");
+            }
+            writer.writeCharacters(file);
+            writer.writeEndElement();
+        }
+    }
+
+    private static boolean isPrimaryFile(String file)
+    {
+        return file.startsWith("/etc/") || file.contains("bin/") || file.equals("/usr/lib/sendmail");
+    }
+
+    private static void writeElement(XMLStreamWriter writer,
+                                     String namespace,
+                                     String element,
+                                     String value)
+        throws XMLStreamException
+    {
+        writer.writeStartElement(namespace, element);
+        if (value != null)
+        {
+            writer.writeCharacters(value);
+        }
+        writer.writeEndElement();
+    }
+
+}
@@ -0,0 +1,72 @@
+package org.carlspring.strongbox.storage.metadata.rpm;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
+
+@Execution(CONCURRENT)
+class RpmHeaderReaderTest
+{
+
+    @Test
+    void testReadHeader()
+        throws IOException
+    {
+        byte[] rpm = new RpmTestPackageBuilder("strongbox-test", "1.0.1", "2.fc30", "x86_64")
+                             .stringArray(RpmHeaderTag.PROVIDENAME, "strongbox-test", "strongbox-test(x86-64)")
+                             .file("/usr/bin/", "strongbox-test", 0100755)
+                             .file("/usr/share/doc/strongbox-test/", "README", 0100644)
+                             .changelog("John Doe <john@example.com>", 1561939200L, "- Initial package")
+                             .build();
+
+        try (InputStream is = new ByteArrayInputStream(rpm))
+        {
+            RpmHeader header = RpmHeaderReader.read(is);
+
+            assertEquals("strongbox-test", header.getString(RpmHeaderTag.NAME));
+            assertEquals("1.0.1", header.getString(RpmHeaderTag.VERSION));
+            assertEquals("2.fc30", header.getString(RpmHeaderTag.RELEASE));
+            assertEquals("x86_64", header.getString(RpmHeaderTag.ARCH));
+            assertEquals(1561939200L, header.getLong(RpmHeaderTag.BUILDTIME, 0));
+            assertEquals(-1L, header.getLong(RpmHeaderTag.EPOCH, -1));
+            assertArrayEquals(new String[]{ "strongbox-test", "strongbox-test(x86-64)" },
+                              header.getStringArray(RpmHeaderTag.PROVIDENAME));
+            assertArrayEquals(new String[]{ "strongbox-test", "README" },
+                              header.getStringArray(RpmHeaderTag.BASENAMES));
+            assertArrayEquals(new long[]{ 0100755, 0100644 }, header.getLongArray(RpmHeaderTag.FILEMODES));
+
+            // The lead, the signature header with one 5 bytes entry, and 3 bytes of the padding.
+            assertEquals(96 + 16 + 16 + 5 + 3, header.getHeaderStart());
+            assertEquals(rpm.length - RpmTestPackageBuilder.PAYLOAD.length, header.getHeaderEnd());
+
+            // The stream is positioned at the payload.
+            assertArrayEquals(RpmTestPackageBuilder.PAYLOAD, IOUtils.toByteArray(is));
+        }
+    }
+
+    @Test
+    void testReadInvalidPackage()
+    {
+        byte[] content = new byte[RpmHeaderReader.LEAD_SIZE * 2];
+
+        assertThrows(RpmFormatException.class, () -> RpmHeaderReader.read(new ByteArrayInputStream(content)));
+    }
+
+    @Test
+    void testReadTruncatedPackage()
+        throws IOException
+    {
+        byte[] rpm = new RpmTestPackageBuilder("strongbox-test", "1.0.1", "2.fc30", "noarch").build();
+        byte[] truncated = new byte[rpm.length - RpmTestPackageBuilder.PAYLOAD.length - 10];
+        System.arraycopy(rpm, 0, truncated, 0, truncated.length);
+
+        assertThrows(IOException.class, () -> RpmHeaderReader.read(new ByteArrayInputStream(truncated)));
+    }
+
+}
@@ -0,0 +1,190 @@
+package org.carlspring.strongbox.storage.metadata.rpm;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RpmRepodataTest
+{
+
+    private Path repositoryRoot;
+
+    private RpmRepodata repodata;
+
+    @BeforeEach
+    void setUp()
+        throws IOException
+    {
+        repositoryRoot = Files.createTempDirectory("rpm-repodata");
+        repodata = new RpmRepodata(repositoryRoot);
+    }
+
+    @AfterEach
+    void tearDown()
+        throws IOException
+    {
+        FileUtils.deleteDirectory(repositoryRoot.toFile());
+    }
+
+    @Test
+    void testAddPackages()
+        throws IOException
+    {
+        RpmPackageMetadata foo = buildPackage("foo", "1.0", "x86_64", "Packages/f/foo-1.0-1.x86_64.rpm");
+        RpmPackageMetadata bar = buildPackage("bar", "2.0", "noarch", "Packages/b/bar-2.0-1.noarch.rpm");
+
+        repodata.update(Arrays.asList(foo, bar), p -> false);
+
+        Map<String, String> locations = repodata.readLocations();
+        assertEquals(3, locations.size());
+
+        String primary = readDataFile(locations.get(RpmRepodata.PRIMARY));
+        assertTrue(primary.contains("packages=\"2\""));
+        assertTrue(primary.contains("<name>foo</name>"));
+        assertTrue(primary.contains("<name>bar</name>"));
+        assertTrue(primary.contains(foo.getPkgId()));
+        assertTrue(primary.contains("href=\"Packages/b/bar-2.0-1.noarch.rpm\""));
+        assertTrue(primary.contains("<file>/usr/bin/foo</file>"));
+        assertFalse(primary.contains("README"));
+
+        String filelists = readDataFile(locations.get(RpmRepodata.FILELISTS));
+        assertTrue(filelists.contains("pkgid=\"" + bar.getPkgId() + "\""));
+        assertTrue(filelists.contains("<file>/usr/share/doc/foo/README</file>"));
+
+        String other = readDataFile(locations.get(RpmRepodata.OTHER));
+        assertTrue(other.contains("- Initial foo package"));
+
+        // The metadata files are named after their checksums.
+        for (String location : locations.values())
+        {
+            try (InputStream is = Files.newInputStream(repositoryRoot.resolve(location)))
+            {
+                String checksum = DigestUtils.sha256Hex(is);
+                assertTrue(location.startsWith(RpmRepodata.REPODATA + "/" + checksum + "-"));
+            }
+        }
+
+        String repomd = new String(Files.readAllBytes(repodata.getRepomdPath()), StandardCharsets.UTF_8);
+        assertTrue(repomd.contains("<data type=\"primary\">"));
+        assertTrue(repomd.contains(String.valueOf(Files.size(repositoryRoot.resolve(locations.get("primary"))))));
+    }
+
+    @Test
+    void testUpdatePackages()
+        throws IOException
+    {
+        RpmPackageMetadata foo = buildPackage("foo", "1.0", "x86_64", "Packages/f/foo-1.0-1.x86_64.rpm");
+        RpmPackageMetadata bar = buildPackage("bar", "2.0", "noarch", "Packages/b/bar-2.0-1.noarch.rpm");
+        repodata.update(Arrays.asList(foo, bar), p -> false);
+
+        Map<String, String> oldLocations = repodata.readLocations();
+
+        // Only the added package header is read, the others are copied from the current metadata.
+        RpmPackageMetadata baz = buildPackage("baz", "3.0", "noarch", "Packages/b/baz-3.0-1.noarch.rpm");
+        repodata.update(Collections.singletonList(baz), p -> p.equals(foo.getLocationHref()));
+
+        Map<String, String> locations = repodata.readLocations();
+        for (String type : locations.keySet())
+        {
+            assertNotEquals(oldLocations.get(type), locations.get(type));
+            // The clients which have read the previous index are still able to download the old files.
+            assertTrue(Files.exists(repositoryRoot.resolve(oldLocations.get(type))));
+        }
+
+        String primary = readDataFile(locations.get(RpmRepodata.PRIMARY));
+        assertTrue(primary.contains("packages=\"2\""));
+        assertFalse(primary.contains("<name>foo</name>"));
+        assertTrue(primary.contains("<name>bar</name>"));
+        assertTrue(primary.contains("<name>baz</name>"));
+        assertTrue(primary.contains("<rpm:license>ASL 2.0</rpm:license>"));
+
+        String filelists = readDataFile(locations.get(RpmRepodata.FILELISTS));
+        assertFalse(filelists.contains(foo.getPkgId()));
+        assertTrue(filelists.contains(bar.getPkgId()));
+        assertTrue(filelists.contains(baz.getPkgId()));
+
+        String other = readDataFile(locations.get(RpmRepodata.OTHER));
+        assertFalse(other.contains("- Initial foo package"));
+        assertTrue(other.contains("- Initial bar package"));
+
+        // The same location replaces the package.
+        RpmPackageMetadata bar2 = buildPackage("bar", "2.1", "noarch", bar.getLocationHref());
+        repodata.update(Collections.singletonList(bar2), p -> false);
+
+        primary = readDataFile(repodata.readLocations().get(RpmRepodata.PRIMARY));
+        assertTrue(primary.contains("packages=\"2\""));
+        assertFalse(primary.contains(bar.getPkgId()));
+        assertTrue(primary.contains(bar2.getPkgId()));
+    }
+
+    @Test
+    void testUnreferencedDataFilesDeletedAfterGracePeriod()
+        throws IOException
+    {
+        repodata = new RpmRepodata(repositoryRoot, 0);
+
+        RpmPackageMetadata foo = buildPackage("foo", "1.0", "x86_64", "Packages/f/foo-1.0-1.x86_64.rpm");
+        repodata.update(Collections.singletonList(foo), p -> false);
+
+        Map<String, String> oldLocations = repodata.readLocations();
+
+        RpmPackageMetadata bar = buildPackage("bar", "2.0", "noarch", "Packages/b/bar-2.0-1.noarch.rpm");
+        repodata.update(Collections.singletonList(bar), p -> false);
+
+        for (String oldLocation : oldLocations.values())
+        {
+            assertFalse(Files.exists(repositoryRoot.resolve(oldLocation)));
+        }
+        for (String location : repodata.readLocations().values())
+        {
+            assertTrue(Files.exists(repositoryRoot.resolve(location)));
+        }
+
+        // No temporary files are left behind.
+        try (Stream<Path> paths = Files.list(repositoryRoot.resolve(RpmRepodata.REPODATA)))
+        {
+            assertEquals(4, paths.count());
+        }
+    }
+
+    private RpmPackageMetadata buildPackage(String name,
+                                            String version,
+                                            String arch,
+                                            String location)
+        throws IOException
+    {
+        Path packagePath = new RpmTestPackageBuilder(name, version, "1", arch)
+                                   .file("/usr/bin/", name, 0100755)
+                                   .file("/usr/share/doc/" + name + "/", "README", 0100644)
+                                   .changelog("John Doe <john@example.com>", 1561939200L,
+                                              "- Initial " + name + " package")
+                                   .build(repositoryRoot, location);
+
+        return RpmPackageMetadata.read(packagePath, location);
+    }
+
+    private String readDataFile(String location)
+        throws IOException
+    {
+        try (InputStream is = new GZIPInputStream(Files.newInputStream(repositoryRoot.resolve(location))))
+        {
+            return IOUtils.toString(is, StandardCharsets.UTF_8);
+        }
+    }
+
+}
@@ -0,0 +1,241 @@
+package org.carlspring.strongbox.storage.metadata.rpm;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the minimal (but structurally valid) RPM packages for the tests: the lead, the signature header with a
+ * single digest entry and the main header with the given tags, followed by the dummy payload.
+ */
+class RpmTestPackageBuilder
+{
+
+    static final byte[] PAYLOAD = "dummy-payload".getBytes(StandardCharsets.UTF_8);
+
+    private final List<Object[]> entries = new ArrayList<>();
+
+    private final List<String> baseNames = new ArrayList<>();
+
+    private final List<String> dirNames = new ArrayList<>();
+
+    private final List<Long> dirIndexes = new ArrayList<>();
+
+    private final List<Long> fileModes = new ArrayList<>();
+
+    private final List<String> changelogNames = new ArrayList<>();
+
+    private final List<Long> changelogTimes = new ArrayList<>();
+
+    private final List<String> changelogTexts = new ArrayList<>();
+
+    RpmTestPackageBuilder(String name,
+                          String version,
+                          String release,
+                          String arch)
+    {
+        string(RpmHeaderTag.NAME, name);
+        string(RpmHeaderTag.VERSION, version);
+        string(RpmHeaderTag.RELEASE, release);
+        string(RpmHeaderTag.ARCH, arch);
+        string(RpmHeaderTag.SUMMARY, name + " summary");
+        string(RpmHeaderTag.DESCRIPTION, name + " description");
+        string(RpmHeaderTag.LICENSE, "ASL 2.0");
+        string(RpmHeaderTag.SOURCERPM, String.format("%s-%s-%s.src.rpm", name, version, release));
+        int32(RpmHeaderTag.BUILDTIME, 1561939200L);
+        int32(RpmHeaderTag.SIZE, 1024L);
+    }
+
+    RpmTestPackageBuilder string(int tag,
+                                 String value)
+    {
+        entries.add(new Object[]{ tag, RpmHeaderReader.TYPE_STRING, value });
+
+        return this;
+    }
+
+    RpmTestPackageBuilder stringArray(int tag,
+                                      String... values)
+    {
+        entries.add(new Object[]{ tag, RpmHeaderReader.TYPE_STRING_ARRAY, values });
+
+        return this;
+    }
+
+    RpmTestPackageBuilder int32(int tag,
+                                long... values)
+    {
+        entries.add(new Object[]{ tag, RpmHeaderReader.TYPE_INT32, values });
+
+        return this;
+    }
+
+    RpmTestPackageBuilder file(String directory,
+                               String baseName,
+                               long mode)
+    {
+        if (!dirNames.contains(directory))
+        {
+            dirNames.add(directory);
+        }
+        dirIndexes.add((long) dirNames.indexOf(directory));
+        baseNames.add(baseName);
+        fileModes.add(mode);
+
+        return this;
+    }
+
+    RpmTestPackageBuilder changelog(String author,
+                                    long time,
+                                    String text)
+    {
+        changelogNames.add(author);
+        changelogTimes.add(time);
+        changelogTexts.add(text);
+
+        return this;
+    }
+
+    byte[] build()
+        throws IOException
+    {
+        List<Object[]> headerEntries = new ArrayList<>(entries);
+        if (!baseNames.isEmpty())
+        {
+            headerEntries.add(new Object[]{ RpmHeaderTag.BASENAMES, RpmHeaderReader.TYPE_STRING_ARRAY,
+                                            baseNames.toArray(new String[0]) });
+            headerEntries.add(new Object[]{ RpmHeaderTag.DIRNAMES, RpmHeaderReader.TYPE_STRING_ARRAY,
+                                            dirNames.toArray(new String[0]) });
+            headerEntries.add(new Object[]{ RpmHeaderTag.DIRINDEXES, RpmHeaderReader.TYPE_INT32,
+                                            toArray(dirIndexes) });
+            headerEntries.add(new Object[]{ RpmHeaderTag.FILEMODES, RpmHeaderReader.TYPE_INT16,
+                                            toArray(fileModes) });
+        }
+        if (!changelogNames.isEmpty())
+        {
+            headerEntries.add(new Object[]{ RpmHeaderTag.CHANGELOGTIME, RpmHeaderReader.TYPE_INT32,
+                                            toArray(changelogTimes) });
+            headerEntries.add(new Object[]{ RpmHeaderTag.CHANGELOGNAME, RpmHeaderReader.TYPE_STRING_ARRAY,
+                                            changelogNames.toArray(new String[0]) });
+            headerEntries.add(new Object[]{ RpmHeaderTag.CHANGELOGTEXT, RpmHeaderReader.TYPE_STRING_ARRAY,
+                                            changelogTexts.toArray(new String[0]) });
+        }
+
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(result);
+
+        out.writeInt(RpmHeaderReader.LEAD_MAGIC);
+        out.write(new byte[RpmHeaderReader.LEAD_SIZE - 4]);
+
+        // The signature header with the 5 bytes binary entry, so it needs 3 bytes of padding.
+        List<Object[]> signatureEntries = new ArrayList<>();
+        signatureEntries.add(new Object[]{ 1004, RpmHeaderReader.TYPE_BIN, new byte[]{ 1, 2, 3, 4, 5 } });
+        int signatureLength = writeHeader(out, signatureEntries);
+        out.write(new byte[(8 - signatureLength % 8) % 8]);
+
+        writeHeader(out, headerEntries);
+        out.write(PAYLOAD);
+        out.flush();
+
+        return result.toByteArray();
+    }
+
+    Path build(Path directory,
+               String fileName)
+        throws IOException
+    {
+        Path result = directory.resolve(fileName);
+        Files.createDirectories(result.getParent());
+        Files.write(result, build());
+
+        return result;
+    }
+
+    private static int writeHeader(OutputStream outputStream,
+                                   List<Object[]> headerEntries)
+        throws IOException
+    {
+        ByteArrayOutputStream index = new ByteArrayOutputStream();
+        DataOutputStream indexOut = new DataOutputStream(index);
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        DataOutputStream dataOut = new DataOutputStream(data);
+
+        for (Object[] entry : headerEntries)
+        {
+            int type = (Integer) entry[1];
+            int alignment = type == RpmHeaderReader.TYPE_INT16 ? 2 : type == RpmHeaderReader.TYPE_INT32 ? 4 : 1;
+            while (data.size() % alignment != 0)
+            {
+                dataOut.write(0);
+            }
+
+            int offset = data.size();
+            int count;
+            switch (type)
+            {
+                case RpmHeaderReader.TYPE_STRING:
+                    dataOut.write(((String) entry[2]).getBytes(StandardCharsets.UTF_8));
+                    dataOut.write(0);
+                    count = 1;
+                    break;
+                case RpmHeaderReader.TYPE_STRING_ARRAY:
+                    String[] strings = (String[]) entry[2];
+                    for (String value : strings)
+                    {
+                        dataOut.write(value.getBytes(StandardCharsets.UTF_8));
+                        dataOut.write(0);
+                    }
+                    count = strings.length;
+                    break;
+                case RpmHeaderReader.TYPE_INT16:
+                case RpmHeaderReader.TYPE_INT32:
+                    long[] values = (long[]) entry[2];
+                    for (long value : values)
+                    {
+                        if (type == RpmHeaderReader.TYPE_INT16)
+                        {
+                            dataOut.writeShort((int) value);
+                        }
+                        else
+                        {
+                            dataOut.writeInt((int) value);
+                        }
+                    }
+                    count = values.length;
+                    break;
+                default:
+                    byte[] bytes = (byte[]) entry[2];
+                    dataOut.write(bytes);
+                    count = bytes.length;
+            }
+
+            indexOut.writeInt((Integer) entry[0]);
+            indexOut.writeInt(type);
+            indexOut.writeInt(offset);
+            indexOut.writeInt(count);
+        }
+
+        DataOutputStream out = new DataOutputStream(outputStream);
+        out.writeInt(RpmHeaderReader.HEADER_MAGIC);
+        out.writeInt(0);
+        out.writeInt(headerEntries.size());
+        out.writeInt(data.size());
+        index.writeTo(out);
+        data.writeTo(out);
+        out.flush();
+
+        return RpmHeaderReader.HEADER_INTRO_SIZE + index.size() + data.size();
+    }
+
+    private static long[] toArray(List<Long> values)
+    {
+        return values.stream().mapToLong(Long::longValue).toArray();
+    }
+
+}
@@ -1,13 +1,16 @@
 package org.carlspring.strongbox.controllers;
 
 import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryStreamSupport.RepositoryInputStream;
+import org.carlspring.strongbox.providers.repository.proxied.ProxyRepositoryArtifactResolver;
+import org.carlspring.strongbox.providers.repository.proxied.RemoteArtifactDownload;
 import org.carlspring.strongbox.services.ArtifactManagementService;
 import org.carlspring.strongbox.utils.ArtifactControllerHelper;
 
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.io.InputStream;
+import java.util.Optional;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -21,6 +24,9 @@ public abstract class BaseArtifactController
     @Inject
     protected ArtifactManagementService artifactManagementService;
 
+    @Inject
+    private ProxyRepositoryArtifactResolver proxyRepositoryArtifactResolver;
+
     protected boolean provideArtifactDownloadResponse(HttpServletRequest request,
                                                       HttpServletResponse response,
                                                       HttpHeaders httpHeaders,
@@ -28,18 +34,39 @@ public abstract class BaseArtifactController
             throws Exception
     {
         logger.debug("Resolved path: {}", repositoryPath);
-        ArtifactControllerHelper.provideArtifactHeaders(response, repositoryPath);
+        Optional<RemoteArtifactDownload> download = Optional.ofNullable(repositoryPath)
+                                                            .flatMap(proxyRepositoryArtifactResolver::getInFlightDownload);
+        if (download.isPresent() && ArtifactControllerHelper.isRangedRequest(httpHeaders))
+        {
+            // Ranged requests can be served only from the stored artifact.
+            download.get().await();
+            download = Optional.empty();
+        }
+
+        if (download.isPresent())
+        {
+            ArtifactControllerHelper.provideInFlightArtifactHeaders(response, repositoryPath);
+        }
+        else
+        {
+            ArtifactControllerHelper.provideArtifactHeaders(response, repositoryPath);
+        }
         if (response.getStatus() == HttpStatus.NOT_FOUND.value())
         {
             return false;
         }
+        else if (!download.isPresent() && ArtifactControllerHelper.checkNotModified(request, response, repositoryPath))
+        {
+            logger.debug("Not modified: {}", repositoryPath);
+
+            return true;
+        }
         else if (request.getMethod().equals(RequestMethod.HEAD.name()))
         {
             return true;
         }
 
-        
-        try (InputStream is = artifactResolutionService.getInputStream(repositoryPath))
+        try (RepositoryInputStream is = artifactResolutionService.getInputStream(repositoryPath))
         {
             if (ArtifactControllerHelper.isRangedRequest(httpHeaders))
             {
@@ -47,8 +74,13 @@ public abstract class BaseArtifactController
 
                 ArtifactControllerHelper.handlePartialDownload(is, httpHeaders, response);
             }
+            else if (is.isStored())
+            {
+                transferToResponse(is, response);
+            }
             else
             {
+                // The download could have been started after the check above, so the stream decides.
                 copyToResponse(is, response);
             }
         }
@@ -7,7 +7,9 @@ import org.carlspring.strongbox.controllers.support.ErrorResponseEntityBody;
 import org.carlspring.strongbox.controllers.support.ListEntityBody;
 import org.carlspring.strongbox.controllers.support.ResponseEntityBody;
 import org.carlspring.strongbox.exception.ExceptionHandlingOutputStream;
+import org.carlspring.strongbox.exception.Http202PropogateException;
 import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.io.RepositoryStreamSupport.RepositoryInputStream;
 import org.carlspring.strongbox.services.ArtifactResolutionService;
 import org.carlspring.strongbox.services.ConfigurationManagementService;
 import org.carlspring.strongbox.storage.Storage;
@@ -18,10 +20,15 @@ import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.List;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.collections4.IteratorUtils;
+import org.eclipse.jetty.io.EofException;
+import org.eclipse.jetty.server.HttpOutput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.InputStreamResource;
@@ -308,4 +315,44 @@ public abstract class BaseController
             response.flushBuffer();
         }
     }
+
+    /**
+     * Sends the whole stored artifact content from its {@link FileChannel}. With Jetty the channel is read through the
+     * pooled buffers of the connector, otherwise the content is transferred into the response channel, so the file is
+     * never copied into the heap (or mapped into memory) as a whole.
+     */
+    public static void transferToResponse(RepositoryInputStream is,
+                                          HttpServletResponse response)
+            throws IOException
+    {
+        OutputStream os = response.getOutputStream();
+        try
+        {
+            is.transferContent(channel -> {
+                long size = channel.size();
+                if (os instanceof HttpOutput)
+                {
+                    ((HttpOutput) os).sendContent(channel);
+                }
+                else
+                {
+                    WritableByteChannel target = Channels.newChannel(os);
+                    long position = 0;
+                    long n;
+                    while (position < size && (n = channel.transferTo(position, size - position, target)) > 0)
+                    {
+                        position += n;
+                    }
+                    os.flush();
+                }
+
+                return size;
+            });
+        }
+        catch (EofException e)
+        {
+            throw new Http202PropogateException("Socket has been closed. Possibly, user cancelled download.", e);
+        }
+    }
+
 }
@@ -1,6 +1,8 @@
 package org.carlspring.strongbox.controllers;
 
+import org.carlspring.strongbox.domain.ArtifactArchiveEntry;
 import org.carlspring.strongbox.providers.search.SearchException;
+import org.carlspring.strongbox.services.ArtifactArchiveEntryService;
 import org.carlspring.strongbox.services.ArtifactSearchService;
 import org.carlspring.strongbox.storage.search.SearchRequest;
 import org.carlspring.strongbox.storage.search.SearchResults;
@@ -9,6 +11,7 @@ import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import java.io.IOException;
 import java.net.URLDecoder;
+import java.util.List;
 
 import io.swagger.annotations.*;
 import org.apache.lucene.queryparser.classic.ParseException;
@@ -33,6 +36,9 @@ public class SearchController
     @Inject
     ArtifactSearchService artifactSearchService;
 
+    @Inject
+    ArtifactArchiveEntryService artifactArchiveEntryService;
+
     /**
      * Performs a search against the Lucene index of a specified repository,
      * or the Lucene indexes of all repositories.
@@ -83,6 +89,42 @@ public class SearchController
         }
     }
 
+    /**
+     * Finds the artifact archives, which contain the file with specified path (`org/foo/Bar.class`) or the class with
+     * specified name (`org.foo.Bar`).
+     * <p>
+     * The exact query and the prefix query (`org/foo/*`) are served by the indexes, while any other wildcard (for
+     * example, `*Bar.class`) scans all the archive entries, so it should be avoided.
+     *
+     * @param storageId
+     * @param repositoryId
+     * @param query the path or the class name, the `*` wildcard could be used
+     * @return
+     */
+    @ApiOperation(value = "Used to search for the artifact archives by their contents.")
+    @ApiResponses(value = { @ApiResponse(code = 200, message = "") })
+    @PreAuthorize("hasAuthority('SEARCH_ARTIFACTS')")
+    @GetMapping(value = "/archive",
+                produces = { MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity searchArchives(@ApiParam(value = "The storageId", required = false)
+                                         @RequestParam(name = "storageId", required = false) final String storageId,
+                                         @ApiParam(value = "The repositoryId", required = false)
+                                         @RequestParam(name = "repositoryId", required = false) final String repositoryId,
+                                         @ApiParam(value = "The file path or the class name", required = true)
+                                         @RequestParam(name = "q") final String query,
+                                         @ApiParam(value = "The number of the results to skip", required = false)
+                                         @RequestParam(name = "skip", defaultValue = "0") final int skip,
+                                         @ApiParam(value = "The maximum number of the results, up to 1000", required = false)
+                                         @RequestParam(name = "limit", defaultValue = "100") final int limit)
+    {
+        logger.debug("[searchArchives] {}\n\tstorageId = {}\n\trepositoryId = {}", query, storageId, repositoryId);
+
+        List<ArtifactArchiveEntry> archiveEntries = artifactArchiveEntryService.search(storageId, repositoryId, query,
+                                                                                       skip, limit);
+
+        return getJSONListResponseEntityBody("archiveEntries", archiveEntries);
+    }
+
     private SearchResults getSearchResults(String storageId,
                                            String repositoryId,
                                            String query)
@@ -5,14 +5,20 @@ import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.services.RepositoryManagementService;
 import org.carlspring.strongbox.storage.ArtifactStorageException;
 import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.trash.TrashEntry;
+import org.carlspring.strongbox.storage.trash.TrashStatistics;
 import org.carlspring.strongbox.web.RepositoryMapping;
 
 import javax.inject.Inject;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import org.springframework.http.HttpHeaders;
@@ -37,7 +43,45 @@ public class TrashController
     @Inject
     private RepositoryManagementService repositoryManagementService;
 
-    @ApiOperation(value = "Used to delete the trash for a specified repository.")
+    @ApiOperation(value = "Used to get the trash statistics for a specified repository.")
+    @ApiResponses(value = { @ApiResponse(code = 200,
+                                         message = "The number, the total size and the oldest deletion time of the trashed files."),
+                            @ApiResponse(code = 404,
+                                         message = "The specified (storageId/repositoryId) does not exist!") })
+    @PreAuthorize("hasAuthority('MANAGEMENT_UNDELETE_TRASH')")
+    @GetMapping(value = "{storageId}/{repositoryId}",
+                produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity getStatistics(@RepositoryMapping Repository repository)
+            throws IOException
+    {
+        TrashStatistics statistics = repositoryManagementService.getTrashStatistics(repository.getStorage().getId(),
+                                                                                    repository.getId());
+
+        return ResponseEntity.ok(statistics);
+    }
+
+    @ApiOperation(value = "Used to list the trashed files for a path under a specified repository.")
+    @ApiResponses(value = { @ApiResponse(code = 200,
+                                         message = "The trashed files with their size and deletion time."),
+                            @ApiResponse(code = 404,
+                                         message = "The specified (storageId/repositoryId) does not exist!") })
+    @PreAuthorize("hasAuthority('MANAGEMENT_UNDELETE_TRASH')")
+    @GetMapping(value = "{storageId}/{repositoryId}/{path:.+}",
+                produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity getEntries(@RepositoryMapping Repository repository,
+                                     @PathVariable String path)
+            throws IOException
+    {
+        List<TrashEntry> trashEntries = repositoryManagementService.findTrash(repository.getStorage().getId(),
+                                                                            repository.getId(),
+                                                                            path);
+
+        return getJSONListResponseEntityBody("trash", trashEntries);
+    }
+
+    @ApiOperation(value = "Used to delete the trash for a specified repository. If the purge limits are provided, " +
+                          "only the trashed files deleted earlier than the given number of days, and then the " +
+                          "oldest trashed files exceeding the given size are deleted.")
     @ApiResponses(value = { @ApiResponse(code = 200,
                                          message = "The trash for ${storageId}:${repositoryId}' was removed successfully."),
                             @ApiResponse(code = 400,
@@ -49,6 +93,10 @@ public class TrashController
                    produces = { MediaType.TEXT_PLAIN_VALUE,
                                 MediaType.APPLICATION_JSON_VALUE })
     public ResponseEntity delete(@RepositoryMapping Repository repository,
+                                 @ApiParam(value = "Delete the files trashed earlier than this number of days")
+                                 @RequestParam(name = "deletedBeforeDays", required = false) Integer deletedBeforeDays,
+                                 @ApiParam(value = "Delete the oldest trashed files until the trash fits this size")
+                                 @RequestParam(name = "maxSizeInBytes", required = false) Long maxSizeInBytes,
                                  @RequestHeader(HttpHeaders.ACCEPT) String accept)
             throws IOException
     {
@@ -57,9 +105,22 @@ public class TrashController
 
         try
         {
-            repositoryManagementService.deleteTrash(storageId, repositoryId);
+            if (deletedBeforeDays == null && maxSizeInBytes == null)
+            {
+                repositoryManagementService.deleteTrash(storageId, repositoryId);
+
+                logger.debug("Deleted trash for repository {}.", repositoryId);
+            }
+            else
+            {
+                Date deletedBefore = deletedBeforeDays != null ?
+                                     new Date(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(deletedBeforeDays)) :
+                                     null;
+                int count = repositoryManagementService.purgeTrash(storageId, repositoryId, deletedBefore,
+                                                                   maxSizeInBytes);
 
-            logger.debug("Deleted trash for repository {}.", repositoryId);
+                logger.debug("Purged [{}] trashed files for repository {}.", count, repositoryId);
+            }
         }
         catch (ArtifactStorageException e)
         {
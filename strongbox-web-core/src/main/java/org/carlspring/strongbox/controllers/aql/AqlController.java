@@ -36,13 +36,15 @@ public class AqlController extends BaseController
     @ApiResponses(value = { @ApiResponse(code = 200, message = "OK") })
     @PreAuthorize("hasAuthority('SEARCH_ARTIFACTS')")
     @GetMapping(produces = { MediaType.APPLICATION_JSON_VALUE })
-    public ResponseEntity search(@ApiParam(value = "Search query", required = true) @RequestParam(name = "query", required = true) String query)
+    public ResponseEntity search(@ApiParam(value = "Search query", required = true) @RequestParam(name = "query", required = true) String query,
+                                 @ApiParam(value = "The cursor of the next page, which is returned with the previous page") @RequestParam(name = "cursor", required = false) String cursor,
+                                 @ApiParam(value = "Whether the dependency snippets should be included") @RequestParam(name = "snippets", defaultValue = "true") boolean snippets)
         throws IOException
     {
         AqlQueryParser parser = new AqlQueryParser(query);
         Selector<ArtifactEntry> selector = parser.parseQuery();
 
-        SearchResults result = aqlSearchService.search(selector);
+        SearchResults result = aqlSearchService.search(selector, cursor, snippets);
 
         return ResponseEntity.ok(result);
     }
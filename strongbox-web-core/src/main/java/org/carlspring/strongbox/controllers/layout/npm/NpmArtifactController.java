@@ -7,6 +7,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.StringWriter;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.security.NoSuchAlgorithmException;
@@ -51,6 +52,8 @@ import org.carlspring.strongbox.npm.metadata.Versions;
 import org.carlspring.strongbox.providers.ProviderImplementationException;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.layout.NpmPackageDesc;
+import org.carlspring.strongbox.providers.layout.NpmPackageFeedCache;
+import org.carlspring.strongbox.providers.layout.NpmPackageFeedCache.CachedPackageFeed;
 import org.carlspring.strongbox.providers.layout.NpmPackageSupplier;
 import org.carlspring.strongbox.providers.layout.NpmSearchResultSupplier;
 import org.carlspring.strongbox.providers.layout.NpmUnpublishService;
@@ -84,6 +87,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 
 /**
@@ -125,6 +129,9 @@ public class NpmArtifactController
     @Inject
     private NpmUnpublishService npmUnpublishService;
 
+    @Inject
+    private NpmPackageFeedCache npmPackageFeedCache;
+
     @GetMapping(path = { "{storageId}/{repositoryId}/npm" })
     public ResponseEntity<String> greet()
     {
@@ -205,9 +212,17 @@ public class NpmArtifactController
         NpmViewRequest npmSearchRequest = new NpmViewRequest();
         npmSearchRequest.setPackageId(packageId);
         npmSearchRequest.setVersion(packageVersion);
-        viewPackageEventListener.setNpmSearchRequest(npmSearchRequest);
 
-        RepositoryPath repositoryPath = artifactResolutionService.resolvePath(storageId, repositoryId, c.toPath());
+        RepositoryPath repositoryPath;
+        viewPackageEventListener.setNpmSearchRequest(npmSearchRequest);
+        try
+        {
+            repositoryPath = artifactResolutionService.resolvePath(storageId, repositoryId, c.toPath());
+        }
+        finally
+        {
+            viewPackageEventListener.setNpmSearchRequest(null);
+        }
         if (repositoryPath == null)
         {
             response.setStatus(HttpStatus.NOT_FOUND.value());
@@ -227,6 +242,7 @@ public class NpmArtifactController
     public void viewPackageFeedWithScope(@RepositoryMapping Repository repository,
                                          @PathVariable(name = "packageScope") String packageScope,
                                          @PathVariable(name = "packageName") String packageName,
+                                         HttpServletRequest request,
                                          HttpServletResponse response)
             throws Exception
     {
@@ -235,9 +251,33 @@ public class NpmArtifactController
 
         String packageId = NpmArtifactCoordinates.calculatePackageId(packageScope, packageName);
 
+        CachedPackageFeed packageFeed = npmPackageFeedCache.get(storageId,
+                                                                repositoryId,
+                                                                packageId,
+                                                                () -> createPackageFeed(repository,
+                                                                                        packageScope,
+                                                                                        packageName));
+
+        if (new ServletWebRequest(request, response).checkNotModified(packageFeed.getRevision()))
+        {
+            return;
+        }
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getOutputStream().write(packageFeed.getContent());
+    }
+
+    private CachedPackageFeed createPackageFeed(Repository repository,
+                                                String packageScope,
+                                                String packageName)
+    {
+        final String storageId = repository.getStorage().getId();
+        final String repositoryId = repository.getId();
+
+        String packageId = NpmArtifactCoordinates.calculatePackageId(packageScope, packageName);
+
         NpmViewRequest npmSearchRequest = new NpmViewRequest();
         npmSearchRequest.setPackageId(packageId);
-        viewPackageEventListener.setNpmSearchRequest(npmSearchRequest);
 
         PackageFeed packageFeed = new PackageFeed();
 
@@ -251,7 +291,16 @@ public class NpmArtifactController
         Paginator paginator = new Paginator();
         paginator.setProperty("version");
 
-        List<Path> searchResult = provider.search(storageId, repositoryId, predicate, paginator);
+        List<Path> searchResult;
+        viewPackageEventListener.setNpmSearchRequest(npmSearchRequest);
+        try
+        {
+            searchResult = provider.search(storageId, repositoryId, predicate, paginator);
+        }
+        finally
+        {
+            viewPackageEventListener.setNpmSearchRequest(null);
+        }
 
         Versions versions = new Versions();
         packageFeed.setVersions(versions);
@@ -281,9 +330,18 @@ public class NpmArtifactController
             }
 
         });
-        packageFeed.setAdditionalProperty("_rev", generateRevisionHashcode(packageFeed));
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.getOutputStream().write(npmJacksonMapper.writeValueAsBytes(packageFeed));
+
+        String revision = generateRevisionHashcode(packageFeed);
+        packageFeed.setAdditionalProperty("_rev", revision);
+
+        try
+        {
+            return new CachedPackageFeed(npmJacksonMapper.writeValueAsBytes(packageFeed), revision);
+        }
+        catch (JsonProcessingException e)
+        {
+            throw new UndeclaredThrowableException(e);
+        }
     }
 
     private String generateRevisionHashcode(PackageFeed packageFeed)
@@ -301,10 +359,11 @@ public class NpmArtifactController
     @PreAuthorize("hasAuthority('ARTIFACTS_VIEW')")
     public void viewPackageFeed(@RepositoryMapping Repository repository,
                                 @PathVariable(name = "packageName") String packageName,
+                                HttpServletRequest request,
                                 HttpServletResponse response)
             throws Exception
     {
-        viewPackageFeedWithScope(repository, null, packageName, response);
+        viewPackageFeedWithScope(repository, null, packageName, request, response);
     }
 
     private Predicate createSearchPredicate(String packageScope,
@@ -361,7 +420,7 @@ public class NpmArtifactController
             return;
         }
 
-        RepositoryPath path = artifactResolutionService.resolvePath(storageId, repositoryId, coordinates.toPath());
+        RepositoryPath path = artifactResolutionService.resolveDownloadPath(storageId, repositoryId, coordinates.toPath());
         provideArtifactDownloadResponse(request, response, httpHeaders, path);
     }
 
@@ -402,7 +461,7 @@ public class NpmArtifactController
             return;
         }
 
-        RepositoryPath path = artifactResolutionService.resolvePath(storageId, repositoryId, coordinates.toPath());
+        RepositoryPath path = artifactResolutionService.resolveDownloadPath(storageId, repositoryId, coordinates.toPath());
         provideArtifactDownloadResponse(request, response, httpHeaders, path);
     }
 
@@ -13,9 +13,11 @@ import org.carlspring.strongbox.domain.ArtifactTagEntry;
 import org.carlspring.strongbox.nuget.NugetSearchRequest;
 import org.carlspring.strongbox.nuget.filter.NugetODataFilterQueryParser;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.layout.NugetPackageFeedCache;
 import org.carlspring.strongbox.providers.repository.RepositoryProvider;
 import org.carlspring.strongbox.providers.repository.RepositoryProviderRegistry;
 import org.carlspring.strongbox.repository.NugetRepositoryFeatures.RepositorySearchEventListener;
+import org.carlspring.strongbox.services.ArtifactEntryService;
 import org.carlspring.strongbox.services.ArtifactTagService;
 import org.carlspring.strongbox.storage.metadata.nuget.NugetFormatException;
 import org.carlspring.strongbox.storage.metadata.nuget.Nupkg;
@@ -36,6 +38,7 @@ import javax.xml.bind.JAXBException;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -43,6 +46,7 @@ import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.net.HttpURLConnection;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.NoSuchAlgorithmException;
@@ -90,6 +94,12 @@ public class NugetArtifactController
     @Inject
     private ArtifactTagService artifactTagService;
 
+    @Inject
+    private ArtifactEntryService artifactEntryService;
+
+    @Inject
+    private NugetPackageFeedCache nugetPackageFeedCache;
+
     @Inject
     private RepositoryProviderRegistry repositoryProviderRegistry;
 
@@ -182,23 +192,48 @@ public class NugetArtifactController
                                    storageId,
                                    repositoryId);
 
-        Collection<? extends Nupkg> files;
-        files = getPackages(repository,
-                            filter,
-                            orderBy,
-                            normalizedSearchTerm,
-                            targetFramework,
-                            skip,
-                            top);
-
-        PackageFeed feed = transform(feedId, files);
+        String query = String.format("$filter=%s&$orderby=%s&$skip=%s&$top=%s&searchTerm=%s&targetFramework=%s",
+                                     filter,
+                                     orderBy,
+                                     skip,
+                                     top,
+                                     normalizedSearchTerm,
+                                     targetFramework);
+
+        byte[] feed = nugetPackageFeedCache.get(feedId, null, query, () -> {
+            Collection<? extends Nupkg> files;
+            files = getPackages(repository,
+                                filter,
+                                orderBy,
+                                normalizedSearchTerm,
+                                targetFramework,
+                                skip,
+                                top);
+
+            return writeFeed(transform(feedId, files));
+        });
 
         response.setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_XML);
-        feed.writeXml(response.getOutputStream());
+        response.getOutputStream().write(feed);
 
         return new ResponseEntity<>(HttpStatus.OK);
     }
-    
+
+    private byte[] writeFeed(PackageFeed feed)
+    {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try
+        {
+            feed.writeXml(outputStream);
+        }
+        catch (JAXBException e)
+        {
+            throw new IllegalStateException(String.format("Failed to write feed [%s]", feed.getId()), e);
+        }
+
+        return outputStream.toByteArray();
+    }
+
     private PackageFeed transform(String feedId,
                                   Collection<? extends Nupkg> files)
     {
@@ -208,12 +243,13 @@ public class NugetArtifactController
         feed.setUpdated(new Date());
         feed.setTitle("Packages");
         List<PackageEntry> packageEntrys = new ArrayList<>();
+        ArtifactTag lastVersionTag = artifactTagService.findOneOrCreate(ArtifactTagEntry.LAST_VERSION);
         for (Nupkg nupkg : files)
         {
             try
             {
                 PackageEntry entry = createPackageEntry(feedId, (PathNupkg) nupkg);
-                calculateFeedEntryProperties((PathNupkg) nupkg, entry.getProperties());
+                calculateFeedEntryProperties((PathNupkg) nupkg, entry.getProperties(), lastVersionTag);
                 packageEntrys.add(entry);
             }
             catch (NoSuchAlgorithmException | IOException | NugetFormatException e)
@@ -227,7 +263,8 @@ public class NugetArtifactController
     }
 
     private void calculateFeedEntryProperties(PathNupkg nupkg,
-                                              EntryProperties properties) throws IOException
+                                              EntryProperties properties,
+                                              ArtifactTag lastVersionTag) throws IOException
     {
         RepositoryPath path = nupkg.getPath();
         ArtifactEntry artifactEntry = path.getArtifactEntry();
@@ -245,7 +282,6 @@ public class NugetArtifactController
         properties.setRating(Double.valueOf(0));
         properties.setVersionRating(Double.valueOf(0));
 
-        ArtifactTag lastVersionTag = artifactTagService.findOneOrCreate(ArtifactTagEntry.LAST_VERSION);
         if (artifactEntry.getTagSet().contains(lastVersionTag))
         {
             properties.setIsLatestVersion(true);
@@ -295,16 +331,18 @@ public class NugetArtifactController
 
         Predicate predicate = Predicate.of(ExpOperator.EQ.of("artifactCoordinates.coordinates.id", normalisedPackageId));
 
-        Collection<? extends Nupkg> files = searchNupkg(storageId, repositoryId, provider, paginator, predicate);
-
         String feedId = getFeedUri(((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest(),
                                    storageId,
                                    repositoryId);
 
-        PackageFeed feed = transform(feedId, files);
+        byte[] feed = nugetPackageFeedCache.get(feedId, normalisedPackageId, "FindPackagesById()", () -> {
+            Collection<? extends Nupkg> files = searchNupkg(storageId, repositoryId, provider, paginator, predicate);
+
+            return writeFeed(transform(feedId, files));
+        });
 
         response.setHeader("Content-Type", MediaType.APPLICATION_XML);
-        feed.writeXml(response.getOutputStream());
+        response.getOutputStream().write(feed);
 
         return new ResponseEntity<>(HttpStatus.OK);
     }
@@ -506,7 +544,7 @@ public class NugetArtifactController
         String fileName = String.format("%s.%s.nupkg", packageId, packageVersion);
         String path = String.format("%s/%s/%s", packageId, packageVersion, fileName);
 
-        RepositoryPath repositoryPath = artifactResolutionService.resolvePath(storageId, repositoryId, path);
+        RepositoryPath repositoryPath = artifactResolutionService.resolveDownloadPath(storageId, repositoryId, path);
         if (provideArtifactDownloadResponse(request, response, httpHeaders, repositoryPath))
         {
             response.setHeader("Content-Disposition", String.format("attachment; filename=\"%s\"", fileName));
@@ -539,10 +577,14 @@ public class NugetArtifactController
             RepositoryPath repositoryPath = repositoryPathResolver.resolve(storageId, repositoryId, path);
             artifactManagementService.validateAndStore(repositoryPath, nupkgFile.getStream());
 
+            ByteArrayOutputStream nuspecContent = new ByteArrayOutputStream();
+            nuspec.saveTo(nuspecContent);
+            storeNuspecMetadata(storageId, repositoryId, path, nuspecContent.toByteArray());
+
             Path nuspecFile = Files.createTempFile(nuspec.getId(), "nuspec");
             try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(nuspecFile)))
             {
-                nuspec.saveTo(outputStream);
+                nuspecContent.writeTo(outputStream);
             }
             path = String.format("%s/%s/%s.nuspec", nuspecId, nuspecVersion, nuspecId);
             repositoryPath = repositoryPathResolver.resolve(storageId, repositoryId, path);
@@ -577,6 +619,30 @@ public class NugetArtifactController
         return new URI("");
     }
 
+    /**
+     * Stores the package <code>.nuspec</code> within the package {@link ArtifactEntry}, so that the feeds don't need
+     * to read the <code>.nuspec</code> file of each package.
+     */
+    private void storeNuspecMetadata(String storageId,
+                                     String repositoryId,
+                                     String path,
+                                     byte[] nuspecContent)
+    {
+        ArtifactEntry artifactEntry = artifactEntryService.findOneArtifact(storageId, repositoryId, path);
+        if (artifactEntry == null)
+        {
+            logger.warn("No [{}] found for [{}:{}:{}], skip .nuspec metadata.",
+                        ArtifactEntry.class.getSimpleName(), storageId, repositoryId, path);
+
+            return;
+        }
+
+        NugetArtifactCoordinates coordinates = (NugetArtifactCoordinates) artifactEntry.getArtifactCoordinates();
+        coordinates.setNuspec(new String(nuspecContent, StandardCharsets.UTF_8));
+
+        artifactEntryService.save(artifactEntry);
+    }
+
     private String normaliseSearchTerm(String sourceValue)
     {
         if (sourceValue == null)
@@ -7,8 +7,12 @@ import org.carlspring.strongbox.data.criteria.Paginator;
 import org.carlspring.strongbox.data.criteria.Predicate;
 import org.carlspring.strongbox.providers.ProviderImplementationException;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.layout.PypiSimpleIndexCache;
+import org.carlspring.strongbox.providers.layout.PypiSimpleIndexCache.CachedSimplePage;
 import org.carlspring.strongbox.providers.repository.RepositoryProvider;
 import org.carlspring.strongbox.providers.repository.RepositoryProviderRegistry;
+import org.carlspring.strongbox.providers.repository.group.GroupRepositorySetCollector;
+import org.carlspring.strongbox.services.ArtifactEntryService;
 import org.carlspring.strongbox.storage.metadata.pypi.PypiArtifactMetadata;
 import org.carlspring.strongbox.storage.repository.Repository;
 import org.carlspring.strongbox.storage.validation.artifact.ArtifactCoordinatesValidationException;
@@ -22,13 +26,19 @@ import javax.servlet.http.HttpServletResponse;
 import javax.ws.rs.core.MediaType;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.HttpURLConnection;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -41,6 +51,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
@@ -48,6 +59,7 @@ import com.google.common.collect.Sets;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
+import org.javatuples.Pair;
 
 /**
  * Rest End Points for Pypi Artifacts requests.
@@ -65,12 +77,31 @@ public class PypiArtifactController extends BaseArtifactController
 
     private static final Set<String> VALID_FILE_TYPES = Sets.newHashSet("sdist", "bdist_wheel");
 
+    /**
+     * The JSON based "simple" repository API (PEP 691).
+     */
+    public static final String SIMPLE_JSON = "application/vnd.pypi.simple.v1+json";
+
+    public static final String SIMPLE_HTML = "application/vnd.pypi.simple.v1+html";
+
     @Inject
     private RepositoryProviderRegistry repositoryProviderRegistry;
 
     @Inject
     private PypiBrowsePackageHtmlResponseBuilder htmlResponseBuilder;
 
+    @Inject
+    private PypiBrowsePackageJsonResponseBuilder jsonResponseBuilder;
+
+    @Inject
+    private PypiSimpleIndexCache pypiSimpleIndexCache;
+
+    @Inject
+    private ArtifactEntryService artifactEntryService;
+
+    @Inject
+    private GroupRepositorySetCollector groupRepositorySetCollector;
+
     @ApiOperation(value = "This end point will be used to upload/deploy python package.")
     @ApiResponses(value = { @ApiResponse(code = HttpURLConnection.HTTP_OK, message = "python package was deployed successfully."),
                             @ApiResponse(code = HttpURLConnection.HTTP_INTERNAL_ERROR, message = "An error occurred while executing request."),
@@ -211,7 +242,7 @@ public class PypiArtifactController extends BaseArtifactController
             return;
         }
 
-        RepositoryPath repositoryPath = artifactResolutionService.resolvePath(
+        RepositoryPath repositoryPath = artifactResolutionService.resolveDownloadPath(
                                                                               repository.getStorage().getId(),
                                                                               repository.getId(),
                                                                               coordinates.toPath());
@@ -225,12 +256,13 @@ public class PypiArtifactController extends BaseArtifactController
                             @ApiResponse(code = HttpURLConnection.HTTP_INTERNAL_ERROR, message = "An error occurred while executing download request."),
                             @ApiResponse(code = HttpURLConnection.HTTP_UNAVAILABLE, message = "Service Unavailable.") })
     @PreAuthorize("hasAuthority('ARTIFACTS_RESOLVE')")
-    @RequestMapping(path = "/{storageId}/{repositoryId}/simple/{packageName}", method = RequestMethod.GET, produces = MediaType.TEXT_HTML)
-    public ResponseEntity<String> browsePackage(@RepositoryMapping Repository repository,
-                                                @PathVariable(name = "packageName") String packageName,
-                                                HttpServletRequest request,
-                                                HttpServletResponse response,
-                                                @RequestHeader HttpHeaders headers)
+    @RequestMapping(path = "/{storageId}/{repositoryId}/simple/{packageName}", method = RequestMethod.GET,
+                    produces = { MediaType.TEXT_HTML, SIMPLE_HTML, SIMPLE_JSON })
+    public void browsePackage(@RepositoryMapping Repository repository,
+                              @PathVariable(name = "packageName") String packageName,
+                              HttpServletRequest request,
+                              HttpServletResponse response,
+                              @RequestHeader HttpHeaders headers)
         throws Exception
     {
 
@@ -240,20 +272,174 @@ public class PypiArtifactController extends BaseArtifactController
                     repository.getStorage().getId(),
                     repository.getId(), packageNameToDownload);
 
-        RepositoryProvider repositoryProvider = repositoryProviderRegistry.getProvider(repository.getType());
+        CachedSimplePage page = pypiSimpleIndexCache.get(repository.getStorage().getId(),
+                                                         repository.getId(),
+                                                         packageNameToDownload,
+                                                         () -> createPackagePage(repository, packageNameToDownload));
+
+        provideSimplePageResponse(request, response, headers, page);
+    }
+
+    @ApiOperation(value = "This Endpoint will be used to retreive all the packages present in the repository.")
+    @ApiResponses(value = { @ApiResponse(code = HttpURLConnection.HTTP_OK, message = "Success"),
+                            @ApiResponse(code = HttpURLConnection.HTTP_NOT_MODIFIED, message = "Not Modified"),
+                            @ApiResponse(code = HttpURLConnection.HTTP_INTERNAL_ERROR, message = "An error occurred while executing request."),
+                            @ApiResponse(code = HttpURLConnection.HTTP_UNAVAILABLE, message = "Service Unavailable.") })
+    @PreAuthorize("hasAuthority('ARTIFACTS_RESOLVE')")
+    @RequestMapping(path = "/{storageId}/{repositoryId}/simple", method = RequestMethod.GET,
+                    produces = { MediaType.TEXT_HTML, SIMPLE_HTML, SIMPLE_JSON })
+    public void browseIndex(@RepositoryMapping Repository repository,
+                            HttpServletRequest request,
+                            HttpServletResponse response,
+                            @RequestHeader HttpHeaders headers)
+        throws Exception
+    {
+        logger.info("Get simple index request for storageId -> [{}] , repositoryId -> [{}]",
+                    repository.getStorage().getId(), repository.getId());
 
+        CachedSimplePage page = pypiSimpleIndexCache.get(repository.getStorage().getId(),
+                                                         repository.getId(),
+                                                         null,
+                                                         () -> createIndexPage(repository));
+
+        provideSimplePageResponse(request, response, headers, page);
+    }
+
+    private void provideSimplePageResponse(HttpServletRequest request,
+                                           HttpServletResponse response,
+                                           HttpHeaders headers,
+                                           CachedSimplePage page)
+        throws IOException
+    {
+        boolean json = isJsonRequested(headers);
+
+        // The representation depends on the `Accept` header, so it should be a part of the cache key.
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        if (new ServletWebRequest(request, response).checkNotModified(json ? page.getJsonETag() :
+                                                                      page.getHtmlETag()))
+        {
+            return;
+        }
+
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentType(json ? SIMPLE_JSON : MediaType.TEXT_HTML);
+        response.getOutputStream().write(json ? page.getJsonContent() : page.getHtmlContent());
+    }
+
+    /**
+     * The JSON variant is provided only if preferred by the client (see PEP 691 content negotiation), so the HTML
+     * variant is kept for the clients which don't send the `Accept` header.
+     */
+    private boolean isJsonRequested(HttpHeaders headers)
+    {
+        List<org.springframework.http.MediaType> acceptedTypes = new ArrayList<>(headers.getAccept());
+        org.springframework.http.MediaType.sortBySpecificityAndQuality(acceptedTypes);
+
+        for (org.springframework.http.MediaType acceptedType : acceptedTypes)
+        {
+            if (acceptedType.getQualityValue() <= 0)
+            {
+                continue;
+            }
+            if (org.springframework.http.MediaType.valueOf(SIMPLE_JSON).equalsTypeAndSubtype(acceptedType))
+            {
+                return true;
+            }
+            if (org.springframework.http.MediaType.valueOf(SIMPLE_HTML).equalsTypeAndSubtype(acceptedType) ||
+                org.springframework.http.MediaType.TEXT_HTML.equalsTypeAndSubtype(acceptedType) ||
+                acceptedType.isWildcardType())
+            {
+                return false;
+            }
+        }
+
+        return false;
+    }
+
+    private CachedSimplePage createPackagePage(Repository repository,
+                                               String packageName)
+    {
+        Predicate predicate = createSearchPredicate();
+        predicate.and(Predicate.of(ExpOperator.EQ.of("artifactCoordinates.coordinates.distribution",
+                                                     packageName)));
+
+        try
+        {
+            List<Path> searchResult = search(repository, predicate);
+
+            return new CachedSimplePage(htmlResponseBuilder.getHtmlResponse(searchResult)
+                                                           .getBytes(StandardCharsets.UTF_8),
+                                        jsonResponseBuilder.getJsonResponse(packageName, searchResult));
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private CachedSimplePage createIndexPage(Repository repository)
+    {
+        Set<Pair<String, String>> storageRepositoryPairs = new LinkedHashSet<>();
+        storageRepositoryPairs.add(Pair.with(repository.getStorage().getId(), repository.getId()));
+        if (repository.isGroupRepository())
+        {
+            groupRepositorySetCollector.collect(repository, true)
+                                       .forEach(r -> storageRepositoryPairs.add(Pair.with(r.getStorage().getId(),
+                                                                                          r.getId())));
+        }
+
+        // Only the distinct package names are selected, instead of all the package files.
+        Set<String> packageNames = new TreeSet<>(
+                artifactEntryService.findCoordinateValues(storageRepositoryPairs,
+                                                          PypiArtifactCoordinates.DISTRIBUTION,
+                                                          Collections.singletonMap(PypiArtifactCoordinates.PACKAGING,
+                                                                                   PypiArtifactCoordinates.WHEEL_EXTENSION),
+                                                          true));
+
+        try
+        {
+            return new CachedSimplePage(htmlResponseBuilder.getIndexHtmlResponse(repository, packageNames)
+                                                           .getBytes(StandardCharsets.UTF_8),
+                                        jsonResponseBuilder.getIndexJsonResponse(packageNames));
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Predicate createSearchPredicate()
+    {
         Predicate predicate = Predicate.empty();
         predicate.and(Predicate.of(ExpOperator.EQ.of("artifactCoordinates.coordinates.packaging",
                                                      PypiArtifactCoordinates.WHEEL_EXTENSION)));
-        predicate.and(Predicate.of(ExpOperator.EQ.of("artifactCoordinates.coordinates.distribution",
-                                                     packageNameToDownload)));
 
-        Paginator paginator = new Paginator();
-        List<Path> searchResult = repositoryProvider.search(repository.getStorage().getId(), repository.getId(),
-                                                            predicate, paginator);
+        return predicate;
+    }
+
+    /**
+     * Fetches all the search results, page by page.
+     */
+    private List<Path> search(Repository repository,
+                              Predicate predicate)
+    {
+        RepositoryProvider repositoryProvider = repositoryProviderRegistry.getProvider(repository.getType());
+
+        List<Path> result = new ArrayList<>();
+        List<Path> page;
+        do
+        {
+            Paginator paginator = new Paginator();
+            paginator.setSkip(result.size());
+            paginator.setLimit(Paginator.MAX_LIMIT);
+
+            page = repositoryProvider.search(repository.getStorage().getId(), repository.getId(), predicate,
+                                             paginator);
+            result.addAll(page);
+        }
+        while (page.size() == Paginator.MAX_LIMIT);
 
-        String searchPackageHtmlResponse = htmlResponseBuilder.getHtmlResponse(searchResult);
-        return ResponseEntity.status(HttpStatus.OK).body(searchPackageHtmlResponse);
+        return result;
     }
 
     private ResponseEntity<String> validateAndUploadPackage(PypiArtifactMetadata pypiArtifactMetadata,
@@ -7,12 +7,14 @@ import org.carlspring.strongbox.storage.repository.Repository;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
+import org.springframework.web.util.HtmlUtils;
 
 /**
  * Helper class for {@link PypiArtifactController}
@@ -58,6 +60,32 @@ public class PypiBrowsePackageHtmlResponseBuilder
         return htmlResponse;
     }
 
+    /**
+     * Renders the root index page, which lists the projects of the repository.
+     */
+    public String getIndexHtmlResponse(Repository repository,
+                                       Collection<String> packageNames)
+    {
+        StringBuilder packageLinks = new StringBuilder();
+        for (String packageName : packageNames)
+        {
+            String escapedPackageName = HtmlUtils.htmlEscape(packageName);
+            packageLinks.append("<a href=\"" + "/storages/" + repository.getStorage().getId() + "/" +
+                                repository.getId() + "/simple/" + escapedPackageName + "/\">" + escapedPackageName +
+                                "</a><br>\n");
+        }
+
+        return "<html>\n" +
+               "        <head>\n" +
+               "            <title>Simple index</title>\n" +
+               "        </head>\n" +
+               "        <body>\n" +
+               "            <h1>Simple index</h1>\n" +
+               "                   " + packageLinks +
+               "        </body>\n" +
+               "</html>";
+    }
+
     private String getPackageLinks(List<Path> filePaths)
         throws IOException
     {
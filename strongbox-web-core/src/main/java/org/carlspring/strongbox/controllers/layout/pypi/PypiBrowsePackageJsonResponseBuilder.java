@@ -0,0 +1,118 @@
+package org.carlspring.strongbox.controllers.layout.pypi;
+
+import org.carlspring.strongbox.artifact.coordinates.PypiArtifactCoordinates;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Renders the JSON variant (PEP 691) of the PyPI "simple" repository API pages.
+ *
+ *
+ * @see PypiBrowsePackageHtmlResponseBuilder
+ */
+@Component
+public class PypiBrowsePackageJsonResponseBuilder
+{
+
+    public static final String API_VERSION = "1.0";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public byte[] getJsonResponse(String packageName,
+                                  List<Path> filePaths)
+        throws IOException
+    {
+        List<Map<String, Object>> files = new ArrayList<>();
+        if (!CollectionUtils.isEmpty(filePaths))
+        {
+            packageName = ((PypiArtifactCoordinates) RepositoryFiles.readCoordinates((RepositoryPath) filePaths.get(0))).getId();
+        }
+
+        for (Path path : filePaths)
+        {
+            RepositoryPath repositoryPath = (RepositoryPath) path;
+            PypiArtifactCoordinates artifactCoordinates = (PypiArtifactCoordinates) RepositoryFiles.readCoordinates(repositoryPath);
+
+            Repository repository = repositoryPath.getRepository();
+            String fileName = artifactCoordinates.buildWheelPackageFileName();
+
+            Map<String, Object> file = new LinkedHashMap<>();
+            file.put("filename", fileName);
+            file.put("url", "/storages/" + repository.getStorage().getId() + "/" + repository.getId() + "/packages/" +
+                            fileName);
+            file.put("hashes", getHashes(repositoryPath));
+
+            files.add(file);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("meta", getMeta());
+        result.put("name", packageName);
+        result.put("files", files);
+
+        return objectMapper.writeValueAsBytes(result);
+    }
+
+    /**
+     * Renders the root index page, which lists the projects of the repository.
+     */
+    public byte[] getIndexJsonResponse(Collection<String> packageNames)
+        throws IOException
+    {
+        List<Map<String, Object>> projects = new ArrayList<>();
+        for (String packageName : packageNames)
+        {
+            Map<String, Object> project = new LinkedHashMap<>();
+            project.put("name", packageName);
+
+            projects.add(project);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("meta", getMeta());
+        result.put("projects", projects);
+
+        return objectMapper.writeValueAsBytes(result);
+    }
+
+    private Map<String, Object> getMeta()
+    {
+        Map<String, Object> meta = new LinkedHashMap<>();
+        meta.put("api-version", API_VERSION);
+
+        return meta;
+    }
+
+    private Map<String, String> getHashes(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        Map<String, String> hashes = new LinkedHashMap<>();
+
+        // The checksum calculated on upload, if any.
+        ArtifactEntry artifactEntry = repositoryPath.getArtifactEntry();
+        String sha256 = artifactEntry == null ? null :
+                        artifactEntry.getChecksums().get(MessageDigestAlgorithms.SHA_256);
+        if (sha256 != null)
+        {
+            hashes.put("sha256", sha256);
+        }
+
+        return hashes;
+    }
+
+}
@@ -10,6 +10,7 @@ import org.carlspring.strongbox.providers.io.RepositoryFileAttributes;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.BufferedInputStream;
 import java.io.IOException;
@@ -20,14 +21,20 @@ import java.nio.file.Files;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.util.CollectionUtils;
+import org.springframework.web.context.request.ServletWebRequest;
 import static org.carlspring.strongbox.controllers.BaseController.copyToResponse;
 import static org.springframework.http.HttpStatus.PARTIAL_CONTENT;
 import static org.springframework.http.HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE;
@@ -48,6 +55,9 @@ public class ArtifactControllerHelper
 
     private static final int DEFAULT_BUFFER_SIZE = 4096;
 
+    private static final List<String> ETAG_DIGEST_ALGORITHMS = Arrays.asList(MessageDigestAlgorithms.SHA_1,
+                                                                                MessageDigestAlgorithms.MD5);
+
     private static final String CRLF = "\r\n";
 
     private ArtifactControllerHelper()
@@ -201,6 +211,7 @@ public class ArtifactControllerHelper
 
         response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
 
+        Map<String, String> checksums = new HashMap<>();
         path.getFileSystem().provider().resolveChecksumPathMap(path).forEach((key, value) -> {
             String checksumValue;
             try
@@ -216,7 +227,46 @@ public class ArtifactControllerHelper
                                                 key.toUpperCase().replace("-", ""));
 
             response.setHeader(checksumName, checksumValue);
+            checksums.put(key.toUpperCase(), checksumValue);
         });
+
+        // The stored checksum identifies the artifact content, so it's used as the strong entity tag.
+        ETAG_DIGEST_ALGORITHMS.stream()
+                              .map(checksums::get)
+                              .filter(StringUtils::isNotBlank)
+                              .findFirst()
+                              .ifPresent(checksum -> response.setHeader(HttpHeaders.ETAG,
+                                                                        String.format("\"%s\"", checksum)));
+    }
+
+    /**
+     * Checks the conditional request headers (<code>If-None-Match</code> and <code>If-Modified-Since</code>) against
+     * the <code>ETag</code> and <code>Last-Modified</code> headers provided by
+     * {@link #provideArtifactHeaders(HttpServletResponse, RepositoryPath)}.
+     *
+     * @return <code>true</code> if the artifact has not been modified, in this case the response status is set to
+     *         <code>304 Not Modified</code> and no content should be sent.
+     */
+    public static boolean checkNotModified(HttpServletRequest request,
+                                           HttpServletResponse response,
+                                           RepositoryPath path)
+            throws IOException
+    {
+        String etag = response.getHeader(HttpHeaders.ETAG);
+        long lastModified = Files.getLastModifiedTime(path).toMillis();
+
+        return new ServletWebRequest(request, response).checkNotModified(etag, lastModified);
+    }
+
+    /**
+     * Provides the headers for the artifact which is still being fetched from the remote repository. Its size and
+     * checksums are not known yet, so the content is sent with chunked transfer encoding.
+     */
+    public static void provideInFlightArtifactHeaders(HttpServletResponse response,
+                                                      RepositoryPath path)
+            throws IOException
+    {
+        response.setContentType(getContentType(path));
     }
 
     private static String getContentType(RepositoryPath path)
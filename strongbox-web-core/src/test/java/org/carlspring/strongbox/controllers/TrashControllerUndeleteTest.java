@@ -40,6 +40,8 @@ public class TrashControllerUndeleteTest
 
     private static final String REPOSITORY_WITH_TRASH_2 = "tcut-releases-with-trash-2";
 
+    private static final String REPOSITORY_WITH_TRASH_3 = "tcut-releases-with-trash-3";
+
     private static final String REPOSITORY_RELEASES = "tcut-releases";
 
     @Override
@@ -189,6 +191,59 @@ public class TrashControllerUndeleteTest
                 .isTrue();
     }
 
+    /**
+     * The files, which have been moved into the trash bypassing the trash catalogue (for example, by another node),
+     * are restored as well.
+     */
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @ParameterizedTest
+    @ValueSource(strings = { MediaType.APPLICATION_JSON_VALUE,
+                             MediaType.TEXT_PLAIN_VALUE })
+    void testUndeleteUncataloguedArtifactFromTrash(String acceptHeader,
+                                                   @MavenRepository(repositoryId = REPOSITORY_WITH_TRASH_3,
+                                                                    setup = MavenIndexedRepositorySetup.class)
+                                                   @RepositoryAttributes(trashEnabled = true)
+                                                   Repository repository,
+                                                   @MavenTestArtifact(repositoryId = REPOSITORY_WITH_TRASH_3,
+                                                                      id = "org.carlspring.strongbox.undelete:test-artifact-undelete",
+                                                                      versions =  { "1.0",
+                                                                                    "1.1" })
+                                                   List<Path> artifactsPaths)
+            throws Exception
+    {
+        final String storageId = repository.getStorage().getId();
+        final String repositoryId = repository.getId();
+
+        final RepositoryPath artifact10Path = (RepositoryPath) artifactsPaths.get(0).normalize();
+        final String artifact10PathStr = RepositoryFiles.relativizePath(artifact10Path);
+
+        final RepositoryPath artifact11Path = (RepositoryPath) artifactsPaths.get(1).normalize();
+
+        // The first artifact is catalogued, when it's deleted.
+        client.delete(storageId,
+                      repositoryId,
+                      artifact10PathStr);
+
+        // The second artifact is moved into the trash directly, so the catalogue doesn't know about it.
+        final Path artifact11FileInTrash = RepositoryFiles.trash(artifact11Path).toFile().toPath();
+        Files.createDirectories(artifact11FileInTrash.getParent());
+        Files.move(artifact11Path.toFile().toPath(), artifact11FileInTrash);
+
+        String url = getContextBaseUrl() + "/{storageId}/{repositoryId}";
+
+        mockMvc.accept(acceptHeader)
+               .when()
+               .put(url, storageId, repositoryId)
+               .peek()
+               .then()
+               .statusCode(HttpStatus.OK.value());
+
+        assertThat(Files.exists(artifact10Path)).isTrue();
+        assertThat(Files.exists(artifact11Path)).isTrue();
+        assertThat(Files.exists(artifact11FileInTrash)).isFalse();
+    }
+
     private void validateResponseBody(ValidatableMockMvcResponse response,
                                       String acceptHeader,
                                       String message)
@@ -9,15 +9,25 @@ import org.carlspring.strongbox.testing.repository.MavenRepository;
 import org.carlspring.strongbox.testing.storage.repository.RepositoryManagementTestExecutionListener;
 
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import io.restassured.module.mockmvc.response.MockMvcResponse;
+import io.restassured.response.ExtractableResponse;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 
 
 /**
@@ -153,4 +163,162 @@ public class AqlControllerTest
                .body("error", equalTo("Unknown layout [unknown-layout]."));
     }
 
+    @Test
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    public void testSearchWithoutSnippets(@MavenRepository(storageId = STORAGE_SC_TEST,
+                                                           repositoryId = REPOSITORY_RELEASES)
+                                          Repository repository,
+                                          @MavenTestArtifact(storageId = STORAGE_SC_TEST,
+                                                             repositoryId = REPOSITORY_RELEASES,
+                                                             resource = A1)
+                                          Path artifact1)
+    {
+        final String storageId = repository.getStorage().getId();
+        final String repositoryId = repository.getId();
+
+        String url = getContextBaseUrl();
+        mockMvc.accept(MediaType.APPLICATION_JSON_VALUE)
+               .queryParam("query",
+                           String.format("storage:%s+repository:%s+groupId:org.carlspring.strongbox.*",
+                                         storageId,
+                                         repositoryId))
+               .queryParam("snippets", false)
+               .when()
+               .get(url)
+               .peek()
+               .then()
+               .statusCode(HttpStatus.OK.value())
+               // 1xjar + 1xpom, which are less than the page
+               .body("artifact", hasSize(2))
+               .body("artifact[0].snippets", hasSize(0))
+               .body("nextCursor", nullValue());
+    }
+
+    @Test
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    public void testSearchPagesWithCursor(@MavenRepository(storageId = STORAGE_SC_TEST,
+                                                           repositoryId = REPOSITORY_RELEASES)
+                                          Repository repository,
+                                          @MavenTestArtifact(storageId = STORAGE_SC_TEST,
+                                                             repositoryId = REPOSITORY_RELEASES,
+                                                             id = "org.carlspring.strongbox.searches:paged-project",
+                                                             versions = { "1.0", "1.1", "1.2", "1.3", "1.4", "1.5", "1.6",
+                                                                          "1.7", "1.8", "1.9", "2.0", "2.1", "2.2", "2.3" })
+                                          List<Path> artifacts)
+    {
+        final String storageId = repository.getStorage().getId();
+        final String repositoryId = repository.getId();
+        final String query = String.format("storage:%s+repository:%s+groupId:org.carlspring.strongbox.searches",
+                                           storageId,
+                                           repositoryId);
+
+        String url = getContextBaseUrl();
+
+        // 14 x (jar + pom) results, which are the full page of 25 results and the last page of 3 results
+        ExtractableResponse<MockMvcResponse> firstPage = mockMvc.accept(MediaType.APPLICATION_JSON_VALUE)
+                                                                .queryParam("query", query)
+                                                                .queryParam("snippets", false)
+                                                                .when()
+                                                                .get(url)
+                                                                .then()
+                                                                .statusCode(HttpStatus.OK.value())
+                                                                .body("artifact", hasSize(25))
+                                                                .body("nextCursor", notNullValue())
+                                                                .extract();
+
+        ExtractableResponse<MockMvcResponse> lastPage = mockMvc.accept(MediaType.APPLICATION_JSON_VALUE)
+                                                               .queryParam("query", query)
+                                                               .queryParam("snippets", false)
+                                                               .queryParam("cursor", firstPage.path("nextCursor").toString())
+                                                               .when()
+                                                               .get(url)
+                                                               .then()
+                                                               .statusCode(HttpStatus.OK.value())
+                                                               .body("artifact", hasSize(3))
+                                                               .body("nextCursor", nullValue())
+                                                               .extract();
+
+        Set<String> urls = new HashSet<>(firstPage.<List<String>>path("artifact.url"));
+        urls.addAll(lastPage.<List<String>>path("artifact.url"));
+
+        // The pages don't overlap.
+        assertThat(urls).hasSize(28);
+    }
+
+    @Test
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    public void testSearchByArchiveContents(@MavenRepository(storageId = STORAGE_SC_TEST,
+                                                             repositoryId = REPOSITORY_RELEASES)
+                                            Repository repository,
+                                            @MavenTestArtifact(storageId = STORAGE_SC_TEST,
+                                                               repositoryId = REPOSITORY_RELEASES,
+                                                               id = "org.carlspring.strongbox.searches:archive-project",
+                                                               versions = { "1.0", "1.1" })
+                                            List<Path> artifacts,
+                                            @MavenTestArtifact(storageId = STORAGE_SC_TEST,
+                                                               repositoryId = REPOSITORY_RELEASES,
+                                                               resource = A1)
+                                            Path artifact1)
+            throws Exception
+    {
+        final String storageId = repository.getStorage().getId();
+        final String repositoryId = repository.getId();
+
+        for (Path artifact : artifacts)
+        {
+            waitForArchiveEntries(artifact);
+        }
+        waitForArchiveEntries(artifact1);
+
+        String url = getContextBaseUrl();
+
+        // Only the jars contain the file, so the poms are not matched.
+        mockMvc.accept(MediaType.APPLICATION_JSON_VALUE)
+               .queryParam("query",
+                           String.format("storage:%s+repository:%s+" +
+                                         "archive:'META-INF/maven/org.carlspring.strongbox.searches/archive-project/pom.properties'",
+                                         storageId,
+                                         repositoryId))
+               .queryParam("snippets", false)
+               .when()
+               .get(url)
+               .peek()
+               .then()
+               .statusCode(HttpStatus.OK.value())
+               .body("artifact", hasSize(2))
+               .body("artifact.url", everyItem(containsString("archive-project")));
+
+        // The prefix query matches the archives of both artifacts.
+        mockMvc.accept(MediaType.APPLICATION_JSON_VALUE)
+               .queryParam("query",
+                           String.format("storage:%s+repository:%s+" +
+                                         "archive:'META-INF/maven/org.carlspring.strongbox.searches/*'",
+                                         storageId,
+                                         repositoryId))
+               .queryParam("snippets", false)
+               .when()
+               .get(url)
+               .peek()
+               .then()
+               .statusCode(HttpStatus.OK.value())
+               .body("artifact", hasSize(3));
+    }
+
+    @Test
+    public void testInvalidCursorRequest()
+    {
+        String url = getContextBaseUrl();
+        mockMvc.accept(MediaType.APPLICATION_JSON_VALUE)
+               .queryParam("query", String.format("storage:%s+repository:%s", STORAGE_SC_TEST, REPOSITORY_RELEASES))
+               .queryParam("cursor", "invalid")
+               .when()
+               .get(url)
+               .then()
+               .statusCode(HttpStatus.BAD_REQUEST.value())
+               .body("error", equalTo("Invalid cursor."));
+    }
+
 }
@@ -891,6 +891,79 @@ public class MavenArtifactControllerTest
         assertThat(artifactLevelMetadata.getVersioning().getLastUpdated()).isNotNull();
     }
 
+    /**
+     * The metadata is updated by the server, when the client deploys only the artifacts.
+     */
+    @ExtendWith(RepositoryManagementTestExecutionListener.class)
+    @Test
+    public void testMetadataUpdatedOnDeployWithoutClientMetadata(@MavenRepository(repositoryId = REPOSITORY_RELEASES_2)
+                                                                 Repository repository)
+            throws Exception
+    {
+        // Given
+        final String storageId = repository.getStorage().getId();
+        final String repositoryId = repository.getId();
+
+        Artifact artifact1 = MavenArtifactTestUtils.getArtifactFromGAVTC("org.carlspring.strongbox.metadata:server-metadata-foo:1.0");
+        Artifact artifact2 = MavenArtifactTestUtils.getArtifactFromGAVTC("org.carlspring.strongbox.metadata:server-metadata-foo:1.1");
+
+        MavenArtifactDeployer artifactDeployer = buildArtifactDeployer(Paths.get(System.getProperty("java.io.tmpdir")));
+        artifactDeployer.generate(artifact1);
+        artifactDeployer.generate(artifact2);
+
+        // When
+        artifactDeployer.deploy(artifact1, storageId, repositoryId);
+        artifactDeployer.deploy(artifact2, storageId, repositoryId);
+
+        // Then
+        String metadataPath = "/storages/" + storageId + "/" + repositoryId + "/" + getArtifactLevelMetadataPath(artifact1);
+        Metadata metadata = defaultMavenArtifactDeployer.retrieveMetadata(metadataPath);
+
+        assertThat(metadata).isNotNull();
+        assertThat(metadata.getGroupId()).isEqualTo(artifact1.getGroupId());
+        assertThat(metadata.getArtifactId()).isEqualTo(artifact1.getArtifactId());
+        assertThat(metadata.getVersioning().getVersions()).containsExactly("1.0", "1.1");
+        assertThat(metadata.getVersioning().getLatest()).isEqualTo("1.1");
+        assertThat(metadata.getVersioning().getRelease()).isEqualTo("1.1");
+        assertThat(metadata.getVersioning().getLastUpdated()).isNotNull();
+    }
+
+    /**
+     * The client deploys the metadata, merged with the metadata updated by the server, after the artifacts, so the
+     * metadata deployed by the client replaces the metadata of the server, and none of the versions get lost.
+     */
+    @ExtendWith(RepositoryManagementTestExecutionListener.class)
+    @Test
+    public void testMetadataUpdatedOnDeployWithClientMetadata(@MavenRepository(repositoryId = REPOSITORY_RELEASES_2)
+                                                              Repository repository)
+            throws Exception
+    {
+        // Given
+        final String storageId = repository.getStorage().getId();
+        final String repositoryId = repository.getId();
+
+        Artifact artifact1 = MavenArtifactTestUtils.getArtifactFromGAVTC("org.carlspring.strongbox.metadata:client-metadata-foo:1.0");
+        Artifact artifact2 = MavenArtifactTestUtils.getArtifactFromGAVTC("org.carlspring.strongbox.metadata:client-metadata-foo:1.1");
+
+        MavenArtifactDeployer artifactDeployer = buildArtifactDeployer(Paths.get(System.getProperty("java.io.tmpdir")));
+
+        // When
+        artifactDeployer.generateAndDeployArtifact(artifact1, storageId, repositoryId);
+        artifactDeployer.generateAndDeployArtifact(artifact2, storageId, repositoryId);
+
+        // Then
+        String metadataPath = "/storages/" + storageId + "/" + repositoryId + "/" + getArtifactLevelMetadataPath(artifact1);
+        Metadata metadata = defaultMavenArtifactDeployer.retrieveMetadata(metadataPath);
+
+        assertThat(metadata).isNotNull();
+        assertThat(metadata.getGroupId()).isEqualTo(artifact1.getGroupId());
+        assertThat(metadata.getArtifactId()).isEqualTo(artifact1.getArtifactId());
+        assertThat(metadata.getVersioning().getVersions()).containsExactlyInAnyOrder("1.0", "1.1");
+        assertThat(metadata.getVersioning().getLatest()).isEqualTo("1.1");
+        assertThat(metadata.getVersioning().getRelease()).isEqualTo("1.1");
+        assertThat(metadata.getVersioning().getLastUpdated()).isNotNull();
+    }
+
     @ExtendWith({ RepositoryManagementTestExecutionListener.class,
                   ArtifactManagementTestExecutionListener.class })
     @Test
@@ -14,8 +14,12 @@ import java.nio.file.Path;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
 
 
 /**
@@ -71,6 +75,68 @@ public class MavenSearchControllerTest
                      OrientDbSearchProvider.ALIAS);
     }
 
+    @Test
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    public void testArchiveSearches(@MavenRepository(storageId = STORAGE_SC_TEST,
+                                                     repositoryId = REPOSITORY_RELEASES)
+                                    Repository repository,
+                                    @MavenTestArtifact(storageId = STORAGE_SC_TEST,
+                                                       repositoryId = REPOSITORY_RELEASES,
+                                                       resource = A1)
+                                    Path a1,
+                                    @MavenTestArtifact(storageId = STORAGE_SC_TEST,
+                                                       repositoryId = REPOSITORY_RELEASES,
+                                                       resource = A2)
+                                    Path a2)
+            throws Exception
+    {
+        final String storageId = repository.getStorage().getId();
+        final String repositoryId = repository.getId();
+
+        waitForArchiveEntries(a1);
+        waitForArchiveEntries(a2);
+
+        String url = getContextBaseUrl() + "/api/search/archive";
+        String path = "META-INF/maven/org.carlspring.strongbox.searches/test-project/pom.properties";
+
+        // Both archives contain the file.
+        mockMvc.accept(MediaType.APPLICATION_JSON_VALUE)
+               .queryParam("storageId", storageId)
+               .queryParam("repositoryId", repositoryId)
+               .queryParam("q", path)
+               .when()
+               .get(url)
+               .peek()
+               .then()
+               .statusCode(HttpStatus.OK.value())
+               .body("archiveEntries", hasSize(2))
+               .body("archiveEntries.path", everyItem(equalTo(path)));
+
+        // The page is limited.
+        mockMvc.accept(MediaType.APPLICATION_JSON_VALUE)
+               .queryParam("storageId", storageId)
+               .queryParam("repositoryId", repositoryId)
+               .queryParam("q", "META-INF/maven/org.carlspring.strongbox.searches/*")
+               .queryParam("limit", 1)
+               .when()
+               .get(url)
+               .then()
+               .statusCode(HttpStatus.OK.value())
+               .body("archiveEntries", hasSize(1));
+
+        // The other repository doesn't contain the file.
+        mockMvc.accept(MediaType.APPLICATION_JSON_VALUE)
+               .queryParam("storageId", storageId)
+               .queryParam("repositoryId", "unknown")
+               .queryParam("q", path)
+               .when()
+               .get(url)
+               .then()
+               .statusCode(HttpStatus.OK.value())
+               .body("archiveEntries", hasSize(0));
+    }
+
     private void testSearches(String query,
                               String searchProvider)
             throws Exception
@@ -30,7 +30,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
 import static org.carlspring.strongbox.artifact.generator.ArtifactGenerator.DEFAULT_BYTES_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
 
 /**
  * @author Pablo Tirado
@@ -156,6 +158,72 @@ public class NpmArtifactControllerTest
                .statusCode(HttpStatus.OK.value());
     }
 
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @Test
+    public void testPackageFeedCache(@NpmRepository(repositoryId = REPOSITORY_RELEASES)
+                                     Repository repository,
+                                     @NpmTestArtifact(id = "npm-test-feed",
+                                                      versions = "1.0.0",
+                                                      scope = "@carlspring")
+                                     Path packagePath1,
+                                     @NpmTestArtifact(id = "npm-test-feed",
+                                                      versions = "1.0.1",
+                                                      scope = "@carlspring")
+                                     Path packagePath2)
+            throws Exception
+    {
+        final String storageId = repository.getStorage().getId();
+        final String repositoryId = repository.getId();
+        final String packageId = "@carlspring/npm-test-feed";
+
+        String url = getContextBaseUrl() + "/storages/{storageId}/{repositoryId}/{artifactId}";
+        publish(url, storageId, repositoryId, packageId, packagePath1);
+
+        String etag = mockMvc.contentType(MediaType.APPLICATION_JSON_VALUE)
+                             .when()
+                             .get(url, storageId, repositoryId, packageId)
+                             .then()
+                             .statusCode(HttpStatus.OK.value())
+                             .body("versions.'1.0.0'.version", equalTo("1.0.0"))
+                             .extract()
+                             .header(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+
+        // The cached packument is not sent again.
+        mockMvc.header(HttpHeaders.IF_NONE_MATCH, etag)
+               .when()
+               .get(url, storageId, repositoryId, packageId)
+               .then()
+               .statusCode(HttpStatus.NOT_MODIFIED.value());
+
+        // The publish invalidates the cached packument.
+        publish(url, storageId, repositoryId, packageId, packagePath2);
+
+        mockMvc.header(HttpHeaders.IF_NONE_MATCH, etag)
+               .when()
+               .get(url, storageId, repositoryId, packageId)
+               .then()
+               .statusCode(HttpStatus.OK.value())
+               .header(HttpHeaders.ETAG, not(equalTo(etag)))
+               .body("versions.'1.0.1'.version", equalTo("1.0.1"));
+    }
+
+    private void publish(String url,
+                         String storageId,
+                         String repositoryId,
+                         String packageId,
+                         Path packagePath)
+            throws Exception
+    {
+        mockMvc.contentType(MediaType.APPLICATION_JSON_VALUE)
+               .body(Files.readAllBytes(packagePath.resolveSibling("publish.json")))
+               .when()
+               .put(url, storageId, repositoryId, packageId)
+               .then()
+               .statusCode(HttpStatus.OK.value());
+    }
+
     @ExtendWith({ RepositoryManagementTestExecutionListener.class,
                   ArtifactManagementTestExecutionListener.class })
     @Test
@@ -206,6 +206,68 @@ public class PypiArtifactControllerTest extends PypiRestAssuredBaseTest
 
     }
 
+    @Test
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    public void testBrowseSimpleIndexJson(@PypiTestRepository(repositoryId = REPOSITORY_RELEASES, storageId = REPOSITORY_STORAGE) Repository repository,
+                                          @PypiTestArtifact(repositoryId = REPOSITORY_RELEASES, storageId = REPOSITORY_STORAGE, id = "hello_world_pypi", versions = { "1.0",
+                                                                                                                                                                      "2.0" }) List<Path> packagePaths)
+    {
+        final String storageId = repository.getStorage().getId();
+        final String repositoryId = repository.getId();
+
+        final String indexUrl = getContextBaseUrl() + "/storages/{storageId}/{repositoryId}/simple/";
+        final String packageUrl = getContextBaseUrl() + "/storages/{storageId}/{repositoryId}/simple/{packageName}/";
+
+        mockMvc.accept(PypiArtifactController.SIMPLE_JSON)
+               .when()
+               .get(indexUrl, storageId, repositoryId)
+               .then()
+               .log()
+               .all()
+               .statusCode(HttpStatus.OK.value())
+               .contentType(Matchers.startsWith(PypiArtifactController.SIMPLE_JSON))
+               .body("meta.'api-version'", Matchers.equalTo("1.0"))
+               .body("projects.name", Matchers.hasItem("hello_world_pypi"));
+
+        mockMvc.accept(MediaType.TEXT_HTML_VALUE)
+               .when()
+               .get(indexUrl, storageId, repositoryId)
+               .then()
+               .log()
+               .all()
+               .statusCode(HttpStatus.OK.value())
+               .contentType(ContentType.HTML)
+               .body(Matchers.containsString("/simple/hello_world_pypi/"));
+
+        String eTag = mockMvc.accept(PypiArtifactController.SIMPLE_JSON)
+                             .when()
+                             .get(packageUrl, storageId, repositoryId, "hello_world_pypi")
+                             .then()
+                             .log()
+                             .all()
+                             .statusCode(HttpStatus.OK.value())
+                             .contentType(Matchers.startsWith(PypiArtifactController.SIMPLE_JSON))
+                             .header(HttpHeaders.VARY, Matchers.containsString(HttpHeaders.ACCEPT))
+                             .body("name", Matchers.equalTo("hello_world_pypi"))
+                             .body("files.size()", Matchers.equalTo(packagePaths.size()))
+                             .body("files.hashes.sha256", Matchers.everyItem(Matchers.notNullValue()))
+                             .extract()
+                             .header(HttpHeaders.ETAG);
+
+        assertThat(eTag).isNotBlank();
+
+        // The page has not been changed.
+        mockMvc.accept(PypiArtifactController.SIMPLE_JSON)
+               .header(HttpHeaders.IF_NONE_MATCH, eTag)
+               .when()
+               .get(packageUrl, storageId, repositoryId, "hello_world_pypi")
+               .then()
+               .log()
+               .all()
+               .statusCode(HttpStatus.NOT_MODIFIED.value());
+    }
+
     @Test
     @ExtendWith({ RepositoryManagementTestExecutionListener.class,
                   ArtifactManagementTestExecutionListener.class })
@@ -1,13 +1,17 @@
 package org.carlspring.strongbox.rest.common;
 
 import org.carlspring.strongbox.artifact.generator.MavenArtifactDeployer;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
 import org.carlspring.strongbox.rest.client.RestAssuredArtifactClient;
+import org.carlspring.strongbox.services.ArtifactArchiveEntryService;
 import org.carlspring.strongbox.services.ConfigurationManagementService;
 import org.carlspring.strongbox.testing.MavenMetadataServiceHelper;
 import org.carlspring.strongbox.users.domain.Privileges;
 
 import javax.inject.Inject;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Collection;
 
@@ -53,6 +57,9 @@ public abstract class MavenRestAssuredBaseTest
     @Inject
     protected MavenMetadataServiceHelper mavenMetadataServiceHelper;
 
+    @Inject
+    protected ArtifactArchiveEntryService artifactArchiveEntryService;
+
     @Value("${strongbox.url}")
     private String contextBaseUrl;
 
@@ -103,4 +110,29 @@ public abstract class MavenRestAssuredBaseTest
         deployer.setClient(client);
         return deployer;
     }
+
+    /**
+     * The archive entries are stored asynchronously, once the artifact is stored.
+     */
+    protected void waitForArchiveEntries(Path artifactPath)
+            throws IOException, InterruptedException
+    {
+        RepositoryPath repositoryPath = (RepositoryPath) artifactPath.normalize();
+        if (!repositoryPath.getFileName().toString().endsWith(".jar"))
+        {
+            return;
+        }
+
+        for (int i = 0; i < 100; i++)
+        {
+            ArtifactEntry artifactEntry = repositoryPath.getArtifactEntry();
+            if (artifactEntry != null && !artifactArchiveEntryService.findArchivePaths(artifactEntry).isEmpty())
+            {
+                return;
+            }
+
+            Thread.sleep(100);
+        }
+    }
+
 }
@@ -27,6 +27,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.carlspring.strongbox.utils.ArtifactControllerHelper.MULTIPART_BOUNDARY;
@@ -54,6 +55,8 @@ class ArtifactControllerHelperTest
 
     private static final String REPOSITORY_RELEASES_8 = "acht-releases-8";
 
+    private static final String REPOSITORY_RELEASES_9 = "acht-releases-9";
+
     @Inject
     private ArtifactResolutionService artifactResolutionService;
 
@@ -305,6 +308,63 @@ class ArtifactControllerHelperTest
         assertThat(response.getHeader(HttpHeaders.LAST_MODIFIED)).isNotEmpty();
         assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_OCTET_STREAM_VALUE);
         assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).matches("^\"[0-9a-f]+\"$");
+    }
+
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @Test
+    void checkNotModified(@MavenRepository(repositoryId = REPOSITORY_RELEASES_9)
+                          Repository repository,
+                          @MavenTestArtifact(repositoryId = REPOSITORY_RELEASES_9,
+                                             id = "org.carlspring.strongbox:check-not-modified",
+                                             versions = "1.0")
+                          Path artifactPath)
+            throws IOException
+    {
+        // Given
+        RepositoryPath artifactRepositoryPath = (RepositoryPath) artifactPath.normalize();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ArtifactControllerHelper.provideArtifactHeaders(response, artifactRepositoryPath);
+        String etag = response.getHeader(HttpHeaders.ETAG);
+        String lastModified = response.getHeader(HttpHeaders.LAST_MODIFIED);
+
+        // When
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse matchingETagResponse = new MockHttpServletResponse();
+        ArtifactControllerHelper.provideArtifactHeaders(matchingETagResponse, artifactRepositoryPath);
+
+        // Then
+        assertThat(ArtifactControllerHelper.checkNotModified(request,
+                                                             matchingETagResponse,
+                                                             artifactRepositoryPath)).isTrue();
+        assertThat(matchingETagResponse.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+
+        // When
+        request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"0000\"");
+        MockHttpServletResponse otherETagResponse = new MockHttpServletResponse();
+        ArtifactControllerHelper.provideArtifactHeaders(otherETagResponse, artifactRepositoryPath);
+
+        // Then
+        assertThat(ArtifactControllerHelper.checkNotModified(request,
+                                                             otherETagResponse,
+                                                             artifactRepositoryPath)).isFalse();
+        assertThat(otherETagResponse.getStatus()).isEqualTo(HttpStatus.OK.value());
+
+        // When
+        request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+        MockHttpServletResponse lastModifiedResponse = new MockHttpServletResponse();
+        ArtifactControllerHelper.provideArtifactHeaders(lastModifiedResponse, artifactRepositoryPath);
+
+        // Then
+        assertThat(ArtifactControllerHelper.checkNotModified(request,
+                                                             lastModifiedResponse,
+                                                             artifactRepositoryPath)).isTrue();
+        assertThat(lastModifiedResponse.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
     }
 
 